@@ -0,0 +1,59 @@
+package org.example.SystemManagementSvc.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * API별 서킷브레이커 레지스트리 설정 (Resilience4j)
+ * 외부 API마다 CircuitBreaker를 apiId 이름으로 생성하며, 임계치는 기존 circuit-breaker.* 설정을 그대로 사용
+ * - 기본 설정: 호출 이벤트로 채워지는 서킷브레이커 (sliding-window-type/size, minimum-calls)
+ * - 프로브 설정(PROBE_CONFIG): 헬스체크 프로브로만 채워지는 서킷브레이커
+ *   프로브는 API당 몇 분에 한 번이라 60초 시간 윈도우에는 minimum-calls(20)만큼 쌓이지 않아 열리지 않으므로,
+ *   최근 프로브 N건의 호출 수 기반 윈도우로 연속 실패 몇 번이면 열리도록 함
+ */
+@Configuration
+public class ApiCircuitBreakerConfig {
+
+    /** 헬스체크 프로브 전용 설정 이름 */
+    public static final String PROBE_CONFIG = "probe";
+
+    @Bean
+    public CircuitBreakerRegistry apiCircuitBreakerRegistry(
+            @Value("${circuit-breaker.failure-rate-threshold:50.0}") float failureRateThreshold,
+            @Value("${circuit-breaker.response-time-threshold:5000}") long responseTimeThreshold,
+            @Value("${circuit-breaker.slow-call-rate-threshold:80.0}") float slowCallRateThreshold,
+            @Value("${circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${circuit-breaker.sliding-window-type:TIME_BASED}") CircuitBreakerConfig.SlidingWindowType slidingWindowType,
+            @Value("${circuit-breaker.sliding-window-size:60}") int slidingWindowSize,
+            @Value("${circuit-breaker.permitted-calls-in-half-open:10}") int permittedCallsInHalfOpen,
+            @Value("${circuit-breaker.open-state-wait-seconds:300}") long openStateWaitSeconds,
+            @Value("${circuit-breaker.probe.sliding-window-size:10}") int probeSlidingWindowSize,
+            @Value("${circuit-breaker.probe.minimum-calls:5}") int probeMinimumCalls,
+            @Value("${circuit-breaker.probe.permitted-calls-in-half-open:3}") int probePermittedCallsInHalfOpen) {
+
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+            .failureRateThreshold(failureRateThreshold)
+            .slowCallDurationThreshold(Duration.ofMillis(responseTimeThreshold))
+            .slowCallRateThreshold(slowCallRateThreshold)
+            .slidingWindow(slidingWindowSize, minimumCalls, slidingWindowType)
+            .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpen)
+            .waitDurationInOpenState(Duration.ofSeconds(openStateWaitSeconds))
+            .automaticTransitionFromOpenToHalfOpenEnabled(true)  // 호출이 끊긴 API도 대기 후 HALF_OPEN으로 전환
+            .writableStackTraceEnabled(false)
+            .build();
+
+        CircuitBreakerConfig probeConfig = CircuitBreakerConfig.from(config)
+            .slidingWindow(probeSlidingWindowSize, probeMinimumCalls, CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .permittedNumberOfCallsInHalfOpenState(probePermittedCallsInHalfOpen)
+            .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        registry.addConfiguration(PROBE_CONFIG, probeConfig);
+        return registry;
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.SystemManagementSvc.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -51,4 +52,29 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 헬스체크 프로브 전용 실행자
+     * 프로브는 응답을 기다리며 스레드를 점유하므로 공용 풀과 분리하고,
+     * 스윕 윈도우 제한 시간을 넘긴 체크는 이 풀의 스레드를 인터럽트하여 취소 (HealthCheckSweep)
+     * 
+     * @return Executor 헬스체크 실행자
+     */
+    @Bean(name = "healthCheckExecutor")
+    public Executor healthCheckExecutor(@Value("${healthcheck.sweep.pool-size:50}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        
+        // 동시에 진행하는 프로브 수 (윈도우의 나머지 체크는 대기열에서 순서대로 실행)
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        
+        // 쓰레드 이름 접두사: 디버깅 및 모니터링용
+        executor.setThreadNamePrefix("health-check-");
+        
+        // 종료 시 남은 프로브는 기다리지 않음 (다음 스윕에서 다시 확인)
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        
+        executor.initialize();
+        return executor;
+    }
 }
\ No newline at end of file
@@ -4,12 +4,14 @@ import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.example.SystemManagementSvc.event.model.ApiCallEvent;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
@@ -93,4 +95,36 @@ public class KafkaConfig {
         factory.setConsumerFactory(consumerFactory());
         return factory;
     }
-}
\ No newline at end of file
+
+    /**
+     * 호출 이벤트 전용 Listener Container Factory
+     * 게이트웨이가 호출마다 발행하는 ApiCallEvent를 배치로 수신하여 서킷브레이커 윈도우에 반영
+     * - 타입 헤더 없이 ApiCallEvent로 역직렬화 (외부 서비스가 보낸 메시지 그대로 수신)
+     * - 역직렬화 실패 메시지는 null 값으로 전달되어 건너뜀 (poison pill로 파티션이 멈추지 않도록)
+     * - 지난 호출 이력은 현재 상태 판단에 의미가 없으므로 새 컨슈머 그룹은 latest부터 수신
+     *
+     * @return ConcurrentKafkaListenerContainerFactory<String, ApiCallEvent> 호출 이벤트 Listener Container Factory
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ApiCallEvent> callEventListenerContainerFactory(
+            @Value("${circuit-breaker.stream.concurrency:3}") int concurrency,
+            @Value("${circuit-breaker.stream.max-poll-records:2000}") int maxPollRecords) {
+        JsonDeserializer<ApiCallEvent> valueDeserializer = new JsonDeserializer<>(ApiCallEvent.class, false);
+        valueDeserializer.addTrustedPackages("*");
+
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId + "-call-events");
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+
+        ConsumerFactory<String, ApiCallEvent> callEventConsumerFactory = new DefaultKafkaConsumerFactory<>(props,
+            new StringDeserializer(), new ErrorHandlingDeserializer<>(valueDeserializer));
+
+        ConcurrentKafkaListenerContainerFactory<String, ApiCallEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(callEventConsumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        return factory;
+    }
+}
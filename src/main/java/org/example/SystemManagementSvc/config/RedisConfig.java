@@ -1,19 +1,26 @@
 package org.example.SystemManagementSvc.config;
 
+import jakarta.annotation.PostConstruct;
+import org.example.SystemManagementSvc.service.HealthStateKeys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Redis 캐시 및 세션 저장소 설정 클래스
@@ -35,8 +42,37 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int redisPort;
 
+    /** 클러스터 노드 목록 (host:port, 쉼표 구분), 비어 있으면 단일 노드 */
+    @Value("${spring.data.redis.cluster.nodes:}")
+    private String clusterNodes;
+
+    /** 헬스 상태 키 해시 태그 샤드 수 */
+    @Value("${healthcheck.redis.shard-count:64}")
+    private int healthStateShardCount;
+
+    /**
+     * 헬스 상태 키 샤드 수 적용
+     * Redis를 쓰는 빈은 이 설정의 템플릿에 의존하므로 키를 만들기 전에 적용됨
+     */
+    @PostConstruct
+    public void configureHealthStateShards() {
+        HealthStateKeys.configureShardCount(healthStateShardCount);
+    }
+
+    /**
+     * 클러스터 노드가 설정되면 Redis Cluster, 아니면 단일 노드로 연결
+     * 헬스 상태 키는 해시 태그로 슬롯을 맞춰 두었으므로 두 모드 모두 같은 코드로 동작 (HealthStateKeys)
+     */
     @Bean
     public LettuceConnectionFactory redisConnectionFactory() {
+        List<String> nodes = Arrays.stream(clusterNodes.split(","))
+                .map(String::trim)
+                .filter(node -> !node.isEmpty())
+                .toList();
+
+        if (!nodes.isEmpty()) {
+            return new LettuceConnectionFactory(new RedisClusterConfiguration(nodes));
+        }
         return new LettuceConnectionFactory(
                 new RedisStandaloneConfiguration(redisHost, redisPort)
         );
@@ -53,6 +89,26 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * 문자열 전용 RedisTemplate
+     * 상태 인덱스(ZSET) 등 JSON 직렬화가 필요 없는 키에 사용
+     */
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+        return new StringRedisTemplate(connectionFactory);
+    }
+
+    /**
+     * Redis Pub/Sub 및 키스페이스 알림 수신용 리스너 컨테이너
+     * 비정상 API Near-Cache 무효화, 서킷브레이커 상태 전이 전파에 사용
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     @Bean
     public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
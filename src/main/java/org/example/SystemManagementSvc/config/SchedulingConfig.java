@@ -0,0 +1,45 @@
+package org.example.SystemManagementSvc.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄링 설정 클래스
+ * Redis 상태 flush, near-cache/스냅샷 갱신 등 내부 유지용 @Scheduled 작업 활성화
+ * 
+ * scheduling.enabled=true인 경우에만 활성화 (application.yml 기본값 true, 테스트 프로파일은 false)
+ * 정기 전체 헬스체크 스윕은 별도로 healthcheck.scheduler.enabled=true인 경우에만 실행되며,
+ * healthcheck.scheduler.mode(basic/intelligent)에 따라 한 가지 스윕만 실행
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true")
+public class SchedulingConfig {
+
+    /**
+     * @Scheduled 작업 전용 스케줄러
+     * 기본 단일 스레드 스케줄러에서는 느린 작업(스윕, 재구성 등)이 flush 같은 짧은 주기 작업을 지연시키므로 풀로 분리
+     * 
+     * @return 스케줄러
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        
+        // 동시에 실행 가능한 @Scheduled 작업 수
+        scheduler.setPoolSize(poolSize);
+        
+        // 쓰레드 이름 접두사: 디버깅 및 모니터링용
+        scheduler.setThreadNamePrefix("scheduled-task-");
+        
+        // 애플리케이션 종료 시 진행 중인 작업 완료 대기
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        
+        return scheduler;
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.SystemManagementSvc.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.SystemManagementSvc.service.ExternalApiCatalogService;
+import org.example.SystemManagementSvc.service.ExternalApiCatalogService.CatalogFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * 외부 API 카탈로그 일괄 등록/내보내기 컨트롤러
+ * 요청/응답 본문을 스트리밍으로 처리하여 대량 등록 시에도 메모리 사용량이 일정
+ */
+@Slf4j
+@RestController
+@RequestMapping("/catalog")
+@RequiredArgsConstructor
+@Tag(name = "API Catalog", description = "외부 API 카탈로그 일괄 등록 및 내보내기 API")
+public class ApiCatalogController {
+
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    private static final String CSV_MEDIA_TYPE = "text/csv";
+
+    private final ExternalApiCatalogService catalogService;
+    private final ObjectMapper objectMapper;
+
+    @Operation(
+        summary = "API 카탈로그 일괄 등록",
+        description = "요청 본문(NDJSON 또는 헤더가 있는 CSV)을 읽으면서 검증 후 배치 단위로 등록합니다. " +
+                      "apiUrl이 이미 등록된 항목은 건너뛰며, 배치가 커밋될 때마다 진행 상황을 NDJSON으로 스트리밍합니다. " +
+                      "마지막 줄은 completed=true 최종 보고서입니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "등록 진행 상황 스트리밍 시작"),
+        @ApiResponse(responseCode = "400", description = "지원하지 않는 형식")
+    })
+    @PostMapping(value = "/import", produces = NDJSON_MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> importCatalog(
+            @Parameter(description = "입력 형식 (ndjson, csv)", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request) {
+
+        CatalogFormat catalogFormat;
+        try {
+            catalogFormat = CatalogFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        log.info("Catalog import requested - format: {}", catalogFormat);
+
+        StreamingResponseBody body = outputStream -> {
+            try {
+                catalogService.importCatalog(request.getInputStream(), catalogFormat,
+                    report -> writeLine(outputStream, report));
+            } catch (Exception e) {
+                log.error("Catalog import failed", e);
+                writeLine(outputStream, Map.of("completed", false, "error", String.valueOf(e.getMessage())));
+            }
+        };
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE))
+            .body(body);
+    }
+
+    @Operation(
+        summary = "API 카탈로그 내보내기",
+        description = "등록된 전체 API를 NDJSON 또는 CSV로 스트리밍합니다. CSV는 일괄 등록 형식과 같습니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "내보내기 스트리밍 시작"),
+        @ApiResponse(responseCode = "400", description = "지원하지 않는 형식")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCatalog(
+            @Parameter(description = "출력 형식 (ndjson, csv)", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        CatalogFormat catalogFormat;
+        try {
+            catalogFormat = CatalogFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        log.info("Catalog export requested - format: {}", catalogFormat);
+
+        StreamingResponseBody body = outputStream -> catalogService.exportCatalog(outputStream, catalogFormat);
+        boolean csv = catalogFormat == CatalogFormat.CSV;
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(csv ? CSV_MEDIA_TYPE : NDJSON_MEDIA_TYPE))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"external-apis." + (csv ? "csv" : "ndjson") + "\"")
+            .body(body);
+    }
+
+    private void writeLine(OutputStream outputStream, Object value) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -8,12 +8,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.SystemManagementSvc.domain.ExternalApi;
 import org.example.SystemManagementSvc.dto.ApiAvailabilityResponse;
 import org.example.SystemManagementSvc.dto.ApiStatusSummary;
+import org.example.SystemManagementSvc.dto.ExternalApiView;
+import org.example.SystemManagementSvc.dto.HealthHistoryEntry;
 import org.example.SystemManagementSvc.service.AdvancedHealthCheckService;
 import org.example.SystemManagementSvc.service.ApiStatusManager;
+import org.example.SystemManagementSvc.service.HealthStateRebuildService;
 import org.example.SystemManagementSvc.service.RedisHealthStateManager;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -33,9 +38,16 @@ import java.util.Map;
 @Tag(name = "API Health Management", description = "API 헬스체크 및 상태 관리")
 public class ApiHealthController {
 
+    /** 히스토리 조회 최대 건수 */
+    private static final int MAX_HISTORY_LIMIT = 1000;
+
+    /** 상태 전이 조회 최대 건수 */
+    private static final int MAX_TRANSITION_LIMIT = 100;
+
     private final ApiStatusManager apiStatusManager;
     private final AdvancedHealthCheckService advancedHealthCheckService;
     private final RedisHealthStateManager redisHealthStateManager;
+    private final HealthStateRebuildService healthStateRebuildService;
 
     /**
      * 전체 API 상태 요약 조회
@@ -84,15 +96,30 @@ public class ApiHealthController {
         }
     }
 
+    /**
+     * 전체 API 가용성 스냅샷 조회
+     */
+    @GetMapping("/availability/snapshot")
+    @Operation(summary = "전체 API 가용성 스냅샷", description = "헬스체크 이력이 있는 모든 API의 가용성을 비트맵 조회 1회로 반환")
+    public ResponseEntity<Map<String, Boolean>> getAvailabilitySnapshot() {
+        try {
+            Map<String, Boolean> snapshot = apiStatusManager.getAvailabilitySnapshot();
+            return ResponseEntity.ok(snapshot);
+        } catch (Exception e) {
+            log.error("Failed to get API availability snapshot", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * 도메인별 가용한 API 목록 조회
      */
     @GetMapping("/available/domain/{domain}")
     @Operation(summary = "도메인별 가용 API 조회", description = "특정 도메인의 현재 가용한 API 목록을 반환")
-    public ResponseEntity<List<ExternalApi>> getAvailableApisByDomain(
+    public ResponseEntity<List<ExternalApiView>> getAvailableApisByDomain(
             @Parameter(description = "API 도메인") @PathVariable ExternalApi.ApiDomain domain) {
         try {
-            List<ExternalApi> apis = apiStatusManager.getAvailableApisByDomain(domain);
+            List<ExternalApiView> apis = apiStatusManager.getAvailableApisByDomain(domain);
             return ResponseEntity.ok(apis);
         } catch (Exception e) {
             log.error("Failed to get available APIs by domain: {}", domain, e);
@@ -105,10 +132,10 @@ public class ApiHealthController {
      */
     @GetMapping("/available/keyword/{keyword}")
     @Operation(summary = "키워드별 가용 API 조회", description = "특정 키워드의 현재 가용한 API 목록을 반환")
-    public ResponseEntity<List<ExternalApi>> getAvailableApisByKeyword(
+    public ResponseEntity<List<ExternalApiView>> getAvailableApisByKeyword(
             @Parameter(description = "API 키워드") @PathVariable ExternalApi.ApiKeyword keyword) {
         try {
-            List<ExternalApi> apis = apiStatusManager.getAvailableApisByKeyword(keyword);
+            List<ExternalApiView> apis = apiStatusManager.getAvailableApisByKeyword(keyword);
             return ResponseEntity.ok(apis);
         } catch (Exception e) {
             log.error("Failed to get available APIs by keyword: {}", keyword, e);
@@ -121,9 +148,9 @@ public class ApiHealthController {
      */
     @GetMapping("/available/priority")
     @Operation(summary = "우선순위별 가용 API 조회", description = "헬스체크 우선순위별로 그룹화된 가용 API 목록을 반환")
-    public ResponseEntity<Map<ExternalApi.HealthCheckPriority, List<ExternalApi>>> getAvailableApisByPriority() {
+    public ResponseEntity<Map<ExternalApi.HealthCheckPriority, List<ExternalApiView>>> getAvailableApisByPriority() {
         try {
-            Map<ExternalApi.HealthCheckPriority, List<ExternalApi>> apis = apiStatusManager.getAvailableApisByPriority();
+            Map<ExternalApi.HealthCheckPriority, List<ExternalApiView>> apis = apiStatusManager.getAvailableApisByPriority();
             return ResponseEntity.ok(apis);
         } catch (Exception e) {
             log.error("Failed to get available APIs by priority", e);
@@ -161,6 +188,22 @@ public class ApiHealthController {
         }
     }
 
+    /**
+     * 곧 복구될 API 조회
+     */
+    @GetMapping("/recovery-estimates/upcoming")
+    @Operation(summary = "복구 임박 API", description = "지정 시간 내 TTL이 만료되어 복구될 API와 남은 시간(초)을 반환")
+    public ResponseEntity<Map<String, Long>> getApisRecoveringWithin(
+            @Parameter(description = "조회 범위 (초)") @RequestParam(defaultValue = "300") long withinSeconds) {
+        try {
+            Map<String, Long> upcoming = apiStatusManager.getApisRecoveringWithin(withinSeconds);
+            return ResponseEntity.ok(upcoming);
+        } catch (Exception e) {
+            log.error("Failed to get APIs recovering within {}s", withinSeconds, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * 장애 통계 정보 조회
      */
@@ -186,8 +229,8 @@ public class ApiHealthController {
             log.info("Manual health check triggered via API");
             
             advancedHealthCheckService.performIntelligentHealthCheck()
-                .thenAccept(results -> {
-                    log.info("Manual health check completed for {} APIs", results.size());
+                .thenAccept(summary -> {
+                    log.info("Manual health check completed for {} APIs", summary.getCheckedApis());
                 });
             
             return ResponseEntity.ok(Map.of(
@@ -248,6 +291,48 @@ public class ApiHealthController {
         }
     }
 
+    /**
+     * API 헬스체크 히스토리 조회
+     */
+    @GetMapping("/history/{apiId}")
+    @Operation(summary = "헬스체크 히스토리", description = "기간 내 헬스체크 결과를 오래된 순으로 반환 (기간 미지정 시 전체)")
+    public ResponseEntity<List<HealthHistoryEntry>> getHealthHistory(
+            @Parameter(description = "API 고유 식별자") @PathVariable String apiId,
+            @Parameter(description = "조회 시작 시각") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "조회 종료 시각") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "최대 건수 (1~1000)") @RequestParam(defaultValue = "100") int limit) {
+        if (limit < 1 || limit > MAX_HISTORY_LIMIT || (from != null && to != null && from.isAfter(to))) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(redisHealthStateManager.getHealthHistory(apiId, from, to, limit));
+        } catch (Exception e) {
+            log.error("Failed to get health history for API: {}", apiId, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * API 최근 상태 전이 조회
+     */
+    @GetMapping("/history/{apiId}/transitions")
+    @Operation(summary = "최근 상태 전이", description = "상태가 바뀐 시점의 헬스체크 결과를 최신 순으로 반환")
+    public ResponseEntity<List<HealthHistoryEntry>> getRecentTransitions(
+            @Parameter(description = "API 고유 식별자") @PathVariable String apiId,
+            @Parameter(description = "최대 건수 (1~100)") @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_TRANSITION_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(redisHealthStateManager.getRecentTransitions(apiId, limit));
+        } catch (Exception e) {
+            log.error("Failed to get recent transitions for API: {}", apiId, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * 조기 복구 감지 트리거
      */
@@ -271,6 +356,21 @@ public class ApiHealthController {
         }
     }
 
+    /**
+     * Redis 헬스 상태 재구성
+     */
+    @PostMapping("/state/rebuild")
+    @Operation(summary = "헬스 상태 재구성", description = "저장된 최신 헬스체크 결과로 Redis의 비정상 API 상태를 복원 (이미 있는 상태는 유지)")
+    public ResponseEntity<Map<String, Object>> rebuildHealthState() {
+        try {
+            return ResponseEntity.ok(healthStateRebuildService.rebuild());
+        } catch (Exception e) {
+            log.error("Failed to rebuild health state", e);
+            return ResponseEntity.internalServerError()
+                .body(Map.of("error", "Failed to rebuild health state"));
+        }
+    }
+
     /**
      * 시스템 건강도 요약 (간단한 상태 확인용)
      */
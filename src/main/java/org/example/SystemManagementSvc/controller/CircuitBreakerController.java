@@ -188,23 +188,8 @@ public class CircuitBreakerController {
             Map<String, CircuitBreakerEvent.CircuitBreakerState> currentStates = 
                 circuitBreakerMonitoringService.getAllCircuitBreakerStates();
             
-            int resetCount = 0;
-            
-            // 모든 API를 CLOSED 상태로 리셋
-            for (String apiId : currentStates.keySet()) {
-                CircuitBreakerEvent.CircuitBreakerState currentState = currentStates.get(apiId);
-                
-                if (currentState != CircuitBreakerEvent.CircuitBreakerState.CLOSED) {
-                    circuitBreakerMonitoringService.forceCircuitBreakerState(
-                        apiId, 
-                        "API-" + apiId, // 실제로는 API 이름 조회 필요
-                        "Unknown", 
-                        CircuitBreakerEvent.CircuitBreakerState.CLOSED, 
-                        "관리자에 의한 전체 리셋: " + reason
-                    );
-                    resetCount++;
-                }
-            }
+            // CLOSED가 아닌 API를 한 번의 파이프라인으로 리셋
+            int resetCount = circuitBreakerMonitoringService.resetCircuitBreakers(currentStates, reason);
             
             Map<String, Object> result = Map.of(
                 "totalApis", currentStates.size(),
@@ -1,5 +1,6 @@
 package org.example.SystemManagementSvc.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,20 +12,31 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.SystemManagementSvc.domain.ExternalApi;
 import org.example.SystemManagementSvc.domain.HealthCheckResult;
+import org.example.SystemManagementSvc.dto.ApiSearchResult;
+import org.example.SystemManagementSvc.dto.HealthCheckJobStatus;
+import org.example.SystemManagementSvc.dto.LatencyPercentiles;
 import org.example.SystemManagementSvc.dto.common.BaseResponse;
-import org.example.SystemManagementSvc.repository.ExternalApiRepository;
 import org.example.SystemManagementSvc.repository.HealthCheckResultRepository;
+import org.example.SystemManagementSvc.service.ApiSearchIndex;
+import org.example.SystemManagementSvc.service.ExternalApiRegistry;
+import org.example.SystemManagementSvc.service.HealthCheckJobService;
 import org.example.SystemManagementSvc.service.HealthCheckService;
+import org.example.SystemManagementSvc.service.ProbeLatencyTracker;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -38,70 +50,59 @@ import java.util.concurrent.CompletableFuture;
 @Tag(name = "Health Check Management", description = "외부 API 헬스체크 관리 및 모니터링 API")
 public class HealthCheckController {
 
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    private static final long RESULT_POLL_INTERVAL_MS = 1000;
+
     private final HealthCheckService healthCheckService;
-    private final ExternalApiRepository externalApiRepository;
+    private final HealthCheckJobService healthCheckJobService;
+    private final ObjectMapper objectMapper;
+    private final ExternalApiRegistry externalApiRegistry;
+    private final ApiSearchIndex apiSearchIndex;
+    private final ProbeLatencyTracker probeLatencyTracker;
     private final HealthCheckResultRepository healthCheckResultRepository;
 
     @Operation(
         summary = "전체 API 헬스체크 실행",
-        description = "등록된 모든 외부 API에 대해 병렬 헬스체크를 수행하고 결과를 반환합니다."
+        description = "등록된 모든 외부 API에 대한 병렬 헬스체크 작업을 시작하고 작업 ID를 즉시 반환합니다. " +
+                      "이미 실행 중인 작업이 있으면 해당 작업에 합류합니다."
     )
     @ApiResponses({
         @ApiResponse(
-            responseCode = "200",
-            description = "헬스체크 실행 성공",
+            responseCode = "202",
+            description = "헬스체크 작업 접수",
             content = @Content(schema = @Schema(implementation = BaseResponse.class))
         ),
-        @ApiResponse(responseCode = "500", description = "헬스체크 실행 중 서버 오류")
+        @ApiResponse(responseCode = "500", description = "헬스체크 작업 시작 중 서버 오류")
     })
     @PostMapping("/run")
-    public ResponseEntity<BaseResponse<Map<String, Object>>> runHealthCheckForAllApis() {
+    public ResponseEntity<BaseResponse<HealthCheckJobStatus>> runHealthCheckForAllApis() {
         log.info("Manual health check requested for all APIs");
         
         try {
-            CompletableFuture<Map<String, HealthCheckResult>> healthCheckFuture = 
-                healthCheckService.performHealthCheckForAllApis();
-            
-            Map<String, HealthCheckResult> results = healthCheckFuture.get();
-            
-            // 결과 요약 생성
-            long totalApis = results.size();
-            long healthyApis = results.values().stream()
-                .mapToLong(result -> result.isSuccess() ? 1 : 0)
-                .sum();
-            long unhealthyApis = totalApis - healthyApis;
-            
-            double averageResponseTime = results.values().stream()
-                .filter(result -> result.getResponseTimeMs() != null)
-                .mapToLong(HealthCheckResult::getResponseTimeMs)
-                .average()
-                .orElse(0.0);
-            
-            Map<String, Object> summary = Map.of(
-                "totalApis", totalApis,
-                "healthyApis", healthyApis,
-                "unhealthyApis", unhealthyApis,
-                "healthRate", totalApis > 0 ? (double) healthyApis / totalApis * 100 : 0,
-                "averageResponseTime", Math.round(averageResponseTime),
-                "executionTime", LocalDateTime.now(),
-                "results", results
-            );
+            HealthCheckJobStatus jobStatus = healthCheckJobService.submitFullHealthCheck();
             
-            BaseResponse<Map<String, Object>> response = BaseResponse.<Map<String, Object>>builder()
+            BaseResponse<HealthCheckJobStatus> response = BaseResponse.<HealthCheckJobStatus>builder()
                 .success(true)
-                .message(String.format("헬스체크 완료: %d개 API 중 %d개 정상", totalApis, healthyApis))
-                .data(summary)
+                .message(jobStatus.isCoalesced() ?
+                    "실행 중인 헬스체크 작업에 합류: " + jobStatus.getJobId() :
+                    "헬스체크 작업 시작: " + jobStatus.getJobId())
+                .data(jobStatus)
                 .timestamp(LocalDateTime.now())
                 .build();
             
-            return ResponseEntity.ok(response);
+            URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/health-check/jobs/{jobId}")
+                .buildAndExpand(jobStatus.getJobId())
+                .toUri();
+            
+            return ResponseEntity.accepted().location(location).body(response);
             
         } catch (Exception e) {
-            log.error("Failed to run health check for all APIs", e);
+            log.error("Failed to start health check job for all APIs", e);
             
-            BaseResponse<Map<String, Object>> response = BaseResponse.<Map<String, Object>>builder()
+            BaseResponse<HealthCheckJobStatus> response = BaseResponse.<HealthCheckJobStatus>builder()
                 .success(false)
-                .message("헬스체크 실행 실패: " + e.getMessage())
+                .message("헬스체크 작업 시작 실패: " + e.getMessage())
                 .data(null)
                 .timestamp(LocalDateTime.now())
                 .build();
@@ -110,6 +111,82 @@ public class HealthCheckController {
         }
     }
 
+    @Operation(
+        summary = "전체 헬스체크 작업 상태 조회",
+        description = "전체 헬스체크 작업의 진행 상태와 현재까지의 결과 요약을 조회합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "작업 상태 조회 성공"),
+        @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<BaseResponse<HealthCheckJobStatus>> getHealthCheckJobStatus(
+            @Parameter(description = "헬스체크 작업 ID", required = true)
+            @PathVariable String jobId) {
+        
+        return healthCheckJobService.getJobStatus(jobId)
+            .map(jobStatus -> ResponseEntity.ok(BaseResponse.<HealthCheckJobStatus>builder()
+                .success(true)
+                .message("헬스체크 작업 상태: " + jobStatus.getState().getDisplayName())
+                .data(jobStatus)
+                .timestamp(LocalDateTime.now())
+                .build()))
+            .orElseGet(() -> ResponseEntity.status(404).body(BaseResponse.<HealthCheckJobStatus>builder()
+                .success(false)
+                .message("헬스체크 작업을 찾을 수 없습니다: " + jobId)
+                .data(null)
+                .timestamp(LocalDateTime.now())
+                .build()));
+    }
+
+    @Operation(
+        summary = "전체 헬스체크 작업 결과 스트리밍",
+        description = "헬스체크 결과를 완료되는 순서대로 NDJSON(한 줄에 하나의 JSON) 형식으로 스트리밍합니다. " +
+                      "작업이 끝나면 응답이 종료됩니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "결과 스트리밍 시작"),
+        @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    @GetMapping(value = "/jobs/{jobId}/results", produces = NDJSON_MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamHealthCheckJobResults(
+            @Parameter(description = "헬스체크 작업 ID", required = true)
+            @PathVariable String jobId) {
+        
+        Optional<HealthCheckJobService.HealthCheckJob> job = healthCheckJobService.findJob(jobId);
+        if (job.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        StreamingResponseBody body = outputStream -> {
+            HealthCheckJobService.HealthCheckJob healthCheckJob = job.get();
+            int index = 0;
+            
+            try {
+                while (true) {
+                    List<HealthCheckResult> batch = healthCheckJob.awaitResults(index, RESULT_POLL_INTERVAL_MS);
+                    for (HealthCheckResult result : batch) {
+                        outputStream.write(objectMapper.writeValueAsBytes(result));
+                        outputStream.write('\n');
+                    }
+                    outputStream.flush();
+                    index += batch.size();
+                    
+                    if (batch.isEmpty() && healthCheckJob.isFinished()) {
+                        break;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Health check result stream interrupted for job: {}", jobId);
+            }
+        };
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE))
+            .body(body);
+    }
+
     @Operation(
         summary = "특정 API 헬스체크 실행",
         description = "지정된 API에 대해서만 헬스체크를 수행합니다."
@@ -122,7 +199,7 @@ public class HealthCheckController {
         log.info("Manual health check requested for API: {}", apiId);
         
         try {
-            ExternalApi api = externalApiRepository.findById(apiId)
+            ExternalApi api = externalApiRegistry.findById(apiId)
                 .orElseThrow(() -> new IllegalArgumentException("API not found: " + apiId));
             
             CompletableFuture<HealthCheckResult> healthCheckFuture = 
@@ -365,6 +442,43 @@ public class HealthCheckController {
         }
     }
 
+    @Operation(
+        summary = "API 응답 시간 분위수 조회",
+        description = "최근 헬스체크 응답 시간의 p50/p95/p99를 조회합니다. 모든 인스턴스의 구간별 스케치를 병합하여 계산합니다."
+    )
+    @GetMapping("/latency/{apiId}")
+    public ResponseEntity<BaseResponse<LatencyPercentiles>> getApiLatencyPercentiles(
+            @Parameter(description = "API ID", required = true)
+            @PathVariable String apiId,
+            @Parameter(description = "조회 구간 (분)", example = "60")
+            @RequestParam(defaultValue = "60") int minutes) {
+
+        try {
+            LatencyPercentiles percentiles = probeLatencyTracker.percentiles(apiId, Math.max(1, minutes));
+
+            BaseResponse<LatencyPercentiles> response = BaseResponse.<LatencyPercentiles>builder()
+                .success(true)
+                .message(String.format("응답 시간 분위수 조회 성공: 표본 %d개", percentiles.getSampleCount()))
+                .data(percentiles)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("Failed to get latency percentiles for API: {}", apiId, e);
+
+            BaseResponse<LatencyPercentiles> response = BaseResponse.<LatencyPercentiles>builder()
+                .success(false)
+                .message("응답 시간 분위수 조회 실패: " + e.getMessage())
+                .data(null)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+            return ResponseEntity.status(500).body(response);
+        }
+    }
+
     @Operation(
         summary = "등록된 API 목록 조회",
         description = "헬스체크 대상 API 목록을 조회합니다."
@@ -378,8 +492,8 @@ public class HealthCheckController {
         
         try {
             List<ExternalApi> apis = activeOnly ?
-                externalApiRepository.findByApiEffectivenessTrue() :
-                externalApiRepository.findAll();
+                externalApiRegistry.active() :
+                externalApiRegistry.all();
             
             BaseResponse<List<ExternalApi>> response = BaseResponse.<List<ExternalApi>>builder()
                 .success(true)
@@ -403,4 +517,45 @@ public class HealthCheckController {
             return ResponseEntity.status(500).body(response);
         }
     }
-}
\ No newline at end of file
+
+    @Operation(
+        summary = "API 검색",
+        description = "API 이름/제공업체/설명을 n-gram 색인으로 검색하여 일치도 상위 결과를 반환합니다."
+    )
+    @GetMapping("/apis/search")
+    public ResponseEntity<BaseResponse<List<ApiSearchResult>>> searchApis(
+            @Parameter(description = "검색어 (2자 이상)", required = true, example = "weather")
+            @RequestParam("q") String query,
+            @Parameter(description = "최대 결과 수", example = "10")
+            @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "활성화된 API만 조회 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean activeOnly) {
+
+        log.info("API search requested - query: {}, limit: {}, activeOnly: {}", query, limit, activeOnly);
+
+        try {
+            List<ApiSearchResult> results = apiSearchIndex.search(query, Math.min(limit, 100), activeOnly);
+
+            BaseResponse<List<ApiSearchResult>> response = BaseResponse.<List<ApiSearchResult>>builder()
+                .success(true)
+                .message(String.format("API 검색 성공: %d개", results.size()))
+                .data(results)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("Failed to search APIs: {}", query, e);
+
+            BaseResponse<List<ApiSearchResult>> response = BaseResponse.<List<ApiSearchResult>>builder()
+                .success(false)
+                .message("API 검색 실패: " + e.getMessage())
+                .data(null)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+            return ResponseEntity.status(500).body(response);
+        }
+    }
+}
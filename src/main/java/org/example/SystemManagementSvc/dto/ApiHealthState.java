@@ -0,0 +1,89 @@
+package org.example.SystemManagementSvc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.SystemManagementSvc.domain.HealthCheckResult;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Redis에 저장된 비정상 API 상태
+ * unhealthy:{apiId} HASH를 타입으로 표현한 값 객체 (시간은 epoch millis)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiHealthState {
+
+    /** API ID */
+    private String apiId;
+
+    /** 헬스체크 상태 */
+    private HealthCheckResult.HealthStatus status;
+
+    /** 헬스체크 유형 */
+    private HealthCheckResult.HealthCheckType checkType;
+
+    /** 연속 실패 횟수 */
+    private int consecutiveFailures;
+
+    /** 응답 시간 (밀리초) */
+    private long responseTimeMs;
+
+    /** HTTP 응답 상태 코드 */
+    private int httpStatusCode;
+
+    /** 타임아웃 여부 */
+    private boolean timeout;
+
+    /** 마지막 체크 시각 (epoch millis) */
+    private long lastCheckMillis;
+
+    /** 최초 장애 시각 (epoch millis) */
+    private long firstFailureMillis;
+
+    /** 에러 메시지 */
+    private String errorMessage;
+
+    public LocalDateTime getLastCheck() {
+        return toLocalDateTime(lastCheckMillis);
+    }
+
+    public LocalDateTime getFirstFailureTime() {
+        return toLocalDateTime(firstFailureMillis);
+    }
+
+    /**
+     * 조회 API 응답용 맵 변환 (기존 응답 필드명 유지)
+     */
+    public Map<String, Object> toStatusMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("apiId", apiId);
+        map.put("status", status != null ? status.name() : HealthCheckResult.HealthStatus.UNKNOWN.name());
+        map.put("checkType", checkType != null ? checkType.name() : null);
+        map.put("consecutiveFailures", consecutiveFailures);
+        map.put("responseTime", responseTimeMs);
+        map.put("httpStatusCode", httpStatusCode);
+        map.put("isTimeout", timeout);
+        map.put("lastCheck", format(getLastCheck()));
+        map.put("firstFailureTime", format(getFirstFailureTime()));
+        map.put("errorMessage", errorMessage != null ? errorMessage : "");
+        return map;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return epochMillis > 0 ? LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()) : null;
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null;
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.SystemManagementSvc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.SystemManagementSvc.domain.ExternalApi;
+
+/**
+ * API 검색 결과 DTO
+ * 이름/제공업체/설명 n-gram 일치도 기준 점수 순
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiSearchResult {
+
+    /** API 고유 식별자 */
+    private String apiId;
+
+    /** API 이름 */
+    private String apiName;
+
+    /** API 제공업체 */
+    private String apiIssuer;
+
+    /** API 도메인 */
+    private ExternalApi.ApiDomain apiDomain;
+
+    /** 활성화 여부 */
+    private Boolean apiEffectiveness;
+
+    /** 검색 점수 (높을수록 일치) */
+    private double score;
+}
@@ -40,6 +40,18 @@ public class ApiStatusSummary {
     /** 우선순위별 가용 API 통계 */
     private Map<ExternalApi.HealthCheckPriority, Long> priorityStats;
     
+    /** 키워드별 가용 API 통계 */
+    private Map<ExternalApi.ApiKeyword, Long> keywordStats;
+    
+    /** 제공업체별 가용 API 통계 */
+    private Map<String, Long> issuerStats;
+    
+    /** 도메인별 활성 API 수 */
+    private Map<ExternalApi.ApiDomain, Long> domainTotals;
+    
+    /** 우선순위별 활성 API 수 */
+    private Map<ExternalApi.HealthCheckPriority, Long> priorityTotals;
+    
     /** 마지막 업데이트 시간 */
     private LocalDateTime lastUpdated;
     
@@ -150,16 +162,13 @@ public class ApiStatusSummary {
         );
     }
     
-    // Helper methods for calculating domain/priority totals
-    // These would need to be implemented based on your specific requirements
+    // 도메인/우선순위별 활성 API 수 (요약 생성 시 함께 집계됨)
     private long getTotalApisByDomain(ExternalApi.ApiDomain domain) {
-        // This would be implemented by injecting repository or service
-        return 1; // Placeholder
+        return domainTotals != null ? domainTotals.getOrDefault(domain, 0L) : 0L;
     }
     
     private long getTotalApisByPriority(ExternalApi.HealthCheckPriority priority) {
-        // This would be implemented by injecting repository or service
-        return 1; // Placeholder
+        return priorityTotals != null ? priorityTotals.getOrDefault(priority, 0L) : 0L;
     }
     
     /**
@@ -0,0 +1,43 @@
+package org.example.SystemManagementSvc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * API 카탈로그 일괄 등록 진행/결과 DTO
+ * 배치가 커밋될 때마다 진행 상황으로 전달되고, 마지막 보고서는 completed=true
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogImportReport {
+
+    /** 읽은 레코드 수 */
+    private long processed;
+
+    /** 새로 등록한 API 수 */
+    private long inserted;
+
+    /** apiUrl 또는 apiId 중복으로 건너뛴 수 (기존 등록 또는 파일 내 중복) */
+    private long duplicates;
+
+    /** 검증 실패로 건너뛴 수 */
+    private long invalid;
+
+    /** 커밋한 배치 수 */
+    private int batches;
+
+    /** 입력을 끝까지 처리했는지 여부 */
+    private boolean completed;
+
+    /** 소요 시간 (ms) */
+    private long durationMs;
+
+    /** 검증 실패 사유 (앞쪽 일부만 보관) */
+    private List<String> errors;
+}
@@ -0,0 +1,50 @@
+package org.example.SystemManagementSvc.dto;
+
+import lombok.Builder;
+import org.example.SystemManagementSvc.domain.ExternalApi;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부 API 불변 값 객체
+ * 가용성 스냅샷(AvailabilitySnapshot)이 JPA 엔티티 대신 보관하는 복사본으로,
+ * 스냅샷 게시 후 엔티티가 변경되거나 영속성 컨텍스트와 분리되어도 응답 내용이 바뀌지 않음
+ */
+@Builder
+public record ExternalApiView(
+    String apiId,
+    String apiName,
+    String apiUrl,
+    String apiIssuer,
+    String apiOwner,
+    ExternalApi.ApiDomain apiDomain,
+    ExternalApi.ApiKeyword apiKeyword,
+    String httpMethod,
+    String apiDescription,
+    Boolean apiEffectiveness,
+    ExternalApi.HealthCheckPriority healthCheckPriority,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+    /**
+     * 엔티티 복사
+     */
+    public static ExternalApiView from(ExternalApi api) {
+        return new ExternalApiView(
+            api.getApiId(),
+            api.getApiName(),
+            api.getApiUrl(),
+            api.getApiIssuer(),
+            api.getApiOwner(),
+            api.getApiDomain(),
+            api.getApiKeyword(),
+            api.getHttpMethod(),
+            api.getApiDescription(),
+            api.getApiEffectiveness(),
+            api.getHealthCheckPriority(),
+            api.getCreatedAt(),
+            api.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.SystemManagementSvc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 헬스체크 비동기 작업 상태 DTO
+ * POST /health-check/run 으로 시작된 작업의 진행 현황을 요약
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HealthCheckJobStatus {
+
+    /** 작업 고유 식별자 */
+    private String jobId;
+
+    /** 작업 상태 */
+    private JobState state;
+
+    /** 이번 요청이 이미 실행 중인 작업에 합류했는지 여부 */
+    private boolean coalesced;
+
+    /** 실행 중 합류한 추가 요청 수 */
+    private int coalescedRequests;
+
+    /** 작업 요청 시간 */
+    private LocalDateTime requestedAt;
+
+    /** 작업 완료 시간 */
+    private LocalDateTime completedAt;
+
+    /** 완료된 API 헬스체크 수 */
+    private long completedApis;
+
+    /** 정상 API 수 */
+    private long healthyApis;
+
+    /** 비정상 API 수 */
+    private long unhealthyApis;
+
+    /** 정상 비율 (%) */
+    private double healthRate;
+
+    /** 평균 응답 시간 (밀리초) */
+    private long averageResponseTime;
+
+    /** 실패 시 에러 메시지 */
+    private String errorMessage;
+
+    /**
+     * 작업 상태 열거형
+     */
+    public enum JobState {
+        RUNNING("실행중"),
+        COMPLETED("완료"),
+        FAILED("실패");
+
+        private final String displayName;
+
+        JobState(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public boolean isFinished() {
+            return this != RUNNING;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.SystemManagementSvc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.SystemManagementSvc.domain.HealthCheckResult;
+
+import java.time.LocalDateTime;
+
+/**
+ * API 헬스체크 결과 히스토리 항목
+ * health_history:{apiId} STREAM 레코드 1건
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HealthHistoryEntry {
+
+    /** 스트림 레코드 ID */
+    private String recordId;
+
+    /** 기록 시각 */
+    private LocalDateTime recordedAt;
+
+    /** 헬스체크 상태 */
+    private HealthCheckResult.HealthStatus status;
+
+    /** 성공 여부 */
+    private boolean success;
+
+    /** 응답 시간 (밀리초) */
+    private long responseTimeMs;
+
+    /** HTTP 응답 상태 코드 */
+    private int httpStatusCode;
+}
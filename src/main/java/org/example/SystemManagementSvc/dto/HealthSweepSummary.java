@@ -0,0 +1,47 @@
+package org.example.SystemManagementSvc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 헬스체크 스윕 결과 요약 DTO
+ * 개별 결과는 스윕 중 리스너로 전달되고, 스윕이 끝나면 건수만 남김
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HealthSweepSummary {
+
+    /** 스윕 대상 API 수 */
+    private long targetApis;
+
+    /** 결과를 받은 API 수 */
+    private long checkedApis;
+
+    /** 정상 API 수 */
+    private long healthyApis;
+
+    /** 제한 시간 내 결과가 오지 않은 API 수 */
+    private long timedOutApis;
+
+    /** 처리한 윈도우 수 */
+    private int windows;
+
+    /** 스윕 시작 시간 */
+    private LocalDateTime startedAt;
+
+    /** 소요 시간 (ms) */
+    private long durationMs;
+
+    /**
+     * 정상 비율 (%)
+     */
+    public double getHealthyRate() {
+        return checkedApis > 0 ? (double) healthyApis / checkedApis * 100 : 100.0;
+    }
+}
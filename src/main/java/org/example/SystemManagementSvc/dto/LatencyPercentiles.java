@@ -0,0 +1,41 @@
+package org.example.SystemManagementSvc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * API 헬스체크 응답 시간 분위수 DTO
+ * 파드별/시간 구간별 스케치를 병합해 계산 (상대 오차 약 2%)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencyPercentiles {
+
+    /** API 고유 식별자 */
+    private String apiId;
+
+    /** 조회 구간 (분) */
+    private int windowMinutes;
+
+    /** 표본 수 */
+    private long sampleCount;
+
+    /** 병합한 스케치 수 (파드 x 구간) */
+    private int mergedSketches;
+
+    /** 중앙값 (밀리초) */
+    private double p50;
+
+    /** p95 (밀리초) */
+    private double p95;
+
+    /** p99 (밀리초) */
+    private double p99;
+
+    /** 최대값 (밀리초) */
+    private long maxMillis;
+}
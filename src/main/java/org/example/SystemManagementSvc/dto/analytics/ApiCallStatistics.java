@@ -37,6 +37,12 @@ public class ApiCallStatistics {
     
     /** 최대 응답 시간 (밀리초) */
     private Long maxResponseTime;
+
+    /** p95 응답 시간 (밀리초, 분위수 스케치가 있는 경우만) */
+    private Double p95ResponseTime;
+
+    /** p99 응답 시간 (밀리초, 분위수 스케치가 있는 경우만) */
+    private Double p99ResponseTime;
     
     /** 최근 호출 시간 */
     private String lastCallTime;
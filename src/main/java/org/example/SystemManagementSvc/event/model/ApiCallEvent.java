@@ -0,0 +1,58 @@
+package org.example.SystemManagementSvc.event.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부 API 호출 1건 이벤트 (게이트웨이 → api-call-events 토픽)
+ * 호출마다 발행되므로 BaseEvent 메타데이터 없이 서킷브레이커 평가에 필요한 필드만 전달
+ * 필드명은 ApiCallLog와 동일하여 호출 로그 메시지도 그대로 수신 가능
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiCallEvent {
+
+    /** 외부 API 식별자 (없으면 apiName 사용) */
+    private String apiId;
+
+    /** API 이름 */
+    private String apiName;
+
+    /** API 제공업체 */
+    private String apiProvider;
+
+    /** HTTP 응답 상태 코드 */
+    private Integer responseStatus;
+
+    /** 응답 시간 (밀리초) */
+    private Long responseTime;
+
+    /** 성공 여부 */
+    private Boolean isSuccess;
+
+    /** 호출 시간 */
+    private LocalDateTime timestamp;
+
+    /**
+     * 서킷브레이커 키 (apiId가 없으면 apiName)
+     */
+    public String resolveApiId() {
+        return apiId != null ? apiId : apiName;
+    }
+
+    /**
+     * 성공 여부 (isSuccess가 없으면 상태 코드로 판단)
+     */
+    public boolean succeeded() {
+        if (isSuccess != null) {
+            return isSuccess;
+        }
+        return responseStatus != null && responseStatus < 500;
+    }
+}
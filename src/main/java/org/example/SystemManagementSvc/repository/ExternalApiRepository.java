@@ -107,6 +107,20 @@ public interface ExternalApiRepository extends JpaRepository<ExternalApi, String
      */
     Optional<ExternalApi> findByApiUrl(String apiUrl);
 
+    /**
+     * 이미 등록된 URL 목록 조회
+     * 카탈로그 일괄 등록 시 배치 단위 중복 체크용
+     */
+    @Query("SELECT a.apiUrl FROM ExternalApi a WHERE a.apiUrl IN :apiUrls")
+    List<String> findExistingApiUrls(@Param("apiUrls") java.util.Collection<String> apiUrls);
+
+    /**
+     * 이미 등록된 API ID 목록 조회
+     * 카탈로그 일괄 등록 시 배치 단위 ID 충돌 체크용
+     */
+    @Query("SELECT a.apiId FROM ExternalApi a WHERE a.apiId IN :apiIds")
+    List<String> findExistingApiIds(@Param("apiIds") java.util.Collection<String> apiIds);
+
     /**
      * 활성화된 API 수 조회
      * 전체 시스템 상태 모니터링용
@@ -161,4 +175,11 @@ public interface ExternalApiRepository extends JpaRepository<ExternalApi, String
      */
     @Query("SELECT a FROM ExternalApi a WHERE a.updatedAt < :thresholdTime")
     List<ExternalApi> findApisNotUpdatedSince(@Param("thresholdTime") java.time.LocalDateTime thresholdTime);
+
+    /**
+     * 특정 시간 이후 수정된 API 조회
+     * 레지스트리 증분 갱신(updatedAt 워터마크)용
+     */
+    @Query("SELECT a FROM ExternalApi a WHERE a.updatedAt >= :since")
+    List<ExternalApi> findApisUpdatedSince(@Param("since") java.time.LocalDateTime since);
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -142,6 +143,32 @@ public interface HealthCheckResultRepository extends JpaRepository<HealthCheckRe
            ") AND h.status IN ('UNHEALTHY', 'TIMEOUT')")
     List<String> findCurrentlyUnhealthyApiIds();
 
+    /**
+     * 기준 시각 이후 최신 결과가 실패인 API별 최신 헬스체크 결과 (Redis 상태 재구성용)
+     */
+    @Query("SELECT h FROM HealthCheckResult h " +
+           "WHERE h.checkedAt >= :since " +
+           "AND h.status NOT IN ('HEALTHY', 'DEGRADED') " +
+           "AND h.checkedAt = (" +
+           "  SELECT MAX(h2.checkedAt) FROM HealthCheckResult h2 " +
+           "  WHERE h2.apiId = h.apiId AND h2.checkedAt >= :since" +
+           ")")
+    List<HealthCheckResult> findLatestFailedResultsPerApiSince(@Param("since") LocalDateTime since);
+
+    /**
+     * API별 현재 연속 실패 구간의 최초 실패 시각 (마지막 성공 이후 가장 이른 실패, Redis 상태 재구성용)
+     */
+    @Query("SELECT h.apiId, MIN(h.checkedAt) FROM HealthCheckResult h " +
+           "WHERE h.apiId IN :apiIds " +
+           "AND h.status NOT IN ('HEALTHY', 'DEGRADED') " +
+           "AND NOT EXISTS (" +
+           "  SELECT h3.checkId FROM HealthCheckResult h3 " +
+           "  WHERE h3.apiId = h.apiId AND h3.checkedAt > h.checkedAt " +
+           "  AND h3.status IN ('HEALTHY', 'DEGRADED')" +
+           ") " +
+           "GROUP BY h.apiId")
+    List<Object[]> findFirstFailureTimesInCurrentStreak(@Param("apiIds") Collection<String> apiIds);
+
     /**
      * 특정 기간 동안 한 번도 체크되지 않은 API들 식별
      */
@@ -1,14 +1,14 @@
 package org.example.SystemManagementSvc.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.SystemManagementSvc.domain.ExternalApi;
 import org.example.SystemManagementSvc.domain.HealthCheckResult;
-import org.example.SystemManagementSvc.repository.ExternalApiRepository;
+import org.example.SystemManagementSvc.dto.HealthSweepSummary;
 import org.example.SystemManagementSvc.repository.HealthCheckResultRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -19,8 +19,8 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
 
 /**
  * 향상된 헬스체크 서비스
@@ -31,15 +31,16 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AdvancedHealthCheckService {
 
-    private final ExternalApiRepository externalApiRepository;
+    private final ExternalApiRegistry externalApiRegistry;
     private final HealthCheckResultRepository healthCheckResultRepository;
     private final RedisHealthStateManager redisHealthStateManager;
-    private final ApiStatusManager apiStatusManager;
+    private final RedisStateWriter redisStateWriter;
+    private final ProbeLatencyTracker probeLatencyTracker;
     private final PrometheusMetricsService prometheusMetricsService;
     private final WebClient.Builder webClientBuilder;
+    private final Executor healthCheckExecutor;
     
     @Value("${healthcheck.static.timeout:5}")
     private int staticTimeoutSeconds;
@@ -53,125 +54,138 @@ public class AdvancedHealthCheckService {
     @Value("${healthcheck.concurrent.max-threads:10}")
     private int maxConcurrentThreads;
     
+    @Value("${healthcheck.sweep.window-size:200}")
+    private int sweepWindowSize;
+    
+    /** 정기 스윕 활성화 여부 (HealthCheckService와 같은 설정, 명시적으로 켠 경우에만 실행) */
+    @Value("${healthcheck.scheduler.enabled:false}")
+    private boolean schedulerEnabled;
+    
+    /** 정기 스윕 방식 - intelligent인 경우에만 이 서비스가 스윕 */
+    @Value("${healthcheck.scheduler.mode:basic}")
+    private String schedulerMode;
+    
     private static final Duration STATIC_TIMEOUT = Duration.ofSeconds(5);
     private static final Duration DYNAMIC_TIMEOUT = Duration.ofSeconds(10);
     private static final String HEALTH_ENDPOINT_SUFFIX = "/health";
     private static final String STATUS_ENDPOINT_SUFFIX = "/status";
     
+    @Autowired
+    public AdvancedHealthCheckService(ExternalApiRegistry externalApiRegistry,
+                                      HealthCheckResultRepository healthCheckResultRepository,
+                                      RedisHealthStateManager redisHealthStateManager,
+                                      RedisStateWriter redisStateWriter,
+                                      ProbeLatencyTracker probeLatencyTracker,
+                                      PrometheusMetricsService prometheusMetricsService,
+                                      WebClient.Builder webClientBuilder,
+                                      @Qualifier("healthCheckExecutor") Executor healthCheckExecutor) {
+        this.externalApiRegistry = externalApiRegistry;
+        this.healthCheckResultRepository = healthCheckResultRepository;
+        this.redisHealthStateManager = redisHealthStateManager;
+        this.redisStateWriter = redisStateWriter;
+        this.probeLatencyTracker = probeLatencyTracker;
+        this.prometheusMetricsService = prometheusMetricsService;
+        this.webClientBuilder = webClientBuilder;
+        this.healthCheckExecutor = healthCheckExecutor;
+    }
+    
     /**
      * 모든 API에 대한 지능형 헬스체크 수행
+     * 우선순위 순서대로 윈도우 단위 스윕(HealthCheckSweep)을 실행하여 동시 진행 체크 수와 메모리를 제한
      */
-    public CompletableFuture<Map<String, HealthCheckResult>> performIntelligentHealthCheck() {
+    public CompletableFuture<HealthSweepSummary> performIntelligentHealthCheck() {
         return CompletableFuture.supplyAsync(() -> {
             log.info("Starting intelligent health check for all APIs");
+            LocalDateTime startedAt = LocalDateTime.now();
+            long startMillis = System.currentTimeMillis();
+            long targets = 0;
+            long checked = 0;
+            long healthy = 0;
+            long timedOut = 0;
+            int windows = 0;
             
             try {
-                // 활성화된 API 목록 조회
-                List<ExternalApi> activeApis = externalApiRepository.findByApiEffectivenessTrue();
-                
-                if (activeApis.isEmpty()) {
-                    log.info("No active APIs found for health check");
-                    return Map.of();
-                }
-                
-                // 우선순위별로 그룹화
-                Map<ExternalApi.HealthCheckPriority, List<ExternalApi>> priorityGroups = 
-                    activeApis.stream().collect(Collectors.groupingBy(ExternalApi::getHealthCheckPriority));
-                
-                // 우선순위 순서대로 병렬 헬스체크 수행
-                Map<String, HealthCheckResult> allResults = new HashMap<>();
-                
+                // 우선순위 순서대로 윈도우 단위 헬스체크 수행
                 for (ExternalApi.HealthCheckPriority priority : ExternalApi.HealthCheckPriority.values()) {
-                    List<ExternalApi> apis = priorityGroups.getOrDefault(priority, List.of());
-                    if (!apis.isEmpty()) {
-                        Map<String, HealthCheckResult> priorityResults = performPriorityGroupHealthCheck(apis);
-                        allResults.putAll(priorityResults);
+                    List<ExternalApi> apis = externalApiRegistry.activeByPriority(priority);
+                    if (apis.isEmpty()) {
+                        continue;
                     }
+                    
+                    HealthSweepSummary groupSummary = HealthCheckSweep.run(apis, sweepWindowSize,
+                        getTimeoutByPriority(priority), healthCheckExecutor, this::performSingleApiHealthCheck, result -> { });
+                    
+                    // 우선순위 그룹 단위로 Redis 상태 일괄 반영
+                    redisStateWriter.flush();
+                    
+                    targets += groupSummary.getTargetApis();
+                    checked += groupSummary.getCheckedApis();
+                    healthy += groupSummary.getHealthyApis();
+                    timedOut += groupSummary.getTimedOutApis();
+                    windows += groupSummary.getWindows();
                 }
                 
-                log.info("Intelligent health check completed for {} APIs", allResults.size());
-                return allResults;
+                if (targets == 0) {
+                    log.info("No active APIs found for health check");
+                }
                 
             } catch (Exception e) {
                 log.error("Failed to perform intelligent health check", e);
-                return Map.of();
             }
+            
+            log.info("Intelligent health check completed for {} APIs", checked);
+            return HealthSweepSummary.builder()
+                .targetApis(targets)
+                .checkedApis(checked)
+                .healthyApis(healthy)
+                .timedOutApis(timedOut)
+                .windows(windows)
+                .startedAt(startedAt)
+                .durationMs(System.currentTimeMillis() - startMillis)
+                .build();
         });
     }
     
     /**
-     * 우선순위 그룹별 병렬 헬스체크
+     * 단일 API 비동기 헬스체크 (헬스체크 전용 실행자에서 실행)
      */
-    private Map<String, HealthCheckResult> performPriorityGroupHealthCheck(List<ExternalApi> apis) {
-        log.debug("Performing health check for {} APIs with priority: {}", 
-                 apis.size(), apis.get(0).getHealthCheckPriority());
-        
-        // 병렬 헬스체크 실행
-        List<CompletableFuture<HealthCheckResult>> healthCheckTasks = apis.stream()
-            .map(this::performSingleApiHealthCheckAsync)
-            .collect(Collectors.toList());
-        
-        // 모든 헬스체크 완료 대기
-        CompletableFuture<Void> allTasks = CompletableFuture.allOf(
-            healthCheckTasks.toArray(new CompletableFuture[0])
-        );
-        
-        try {
-            // 우선순위에 따른 타임아웃 설정
-            int timeoutSeconds = getTimeoutByPriority(apis.get(0).getHealthCheckPriority());
-            allTasks.get(timeoutSeconds, TimeUnit.SECONDS);
-            
-            return healthCheckTasks.stream()
-                .map(CompletableFuture::join)
-                .collect(Collectors.toMap(
-                    HealthCheckResult::getApiId,
-                    result -> result
-                ));
-                
-        } catch (Exception e) {
-            log.warn("Some health checks timed out or failed for priority group", e);
-            
-            // 완료된 헬스체크만 반환
-            return healthCheckTasks.stream()
-                .filter(CompletableFuture::isDone)
-                .map(CompletableFuture::join)
-                .collect(Collectors.toMap(
-                    HealthCheckResult::getApiId,
-                    result -> result
-                ));
-        }
+    public CompletableFuture<HealthCheckResult> performSingleApiHealthCheckAsync(ExternalApi api) {
+        return CompletableFuture.supplyAsync(() -> performSingleApiHealthCheck(api, () -> false), healthCheckExecutor);
     }
     
     /**
-     * 단일 API 비동기 헬스체크
+     * 단일 API 헬스체크
+     * 프로브 후 결과를 반영하기 직전에 cancelled를 확인하여, 스윕 윈도우 제한 시간으로 취소된 체크는 반영하지 않음
+     * 
+     * @param cancelled 결과 반영 직전에 한 번 확인하는 취소 여부
      */
-    @Async
-    public CompletableFuture<HealthCheckResult> performSingleApiHealthCheckAsync(ExternalApi api) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // 이전 상태 확인하여 조기 복구 감지
-                redisHealthStateManager.performEarlyRecoveryCheck(api.getApiId());
-                
-                // 헬스체크 타입 결정
-                HealthCheckResult.HealthCheckType checkType = determineOptimalCheckType(api);
-                
-                HealthCheckResult result = switch (checkType) {
-                    case STATIC -> performEnhancedStaticHealthCheck(api);
-                    case DYNAMIC -> performEnhancedDynamicHealthCheck(api);
-                    default -> performEnhancedStaticHealthCheck(api);
-                };
-                
-                // 결과 저장 및 상태 업데이트
-                saveHealthCheckResult(api, result);
-                updateMetricsAndCache(api, result);
-                
+    HealthCheckResult performSingleApiHealthCheck(ExternalApi api, BooleanSupplier cancelled) {
+        try {
+            // 헬스체크 타입 결정
+            HealthCheckResult.HealthCheckType checkType = determineOptimalCheckType(api);
+            
+            HealthCheckResult result = switch (checkType) {
+                case STATIC -> performEnhancedStaticHealthCheck(api);
+                case DYNAMIC -> performEnhancedDynamicHealthCheck(api);
+                default -> performEnhancedStaticHealthCheck(api);
+            };
+            
+            if (cancelled.getAsBoolean()) {
+                log.debug("Health check for API {} was cancelled by the sweep window timeout, result discarded",
+                         api.getApiName());
                 return result;
-                
-            } catch (Exception e) {
-                log.error("Unexpected error during health check for API: {}", api.getApiName(), e);
-                return createErrorResult(api, e);
             }
-        });
+            
+            // 결과 저장 및 상태 업데이트
+            saveHealthCheckResult(api, result);
+            updateMetricsAndCache(api, result);
+            
+            return result;
+            
+        } catch (Exception e) {
+            log.error("Unexpected error during health check for API: {}", api.getApiName(), e);
+            return createErrorResult(api, e);
+        }
     }
     
     /**
@@ -491,11 +505,11 @@ public class AdvancedHealthCheckService {
                 result.getResponseTimeMs() != null ? result.getResponseTimeMs() : 0
             );
             
-            // Redis 상태 업데이트
-            redisHealthStateManager.updateApiHealthState(api.getApiId(), result);
+            // 응답 시간 분위수 스케치 누적
+            probeLatencyTracker.record(api.getApiId(), result.getResponseTimeMs());
             
-            // API 메타데이터 캐싱
-            apiStatusManager.cacheApiMetadata(api.getApiId(), api);
+            // Redis 상태 업데이트 및 API 메타데이터 캐싱 (그룹 종료 시 파이프라인으로 일괄 반영)
+            redisStateWriter.enqueue(api.getApiId(), result, api);
             
         } catch (Exception e) {
             log.error("Failed to update metrics and cache for API: {}", api.getApiId(), e);
@@ -582,24 +596,24 @@ public class AdvancedHealthCheckService {
     }
     
     /**
-     * 정기적 지능형 헬스체크 스케줄러
+     * 정기적 지능형 헬스체크 스케줄러 (healthcheck.scheduler.enabled=true, mode=intelligent인 경우만)
      */
-    @Scheduled(fixedDelayString = "${healthcheck.intelligent.interval:120000}")
+    @Scheduled(fixedDelayString = "${healthcheck.scheduler.fixed-delay:120000}",
+               initialDelayString = "${healthcheck.scheduler.initial-delay:30000}")
     public void scheduledIntelligentHealthCheck() {
+        if (!schedulerEnabled || !"intelligent".equalsIgnoreCase(schedulerMode)) {
+            return;
+        }
         log.info("Starting scheduled intelligent health check");
         
         try {
-            performIntelligentHealthCheck().thenAccept(results -> {
-                log.info("Intelligent health check completed for {} APIs", results.size());
+            performIntelligentHealthCheck().thenAccept(summary -> {
+                log.info("Intelligent health check completed for {} APIs", summary.getCheckedApis());
                 
                 // 통계 로깅
-                long healthyCount = results.values().stream()
-                    .mapToLong(result -> result.isSuccess() ? 1 : 0)
-                    .sum();
-                
-                log.info("Health check summary - Healthy: {}/{} ({:.1f}%)", 
-                        healthyCount, results.size(), 
-                        results.size() > 0 ? (double) healthyCount / results.size() * 100 : 100.0);
+                log.info("Health check summary - Healthy: {}/{} ({}%)", 
+                        summary.getHealthyApis(), summary.getCheckedApis(), 
+                        String.format("%.1f", summary.getHealthyRate()));
                 
                 // Redis 상태 정리
                 redisHealthStateManager.cleanupExpiredStates();
@@ -0,0 +1,141 @@
+package org.example.SystemManagementSvc.service;
+
+import org.example.SystemManagementSvc.domain.HealthCheckResult;
+import org.example.SystemManagementSvc.dto.ApiHealthState;
+import org.example.SystemManagementSvc.dto.HealthHistoryEntry;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * unhealthy:{apiId} HASH 레이아웃 코덱
+ *
+ * 필드 (짧은 이름, 문자열 정수 값):
+ *   v  스키마 버전        s  상태 ordinal        ct 체크 유형 ordinal
+ *   f  연속 실패 횟수     rt 응답 시간(ms)       hc HTTP 상태 코드
+ *   to 타임아웃(0/1)      lc 마지막 체크(epoch ms)  ff 최초 장애(epoch ms)
+ *   em 에러 메시지 (최대 MAX_ERROR_MESSAGE_LENGTH자)
+ *
+ * 쓰기는 health_state_transition.lua가 수행하며, 버전이 다른 HASH는 다음 전이 때 폐기됨
+ * HealthStatus/HealthCheckType 상수 순서를 바꾸면 SCHEMA_VERSION을 올려야 함
+ *
+ * health_history:{apiId} STREAM 레코드 필드: s 상태 ordinal, ok 성공(0/1), rt 응답 시간, hc HTTP 상태 코드
+ */
+final class ApiHealthStateCodec {
+
+    static final String SCHEMA_VERSION = "1";
+
+    static final String VERSION_FIELD = "v";
+    static final String STATUS_FIELD = "s";
+    static final String CHECK_TYPE_FIELD = "ct";
+    static final String FAILURES_FIELD = "f";
+    static final String RESPONSE_TIME_FIELD = "rt";
+    static final String HTTP_STATUS_FIELD = "hc";
+    static final String TIMEOUT_FIELD = "to";
+    static final String LAST_CHECK_FIELD = "lc";
+    static final String FIRST_FAILURE_FIELD = "ff";
+    static final String ERROR_MESSAGE_FIELD = "em";
+
+    static final String HISTORY_SUCCESS_FIELD = "ok";
+
+    static final int MAX_ERROR_MESSAGE_LENGTH = 200;
+
+    /** HMGET 조회 필드 순서 */
+    static final List<Object> FIELDS = List.of(
+        VERSION_FIELD, STATUS_FIELD, CHECK_TYPE_FIELD, FAILURES_FIELD, RESPONSE_TIME_FIELD,
+        HTTP_STATUS_FIELD, TIMEOUT_FIELD, LAST_CHECK_FIELD, FIRST_FAILURE_FIELD, ERROR_MESSAGE_FIELD
+    );
+
+    private static final HealthCheckResult.HealthStatus[] STATUSES = HealthCheckResult.HealthStatus.values();
+    private static final HealthCheckResult.HealthCheckType[] CHECK_TYPES = HealthCheckResult.HealthCheckType.values();
+
+    private ApiHealthStateCodec() {
+    }
+
+    /**
+     * HMGET(FIELDS) 결과 디코딩
+     * 키가 없거나 스키마 버전이 다르면 빈 값
+     */
+    static Optional<ApiHealthState> decode(String apiId, List<Object> values) {
+        if (values == null || values.size() != FIELDS.size() || !SCHEMA_VERSION.equals(values.get(0))) {
+            return Optional.empty();
+        }
+
+        return Optional.of(ApiHealthState.builder()
+            .apiId(apiId)
+            .status(decodeStatus(values.get(1)))
+            .checkType(decodeCheckType(values.get(2)))
+            .consecutiveFailures((int) parseLong(values.get(3)))
+            .responseTimeMs(parseLong(values.get(4)))
+            .httpStatusCode((int) parseLong(values.get(5)))
+            .timeout(parseLong(values.get(6)) == 1)
+            .lastCheckMillis(parseLong(values.get(7)))
+            .firstFailureMillis(parseLong(values.get(8)))
+            .errorMessage(values.get(9) != null ? values.get(9).toString() : "")
+            .build());
+    }
+
+    /**
+     * 히스토리 STREAM 레코드 디코딩 (레코드 ID의 시각 부분이 기록 시각)
+     */
+    static HealthHistoryEntry decodeHistory(String recordId, long timestampMillis, Map<Object, Object> fields) {
+        return HealthHistoryEntry.builder()
+            .recordId(recordId)
+            .recordedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(timestampMillis), ZoneId.systemDefault()))
+            .status(decodeStatus(fields.get(STATUS_FIELD)))
+            .success(parseLong(fields.get(HISTORY_SUCCESS_FIELD)) == 1)
+            .responseTimeMs(parseLong(fields.get(RESPONSE_TIME_FIELD)))
+            .httpStatusCode((int) parseLong(fields.get(HTTP_STATUS_FIELD)))
+            .build();
+    }
+
+    /**
+     * 상태 ordinal 디코딩 (범위 밖이면 UNKNOWN)
+     */
+    static HealthCheckResult.HealthStatus decodeStatus(Object value) {
+        long ordinal = parseLong(value);
+        return ordinal >= 0 && ordinal < STATUSES.length && value != null ?
+            STATUSES[(int) ordinal] : HealthCheckResult.HealthStatus.UNKNOWN;
+    }
+
+    static String encodeStatus(HealthCheckResult.HealthStatus status) {
+        return String.valueOf(status.ordinal());
+    }
+
+    static String encodeCheckType(HealthCheckResult.HealthCheckType checkType) {
+        return checkType != null ? String.valueOf(checkType.ordinal()) : "";
+    }
+
+    static String encodeMillis(LocalDateTime dateTime) {
+        return String.valueOf(dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    static String encodeErrorMessage(String errorMessage) {
+        if (errorMessage == null) {
+            return "";
+        }
+        return errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH ?
+            errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH) : errorMessage;
+    }
+
+    private static HealthCheckResult.HealthCheckType decodeCheckType(Object value) {
+        long ordinal = parseLong(value);
+        return ordinal >= 0 && ordinal < CHECK_TYPES.length && value != null && !value.toString().isEmpty() ?
+            CHECK_TYPES[(int) ordinal] : null;
+    }
+
+    private static long parseLong(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.toString());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package org.example.SystemManagementSvc.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.SystemManagementSvc.domain.ExternalApi;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API 메타데이터(api_meta:{apiId}) 캐시 관리
+ * - ExternalApi 내용 해시가 바뀐 경우에만 Redis에 기록 (Write-on-Change)
+ * - 내용이 같으면 TTL 절반이 지난 뒤에만 EXPIRE로 연장 (Writer 파이프라인에서 일괄 처리)
+ * - EXPIRE 대상 키가 이미 사라졌으면(메모리 퇴출, 수동 삭제 등) SETEX로 다시 기록
+ * - 내용 해시는 캐시 대상 필드의 SHA-256 (충돌로 변경이 누락되지 않도록)
+ * - 마지막 기록 상태는 프로세스 로컬에 보관하므로 재시작 후에는 API당 1회 다시 기록
+ */
+@Slf4j
+@Service
+public class ApiMetadataCache {
+
+    static final String API_METADATA_PREFIX = "api_meta:";
+
+    /** 메타데이터 캐시 반영 방식 */
+    public enum Action {
+        /** 변경 없음, TTL 여유 있음 */
+        NONE,
+        /** 내용 변경 또는 최초 기록 */
+        WRITE,
+        /** 내용 동일, TTL 연장 필요 */
+        REFRESH
+    }
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${healthcheck.metadata.ttl:3600}")
+    private long ttlSeconds;
+
+    /** apiId → 마지막으로 기록한 내용 해시와 기록(연장) 시각 */
+    private final Map<String, WrittenEntry> writtenEntries = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter writes;
+    private final Counter refreshes;
+
+    @Autowired
+    public ApiMetadataCache(RedisTemplate<String, Object> redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+
+        this.hits = Counter.builder("apibridge_api_metadata_cache_total")
+            .description("API metadata cache operations")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("apibridge_api_metadata_cache_total")
+            .description("API metadata cache operations")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.writes = Counter.builder("apibridge_api_metadata_cache_total")
+            .description("API metadata cache operations")
+            .tag("result", "write")
+            .register(meterRegistry);
+        this.refreshes = Counter.builder("apibridge_api_metadata_cache_total")
+            .description("API metadata cache operations")
+            .tag("result", "refresh")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 이번 프로브에서 필요한 반영 방식 결정
+     * 반영이 필요하면 기록된 것으로 간주하여 상태를 갱신하고, 실패 시 호출 측이 invalidate 해야 함
+     */
+    public Action plan(ExternalApi api) {
+        String contentHash = contentHash(api);
+        long now = System.currentTimeMillis();
+        long refreshAfterMillis = TimeUnit.SECONDS.toMillis(ttlSeconds) / 2;
+
+        WrittenEntry previous = writtenEntries.get(api.getApiId());
+        if (previous == null || !previous.contentHash().equals(contentHash)) {
+            writtenEntries.put(api.getApiId(), new WrittenEntry(contentHash, now));
+            writes.increment();
+            return Action.WRITE;
+        }
+
+        if (now - previous.writtenAtMillis() >= refreshAfterMillis) {
+            writtenEntries.put(api.getApiId(), new WrittenEntry(contentHash, now));
+            refreshes.increment();
+            return Action.REFRESH;
+        }
+        return Action.NONE;
+    }
+
+    /**
+     * 반영에 실패한 API의 기록 상태 제거 (다음 프로브에서 다시 기록)
+     */
+    public void invalidate(Collection<String> apiIds) {
+        apiIds.forEach(writtenEntries::remove);
+    }
+
+    /**
+     * 단건 즉시 반영
+     */
+    public void put(ExternalApi api) {
+        try {
+            switch (plan(api)) {
+                case WRITE -> redisTemplate.opsForValue().set(key(api.getApiId()), buildMetadata(api),
+                        ttlSeconds, TimeUnit.SECONDS);
+                case REFRESH -> {
+                    if (!Boolean.TRUE.equals(redisTemplate.expire(key(api.getApiId()), ttlSeconds, TimeUnit.SECONDS))) {
+                        write(api);
+                    }
+                }
+                case NONE -> { }
+            }
+        } catch (Exception e) {
+            writtenEntries.remove(api.getApiId());
+            log.warn("Failed to cache API metadata for: {}", api.getApiId(), e);
+        }
+    }
+
+    /**
+     * TTL 연장 대상 키가 없을 때 다시 기록 (SETEX)
+     */
+    public void write(ExternalApi api) {
+        try {
+            redisTemplate.opsForValue().set(key(api.getApiId()), buildMetadata(api), ttlSeconds, TimeUnit.SECONDS);
+            writes.increment();
+        } catch (Exception e) {
+            writtenEntries.remove(api.getApiId());
+            log.warn("Failed to rewrite API metadata for: {}", api.getApiId(), e);
+        }
+    }
+
+    /**
+     * 캐시된 메타데이터 조회
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> get(String apiId) {
+        try {
+            Map<String, Object> metadata = (Map<String, Object>) redisTemplate.opsForValue().get(key(apiId));
+            (metadata != null ? hits : misses).increment();
+            return metadata;
+        } catch (Exception e) {
+            log.warn("Failed to get cached API metadata for: {}", apiId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 메타데이터 TTL (초)
+     */
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    /**
+     * 메타데이터 캐시 키
+     */
+    static String key(String apiId) {
+        return HealthStateKeys.apiKey(API_METADATA_PREFIX, apiId);
+    }
+
+    /**
+     * 캐시할 API 메타데이터 구성
+     */
+    static Map<String, Object> buildMetadata(ExternalApi api) {
+        return Map.of(
+            "apiName", api.getApiName(),
+            "apiUrl", api.getApiUrl(),
+            "apiIssuer", api.getApiIssuer(),
+            "apiDomain", api.getApiDomain().name(),
+            "apiKeyword", api.getApiKeyword().name(),
+            "healthCheckPriority", api.getHealthCheckPriority().name(),
+            "contentHash", contentHash(api),
+            "cachedAt", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+        );
+    }
+
+    /**
+     * 캐시 대상 필드의 내용 해시 (SHA-256, enum은 이름 기준으로 계산하여 프로세스 간 동일)
+     * 필드마다 길이를 앞에 붙여 구분자가 포함된 값끼리 같은 입력이 되지 않도록 함
+     */
+    static String contentHash(ExternalApi api) {
+        MessageDigest digest = sha256();
+        for (String field : new String[] {
+                api.getApiName(),
+                api.getApiUrl(),
+                api.getApiIssuer(),
+                String.valueOf(api.getApiDomain()),
+                String.valueOf(api.getApiKeyword()),
+                String.valueOf(api.getHealthCheckPriority())}) {
+            byte[] bytes = String.valueOf(field).getBytes(StandardCharsets.UTF_8);
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+            digest.update(bytes);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record WrittenEntry(String contentHash, long writtenAtMillis) {
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.SystemManagementSvc.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * API별 조밀한 정수 ordinal 레지스트리 (해시 태그 샤드별 독립 번호)
+ * - 샤드 비트맵 인덱스(UnhealthyBitmapIndex)의 비트 위치로 사용
+ * - 샤드별 Redis HASH(api:ordinals:{hN})와 시퀀스(api:ordinal:seq:{hN})에 영속화하여 모든 인스턴스가 공유
+ *   샤드마다 0부터 번호를 매기므로 각 샤드 비트맵의 크기는 그 샤드의 API 수 정도로 유지됨
+ * - 신규 API는 ordinal_assign.lua로 조회와 INCR 할당을 원자적으로 처리 (경합 시에도 시퀀스가 건너뛰지 않음)
+ * - 한 번 할당된 ordinal은 변하지 않으므로 로컬에 캐시
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiOrdinalRegistry {
+
+    static final String ORDINALS_KEY = "api:ordinals";
+    static final String SEQUENCE_KEY = "api:ordinal:seq";
+
+    /** ordinal 미할당 */
+    public static final int NO_ORDINAL = -1;
+
+    /** 조회 후 없을 때만 시퀀스 증가 */
+    private static final RedisScript<Long> ORDINAL_ASSIGN_SCRIPT = RedisScript.of(
+        new ClassPathResource("redis/ordinal_assign.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /** apiId → 샤드 내 ordinal */
+    private final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+
+    /** 샤드 → (ordinal → apiId) */
+    private final Map<Integer, Map<Integer, String>> apiIdsByOrdinal = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void loadAll() {
+        try {
+            for (int shard = 0; shard < HealthStateKeys.shardCount(); shard++) {
+                Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(ordinalsKey(shard));
+                entries.forEach((apiId, ordinal) -> cache(apiId.toString(), parseOrdinal(ordinal)));
+            }
+            log.info("Loaded {} API ordinals", ordinals.size());
+        } catch (Exception e) {
+            log.warn("Failed to load API ordinals, they will be resolved lazily", e);
+        }
+    }
+
+    /**
+     * 로컬 캐시 비우기 (샤드 수 변경으로 샤드 HASH를 정리한 뒤 사용)
+     */
+    void clear() {
+        ordinals.clear();
+        apiIdsByOrdinal.clear();
+    }
+
+    /**
+     * ordinal 조회, 없으면 할당
+     */
+    public int assignOrdinal(String apiId) {
+        Integer cached = ordinals.get(apiId);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            int shard = HealthStateKeys.shardOf(apiId);
+            Long ordinal = stringRedisTemplate.execute(ORDINAL_ASSIGN_SCRIPT,
+                List.of(ordinalsKey(shard), HealthStateKeys.shardKey(SEQUENCE_KEY, shard)), apiId);
+            return ordinal != null ? cache(apiId, ordinal.intValue()) : NO_ORDINAL;
+
+        } catch (Exception e) {
+            log.warn("Failed to assign ordinal for API: {}", apiId, e);
+            return NO_ORDINAL;
+        }
+    }
+
+    /**
+     * 여러 API의 ordinal을 미리 확보 (캐시에 없는 것만 샤드별 HMGET 후 필요 시 할당)
+     */
+    public void ensureOrdinals(Collection<String> apiIds) {
+        for (String apiId : resolveMissing(apiIds)) {
+            assignOrdinal(apiId);
+        }
+    }
+
+    /**
+     * 할당된 ordinal 조회 (할당하지 않음, 미할당 API는 결과에서 제외)
+     */
+    public Map<String, Integer> lookupOrdinals(Collection<String> apiIds) {
+        resolveMissing(apiIds);
+
+        Map<String, Integer> result = new HashMap<>();
+        for (String apiId : apiIds) {
+            Integer ordinal = ordinals.get(apiId);
+            if (ordinal != null) {
+                result.put(apiId, ordinal);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 로컬에 알려진 샤드의 ordinal → apiId
+     */
+    public Map<Integer, String> knownApiIds(int shard) {
+        Map<Integer, String> known = apiIdsByOrdinal.get(shard);
+        return known != null ? Map.copyOf(known) : Map.of();
+    }
+
+    /**
+     * 샤드 ordinal HASH 키
+     */
+    static String ordinalsKey(int shard) {
+        return HealthStateKeys.shardKey(ORDINALS_KEY, shard);
+    }
+
+    /**
+     * 캐시에 없는 API를 샤드별 HMGET으로 조회하고, Redis에도 없는 API 목록 반환
+     */
+    private List<String> resolveMissing(Collection<String> apiIds) {
+        List<String> missing = new ArrayList<>();
+        for (String apiId : apiIds) {
+            if (!ordinals.containsKey(apiId)) {
+                missing.add(apiId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> unassigned = new ArrayList<>();
+        HealthStateKeys.groupByShard(missing).forEach((shard, shardApiIds) -> {
+            try {
+                List<Object> values = stringRedisTemplate.opsForHash()
+                    .multiGet(ordinalsKey(shard), new ArrayList<Object>(shardApiIds));
+                for (int i = 0; i < shardApiIds.size(); i++) {
+                    Object value = values != null ? values.get(i) : null;
+                    if (value != null) {
+                        cache(shardApiIds.get(i), parseOrdinal(value));
+                    } else {
+                        unassigned.add(shardApiIds.get(i));
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("Failed to resolve ordinals for {} APIs in shard {}", shardApiIds.size(), shard, e);
+            }
+        });
+        return unassigned;
+    }
+
+    private int cache(String apiId, int ordinal) {
+        if (ordinal != NO_ORDINAL) {
+            ordinals.put(apiId, ordinal);
+            apiIdsByOrdinal.computeIfAbsent(HealthStateKeys.shardOf(apiId), shard -> new ConcurrentHashMap<>())
+                .put(ordinal, apiId);
+        }
+        return ordinal;
+    }
+
+    private static int parseOrdinal(Object value) {
+        try {
+            return value != null ? Integer.parseInt(value.toString()) : NO_ORDINAL;
+        } catch (NumberFormatException e) {
+            return NO_ORDINAL;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package org.example.SystemManagementSvc.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.SystemManagementSvc.domain.ExternalApi;
+import org.example.SystemManagementSvc.dto.ApiSearchResult;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * API 검색용 3-gram 역색인 (apiName, apiIssuer, apiDescription)
+ * - 텍스트를 소문자/공백 정규화 후 단어 경계를 포함한 3-gram으로 색인 (" we", "wea", ...)
+ * - 질의는 앞쪽 경계만 붙여 분해하므로 단어 접두어 검색과 부분 문자열 검색을 모두 지원
+ * - 점수: 필드별(이름 3, 제공업체 2, 설명 1) 일치 gram 비율의 가중합 + 이름 포함/접두어 보너스, 상위 k개만 힙으로 선별
+ * - ExternalApiRegistry 버전이 바뀌면 바뀐 API의 gram만 갱신 (LIKE '%x%' 전체 스캔 대체)
+ * - 색인 갱신은 시작 시와 주기 작업에서만 수행하고 검색 요청은 읽기만 함
+ *   변경분 gram은 락 밖에서 계산하고 반영할 때만 쓰기 락을 잡아 검색 대기를 최소화
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiSearchIndex {
+
+    static final int GRAM_SIZE = 3;
+    static final int MIN_QUERY_LENGTH = 2;
+
+    /** 한 필드에서 질의 gram 중 이 비율 이상이 일치해야 후보로 인정 */
+    private static final double MIN_MATCH_RATIO = 0.6;
+
+    /** 필드 가중치 (비트 순서: 이름, 제공업체, 설명) */
+    private static final double[] FIELD_WEIGHTS = {3.0, 2.0, 1.0};
+    private static final double NAME_CONTAINS_BONUS = 1.0;
+    private static final double NAME_PREFIX_BONUS = 2.0;
+
+    private final ExternalApiRegistry externalApiRegistry;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** gram → (apiId → 필드 비트마스크) */
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+
+    /** apiId → 색인된 API (syncIfChanged만 변경) */
+    private final Map<String, ExternalApi> indexed = new HashMap<>();
+
+    private volatile long indexedVersion = -1;
+
+    /**
+     * 상위 k개 검색
+     *
+     * @param activeOnly true면 활성 API만 반환
+     */
+    public List<ApiSearchResult> search(String query, int limit, boolean activeOnly) {
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.length() < MIN_QUERY_LENGTH || limit <= 0) {
+            return List.of();
+        }
+
+        Set<String> queryGrams = queryGrams(normalizedQuery);
+        Comparator<ApiSearchResult> ranking = Comparator.comparingDouble(ApiSearchResult::getScore)
+            .thenComparing(ApiSearchResult::getApiName, Comparator.nullsFirst(Comparator.reverseOrder()));
+        PriorityQueue<ApiSearchResult> top = new PriorityQueue<>(limit + 1, ranking);
+
+        lock.readLock().lock();
+        try {
+            Map<String, int[]> matches = new HashMap<>();
+            for (String gram : queryGrams) {
+                Map<String, Integer> posting = postings.get(gram);
+                if (posting == null) {
+                    continue;
+                }
+                posting.forEach((apiId, fields) -> {
+                    int[] counts = matches.computeIfAbsent(apiId, id -> new int[FIELD_WEIGHTS.length]);
+                    for (int field = 0; field < FIELD_WEIGHTS.length; field++) {
+                        if ((fields & (1 << field)) != 0) {
+                            counts[field]++;
+                        }
+                    }
+                });
+            }
+
+            for (Map.Entry<String, int[]> match : matches.entrySet()) {
+                ExternalApi api = indexed.get(match.getKey());
+                if (api == null || (activeOnly && !Boolean.TRUE.equals(api.getApiEffectiveness()))) {
+                    continue;
+                }
+                double score = score(match.getValue(), queryGrams.size(), normalizedQuery, api);
+                if (score <= 0) {
+                    continue;
+                }
+                top.offer(toResult(api, score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<ApiSearchResult> results = new ArrayList<>(top);
+        results.sort(ranking.reversed());
+        return results;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        syncIfChanged();
+    }
+
+    /**
+     * 레지스트리 변경 반영
+     * indexed는 이 메소드에서만 변경되므로 변경분 계산은 락 없이 읽고, 반영만 쓰기 락 안에서 수행
+     */
+    @Scheduled(fixedDelayString = "${healthcheck.search.sync-interval:5000}")
+    public synchronized void syncIfChanged() {
+        long registryVersion = externalApiRegistry.getVersion();
+        if (registryVersion == indexedVersion) {
+            return;
+        }
+
+        List<ExternalApi> current = externalApiRegistry.all();
+        Set<String> seen = new HashSet<>();
+        Map<String, Map<String, Integer>> staleGrams = new HashMap<>();
+        Map<String, Map<String, Integer>> freshGrams = new HashMap<>();
+        for (ExternalApi api : current) {
+            seen.add(api.getApiId());
+            ExternalApi previous = indexed.get(api.getApiId());
+            if (previous == api || (previous != null && sameText(previous, api))) {
+                continue;
+            }
+            if (previous != null) {
+                staleGrams.put(api.getApiId(), fieldGrams(previous));
+            }
+            freshGrams.put(api.getApiId(), fieldGrams(api));
+        }
+        List<String> removed = indexed.keySet().stream().filter(apiId -> !seen.contains(apiId)).toList();
+        for (String apiId : removed) {
+            staleGrams.put(apiId, fieldGrams(indexed.get(apiId)));
+        }
+
+        lock.writeLock().lock();
+        try {
+            staleGrams.forEach(this::removePostings);
+            freshGrams.forEach(this::addPostings);
+            current.forEach(api -> indexed.put(api.getApiId(), api));
+            removed.forEach(indexed::remove);
+            indexedVersion = registryVersion;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (!freshGrams.isEmpty() || !removed.isEmpty()) {
+            log.debug("Search index updated: {} reindexed, {} removed, {} grams",
+                    freshGrams.size(), removed.size(), postings.size());
+        }
+    }
+
+    private double score(int[] counts, int queryGramCount, String normalizedQuery, ExternalApi api) {
+        double score = 0;
+        boolean qualified = false;
+        for (int field = 0; field < counts.length; field++) {
+            double ratio = (double) counts[field] / queryGramCount;
+            if (ratio >= MIN_MATCH_RATIO) {
+                qualified = true;
+            }
+            score += FIELD_WEIGHTS[field] * ratio;
+        }
+        if (!qualified) {
+            return 0;
+        }
+
+        String name = normalize(api.getApiName());
+        if (name.startsWith(normalizedQuery)) {
+            score += NAME_PREFIX_BONUS;
+        } else if (name.contains(normalizedQuery)) {
+            score += NAME_CONTAINS_BONUS;
+        }
+        return score;
+    }
+
+    private void addPostings(String apiId, Map<String, Integer> grams) {
+        grams.forEach((gram, fields) -> postings.computeIfAbsent(gram, key -> new HashMap<>()).put(apiId, fields));
+    }
+
+    private void removePostings(String apiId, Map<String, Integer> grams) {
+        for (String gram : grams.keySet()) {
+            Map<String, Integer> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(apiId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * API의 gram별 필드 비트마스크
+     */
+    private static Map<String, Integer> fieldGrams(ExternalApi api) {
+        Map<String, Integer> grams = new HashMap<>();
+        String[] texts = {api.getApiName(), api.getApiIssuer(), api.getApiDescription()};
+        for (int field = 0; field < texts.length; field++) {
+            int mask = 1 << field;
+            for (String gram : indexGrams(normalize(texts[field]))) {
+                grams.merge(gram, mask, (a, b) -> a | b);
+            }
+        }
+        return grams;
+    }
+
+    private static boolean sameText(ExternalApi a, ExternalApi b) {
+        return Objects.equals(a.getApiName(), b.getApiName())
+            && Objects.equals(a.getApiIssuer(), b.getApiIssuer())
+            && Objects.equals(a.getApiDescription(), b.getApiDescription());
+    }
+
+    private static ApiSearchResult toResult(ExternalApi api, double score) {
+        return ApiSearchResult.builder()
+            .apiId(api.getApiId())
+            .apiName(api.getApiName())
+            .apiIssuer(api.getApiIssuer())
+            .apiDomain(api.getApiDomain())
+            .apiEffectiveness(api.getApiEffectiveness())
+            .score(score)
+            .build();
+    }
+
+    /**
+     * 소문자 변환, 문자/숫자 외 구분자는 공백 하나로 정규화
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toLowerCase(c));
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 색인용 gram (앞뒤 단어 경계 포함)
+     */
+    static Set<String> indexGrams(String normalized) {
+        return grams(" " + normalized + " ");
+    }
+
+    /**
+     * 질의용 gram (앞쪽 경계만 포함하여 마지막 단어는 접두어로 일치)
+     */
+    static Set<String> queryGrams(String normalizedQuery) {
+        return grams(" " + normalizedQuery);
+    }
+
+    private static Set<String> grams(String padded) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+}
@@ -4,22 +4,21 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.SystemManagementSvc.domain.ExternalApi;
 import org.example.SystemManagementSvc.dto.ApiAvailabilityResponse;
+import org.example.SystemManagementSvc.dto.ApiHealthState;
 import org.example.SystemManagementSvc.dto.ApiStatusSummary;
-import org.example.SystemManagementSvc.repository.ExternalApiRepository;
+import org.example.SystemManagementSvc.dto.ExternalApiView;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 /**
  * API 상태 관리 공통 라이브러리
  * - 실시간 API 가용성 확인
  * - Redis TTL 기반 효율적 상태 관리
- * - 다양한 상태 조회 인터페이스 제공
+ * - 다양한 상태 조회 인터페이스 제공 (목록/요약 조회는 AvailabilitySnapshot 기준)
  */
 @Slf4j
 @Service
@@ -27,23 +26,36 @@ import java.util.stream.Collectors;
 public class ApiStatusManager {
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private final ExternalApiRepository externalApiRepository;
-    
-    private static final String UNHEALTHY_API_PREFIX = "unhealthy:";
-    private static final String API_METADATA_PREFIX = "api_meta:";
-    private static final String HEALTH_STATS_KEY = "health_stats:summary";
+    private final RedisHealthStateManager redisHealthStateManager;
+    private final UnhealthyBitmapIndex unhealthyBitmapIndex;
+    private final ApiMetadataCache apiMetadataCache;
+    private final LocalHealthStateStore localHealthStateStore;
+    private final RedisAvailabilityMonitor redisAvailabilityMonitor;
+    private final Optional<UnhealthyApiNearCache> unhealthyApiNearCache;
+    private final AvailabilitySnapshotPublisher availabilitySnapshotPublisher;
     
     /**
      * 특정 API의 현재 가용성 확인
      * Zero Storage 전략: 정상 API는 Redis에 저장하지 않음
+     * Near-Cache가 최신 상태이면 Redis 조회 없이 로컬에서 판단
+     * Redis 장애(Failover) 중이거나 조회 실패 시 로컬 상태 저장소 기준으로 판단
      */
     public boolean isApiAvailable(String apiId) {
+        if (redisAvailabilityMonitor.isFailoverActive()) {
+            return !localHealthStateStore.isUnhealthy(apiId);
+        }
+        
+        Optional<UnhealthyApiNearCache> nearCache = freshNearCache();
+        if (nearCache.isPresent()) {
+            return !nearCache.get().isUnhealthy(apiId);
+        }
+        
         try {
             // Redis에 키가 없으면 정상 (1-2ms 초고속 조회)
-            return !Boolean.TRUE.equals(redisTemplate.hasKey(UNHEALTHY_API_PREFIX + apiId));
+            return !Boolean.TRUE.equals(redisTemplate.hasKey(RedisHealthStateManager.unhealthyKey(apiId)));
         } catch (Exception e) {
-            log.warn("Failed to check API availability for: {}, assuming available", apiId, e);
-            return true; // Redis 장애 시 기본적으로 가용으로 간주
+            log.warn("Failed to check API availability for: {}, using local state", apiId, e);
+            return !localHealthStateStore.isUnhealthy(apiId);
         }
     }
     
@@ -56,114 +68,84 @@ public class ApiStatusManager {
             return Map.of();
         }
         
-        try {
-            // Redis Pipeline으로 배치 조회
-            List<String> unhealthyKeys = apiIds.stream()
-                .map(apiId -> UNHEALTHY_API_PREFIX + apiId)
-                .collect(Collectors.toList());
-            
-            List<Object> pipelineResults = redisTemplate.executePipelined((org.springframework.data.redis.core.RedisCallback<Object>) connection -> {
-                for (String key : unhealthyKeys) {
-                    connection.exists(key.getBytes());
-                }
-                return null;
-            });
-            
-            List<Boolean> existsResults = new ArrayList<>();
-            for (Object result : pipelineResults) {
-                existsResults.add((Boolean) result);
-            }
-            
+        if (redisAvailabilityMonitor.isFailoverActive()) {
+            return checkLocalAvailability(apiIds);
+        }
+        
+        Optional<UnhealthyApiNearCache> nearCache = freshNearCache();
+        if (nearCache.isPresent()) {
             Map<String, Boolean> availabilityMap = new HashMap<>();
-            for (int i = 0; i < apiIds.size(); i++) {
-                // 키가 없으면 가용, 있으면 불가용
-                boolean isAvailable = !Boolean.TRUE.equals(existsResults.get(i));
-                availabilityMap.put(apiIds.get(i), isAvailable);
+            for (String apiId : apiIds) {
+                availabilityMap.put(apiId, !nearCache.get().isUnhealthy(apiId));
             }
-            
             return availabilityMap;
+        }
+        
+        try {
+            // 비트맵 GET 1회로 일괄 조회
+            return unhealthyBitmapIndex.checkAvailability(apiIds);
             
         } catch (Exception e) {
-            log.error("Failed to check multiple APIs availability", e);
-            // 실패 시 모든 API를 가용으로 간주
-            return apiIds.stream()
-                .collect(Collectors.toMap(apiId -> apiId, apiId -> true));
+            log.error("Failed to check multiple APIs availability, using local state", e);
+            return checkLocalAvailability(apiIds);
         }
     }
     
     /**
-     * 도메인별 가용한 API 목록 조회
+     * 로컬 상태 저장소 기준 일괄 가용성 확인
      */
-    public List<ExternalApi> getAvailableApisByDomain(ExternalApi.ApiDomain domain) {
-        try {
-            List<ExternalApi> domainApis = externalApiRepository.findByApiDomainAndApiEffectivenessTrue(domain);
-            
-            if (domainApis.isEmpty()) {
-                return List.of();
-            }
-            
-            List<String> apiIds = domainApis.stream()
-                .map(ExternalApi::getApiId)
-                .collect(Collectors.toList());
-            
-            Map<String, Boolean> availabilityMap = checkApisAvailability(apiIds);
-            
-            return domainApis.stream()
-                .filter(api -> availabilityMap.getOrDefault(api.getApiId(), true))
-                .collect(Collectors.toList());
-                
-        } catch (Exception e) {
-            log.error("Failed to get available APIs by domain: {}", domain, e);
-            return List.of();
+    private Map<String, Boolean> checkLocalAvailability(List<String> apiIds) {
+        Map<String, Boolean> availabilityMap = new HashMap<>();
+        for (String apiId : apiIds) {
+            availabilityMap.put(apiId, !localHealthStateStore.isUnhealthy(apiId));
         }
+        return availabilityMap;
     }
     
     /**
-     * 키워드별 가용한 API 목록 조회
+     * 검사 이력이 있는 전체 API의 가용성 스냅샷 (비트맵 GET 1회)
      */
-    public List<ExternalApi> getAvailableApisByKeyword(ExternalApi.ApiKeyword keyword) {
+    public Map<String, Boolean> getAvailabilitySnapshot() {
         try {
-            List<ExternalApi> keywordApis = externalApiRepository.findByApiKeywordAndApiEffectivenessTrue(keyword);
-            
-            if (keywordApis.isEmpty()) {
-                return List.of();
-            }
-            
-            List<String> apiIds = keywordApis.stream()
-                .map(ExternalApi::getApiId)
-                .collect(Collectors.toList());
-            
-            Map<String, Boolean> availabilityMap = checkApisAvailability(apiIds);
-            
-            return keywordApis.stream()
-                .filter(api -> availabilityMap.getOrDefault(api.getApiId(), true))
-                .collect(Collectors.toList());
-                
+            return unhealthyBitmapIndex.snapshot();
         } catch (Exception e) {
-            log.error("Failed to get available APIs by keyword: {}", keyword, e);
-            return List.of();
+            log.error("Failed to get API availability snapshot", e);
+            return Map.of();
         }
     }
     
     /**
-     * 현재 불가용한 API 목록 조회
+     * 사용 가능한(최신 상태의) Near-Cache 조회
+     */
+    private Optional<UnhealthyApiNearCache> freshNearCache() {
+        return unhealthyApiNearCache.filter(UnhealthyApiNearCache::isFresh);
+    }
+    
+    /**
+     * 도메인별 가용한 API 목록 조회 (가용성 스냅샷 기준, I/O 없음)
+     */
+    public List<ExternalApiView> getAvailableApisByDomain(ExternalApi.ApiDomain domain) {
+        return availabilitySnapshotPublisher.current().availableByDomain(domain);
+    }
+    
+    /**
+     * 키워드별 가용한 API 목록 조회 (가용성 스냅샷 기준, I/O 없음)
+     */
+    public List<ExternalApiView> getAvailableApisByKeyword(ExternalApi.ApiKeyword keyword) {
+        return availabilitySnapshotPublisher.current().availableByKeyword(keyword);
+    }
+    
+    /**
+     * 현재 불가용한 API 목록 조회 (가용성 스냅샷 기준, I/O 없음)
+     * Redis 장애 중에는 스냅샷이 로컬 상태 저장소 기준으로 게시됨
      */
     public List<String> getUnavailableApiIds() {
-        try {
-            Set<String> unhealthyKeys = redisTemplate.keys(UNHEALTHY_API_PREFIX + "*");
-            return unhealthyKeys.stream()
-                .map(key -> key.replace(UNHEALTHY_API_PREFIX, ""))
-                .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("Failed to get unavailable API IDs", e);
-            return List.of();
-        }
+        return availabilitySnapshotPublisher.current().getUnavailableApiIds();
     }
     
     /**
      * API 상태 상세 정보 조회
      */
-    @SuppressWarnings("unchecked")
     public ApiAvailabilityResponse getApiStatusDetails(String apiId) {
         try {
             boolean isAvailable = isApiAvailable(apiId);
@@ -179,10 +161,10 @@ public class ApiStatusManager {
             }
             
             // 불가용한 경우 상세 정보 조회
-            String cacheKey = UNHEALTHY_API_PREFIX + apiId;
-            Map<String, Object> statusData = (Map<String, Object>) redisTemplate.opsForValue().get(cacheKey);
+            String cacheKey = RedisHealthStateManager.unhealthyKey(apiId);
+            Optional<ApiHealthState> state = redisHealthStateManager.getApiHealthState(apiId);
             
-            if (statusData == null) {
+            if (state.isEmpty()) {
                 return ApiAvailabilityResponse.builder()
                     .apiId(apiId)
                     .isAvailable(true)
@@ -192,14 +174,17 @@ public class ApiStatusManager {
                     .build();
             }
             
+            ApiHealthState healthState = state.get();
+            String errorMessage = healthState.getErrorMessage();
+            
             return ApiAvailabilityResponse.builder()
                 .apiId(apiId)
                 .isAvailable(false)
-                .status(statusData.getOrDefault("status", "UNKNOWN").toString())
-                .message(statusData.getOrDefault("errorMessage", "API is currently unavailable").toString())
-                .responseTimeMs(Long.valueOf(statusData.getOrDefault("responseTime", 0).toString()))
-                .consecutiveFailures(Integer.valueOf(statusData.getOrDefault("consecutiveFailures", 0).toString()))
-                .checkedAt(parseDateTime(statusData.get("lastCheck")))
+                .status(healthState.getStatus().name())
+                .message(errorMessage != null && !errorMessage.isEmpty() ? errorMessage : "API is currently unavailable")
+                .responseTimeMs(healthState.getResponseTimeMs())
+                .consecutiveFailures(healthState.getConsecutiveFailures())
+                .checkedAt(healthState.getLastCheck() != null ? healthState.getLastCheck() : LocalDateTime.now())
                 .ttlSeconds(redisTemplate.getExpire(cacheKey, TimeUnit.SECONDS))
                 .build();
             
@@ -216,142 +201,44 @@ public class ApiStatusManager {
     }
     
     /**
-     * 전체 API 상태 요약 정보
+     * 전체 API 상태 요약 정보 (가용성 스냅샷 기준, I/O 없음)
      */
     public ApiStatusSummary getApiStatusSummary() {
-        try {
-            long totalApis = externalApiRepository.count();
-            long effectiveApis = externalApiRepository.countByApiEffectivenessTrue();
-            long unavailableApis = getUnavailableApiIds().size();
-            long availableApis = effectiveApis - unavailableApis;
-            
-            // 도메인별 통계
-            Map<ExternalApi.ApiDomain, Long> domainStats = Arrays.stream(ExternalApi.ApiDomain.values())
-                .collect(Collectors.toMap(
-                    domain -> domain,
-                    domain -> (long) getAvailableApisByDomain(domain).size()
-                ));
-            
-            return ApiStatusSummary.builder()
-                .totalApis(totalApis)
-                .effectiveApis(effectiveApis)
-                .availableApis(availableApis)
-                .unavailableApis(unavailableApis)
-                .availabilityRate(effectiveApis > 0 ? (double) availableApis / effectiveApis * 100 : 100.0)
-                .domainStats(domainStats)
-                .lastUpdated(LocalDateTime.now())
-                .build();
-                
-        } catch (Exception e) {
-            log.error("Failed to get API status summary", e);
-            return ApiStatusSummary.builder()
-                .totalApis(0L)
-                .effectiveApis(0L)
-                .availableApis(0L)
-                .unavailableApis(0L)
-                .availabilityRate(0.0)
-                .domainStats(Map.of())
-                .lastUpdated(LocalDateTime.now())
-                .build();
-        }
+        return availabilitySnapshotPublisher.current().getSummary();
     }
     
     /**
-     * 우선순위별 가용 API 조회
+     * 우선순위별 가용 API 조회 (가용성 스냅샷 기준, I/O 없음)
      */
-    public Map<ExternalApi.HealthCheckPriority, List<ExternalApi>> getAvailableApisByPriority() {
-        try {
-            List<ExternalApi> allApis = externalApiRepository.findByApiEffectivenessTrue();
-            
-            List<String> apiIds = allApis.stream()
-                .map(ExternalApi::getApiId)
-                .collect(Collectors.toList());
-            
-            Map<String, Boolean> availabilityMap = checkApisAvailability(apiIds);
-            
-            return allApis.stream()
-                .filter(api -> availabilityMap.getOrDefault(api.getApiId(), true))
-                .collect(Collectors.groupingBy(ExternalApi::getHealthCheckPriority));
-                
-        } catch (Exception e) {
-            log.error("Failed to get available APIs by priority", e);
-            return Map.of();
-        }
+    public Map<ExternalApi.HealthCheckPriority, List<ExternalApiView>> getAvailableApisByPriority() {
+        return availabilitySnapshotPublisher.current().getAvailableByPriority();
     }
     
     /**
      * 장애 복구 예상 시간 조회
      */
     public Map<String, Long> getRecoveryEstimates() {
-        try {
-            List<String> unavailableApis = getUnavailableApiIds();
-            Map<String, Long> estimates = new HashMap<>();
-            
-            for (String apiId : unavailableApis) {
-                String cacheKey = UNHEALTHY_API_PREFIX + apiId;
-                Long ttl = redisTemplate.getExpire(cacheKey, TimeUnit.SECONDS);
-                if (ttl != null && ttl > 0) {
-                    estimates.put(apiId, ttl);
-                }
-            }
-            
-            return estimates;
-            
-        } catch (Exception e) {
-            log.error("Failed to get recovery estimates", e);
-            return Map.of();
-        }
+        return redisHealthStateManager.getRecoveryEstimates();
     }
     
     /**
-     * API 메타데이터 캐싱
+     * 지정 시간 내 복구 예정 API 조회
      */
-    public void cacheApiMetadata(String apiId, ExternalApi api) {
-        try {
-            String cacheKey = API_METADATA_PREFIX + apiId;
-            Map<String, Object> metadata = Map.of(
-                "apiName", api.getApiName(),
-                "apiUrl", api.getApiUrl(),
-                "apiIssuer", api.getApiIssuer(),
-                "apiDomain", api.getApiDomain().name(),
-                "apiKeyword", api.getApiKeyword().name(),
-                "healthCheckPriority", api.getHealthCheckPriority().name(),
-                "cachedAt", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
-            );
-            
-            redisTemplate.opsForValue().set(cacheKey, metadata, 1, TimeUnit.HOURS);
-            
-        } catch (Exception e) {
-            log.warn("Failed to cache API metadata for: {}", apiId, e);
-        }
+    public Map<String, Long> getApisRecoveringWithin(long withinSeconds) {
+        return redisHealthStateManager.getApisRecoveringWithin(withinSeconds);
     }
     
     /**
-     * 캐시된 API 메타데이터 조회
+     * API 메타데이터 캐싱 (내용이 바뀐 경우에만 기록)
      */
-    @SuppressWarnings("unchecked")
-    public Map<String, Object> getCachedApiMetadata(String apiId) {
-        try {
-            String cacheKey = API_METADATA_PREFIX + apiId;
-            return (Map<String, Object>) redisTemplate.opsForValue().get(cacheKey);
-        } catch (Exception e) {
-            log.warn("Failed to get cached API metadata for: {}", apiId, e);
-            return null;
-        }
+    public void cacheApiMetadata(String apiId, ExternalApi api) {
+        apiMetadataCache.put(api);
     }
     
     /**
-     * DateTime 파싱 헬퍼 메소드
+     * 캐시된 API 메타데이터 조회
      */
-    private LocalDateTime parseDateTime(Object dateTimeObj) {
-        if (dateTimeObj == null) {
-            return LocalDateTime.now();
-        }
-        
-        try {
-            return LocalDateTime.parse(dateTimeObj.toString());
-        } catch (Exception e) {
-            return LocalDateTime.now();
-        }
+    public Map<String, Object> getCachedApiMetadata(String apiId) {
+        return apiMetadataCache.get(apiId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,190 @@
+package org.example.SystemManagementSvc.service;
+
+import org.example.SystemManagementSvc.domain.ExternalApi;
+import org.example.SystemManagementSvc.dto.ApiStatusSummary;
+import org.example.SystemManagementSvc.dto.ExternalApiView;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 레지스트리 + 가용성의 불변 스냅샷
+ * - AvailabilitySnapshotPublisher가 상태 변경 시 새로 만들어 교체하며, 조회 API는 I/O 없이 이 스냅샷으로 응답
+ * - version은 게시할 때마다 1씩 증가
+ * - API 정보는 엔티티가 아닌 불변 값(ExternalApiView)으로 복사하여 보관 (레지스트리 엔티티 변경과 무관)
+ * - 요약 통계(도메인/키워드/제공업체/우선순위)는 생성 시 활성 목록 1회 순회로 집계하여, 다음 상태 변경까지 재사용
+ */
+public final class AvailabilitySnapshot {
+
+    private final long version;
+    private final LocalDateTime publishedAt;
+    private final boolean fromLocalState;
+    private final List<ExternalApiView> effectiveApis;
+    private final Set<String> unavailableApiIds;
+    private final List<String> sortedUnavailableApiIds;
+    private final Map<ExternalApi.ApiDomain, List<ExternalApiView>> availableByDomain;
+    private final Map<ExternalApi.ApiKeyword, List<ExternalApiView>> availableByKeyword;
+    private final Map<ExternalApi.HealthCheckPriority, List<ExternalApiView>> availableByPriority;
+    private final ApiStatusSummary summary;
+
+    private AvailabilitySnapshot(long version, long totalApis, List<ExternalApi> effectiveApis,
+                                 Collection<String> unavailableApiIds, boolean fromLocalState) {
+        this.version = version;
+        this.publishedAt = LocalDateTime.now();
+        this.fromLocalState = fromLocalState;
+        this.effectiveApis = effectiveApis.stream().map(ExternalApiView::from).toList();
+        this.unavailableApiIds = Set.copyOf(unavailableApiIds);
+
+        Map<ExternalApi.ApiDomain, List<ExternalApiView>> byDomain = new EnumMap<>(ExternalApi.ApiDomain.class);
+        Map<ExternalApi.ApiKeyword, List<ExternalApiView>> byKeyword = new EnumMap<>(ExternalApi.ApiKeyword.class);
+        Map<ExternalApi.HealthCheckPriority, List<ExternalApiView>> byPriority = new EnumMap<>(ExternalApi.HealthCheckPriority.class);
+        List<String> unavailable = new ArrayList<>();
+
+        // 요약 통계: 활성 목록을 한 번만 순회하며 모든 분류를 함께 집계
+        Map<ExternalApi.ApiDomain, Long> domainTotals = zeroCounts(ExternalApi.ApiDomain.class);
+        Map<ExternalApi.HealthCheckPriority, Long> priorityTotals = zeroCounts(ExternalApi.HealthCheckPriority.class);
+        Map<ExternalApi.ApiDomain, Long> domainStats = zeroCounts(ExternalApi.ApiDomain.class);
+        Map<ExternalApi.HealthCheckPriority, Long> priorityStats = zeroCounts(ExternalApi.HealthCheckPriority.class);
+        Map<ExternalApi.ApiKeyword, Long> keywordStats = zeroCounts(ExternalApi.ApiKeyword.class);
+        Map<String, Long> issuerStats = new TreeMap<>();
+        long available = 0;
+
+        for (ExternalApiView api : this.effectiveApis) {
+            ExternalApi.HealthCheckPriority priority = api.healthCheckPriority();
+            domainTotals.merge(api.apiDomain(), 1L, Long::sum);
+            priorityTotals.merge(priority, 1L, Long::sum);
+
+            if (this.unavailableApiIds.contains(api.apiId())) {
+                unavailable.add(api.apiId());
+                continue;
+            }
+
+            available++;
+            byDomain.computeIfAbsent(api.apiDomain(), key -> new ArrayList<>()).add(api);
+            byKeyword.computeIfAbsent(api.apiKeyword(), key -> new ArrayList<>()).add(api);
+            byPriority.computeIfAbsent(priority, key -> new ArrayList<>()).add(api);
+
+            domainStats.merge(api.apiDomain(), 1L, Long::sum);
+            priorityStats.merge(priority, 1L, Long::sum);
+            keywordStats.merge(api.apiKeyword(), 1L, Long::sum);
+            if (api.apiIssuer() != null) {
+                issuerStats.merge(api.apiIssuer(), 1L, Long::sum);
+            }
+        }
+
+        Collections.sort(unavailable);
+        this.sortedUnavailableApiIds = List.copyOf(unavailable);
+        this.availableByDomain = freeze(byDomain);
+        this.availableByKeyword = freeze(byKeyword);
+        this.availableByPriority = freeze(byPriority);
+
+        long effective = this.effectiveApis.size();
+        this.summary = ApiStatusSummary.builder()
+            .totalApis(totalApis)
+            .effectiveApis(effective)
+            .availableApis(available)
+            .unavailableApis(effective - available)
+            .availabilityRate(effective > 0 ? (double) available / effective * 100 : 100.0)
+            .domainStats(Collections.unmodifiableMap(domainStats))
+            .priorityStats(Collections.unmodifiableMap(priorityStats))
+            .keywordStats(Collections.unmodifiableMap(keywordStats))
+            .issuerStats(Collections.unmodifiableMap(issuerStats))
+            .domainTotals(Collections.unmodifiableMap(domainTotals))
+            .priorityTotals(Collections.unmodifiableMap(priorityTotals))
+            .lastUpdated(publishedAt)
+            .build();
+    }
+
+    /**
+     * 스냅샷 생성
+     *
+     * @param totalApis 비활성 API를 포함한 전체 API 수
+     * @param effectiveApis 활성 API 목록 (값 객체로 복사되므로 이후 엔티티 변경은 반영되지 않음)
+     * @param unavailableApiIds 현재 비정상 API (활성 목록에 없는 ID는 무시)
+     * @param fromLocalState Redis 대신 로컬 상태 저장소로 만든 스냅샷 여부
+     */
+    static AvailabilitySnapshot of(long version, long totalApis, List<ExternalApi> effectiveApis,
+                                   Collection<String> unavailableApiIds, boolean fromLocalState) {
+        return new AvailabilitySnapshot(version, totalApis, effectiveApis, unavailableApiIds, fromLocalState);
+    }
+
+    /**
+     * 첫 게시 전 사용하는 빈 스냅샷
+     */
+    static AvailabilitySnapshot empty() {
+        return new AvailabilitySnapshot(0, 0, List.of(), List.of(), false);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public boolean isFromLocalState() {
+        return fromLocalState;
+    }
+
+    public List<ExternalApiView> getEffectiveApis() {
+        return effectiveApis;
+    }
+
+    /**
+     * 활성 API 중 현재 불가용한 API ID (정렬)
+     */
+    public List<String> getUnavailableApiIds() {
+        return sortedUnavailableApiIds;
+    }
+
+    /**
+     * 비정상 API 집합이 같은지 비교 (같으면 스냅샷을 다시 만들 필요 없음)
+     */
+    boolean hasSameUnavailable(Collection<String> apiIds) {
+        return unavailableApiIds.size() == apiIds.size() && unavailableApiIds.containsAll(apiIds);
+    }
+
+    public boolean isAvailable(String apiId) {
+        return !unavailableApiIds.contains(apiId);
+    }
+
+    public List<ExternalApiView> availableByDomain(ExternalApi.ApiDomain domain) {
+        return availableByDomain.getOrDefault(domain, List.of());
+    }
+
+    public List<ExternalApiView> availableByKeyword(ExternalApi.ApiKeyword keyword) {
+        return availableByKeyword.getOrDefault(keyword, List.of());
+    }
+
+    public Map<ExternalApi.HealthCheckPriority, List<ExternalApiView>> getAvailableByPriority() {
+        return availableByPriority;
+    }
+
+    public ApiStatusSummary getSummary() {
+        return summary;
+    }
+
+    /**
+     * 모든 enum 값을 0으로 채운 카운터 (값이 없는 분류도 응답에 포함)
+     */
+    private static <K extends Enum<K>> Map<K, Long> zeroCounts(Class<K> type) {
+        Map<K, Long> counts = new EnumMap<>(type);
+        for (K key : type.getEnumConstants()) {
+            counts.put(key, 0L);
+        }
+        return counts;
+    }
+
+    private static <K extends Enum<K>> Map<K, List<ExternalApiView>> freeze(Map<K, List<ExternalApiView>> groups) {
+        groups.replaceAll((key, apis) -> List.copyOf(apis));
+        return Collections.unmodifiableMap(groups);
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.SystemManagementSvc.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 가용성 스냅샷 게시
+ * - 헬스 상태 반영(HealthStateFlushedEvent) 직후 레지스트리 + 비정상 API 목록으로 새 스냅샷을 만들어 AtomicReference에 교체
+ *   게시는 비동기 실행자(taskExecutor)에서 수행하여 flush 스레드를 막지 않으며, 대기 중인 게시가 있으면 이벤트를 합침
+ * - 조회 API(요약, 불가용 목록, 도메인/키워드/우선순위별 가용 목록)는 current()만 읽으므로 I/O 없이 응답
+ * - 비정상 상태가 TTL로 만료되는 시점, Failover 전환, 레지스트리(ExternalApiRegistry) 변경 시에는 주기 작업이 다시 게시
+ * - Redis 장애(Failover) 중에는 로컬 상태 저장소 기준으로 게시
+ * - 레지스트리와 비정상 API 집합이 이전과 같으면 기존 스냅샷(요약 포함)을 그대로 유지
+ */
+@Slf4j
+@Service
+public class AvailabilitySnapshotPublisher {
+
+    private final ExternalApiRegistry externalApiRegistry;
+    private final RedisStateIndex redisStateIndex;
+    private final LocalHealthStateStore localHealthStateStore;
+    private final RedisAvailabilityMonitor redisAvailabilityMonitor;
+    private final Executor taskExecutor;
+
+    @Value("${healthcheck.snapshot.max-age:10000}")
+    private long maxAgeMillis;
+
+    private final AtomicReference<AvailabilitySnapshot> current = new AtomicReference<>(AvailabilitySnapshot.empty());
+
+    /** 실행자에 제출되어 아직 시작하지 않은 게시가 있는지 여부 */
+    private final AtomicBoolean publishPending = new AtomicBoolean();
+
+    /** 마지막 게시에 사용한 레지스트리 버전 */
+    private long registryVersion = -1;
+
+    /** 가장 먼저 만료되는 비정상 상태의 만료 시각 (이 시각이 지나면 다시 게시) */
+    private long nextExpiryMillis = Long.MAX_VALUE;
+    private long publishedAtMillis;
+
+    @Autowired
+    public AvailabilitySnapshotPublisher(ExternalApiRegistry externalApiRegistry,
+                                         RedisStateIndex redisStateIndex,
+                                         LocalHealthStateStore localHealthStateStore,
+                                         RedisAvailabilityMonitor redisAvailabilityMonitor,
+                                         @Qualifier("taskExecutor") Executor taskExecutor,
+                                         MeterRegistry meterRegistry) {
+        this.externalApiRegistry = externalApiRegistry;
+        this.redisStateIndex = redisStateIndex;
+        this.localHealthStateStore = localHealthStateStore;
+        this.redisAvailabilityMonitor = redisAvailabilityMonitor;
+        this.taskExecutor = taskExecutor;
+
+        Gauge.builder("apibridge_availability_snapshot_version", current, ref -> ref.get().getVersion())
+            .description("Version of the availability snapshot served by read endpoints")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 현재 스냅샷 (I/O 없음)
+     */
+    public AvailabilitySnapshot current() {
+        return current.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        publish();
+    }
+
+    /**
+     * 헬스 상태 반영 직후 비동기 게시
+     * 이미 대기 중인 게시가 있으면 그 게시가 최신 상태를 읽으므로 추가로 제출하지 않음
+     */
+    @EventListener
+    public void onHealthStateFlushed(HealthStateFlushedEvent event) {
+        if (!publishPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                publishPending.set(false);
+                publish();
+            });
+        } catch (RejectedExecutionException e) {
+            // 주기 작업(refreshIfStale)이 max-age 내에 다시 게시
+            publishPending.set(false);
+            log.warn("Snapshot publish rejected by executor, deferring to scheduled refresh");
+        }
+    }
+
+    /**
+     * 비정상 상태 만료, Failover 전환, 레지스트리 변경 반영
+     */
+    @Scheduled(fixedDelayString = "${healthcheck.snapshot.refresh-interval:1000}")
+    public synchronized void refreshIfStale() {
+        long now = System.currentTimeMillis();
+        boolean stale = now >= nextExpiryMillis
+            || now - publishedAtMillis >= maxAgeMillis
+            || registryVersion != externalApiRegistry.getVersion()
+            || current().isFromLocalState() != redisAvailabilityMonitor.isFailoverActive();
+
+        if (stale) {
+            publish();
+        }
+    }
+
+    /**
+     * 새 스냅샷 생성 및 교체
+     */
+    public synchronized void publish() {
+        try {
+            long currentRegistryVersion = externalApiRegistry.getVersion();
+            boolean registryChanged = currentRegistryVersion != registryVersion;
+            registryVersion = currentRegistryVersion;
+
+            boolean fromLocalState = redisAvailabilityMonitor.isFailoverActive();
+            Collection<String> unavailableApiIds;
+            if (fromLocalState) {
+                unavailableApiIds = localHealthStateStore.unhealthyApiIds();
+                nextExpiryMillis = Long.MAX_VALUE;
+            } else {
+                unavailableApiIds = readUnhealthyFromRedis();
+                fromLocalState = unavailableApiIds == null;
+                if (fromLocalState) {
+                    unavailableApiIds = localHealthStateStore.unhealthyApiIds();
+                }
+            }
+
+            AvailabilitySnapshot previous = current();
+            if (!registryChanged && previous.getVersion() > 0
+                    && previous.isFromLocalState() == fromLocalState
+                    && previous.hasSameUnavailable(unavailableApiIds)) {
+                publishedAtMillis = System.currentTimeMillis();
+                return;
+            }
+
+            AvailabilitySnapshot snapshot = AvailabilitySnapshot.of(previous.getVersion() + 1,
+                externalApiRegistry.countAll(), externalApiRegistry.active(), unavailableApiIds, fromLocalState);
+            current.set(snapshot);
+            publishedAtMillis = System.currentTimeMillis();
+
+            log.debug("Published availability snapshot v{}: {} APIs, {} unavailable",
+                    snapshot.getVersion(), snapshot.getEffectiveApis().size(), snapshot.getUnavailableApiIds().size());
+
+        } catch (Exception e) {
+            log.error("Failed to publish availability snapshot, keeping v{}", current().getVersion(), e);
+        }
+    }
+
+    /**
+     * Redis 인덱스에서 비정상 API 조회 (실패 시 null)
+     */
+    private Collection<String> readUnhealthyFromRedis() {
+        try {
+            Map<String, Long> expiries = redisStateIndex.activeMembersWithExpiry(RedisStateIndex.UNHEALTHY_INDEX_KEY);
+            nextExpiryMillis = expiries.values().stream().mapToLong(Long::longValue).min().orElse(Long.MAX_VALUE);
+            return expiries.keySet();
+        } catch (Exception e) {
+            log.warn("Failed to read unhealthy APIs from Redis for snapshot, using local state: {}", e.getMessage());
+            nextExpiryMillis = Long.MAX_VALUE;
+            return null;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package org.example.SystemManagementSvc.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.SystemManagementSvc.dto.analytics.ApiCallStatistics;
+import org.example.SystemManagementSvc.event.model.ApiCallEvent;
+import org.example.SystemManagementSvc.event.model.CircuitBreakerEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 호출 이벤트 스트림 기반 실시간 서킷브레이커 평가
+ * - api-call-events 토픽의 호출 1건 이벤트를 API별 Resilience4j 서킷브레이커에 바로 기록하여 호출 단위로 OPEN/HALF_OPEN/CLOSED 전이
+ * - 같은 이벤트를 API별 1초 버킷 링 버퍼(CallWindow)에도 잠금 없이 누적하고, 버킷이 전환될 때(API별로 새 초의 첫 이벤트)
+ *   윈도우를 평가하여 호출량 초과/응답 지연(DEGRADED)을 판정
+ *   버킷 전환 평가는 비동기 실행자(taskExecutor)에서 수행하여 컨슈머 스레드(poll 루프)를 막지 않음
+ *   (API별로 대기/진행 중인 평가는 하나뿐이며, 실행자가 거부하면 주기 평가에 맡김)
+ * - circuit-breaker.stream.enabled=true로 명시한 경우에만 활성화
+ * - 이벤트가 끊긴 API도 DEGRADED가 해제되도록 evaluation-interval마다 전체 평가
+ *   (Redis 메트릭 해시는 이 주기 평가에서만 갱신, OPEN → HALF_OPEN은 Resilience4j가 대기 시간 후 자동 전환)
+ * - 버킷 시각은 수신 시각 기준 (컨슈머 지연 시 지연된 만큼 늦게 반영)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "circuit-breaker.stream.enabled", havingValue = "true")
+public class CallEventStreamService {
+
+    private final CircuitBreakerMonitoringService circuitBreakerMonitoringService;
+    private final Executor taskExecutor;
+    private final Counter consumedEvents;
+    private final Counter skippedEvents;
+
+    @Value("${circuit-breaker.stream.window-seconds:60}")
+    private int windowSeconds;
+
+    /** apiId → 호출 윈도우 */
+    private final Map<String, CallWindow> windows = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CallEventStreamService(CircuitBreakerMonitoringService circuitBreakerMonitoringService,
+                                  @Qualifier("taskExecutor") Executor taskExecutor,
+                                  MeterRegistry meterRegistry) {
+        this.circuitBreakerMonitoringService = circuitBreakerMonitoringService;
+        this.taskExecutor = taskExecutor;
+        this.consumedEvents = Counter.builder("apibridge_call_events_consumed_total")
+            .description("API call events applied to circuit breaker windows")
+            .register(meterRegistry);
+        this.skippedEvents = Counter.builder("apibridge_call_events_skipped_total")
+            .description("API call events skipped because they could not be parsed or had no API identifier")
+            .register(meterRegistry);
+
+        Gauge.builder("apibridge_call_event_windows", windows, Map::size)
+            .description("Number of APIs with an active call event window")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 호출 이벤트 배치 수신
+     */
+    @KafkaListener(
+        topics = "${circuit-breaker.stream.topic:api-call-events}",
+        containerFactory = "callEventListenerContainerFactory"
+    )
+    public void onCallEvents(List<ApiCallEvent> events) {
+        long nowSecond = System.currentTimeMillis() / 1000;
+        int applied = 0;
+
+        for (ApiCallEvent event : events) {
+            String apiId = event != null ? event.resolveApiId() : null;
+            if (apiId == null) {
+                skippedEvents.increment();
+                continue;
+            }
+
+            CallWindow window = windows.computeIfAbsent(apiId, id -> new CallWindow(windowSeconds));
+            window.describe(event.getApiName(), event.getApiProvider());
+            long responseTime = event.getResponseTime() != null ? event.getResponseTime() : -1;
+            circuitBreakerMonitoringService.recordCall(apiId, event.getApiName(), event.getApiProvider(),
+                event.succeeded(), responseTime);
+
+            if (window.record(nowSecond, event.succeeded(), responseTime)) {
+                evaluateAsync(apiId, window, nowSecond);
+            }
+            applied++;
+        }
+        consumedEvents.increment(applied);
+    }
+
+    /**
+     * 전체 윈도우 주기 평가 및 유휴 윈도우 정리
+     * 윈도우 2배 이상 이벤트가 없고 CLOSED로 평가된 API만 제거 (OPEN 상태는 복구될 때까지 유지)
+     */
+    @Scheduled(fixedDelayString = "${circuit-breaker.stream.evaluation-interval:5000}")
+    public void evaluateAll() {
+        long nowSecond = System.currentTimeMillis() / 1000;
+
+        windows.forEach((apiId, window) -> {
+            CircuitBreakerEvent.CircuitBreakerState state = evaluate(apiId, window, nowSecond, true);
+            boolean idle = window.lastSecond() < nowSecond - 2L * windowSeconds;
+            if (idle && state == CircuitBreakerEvent.CircuitBreakerState.CLOSED) {
+                windows.remove(apiId, window);
+            }
+        });
+    }
+
+    /**
+     * 버킷 전환 평가를 실행자에 제출 (같은 API의 평가가 대기/진행 중이면 건너뜀)
+     */
+    private void evaluateAsync(String apiId, CallWindow window, long nowSecond) {
+        if (!window.tryBeginEvaluation()) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    evaluateWindow(apiId, window, nowSecond, false);
+                } finally {
+                    window.endEvaluation();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            window.endEvaluation();
+            log.debug("Call window evaluation rejected for API: {}, deferring to periodic evaluation", apiId);
+        }
+    }
+
+    /**
+     * 윈도우 평가 (같은 API를 다른 스레드가 평가 중이면 건너뜀)
+     *
+     * @return 평가 후 상태 (건너뛰면 null)
+     */
+    private CircuitBreakerEvent.CircuitBreakerState evaluate(String apiId, CallWindow window, long nowSecond,
+                                                            boolean recordMetrics) {
+        if (!window.tryBeginEvaluation()) {
+            return null;
+        }
+        try {
+            return evaluateWindow(apiId, window, nowSecond, recordMetrics);
+        } finally {
+            window.endEvaluation();
+        }
+    }
+
+    private CircuitBreakerEvent.CircuitBreakerState evaluateWindow(String apiId, CallWindow window, long nowSecond,
+                                                                  boolean recordMetrics) {
+        try {
+            CallWindow.Stats stats = window.snapshot(nowSecond);
+            return circuitBreakerMonitoringService.evaluateCallWindow(apiId, toStatistics(apiId, window, stats),
+                stats.windowSeconds(), recordMetrics);
+        } catch (Exception e) {
+            log.warn("Failed to evaluate call window for API: {}", apiId, e);
+            return null;
+        }
+    }
+
+    private static ApiCallStatistics toStatistics(String apiId, CallWindow window, CallWindow.Stats stats) {
+        return ApiCallStatistics.builder()
+            .apiName(window.apiName() != null ? window.apiName() : apiId)
+            .apiProvider(window.apiProvider())
+            .totalCallCount(stats.calls())
+            .successCallCount(stats.calls() - stats.failures())
+            .failureCallCount(stats.failures())
+            .successRate(stats.successRate())
+            .averageResponseTime(stats.averageResponseTime())
+            .maxResponseTime(stats.maxResponseTime())
+            .p95ResponseTime(stats.latency().getCount() > 0 ? stats.latency().quantile(0.95) : null)
+            .p99ResponseTime(stats.latency().getCount() > 0 ? stats.latency().quantile(0.99) : null)
+            .build();
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.SystemManagementSvc.service;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API별 호출 슬라이딩 윈도우 (1초 버킷 링 버퍼)
+ * - 버킷 카운터는 LongAdder(내부 스트라이핑)라 다수의 컨슈머 스레드가 잠금 없이 동시에 기록
+ * - 버킷은 (epochSecond % 크기) 위치를 재사용하며, 새 초가 처음 기록될 때 CAS로 소유권을 얻은 스레드가 초기화
+ *   초기화 순간 동시에 기록된 극소수 호출은 유실될 수 있음 (근사 집계 허용)
+ * - record()는 이 윈도우에서 새 초가 시작되었을 때 true를 반환하여 호출 측이 버킷 전환마다 평가하도록 함
+ * - 응답 시간 분위수는 10초 단위 LatencySketch 슬롯에 기록하고 평가 시 윈도우 구간 슬롯을 병합
+ *   (초 버킷마다 스케치를 두지 않아 API당 메모리는 윈도우/10개 스케치로 제한)
+ */
+final class CallWindow {
+
+    static final int SKETCH_SLICE_SECONDS = 10;
+
+    private final int windowSeconds;
+    private final Bucket[] buckets;
+    private final SketchSlice[] sketchSlices;
+    private final AtomicLong lastSecond = new AtomicLong(-1);
+    private final AtomicBoolean evaluating = new AtomicBoolean();
+
+    private volatile String apiName;
+    private volatile String apiProvider;
+
+    CallWindow(int windowSeconds) {
+        this.windowSeconds = windowSeconds;
+        this.buckets = new Bucket[windowSeconds];
+        for (int i = 0; i < windowSeconds; i++) {
+            buckets[i] = new Bucket();
+        }
+        this.sketchSlices = new SketchSlice[(windowSeconds + SKETCH_SLICE_SECONDS - 1) / SKETCH_SLICE_SECONDS + 1];
+        for (int i = 0; i < sketchSlices.length; i++) {
+            sketchSlices[i] = new SketchSlice();
+        }
+    }
+
+    /**
+     * 호출 1건 기록
+     *
+     * @param responseTimeMs 응답 시간 (모르면 음수)
+     * @return 이번 기록으로 새 초 버킷이 시작되었으면 true
+     */
+    boolean record(long epochSecond, boolean success, long responseTimeMs) {
+        Bucket bucket = bucketFor(epochSecond);
+        bucket.calls.increment();
+        if (!success) {
+            bucket.failures.increment();
+        }
+        if (responseTimeMs >= 0) {
+            bucket.responseTimeSum.add(responseTimeMs);
+            bucket.responseTimeCount.increment();
+            bucket.maxResponseTime.accumulate(responseTimeMs);
+            sliceFor(epochSecond / SKETCH_SLICE_SECONDS).sketch.record(responseTimeMs);
+        }
+
+        long last = lastSecond.get();
+        return epochSecond > last && lastSecond.compareAndSet(last, epochSecond);
+    }
+
+    /**
+     * 최근 windowSeconds초 집계
+     */
+    Stats snapshot(long nowSecond) {
+        long calls = 0;
+        long failures = 0;
+        long responseTimeSum = 0;
+        long responseTimeCount = 0;
+        long maxResponseTime = 0;
+
+        for (Bucket bucket : buckets) {
+            long second = bucket.second.get();
+            if (second > nowSecond - windowSeconds && second <= nowSecond) {
+                calls += bucket.calls.sum();
+                failures += bucket.failures.sum();
+                responseTimeSum += bucket.responseTimeSum.sum();
+                responseTimeCount += bucket.responseTimeCount.sum();
+                maxResponseTime = Math.max(maxResponseTime, bucket.maxResponseTime.get());
+            }
+        }
+        LatencySketch latency = new LatencySketch();
+        long oldestSlice = (nowSecond - windowSeconds + 1) / SKETCH_SLICE_SECONDS;
+        long newestSlice = nowSecond / SKETCH_SLICE_SECONDS;
+        for (SketchSlice slice : sketchSlices) {
+            long sliceId = slice.sliceId.get();
+            if (sliceId >= oldestSlice && sliceId <= newestSlice) {
+                latency.merge(slice.sketch);
+            }
+        }
+
+        return new Stats(calls, failures, responseTimeSum, responseTimeCount, maxResponseTime, windowSeconds, latency);
+    }
+
+    /**
+     * 마지막으로 기록된 초 (epoch seconds, 기록이 없으면 -1)
+     */
+    long lastSecond() {
+        return lastSecond.get();
+    }
+
+    /**
+     * 평가 시작 (다른 스레드가 평가 중이면 false, 다음 버킷 전환에서 다시 평가)
+     */
+    boolean tryBeginEvaluation() {
+        return evaluating.compareAndSet(false, true);
+    }
+
+    void endEvaluation() {
+        evaluating.set(false);
+    }
+
+    void describe(String apiName, String apiProvider) {
+        if (apiName != null) {
+            this.apiName = apiName;
+        }
+        if (apiProvider != null) {
+            this.apiProvider = apiProvider;
+        }
+    }
+
+    String apiName() {
+        return apiName;
+    }
+
+    String apiProvider() {
+        return apiProvider;
+    }
+
+    private Bucket bucketFor(long epochSecond) {
+        Bucket bucket = buckets[(int) Math.floorMod(epochSecond, (long) windowSeconds)];
+        long current = bucket.second.get();
+        if (current < epochSecond && bucket.second.compareAndSet(current, epochSecond)) {
+            bucket.reset();
+        }
+        return bucket;
+    }
+
+    private SketchSlice sliceFor(long sliceId) {
+        SketchSlice slice = sketchSlices[(int) Math.floorMod(sliceId, (long) sketchSlices.length)];
+        long current = slice.sliceId.get();
+        if (current < sliceId && slice.sliceId.compareAndSet(current, sliceId)) {
+            slice.sketch.reset();
+        }
+        return slice;
+    }
+
+    /**
+     * 윈도우 집계 결과
+     */
+    record Stats(long calls, long failures, long responseTimeSum, long responseTimeCount,
+                 long maxResponseTime, int windowSeconds, LatencySketch latency) {
+
+        double successRate() {
+            return calls > 0 ? (double) (calls - failures) / calls * 100 : 100.0;
+        }
+
+        double averageResponseTime() {
+            return responseTimeCount > 0 ? (double) responseTimeSum / responseTimeCount : 0.0;
+        }
+    }
+
+    /**
+     * 1초 버킷
+     */
+    private static final class Bucket {
+
+        private final AtomicLong second = new AtomicLong(-1);
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder responseTimeSum = new LongAdder();
+        private final LongAdder responseTimeCount = new LongAdder();
+        private final LongAccumulator maxResponseTime = new LongAccumulator(Long::max, 0);
+
+        private void reset() {
+            calls.reset();
+            failures.reset();
+            responseTimeSum.reset();
+            responseTimeCount.reset();
+            maxResponseTime.reset();
+        }
+    }
+
+    /**
+     * 10초 응답 시간 스케치 슬롯
+     */
+    private static final class SketchSlice {
+
+        private final AtomicLong sliceId = new AtomicLong(-1);
+        private final LatencySketch sketch = new LatencySketch();
+    }
+}
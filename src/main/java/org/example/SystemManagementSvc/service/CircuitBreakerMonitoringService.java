@@ -1,22 +1,47 @@
 package org.example.SystemManagementSvc.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.circuitbreaker.event.CircuitBreakerOnStateTransitionEvent;
+import org.example.SystemManagementSvc.config.ApiCircuitBreakerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.example.SystemManagementSvc.dto.LatencyPercentiles;
 import org.example.SystemManagementSvc.dto.analytics.ApiCallStatistics;
 import org.example.SystemManagementSvc.event.model.CircuitBreakerEvent;
 import org.example.SystemManagementSvc.event.publisher.EventPublisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 /**
  * 서킷브레이커 모니터링 서비스
@@ -24,6 +49,19 @@ import java.util.concurrent.TimeUnit;
  * - 비정상적 호출 패턴 감지
  * - 서킷브레이커 상태 관리
  * - 관련 이벤트 발행
+ * - 상태 머신: API별 Resilience4j CircuitBreaker(ApiCircuitBreakerConfig)가 호출/프로브 결과 1건 단위로
+ *   CLOSED/OPEN/HALF_OPEN 전이를 판단하고, 레지스트리의 전이 이벤트로 상태 저장과 CircuitBreakerEvent 발행을 수행
+ *   프로브로만 채워지는 API는 프로브 설정(호출 수 기반 윈도우)으로 생성하고, 호출 이벤트가 들어오면 기본 설정으로 다시 생성
+ * - 윈도우 통계 평가: 호출 이벤트 스트림(CallEventStreamService)이 켜져 있으면 그 결과를, 꺼져 있으면 Elasticsearch 집계를 사용하며
+ *   Resilience4j에 없는 DEGRADED(호출량 초과/응답 지연) 판정과 메트릭 기록만 담당
+ * - 로컬 상태 캐시: 크기 제한(LRU 근사) + 쓰기 후 TTL
+ * - 저장소: 전체 상태를 단일 HASH(circuit-breaker:states, field = apiId, value = {state}|{version}|{changedAt})에,
+ *   메트릭을 단일 HASH(circuit-breaker:metrics)에 보관하여 전체 조회는 HGETALL 한 번, 전체 리셋은 파이프라인 한 번
+ * - 보존 기간이 지난 상태는 필드를 지우지 않고 버전을 유지한 CLOSED 묘비(changedAt 0)로 바꿔 버전이 되돌아가지 않도록 함
+ * - 파드 간 동기화: 상태 전이 스크립트가 API별 버전을 올리고 같은 실행에서 Pub/Sub로 전파하며, 수신 파드는 더 새 버전만 로컬 캐시에 반영
+ * - 자동 전이는 알고 있던 버전과 저장된 버전이 같을 때만 기록(compare-on-version)하여 여러 파드의 같은 전이(OPEN → HALF_OPEN 등)는 한 번만 발행,
+ *   저장된 FORCE_OPEN은 수동 변경으로만 해제
+ * - 로컬 서킷브레이커는 생성 시 저장된 상태로 초기화하고, 오래 호출이 없는 CLOSED 서킷브레이커는 레지스트리에서 제거
  */
 @Slf4j
 @Service
@@ -31,18 +69,57 @@ public class CircuitBreakerMonitoringService {
 
     private final Optional<ApiCallAnalyticsService> apiCallAnalyticsService;
     private final EventPublisher eventPublisher;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
     private final AlertNotificationService alertNotificationService;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final ProbeLatencyTracker probeLatencyTracker;
+    
+    // 로컬 상태 캐시 (성능 최적화용, 크기/TTL 제한)
+    private final Cache<String, VersionedState> localStateCache;
+    private final Cache<String, LocalMetrics> localMetricsCache;
+    
+    /** 전이 이벤트 발행용 API 이름/제공자 (호출 이벤트에서 수집) */
+    private final Cache<String, ApiDescriptor> apiDescriptors;
+    
+    /** API별 마지막 호출 기록(또는 서킷브레이커 생성) 시각 - 유휴 서킷브레이커 제거용 */
+    private final Map<String, Long> lastRecordedAt = new ConcurrentHashMap<>();
     
     @Autowired
     public CircuitBreakerMonitoringService(Optional<ApiCallAnalyticsService> apiCallAnalyticsService,
                                          EventPublisher eventPublisher,
-                                         RedisTemplate<String, Object> redisTemplate,
-                                         AlertNotificationService alertNotificationService) {
+                                         StringRedisTemplate stringRedisTemplate,
+                                         AlertNotificationService alertNotificationService,
+                                         RedisMessageListenerContainer redisMessageListenerContainer,
+                                         CircuitBreakerRegistry circuitBreakerRegistry,
+                                         ProbeLatencyTracker probeLatencyTracker,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${circuit-breaker.state-cache.max-size:20000}") long stateCacheMaxSize,
+                                         @Value("${circuit-breaker.state-cache.ttl-seconds:60}") long stateCacheTtlSeconds) {
         this.apiCallAnalyticsService = apiCallAnalyticsService;
         this.eventPublisher = eventPublisher;
-        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
         this.alertNotificationService = alertNotificationService;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.probeLatencyTracker = probeLatencyTracker;
+        
+        this.localStateCache = Caffeine.newBuilder()
+            .maximumSize(stateCacheMaxSize)
+            .expireAfterWrite(Duration.ofSeconds(stateCacheTtlSeconds))
+            .recordStats()
+            .build();
+        this.localMetricsCache = Caffeine.newBuilder()
+            .maximumSize(stateCacheMaxSize)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+        this.apiDescriptors = Caffeine.newBuilder()
+            .maximumSize(stateCacheMaxSize)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+        
+        // apibridge_circuit_breaker_state_cache_* (hit/miss/eviction/size)
+        CaffeineCacheMetrics.monitor(meterRegistry, localStateCache, "apibridge_circuit_breaker_state");
     }
     
     // 임계치 설정
@@ -58,23 +135,272 @@ public class CircuitBreakerMonitoringService {
     @Value("${circuit-breaker.response-time-threshold:5000}")
     private long responseTimeThreshold;
     
+    @Value("${circuit-breaker.slow-call-rate-threshold:80.0}")
+    private float slowCallRateThreshold;
+    
+    @Value("${circuit-breaker.open-state-wait-seconds:300}")
+    private long openStateWaitSeconds;
+    
+    /** 느린 응답 판단 지표 (p99, p95, average) - Elasticsearch 집계에는 프로브 분위수를 병합하고, 분위수가 없으면 평균으로 대체 */
+    @Value("${circuit-breaker.response-time-metric:p99}")
+    private String responseTimeMetric;
+    
     @Value("${circuit-breaker.monitoring-window-minutes:5}")
     private int monitoringWindowMinutes;
     
-    // Redis 키 prefixes
-    private static final String CB_STATE_PREFIX = "circuit-breaker:state:";
-    private static final String CB_METRICS_PREFIX = "circuit-breaker:metrics:";
-    private static final String CB_HISTORY_PREFIX = "circuit-breaker:history:";
+    @Value("${circuit-breaker.minimum-calls:20}")
+    private long minimumCalls;
+    
+    @Value("${circuit-breaker.stream.enabled:false}")
+    private boolean callEventStreamEnabled;
+    
+    /** 이 시간 동안 호출이 없는 CLOSED 서킷브레이커는 레지스트리에서 제거 (다음 호출 시 저장된 상태로 다시 생성) */
+    @Value("${circuit-breaker.registry.idle-eviction-minutes:30}")
+    private long idleEvictionMinutes;
     
-    // 로컬 상태 캐시 (성능 최적화용)
-    private final Map<String, CircuitBreakerEvent.CircuitBreakerState> localStateCache = new ConcurrentHashMap<>();
-    private final Map<String, LocalMetrics> localMetricsCache = new ConcurrentHashMap<>();
+    /** 상태 전이 전파 채널 */
+    @Value("${circuit-breaker.state-sync.channel:circuit-breaker:state-changes}")
+    private String stateSyncChannel;
+    
+    /** 이 파드(프로세스) 식별자 - 자기가 발행한 전이 메시지는 무시 */
+    private final String instanceId = UUID.randomUUID().toString();
+    
+    // Redis 키 (전체 API 단일 HASH, field = apiId)
+    static final String CB_STATES_KEY = "circuit-breaker:states";
+    static final String CB_METRICS_KEY = "circuit-breaker:metrics";
+    
+    /** 값 구분자 (상태/메트릭 HASH 값, 전이 메시지 공통) */
+    private static final String SEPARATOR = "|";
+    
+    /** 상태 보존 기간 (마지막 전이 후 이 기간이 지나면 CLOSED로 간주하고 정리) */
+    static final long STATE_RETENTION_MILLIS = TimeUnit.HOURS.toMillis(24);
+    private static final long METRICS_RETENTION_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final int PRUNE_SCAN_PAGE_SIZE = 500;
+    
+    /** 상태 전이 스크립트 (HASH 필드 갱신 + 버전 증가 + 전이 메시지 발행) */
+    private static final RedisScript<Long> CB_TRANSITION_SCRIPT = RedisScript.of(
+        new ClassPathResource("redis/circuit_breaker_transition.lua"), Long.class);
+
+    /** 만료 상태 정리 스크립트 (HSCAN 이후 바뀌지 않은 필드만 묘비로 교체) */
+    private static final RedisScript<Long> CB_PRUNE_SCRIPT = RedisScript.of(
+        new ClassPathResource("redis/circuit_breaker_prune.lua"), Long.class);
+
+    /** Resilience4j에 결과만 기록하는 외부 호출 실패 (스택 트레이스 없음) */
+    private static final RuntimeException RECORDED_CALL_FAILURE = new RecordedCallFailure();
+
+    /**
+     * 상태 전이 메시지 및 서킷브레이커 전이 이벤트 구독
+     */
+    @PostConstruct
+    public void subscribeStateChanges() {
+        redisMessageListenerContainer.addMessageListener(this::onStateChangeMessage, new ChannelTopic(stateSyncChannel));
+        
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(this::onBreakerAdded);
+        circuitBreakerRegistry.getEventPublisher().onEntryAdded(event -> onBreakerAdded(event.getAddedEntry()));
+    }
+
+    /**
+     * 새 서킷브레이커를 저장된 상태로 초기화한 뒤 전이 이벤트 구독
+     * (재시작/유휴 제거 후 다시 생성된 서킷브레이커가 OPEN/FORCE_OPEN을 잊고 CLOSED로 시작하지 않도록)
+     * 레지스트리 등록 도중 호출되므로 레지스트리를 다시 조회하지 않고 전달받은 인스턴스에 적용
+     */
+    private void onBreakerAdded(CircuitBreaker circuitBreaker) {
+        String apiId = circuitBreaker.getName();
+        lastRecordedAt.put(apiId, System.currentTimeMillis());
+        applyToBreaker(circuitBreaker, getCurrentState(apiId));
+        circuitBreaker.getEventPublisher().onStateTransition(this::onBreakerTransition);
+    }
+
+    /**
+     * 호출 1건 결과 기록 (호출 이벤트 스트림)
+     * 실제 호출은 게이트웨이가 수행하므로 허가 획득 없이 결과만 API별 서킷브레이커 슬라이딩 윈도우에 기록
+     * 프로브 설정으로 만들어진 서킷브레이커는 호출량에 맞는 기본 설정으로 다시 생성 (생성 시 저장된 상태로 초기화)
+     *
+     * @param responseTimeMs 응답 시간 (모르면 음수)
+     */
+    public void recordCall(String apiId, String apiName, String apiProvider, boolean success, long responseTimeMs) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.find(apiId)
+            .filter(existing -> !isProbeBreaker(existing))
+            .orElseGet(() -> replaceProbeBreaker(apiId));
+        record(circuitBreaker, apiName, apiProvider, success, responseTimeMs);
+    }
+
+    /**
+     * 헬스체크 프로브 결과 1건 기록
+     * 서킷브레이커가 없으면 프로브 설정(ApiCircuitBreakerConfig.PROBE_CONFIG)으로 생성하고, 있으면 그대로 기록
+     *
+     * @param responseTimeMs 응답 시간 (모르면 음수)
+     */
+    public void recordProbe(String apiId, String apiName, String apiProvider, boolean success, long responseTimeMs) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.find(apiId)
+            .orElseGet(() -> circuitBreakerRegistry.circuitBreaker(apiId, ApiCircuitBreakerConfig.PROBE_CONFIG));
+        record(circuitBreaker, apiName, apiProvider, success, responseTimeMs);
+    }
+
+    private void record(CircuitBreaker circuitBreaker, String apiName, String apiProvider, boolean success,
+                        long responseTimeMs) {
+        String apiId = circuitBreaker.getName();
+        if (apiName != null || apiProvider != null) {
+            ApiDescriptor known = apiDescriptors.getIfPresent(apiId);
+            if (known == null || !known.matches(apiName, apiProvider)) {
+                apiDescriptors.put(apiId, ApiDescriptor.merge(known, apiName, apiProvider));
+            }
+        }
+        
+        lastRecordedAt.put(apiId, System.currentTimeMillis());
+        long duration = Math.max(responseTimeMs, 0);
+        if (success) {
+            circuitBreaker.onSuccess(duration, TimeUnit.MILLISECONDS);
+        } else {
+            circuitBreaker.onError(duration, TimeUnit.MILLISECONDS, RECORDED_CALL_FAILURE);
+        }
+    }
+
+    /**
+     * 기본 설정 서킷브레이커 생성 (프로브 설정 서킷브레이커가 있으면 제거 후 생성, 동시 교체로 새로 만든 것을 지우지 않도록 직렬화)
+     */
+    private synchronized CircuitBreaker replaceProbeBreaker(String apiId) {
+        circuitBreakerRegistry.find(apiId)
+            .filter(this::isProbeBreaker)
+            .ifPresent(probeBreaker -> circuitBreakerRegistry.remove(apiId));
+        return circuitBreakerRegistry.circuitBreaker(apiId);
+    }
+
+    private boolean isProbeBreaker(CircuitBreaker circuitBreaker) {
+        return circuitBreakerRegistry.getConfiguration(ApiCircuitBreakerConfig.PROBE_CONFIG)
+            .map(probeConfig -> circuitBreaker.getCircuitBreakerConfig() == probeConfig)
+            .orElse(false);
+    }
+
+    /**
+     * Resilience4j 상태 전이 처리 (Redis 저장 + 다른 파드 전파 + CircuitBreakerEvent 발행)
+     * 저장된 상태와 같으면 수동 변경/다른 파드 전파를 로컬 서킷브레이커에 적용하며 생긴 전이이므로 무시
+     * 저장된 상태가 FORCE_OPEN이면 자동 전이를 기록하지 않고 로컬 서킷브레이커를 다시 강제 개방
+     */
+    private void onBreakerTransition(CircuitBreakerOnStateTransitionEvent transition) {
+        String apiId = transition.getCircuitBreakerName();
+        CircuitBreakerEvent.CircuitBreakerState newState = toEventState(transition.getStateTransition().getToState());
+        if (newState == getCurrentState(apiId)) {
+            return;
+        }
+        
+        try {
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(apiId);
+            CircuitBreakerEvent.CircuitBreakerState currentState = recordAutomaticTransition(apiId, newState);
+            if (currentState == null) {
+                // 다른 파드가 먼저 같은 전이를 기록했거나 FORCE_OPEN으로 고정됨
+                CircuitBreakerEvent.CircuitBreakerState stored = getCurrentState(apiId);
+                if (stored == CircuitBreakerEvent.CircuitBreakerState.FORCE_OPEN) {
+                    applyToBreaker(circuitBreaker, stored);
+                }
+                log.debug("Circuit breaker transition not recorded - API: {}, {}, Stored: {}",
+                        apiId, transition.getStateTransition(), stored);
+                return;
+            }
+            
+            CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+            CircuitBreakerEvent.StateChangeTrigger trigger = determineTrigger(newState, metrics);
+            ApiDescriptor descriptor = apiDescriptors.getIfPresent(apiId);
+            
+            CircuitBreakerEvent event = CircuitBreakerEvent.stateChange(
+                apiId,
+                descriptor != null && descriptor.name() != null ? descriptor.name() : apiId,
+                descriptor != null ? descriptor.provider() : null,
+                newState,
+                currentState,
+                trigger,
+                generateStateChangeReason(metrics, trigger)
+            );
+            enrichEventWithMetrics(event, metrics, transition);
+            
+            publishCircuitBreakerEvent(event);
+            
+            if (event.getSeverity().isHighPriority()) {
+                sendImmediateAlert(event);
+            }
+            
+            log.info("Circuit breaker state changed - API: {}, {} → {}, Trigger: {}",
+                    event.getApiName(), currentState, newState, trigger);
+            
+        } catch (Exception e) {
+            log.error("Failed to handle circuit breaker transition for API: {}", apiId, e);
+        }
+    }
+
+    /**
+     * 저장된 상태를 로컬 Resilience4j 서킷브레이커에 적용 (수동 변경, 전체 리셋, 다른 파드 전파)
+     * DEGRADED는 Resilience4j 상태가 아니므로(요청 허용) 적용하지 않음
+     * 아직 없는 서킷브레이커는 만들지 않음 (첫 기록 시 호출/프로브에 맞는 설정으로 생성되며 저장된 상태로 초기화됨)
+     */
+    private void applyToBreaker(String apiId, CircuitBreakerEvent.CircuitBreakerState state) {
+        try {
+            circuitBreakerRegistry.find(apiId).ifPresent(circuitBreaker -> applyToBreaker(circuitBreaker, state));
+        } catch (Exception e) {
+            log.warn("Failed to apply circuit breaker state {} for API: {}", state, apiId, e);
+        }
+    }
+
+    private void applyToBreaker(CircuitBreaker circuitBreaker, CircuitBreakerEvent.CircuitBreakerState state) {
+        try {
+            if (toEventState(circuitBreaker.getState()) == state) {
+                return;
+            }
+            switch (state) {
+                case CLOSED -> circuitBreaker.transitionToClosedState();
+                case OPEN -> circuitBreaker.transitionToOpenState();
+                case HALF_OPEN -> circuitBreaker.transitionToHalfOpenState();
+                case FORCE_OPEN -> circuitBreaker.transitionToForcedOpenState();
+                case DEGRADED -> { }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to apply circuit breaker state {} for API: {}", state, circuitBreaker.getName(), e);
+        }
+    }
+
+    private static CircuitBreakerEvent.CircuitBreakerState toEventState(CircuitBreaker.State state) {
+        return switch (state) {
+            case OPEN -> CircuitBreakerEvent.CircuitBreakerState.OPEN;
+            case HALF_OPEN -> CircuitBreakerEvent.CircuitBreakerState.HALF_OPEN;
+            case FORCED_OPEN -> CircuitBreakerEvent.CircuitBreakerState.FORCE_OPEN;
+            default -> CircuitBreakerEvent.CircuitBreakerState.CLOSED;
+        };
+    }
+
+    /**
+     * 다른 파드의 상태 전이 반영 (로컬 캐시보다 버전이 높을 때만, 순서가 뒤바뀌어 도착한 메시지는 무시)
+     */
+    private void onStateChangeMessage(Message message, byte[] pattern) {
+        StateChange change = StateChange.decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (change == null || instanceId.equals(change.origin())) {
+            return;
+        }
+
+        cacheIfNewer(change.apiId(), new VersionedState(change.state(), change.version(), change.changedAt()));
+        VersionedState cached = localStateCache.getIfPresent(change.apiId());
+        if (cached != null && cached.version() == change.version()) {
+            applyToBreaker(change.apiId(), change.state());
+        }
+        log.debug("Circuit breaker state synced from {} - API: {}, State: {}, Version: {}",
+                change.origin(), change.apiId(), change.state(), change.version());
+    }
+
+    /**
+     * 로컬 상태 캐시 항목 무효화
+     */
+    public void invalidateState(String apiId) {
+        localStateCache.invalidate(apiId);
+    }
 
     /**
      * 정기적인 서킷브레이커 모니터링
      */
     @Scheduled(fixedRate = 60000) // 1분마다 실행
     public void monitorCircuitBreakers() {
+        if (callEventStreamEnabled) {
+            cleanupLocalCache();
+            return;
+        }
+        
         log.debug("Starting circuit breaker monitoring");
         
         try {
@@ -88,7 +414,8 @@ public class CircuitBreakerMonitoringService {
             
             // 각 API별로 서킷브레이커 상태 체크
             for (ApiCallStatistics stats : recentStats) {
-                checkAndUpdateCircuitBreakerState(stats, startTime, endTime);
+                String apiId = stats.getApiName(); // API 이름을 ID로 사용 (실제로는 별도 매핑 필요)
+                checkAndUpdateCircuitBreakerState(apiId, withProbePercentiles(apiId, stats), monitoringWindowMinutes, true);
             }
             
             // 로컬 캐시 정리 (메모리 사용량 최적화)
@@ -101,23 +428,45 @@ public class CircuitBreakerMonitoringService {
         }
     }
 
+    /**
+     * 호출 이벤트 슬라이딩 윈도우 평가 (CallEventStreamService에서 버킷 전환/주기 평가 시 호출)
+     * CLOSED 상태에서 호출 수가 minimum-calls 미만이면 판단 근거가 부족하므로 평가하지 않음
+     *
+     * @param recordMetrics Redis 메트릭 해시 갱신 여부 (버킷 전환마다 쓰지 않도록 주기 평가에서만 true)
+     * @return 평가 후 상태
+     */
+    public CircuitBreakerEvent.CircuitBreakerState evaluateCallWindow(String apiId, ApiCallStatistics stats,
+                                                                      int windowSeconds, boolean recordMetrics) {
+        CircuitBreakerEvent.CircuitBreakerState currentState = getCurrentState(apiId);
+        if (currentState == CircuitBreakerEvent.CircuitBreakerState.CLOSED && stats.getTotalCallCount() < minimumCalls) {
+            return currentState;
+        }
+        return checkAndUpdateCircuitBreakerState(apiId, stats, windowSeconds / 60.0, recordMetrics);
+    }
+
     /**
      * 개별 API의 서킷브레이커 상태 체크 및 업데이트
+     *
+     * @param windowMinutes 통계 집계 구간 길이 (분당 호출량 환산용)
+     * @return 평가 후 상태
      */
-    private void checkAndUpdateCircuitBreakerState(ApiCallStatistics stats, LocalDateTime startTime, LocalDateTime endTime) {
-        String apiId = stats.getApiName(); // API 이름을 ID로 사용 (실제로는 별도 매핑 필요)
-        
+    private CircuitBreakerEvent.CircuitBreakerState checkAndUpdateCircuitBreakerState(String apiId, ApiCallStatistics stats,
+                                                                                      double windowMinutes, boolean recordMetrics) {
         try {
             // 현재 상태 조회
             CircuitBreakerEvent.CircuitBreakerState currentState = getCurrentState(apiId);
             
             // 새로운 상태 계산
-            CircuitBreakerEvent.CircuitBreakerState newState = calculateNewState(stats, currentState);
+            long callsPerMinute = Math.round(stats.getTotalCallCount() / windowMinutes);
+            CircuitBreakerEvent.CircuitBreakerState newState = calculateNewState(stats, callsPerMinute, currentState);
             
-            // 상태 변경이 필요한 경우
-            if (newState != currentState) {
-                CircuitBreakerEvent.StateChangeTrigger trigger = determineTrigger(stats);
-                String reason = generateStateChangeReason(stats, trigger);
+            // 상태 변경이 필요한 경우 (다른 파드가 먼저 같은 판단을 기록했으면 null)
+            CircuitBreakerEvent.CircuitBreakerState previousState = newState != currentState
+                ? recordAutomaticTransition(apiId, newState)
+                : null;
+            if (previousState != null) {
+                CircuitBreakerEvent.StateChangeTrigger trigger = determineTrigger(stats, callsPerMinute);
+                String reason = generateStateChangeReason(stats, callsPerMinute, trigger);
                 
                 // 서킷브레이커 이벤트 생성
                 CircuitBreakerEvent event = CircuitBreakerEvent.stateChange(
@@ -125,16 +474,13 @@ public class CircuitBreakerMonitoringService {
                     stats.getApiName(), 
                     stats.getApiProvider(),
                     newState, 
-                    currentState, 
+                    previousState, 
                     trigger, 
                     reason
                 );
                 
                 // 추가 메트릭 정보 설정
-                enrichEventWithMetrics(event, stats);
-                
-                // 상태 업데이트
-                updateCircuitBreakerState(apiId, newState);
+                enrichEventWithMetrics(event, stats, callsPerMinute, windowMinutes);
                 
                 // 이벤트 발행
                 publishCircuitBreakerEvent(event);
@@ -145,83 +491,46 @@ public class CircuitBreakerMonitoringService {
                 }
                 
                 log.info("Circuit breaker state changed - API: {}, {} → {}, Trigger: {}", 
-                        stats.getApiName(), currentState, newState, trigger);
+                        stats.getApiName(), previousState, newState, trigger);
             }
             
             // 메트릭 업데이트 (상태 변경 여부와 관계없이)
-            updateApiMetrics(apiId, stats);
+            if (recordMetrics) {
+                updateApiMetrics(apiId, stats);
+            }
+            return getCurrentState(apiId);
             
         } catch (Exception e) {
             log.error("Failed to check circuit breaker state for API: {}", stats.getApiName(), e);
+            return getCurrentState(apiId);
         }
     }
 
     /**
      * 통계를 바탕으로 새로운 서킷브레이커 상태 계산
+     * OPEN/HALF_OPEN/FORCE_OPEN 전이는 Resilience4j 서킷브레이커가 담당하므로, 요청을 허용하는 상태(CLOSED/DEGRADED) 사이만 판단
      */
-    private CircuitBreakerEvent.CircuitBreakerState calculateNewState(ApiCallStatistics stats, 
+    private CircuitBreakerEvent.CircuitBreakerState calculateNewState(ApiCallStatistics stats, long callsPerMinute,
                                                                      CircuitBreakerEvent.CircuitBreakerState currentState) {
-        
-        // 분당 호출량 계산
-        long callsPerMinute = stats.getTotalCallCount() / monitoringWindowMinutes;
+        if (currentState != CircuitBreakerEvent.CircuitBreakerState.CLOSED
+                && currentState != CircuitBreakerEvent.CircuitBreakerState.DEGRADED) {
+            return currentState;
+        }
         
         // 임계치 체크
         boolean excessiveCalls = callsPerMinute > callRateThreshold;
         boolean highFailureRate = stats.getSuccessRate() < (100.0 - failureRateThreshold);
-        boolean slowResponse = stats.getAverageResponseTime() > responseTimeThreshold;
-        
-        // 현재 상태에 따른 상태 전이 로직
-        return switch (currentState) {
-            case CLOSED -> {
-                if (excessiveCalls && highFailureRate) {
-                    yield CircuitBreakerEvent.CircuitBreakerState.OPEN;
-                } else if (excessiveCalls || highFailureRate || slowResponse) {
-                    yield CircuitBreakerEvent.CircuitBreakerState.DEGRADED;
-                } else {
-                    yield CircuitBreakerEvent.CircuitBreakerState.CLOSED;
-                }
-            }
-            
-            case DEGRADED -> {
-                if (excessiveCalls && highFailureRate) {
-                    yield CircuitBreakerEvent.CircuitBreakerState.OPEN;
-                } else if (!excessiveCalls && !highFailureRate && !slowResponse) {
-                    yield CircuitBreakerEvent.CircuitBreakerState.CLOSED;
-                } else {
-                    yield CircuitBreakerEvent.CircuitBreakerState.DEGRADED;
-                }
-            }
-            
-            case OPEN -> {
-                // OPEN 상태에서는 자동으로 HALF_OPEN으로 전환 (시간 기반)
-                LocalDateTime lastStateChange = getLastStateChangeTime(stats.getApiName());
-                if (lastStateChange != null && lastStateChange.isBefore(LocalDateTime.now().minusMinutes(5))) {
-                    yield CircuitBreakerEvent.CircuitBreakerState.HALF_OPEN;
-                } else {
-                    yield CircuitBreakerEvent.CircuitBreakerState.OPEN;
-                }
-            }
-            
-            case HALF_OPEN -> {
-                if (!highFailureRate && !slowResponse) {
-                    yield CircuitBreakerEvent.CircuitBreakerState.CLOSED;
-                } else if (highFailureRate) {
-                    yield CircuitBreakerEvent.CircuitBreakerState.OPEN;
-                } else {
-                    yield CircuitBreakerEvent.CircuitBreakerState.HALF_OPEN;
-                }
-            }
-            
-            case FORCE_OPEN -> CircuitBreakerEvent.CircuitBreakerState.FORCE_OPEN; // 수동 해제 필요
-        };
+        boolean slowResponse = slowResponseValue(stats) > responseTimeThreshold;
+        
+        return excessiveCalls || highFailureRate || slowResponse
+            ? CircuitBreakerEvent.CircuitBreakerState.DEGRADED
+            : CircuitBreakerEvent.CircuitBreakerState.CLOSED;
     }
 
     /**
      * 상태 변경 트리거 결정
      */
-    private CircuitBreakerEvent.StateChangeTrigger determineTrigger(ApiCallStatistics stats) {
-        long callsPerMinute = stats.getTotalCallCount() / monitoringWindowMinutes;
-        
+    private CircuitBreakerEvent.StateChangeTrigger determineTrigger(ApiCallStatistics stats, long callsPerMinute) {
         if (callsPerMinute > callRateThreshold * 2) { // 임계치의 2배 초과
             return CircuitBreakerEvent.StateChangeTrigger.EXCESSIVE_CALLS;
         }
@@ -230,7 +539,7 @@ public class CircuitBreakerMonitoringService {
             return CircuitBreakerEvent.StateChangeTrigger.HIGH_FAILURE_RATE;
         }
         
-        if (stats.getAverageResponseTime() > responseTimeThreshold) {
+        if (slowResponseValue(stats) > responseTimeThreshold) {
             return CircuitBreakerEvent.StateChangeTrigger.SLOW_RESPONSE;
         }
         
@@ -244,16 +553,15 @@ public class CircuitBreakerMonitoringService {
     /**
      * 상태 변경 사유 생성
      */
-    private String generateStateChangeReason(ApiCallStatistics stats, CircuitBreakerEvent.StateChangeTrigger trigger) {
-        long callsPerMinute = stats.getTotalCallCount() / monitoringWindowMinutes;
-        
+    private String generateStateChangeReason(ApiCallStatistics stats, long callsPerMinute,
+                                             CircuitBreakerEvent.StateChangeTrigger trigger) {
         return switch (trigger) {
             case EXCESSIVE_CALLS -> String.format("분당 호출량 %d회가 임계치 %d회를 초과했습니다.", 
                                                  callsPerMinute, callRateThreshold);
             case HIGH_FAILURE_RATE -> String.format("실패율 %.1f%%가 임계치 %.1f%%를 초과했습니다.", 
                                                    100.0 - stats.getSuccessRate(), failureRateThreshold);
-            case SLOW_RESPONSE -> String.format("평균 응답시간 %.0fms가 임계치 %dms를 초과했습니다.", 
-                                               stats.getAverageResponseTime(), responseTimeThreshold);
+            case SLOW_RESPONSE -> String.format("%s 응답시간 %.0fms가 임계치 %dms를 초과했습니다.", 
+                                               slowResponseLabel(stats), slowResponseValue(stats), responseTimeThreshold);
             case CONSECUTIVE_FAILURES -> String.format("연속 실패 %d회가 임계치 %d회를 초과했습니다.", 
                                                       stats.getFailureCallCount(), consecutiveFailuresThreshold);
             case AUTO_RECOVERY -> "모든 지표가 정상 범위로 복구되어 자동으로 상태를 변경합니다.";
@@ -261,12 +569,84 @@ public class CircuitBreakerMonitoringService {
         };
     }
 
+    /**
+     * Resilience4j 전이의 트리거 결정 (슬라이딩 윈도우 실패율/느린 호출 비율 기준)
+     */
+    private CircuitBreakerEvent.StateChangeTrigger determineTrigger(CircuitBreakerEvent.CircuitBreakerState newState,
+                                                                    CircuitBreaker.Metrics metrics) {
+        if (newState != CircuitBreakerEvent.CircuitBreakerState.OPEN) {
+            return CircuitBreakerEvent.StateChangeTrigger.AUTO_RECOVERY;
+        }
+        if (metrics.getFailureRate() >= failureRateThreshold) {
+            return CircuitBreakerEvent.StateChangeTrigger.HIGH_FAILURE_RATE;
+        }
+        if (metrics.getSlowCallRate() >= slowCallRateThreshold) {
+            return CircuitBreakerEvent.StateChangeTrigger.SLOW_RESPONSE;
+        }
+        return CircuitBreakerEvent.StateChangeTrigger.HIGH_FAILURE_RATE;
+    }
+
+    private String generateStateChangeReason(CircuitBreaker.Metrics metrics, CircuitBreakerEvent.StateChangeTrigger trigger) {
+        return switch (trigger) {
+            case HIGH_FAILURE_RATE -> String.format("최근 %d건 중 실패율 %.1f%%가 임계치 %.1f%%를 초과했습니다.",
+                                                   metrics.getNumberOfBufferedCalls(), metrics.getFailureRate(), failureRateThreshold);
+            case SLOW_RESPONSE -> String.format("최근 %d건 중 %dms 이상 느린 호출 비율 %.1f%%가 임계치 %.1f%%를 초과했습니다.",
+                                               metrics.getNumberOfBufferedCalls(), responseTimeThreshold,
+                                               metrics.getSlowCallRate(), slowCallRateThreshold);
+            default -> "차단 대기 시간이 지났거나 시험 호출 결과가 정상이어서 자동으로 상태를 변경합니다.";
+        };
+    }
+
+    /**
+     * 헬스체크 프로브 응답 시간 분위수 병합
+     * Elasticsearch 집계에는 분위수가 없어 평균만으로는 꼬리 지연이 가려지므로, 같은 구간의 프로브 p95/p99를 반영 (둘 다 있으면 큰 값)
+     */
+    private ApiCallStatistics withProbePercentiles(String apiId, ApiCallStatistics stats) {
+        try {
+            LatencyPercentiles probe = probeLatencyTracker.percentiles(apiId, monitoringWindowMinutes);
+            if (probe != null && probe.getSampleCount() > 0) {
+                stats.setP95ResponseTime(maxOf(stats.getP95ResponseTime(), probe.getP95()));
+                stats.setP99ResponseTime(maxOf(stats.getP99ResponseTime(), probe.getP99()));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to merge probe latency percentiles for API: {}", apiId, e);
+        }
+        return stats;
+    }
+
+    private static double maxOf(Double value, double other) {
+        return value != null ? Math.max(value, other) : other;
+    }
+
+    /**
+     * 느린 응답 판단에 사용할 응답 시간 (설정한 분위수, 없으면 평균)
+     */
+    private double slowResponseValue(ApiCallStatistics stats) {
+        Double percentile = switch (responseTimeMetric.toLowerCase()) {
+            case "p99" -> stats.getP99ResponseTime();
+            case "p95" -> stats.getP95ResponseTime();
+            default -> null;
+        };
+        if (percentile != null) {
+            return percentile;
+        }
+        return stats.getAverageResponseTime() != null ? stats.getAverageResponseTime() : 0.0;
+    }
+
+    private String slowResponseLabel(ApiCallStatistics stats) {
+        boolean percentileAvailable = switch (responseTimeMetric.toLowerCase()) {
+            case "p99" -> stats.getP99ResponseTime() != null;
+            case "p95" -> stats.getP95ResponseTime() != null;
+            default -> false;
+        };
+        return percentileAvailable ? responseTimeMetric.toLowerCase() : "평균";
+    }
+
     /**
      * 이벤트에 메트릭 정보 추가
      */
-    private void enrichEventWithMetrics(CircuitBreakerEvent event, ApiCallStatistics stats) {
-        long callsPerMinute = stats.getTotalCallCount() / monitoringWindowMinutes;
-        
+    private void enrichEventWithMetrics(CircuitBreakerEvent event, ApiCallStatistics stats,
+                                        long callsPerMinute, double windowMinutes) {
         event.setCurrentCallRate(callsPerMinute);
         event.setThresholdCallRate(callRateThreshold);
         event.setCurrentFailureRate(100.0 - stats.getSuccessRate());
@@ -274,70 +654,156 @@ public class CircuitBreakerMonitoringService {
         event.setAverageResponseTime(stats.getAverageResponseTime().longValue());
         
         // 서킷브레이커가 OPEN 상태인 경우 재시도 시간 설정
-        if (event.getState() == CircuitBreakerEvent.CircuitBreakerState.OPEN) {
-            event.setOpenDurationSeconds(300); // 5분
-            event.setNextRetryTime(LocalDateTime.now().plusMinutes(5));
-        }
+        setRetryTime(event);
         
         // 메타데이터 추가
         Map<String, Object> metadata = new HashMap<>();
-        metadata.put("monitoringWindow", monitoringWindowMinutes + " minutes");
+        metadata.put("monitoringWindow", windowMinutes >= 1 ?
+            Math.round(windowMinutes) + " minutes" : Math.round(windowMinutes * 60) + " seconds");
         metadata.put("totalCalls", stats.getTotalCallCount());
         metadata.put("successCalls", stats.getSuccessCallCount());
         metadata.put("failureCalls", stats.getFailureCallCount());
         metadata.put("maxResponseTime", stats.getMaxResponseTime());
+        if (stats.getP95ResponseTime() != null) {
+            metadata.put("p95ResponseTime", Math.round(stats.getP95ResponseTime()));
+        }
+        if (stats.getP99ResponseTime() != null) {
+            metadata.put("p99ResponseTime", Math.round(stats.getP99ResponseTime()));
+        }
+        event.setMetadata(metadata);
+    }
+
+    /**
+     * Resilience4j 전이 이벤트에 슬라이딩 윈도우 지표 추가
+     */
+    private void enrichEventWithMetrics(CircuitBreakerEvent event, CircuitBreaker.Metrics metrics,
+                                        CircuitBreakerOnStateTransitionEvent transition) {
+        if (metrics.getFailureRate() >= 0) {
+            event.setCurrentFailureRate(metrics.getFailureRate());
+        }
+        event.setThresholdFailureRate(failureRateThreshold);
+        setRetryTime(event);
+        
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("transition", transition.getStateTransition().name());
+        metadata.put("bufferedCalls", metrics.getNumberOfBufferedCalls());
+        metadata.put("failedCalls", metrics.getNumberOfFailedCalls());
+        metadata.put("slowCalls", metrics.getNumberOfSlowCalls());
+        metadata.put("slowCallRate", metrics.getSlowCallRate());
         event.setMetadata(metadata);
     }
 
+    private void setRetryTime(CircuitBreakerEvent event) {
+        if (event.getState() == CircuitBreakerEvent.CircuitBreakerState.OPEN) {
+            event.setOpenDurationSeconds(openStateWaitSeconds);
+            event.setNextRetryTime(LocalDateTime.now().plusSeconds(openStateWaitSeconds));
+        }
+    }
+
     /**
      * 현재 서킷브레이커 상태 조회
      */
     private CircuitBreakerEvent.CircuitBreakerState getCurrentState(String apiId) {
+        return getVersionedState(apiId).state();
+    }
+
+    /**
+     * 현재 서킷브레이커 상태와 버전 조회 (로컬 캐시 → Redis)
+     */
+    private VersionedState getVersionedState(String apiId) {
         // 로컬 캐시 우선 확인
-        CircuitBreakerEvent.CircuitBreakerState cachedState = localStateCache.get(apiId);
+        VersionedState cachedState = localStateCache.getIfPresent(apiId);
         if (cachedState != null) {
             return cachedState;
         }
         
-        // Redis에서 조회
+        // Redis에서 조회 (보존 기간이 지난 상태는 CLOSED로 간주하되 버전은 유지)
         try {
-            String stateStr = (String) redisTemplate.opsForValue().get(CB_STATE_PREFIX + apiId);
-            if (stateStr != null) {
-                CircuitBreakerEvent.CircuitBreakerState state = 
-                    CircuitBreakerEvent.CircuitBreakerState.valueOf(stateStr);
-                localStateCache.put(apiId, state);
-                return state;
+            Object value = stringRedisTemplate.opsForHash().get(CB_STATES_KEY, apiId);
+            VersionedState stored = value != null ? VersionedState.decode(value.toString()) : null;
+            if (stored != null) {
+                VersionedState effective = stored.isExpired(System.currentTimeMillis())
+                    ? new VersionedState(CircuitBreakerEvent.CircuitBreakerState.CLOSED, stored.version(), 0)
+                    : stored;
+                cacheIfNewer(apiId, effective);
+                return effective;
             }
         } catch (Exception e) {
             log.warn("Failed to get circuit breaker state from Redis for API: {}", apiId, e);
         }
         
-        // 기본값: CLOSED
-        CircuitBreakerEvent.CircuitBreakerState defaultState = CircuitBreakerEvent.CircuitBreakerState.CLOSED;
-        localStateCache.put(apiId, defaultState);
+        // 기본값: CLOSED (버전 0 - 어떤 전이 메시지보다도 오래된 것으로 취급)
+        VersionedState defaultState = new VersionedState(CircuitBreakerEvent.CircuitBreakerState.CLOSED, 0, 0);
+        cacheIfNewer(apiId, defaultState);
         return defaultState;
     }
 
     /**
-     * 서킷브레이커 상태 업데이트
+     * 서킷브레이커 상태 업데이트 (수동 변경 - 버전 비교 없이 기록)
      */
     private void updateCircuitBreakerState(String apiId, CircuitBreakerEvent.CircuitBreakerState newState) {
         try {
-            // Redis에 저장 (TTL: 24시간)
-            redisTemplate.opsForValue().set(CB_STATE_PREFIX + apiId, newState.name(), 24, TimeUnit.HOURS);
-            
-            // 상태 변경 시간 기록
-            redisTemplate.opsForValue().set(CB_STATE_PREFIX + apiId + ":timestamp", 
-                                           LocalDateTime.now().toString(), 24, TimeUnit.HOURS);
-            
-            // 로컬 캐시 업데이트
-            localStateCache.put(apiId, newState);
-            
+            writeState(apiId, newState, null);
         } catch (Exception e) {
             log.error("Failed to update circuit breaker state for API: {}", apiId, e);
         }
     }
 
+    /**
+     * 자동 전이 기록 (compare-on-version)
+     * 알고 있던 버전이 낡았으면 저장된 상태를 다시 읽고, 이미 같은 상태이거나 FORCE_OPEN이면 기록하지 않음
+     *
+     * @return 이 파드가 기록했으면 전이 전 상태, 기록하지 않았으면 null
+     */
+    private CircuitBreakerEvent.CircuitBreakerState recordAutomaticTransition(String apiId,
+                                                                             CircuitBreakerEvent.CircuitBreakerState newState) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            VersionedState current = getVersionedState(apiId);
+            if (current.state() == newState || current.state() == CircuitBreakerEvent.CircuitBreakerState.FORCE_OPEN) {
+                return null;
+            }
+            if (writeState(apiId, newState, current.version())) {
+                return current.state();
+            }
+            localStateCache.invalidate(apiId);
+        }
+        return null;
+    }
+
+    /**
+     * 상태 HASH 갱신 + 버전 증가 + 다른 파드로 전파 (스크립트 한 번) 후 로컬 캐시 갱신
+     *
+     * @param expectedVersion 자동 전이에서 알고 있던 버전 (null이면 비교하지 않음)
+     * @return 기록했으면 true, 저장된 버전이 달라 기록하지 않았으면 false
+     */
+    private boolean writeState(String apiId, CircuitBreakerEvent.CircuitBreakerState newState, Long expectedVersion) {
+        long changedAt = System.currentTimeMillis();
+        Long version = stringRedisTemplate.execute(CB_TRANSITION_SCRIPT, List.of(CB_STATES_KEY),
+            transitionArgs(apiId, newState, changedAt, expectedVersion));
+        if (version != null && version == 0) {
+            return false;
+        }
+        localStateCache.put(apiId, new VersionedState(newState, version != null ? version : 0, changedAt));
+        return true;
+    }
+
+    /**
+     * 상태 전이 스크립트 ARGV (apiId, 상태, 변경 시각, 전파 채널, 발행 파드, 기대 버전)
+     */
+    private Object[] transitionArgs(String apiId, CircuitBreakerEvent.CircuitBreakerState newState, long changedAt,
+                                    Long expectedVersion) {
+        return new Object[] {apiId, newState.name(), String.valueOf(changedAt), stateSyncChannel, instanceId,
+            expectedVersion != null ? String.valueOf(expectedVersion) : ""};
+    }
+
+    /**
+     * 로컬 캐시에 더 새 버전일 때만 반영 (Redis 조회 도중 도착한 전이 메시지를 덮어쓰지 않도록)
+     */
+    private void cacheIfNewer(String apiId, VersionedState state) {
+        localStateCache.asMap().merge(apiId, state,
+            (cached, loaded) -> loaded.version() > cached.version() ? loaded : cached);
+    }
+
     /**
      * API 메트릭 업데이트
      */
@@ -351,16 +817,17 @@ public class CircuitBreakerMonitoringService {
             
             localMetricsCache.put(apiId, metrics);
             
-            // Redis에도 저장 (성능상 배치로 처리 가능)
-            Map<String, Object> metricsData = Map.of(
-                "totalCalls", stats.getTotalCallCount(),
-                "successRate", stats.getSuccessRate(),
-                "averageResponseTime", stats.getAverageResponseTime(),
-                "lastUpdated", LocalDateTime.now().toString()
-            );
+            // Redis 메트릭 HASH에 저장
+            // 값: {totalCalls}|{successRate}|{averageResponseTime}|{p95}|{p99}|{lastUpdated millis} (분위수가 없으면 빈 값)
+            String metricsValue = String.join(SEPARATOR,
+                String.valueOf(stats.getTotalCallCount()),
+                String.valueOf(stats.getSuccessRate()),
+                String.valueOf(stats.getAverageResponseTime()),
+                stats.getP95ResponseTime() != null ? String.valueOf(stats.getP95ResponseTime()) : "",
+                stats.getP99ResponseTime() != null ? String.valueOf(stats.getP99ResponseTime()) : "",
+                String.valueOf(System.currentTimeMillis()));
             
-            redisTemplate.opsForHash().putAll(CB_METRICS_PREFIX + apiId, metricsData);
-            redisTemplate.expire(CB_METRICS_PREFIX + apiId, 1, TimeUnit.HOURS);
+            stringRedisTemplate.opsForHash().put(CB_METRICS_KEY, apiId, metricsValue);
             
         } catch (Exception e) {
             log.warn("Failed to update API metrics for: {}", apiId, e);
@@ -398,32 +865,42 @@ public class CircuitBreakerMonitoringService {
     }
 
     /**
-     * 마지막 상태 변경 시간 조회
+     * 로컬 캐시 정리 (만료/크기 초과 항목 제거는 캐시가 처리하며, 여기서는 대기 중인 정리 작업만 실행)
      */
-    private LocalDateTime getLastStateChangeTime(String apiId) {
-        try {
-            String timestamp = (String) redisTemplate.opsForValue().get(CB_STATE_PREFIX + apiId + ":timestamp");
-            return timestamp != null ? LocalDateTime.parse(timestamp) : null;
-        } catch (Exception e) {
-            return null;
-        }
+    private void cleanupLocalCache() {
+        localStateCache.cleanUp();
+        localMetricsCache.cleanUp();
     }
 
     /**
-     * 로컬 캐시 정리
+     * 유휴 서킷브레이커 제거 (레지스트리 크기 제한)
+     * 로컬/저장 상태가 모두 CLOSED이고 idle-eviction-minutes 동안 호출이 없었던 서킷브레이커만 제거하며,
+     * 다시 호출되면 저장된 상태로 초기화된 새 서킷브레이커가 생성됨
+     *
+     * @return 제거한 서킷브레이커 수
      */
-    private void cleanupLocalCache() {
-        // 1시간 이상 된 캐시 엔트리 제거
-        LocalDateTime cutoff = LocalDateTime.now().minusHours(1);
+    @Scheduled(fixedDelayString = "${circuit-breaker.registry.idle-eviction-interval:300000}")
+    public int evictIdleBreakers() {
+        long idleBefore = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(idleEvictionMinutes);
+        int evicted = 0;
         
-        localMetricsCache.entrySet().removeIf(entry -> 
-            entry.getValue().lastUpdated.isBefore(cutoff));
+        for (CircuitBreaker circuitBreaker : circuitBreakerRegistry.getAllCircuitBreakers()) {
+            String apiId = circuitBreaker.getName();
+            Long lastRecorded = lastRecordedAt.get(apiId);
+            if ((lastRecorded != null && lastRecorded > idleBefore)
+                    || circuitBreaker.getState() != CircuitBreaker.State.CLOSED
+                    || getCurrentState(apiId) != CircuitBreakerEvent.CircuitBreakerState.CLOSED) {
+                continue;
+            }
+            circuitBreakerRegistry.remove(apiId);
+            lastRecordedAt.remove(apiId, lastRecorded);
+            evicted++;
+        }
         
-        // 상태 캐시는 크기 제한 (최대 1000개)
-        if (localStateCache.size() > 1000) {
-            localStateCache.clear();
-            log.info("Local state cache cleared due to size limit");
+        if (evicted > 0) {
+            log.debug("Evicted {} idle circuit breakers", evicted);
         }
+        return evicted;
     }
 
     /**
@@ -444,6 +921,7 @@ public class CircuitBreakerMonitoringService {
             );
             
             updateCircuitBreakerState(apiId, forcedState);
+            applyToBreaker(apiId, forcedState);
             publishCircuitBreakerEvent(event);
             
             log.info("Circuit breaker state manually changed - API: {}, {} → {}, Reason: {}", 
@@ -452,33 +930,255 @@ public class CircuitBreakerMonitoringService {
     }
 
     /**
-     * 현재 모든 서킷브레이커 상태 조회
+     * 현재 모든 서킷브레이커 상태 조회 (HGETALL 한 번)
+     * 로컬 캐시가 더 새 버전을 갖고 있으면(전파 직후 등) 로컬 값을 우선
      */
     public Map<String, CircuitBreakerEvent.CircuitBreakerState> getAllCircuitBreakerStates() {
-        Map<String, CircuitBreakerEvent.CircuitBreakerState> states = new HashMap<>(localStateCache);
+        Map<String, VersionedState> stored = new HashMap<>();
+        long now = System.currentTimeMillis();
         
-        // Redis에서 추가 상태 조회 (로컬 캐시에 없는 것들)
         try {
-            redisTemplate.keys(CB_STATE_PREFIX + "*").forEach(key -> {
-                String apiId = key.replace(CB_STATE_PREFIX, "").replaceAll(":timestamp$", "");
-                if (!key.endsWith(":timestamp") && !states.containsKey(apiId)) {
-                    try {
-                        String stateStr = (String) redisTemplate.opsForValue().get(key);
-                        if (stateStr != null) {
-                            states.put(apiId, CircuitBreakerEvent.CircuitBreakerState.valueOf(stateStr));
-                        }
-                    } catch (Exception e) {
-                        log.warn("Failed to parse circuit breaker state for API: {}", apiId);
-                    }
+            stringRedisTemplate.opsForHash().entries(CB_STATES_KEY).forEach((field, value) -> {
+                VersionedState state = VersionedState.decode(value.toString());
+                if (state == null) {
+                    log.warn("Failed to parse circuit breaker state for API: {}", field);
+                } else if (!state.isExpired(now) && !state.isTombstone()) {
+                    stored.put(field.toString(), state);
                 }
             });
         } catch (Exception e) {
             log.error("Failed to get all circuit breaker states from Redis", e);
         }
         
+        localStateCache.asMap().forEach((apiId, cached) -> stored.merge(apiId, cached,
+            (remote, local) -> local.version() > remote.version() ? local : remote));
+        
+        Map<String, CircuitBreakerEvent.CircuitBreakerState> states = new HashMap<>();
+        stored.forEach((apiId, state) -> states.put(apiId, state.state()));
         return states;
     }
 
+    /**
+     * 주어진 상태 중 CLOSED가 아닌 서킷브레이커를 한 번의 파이프라인으로 CLOSED 리셋
+     *
+     * @return 리셋한 API 수
+     */
+    public int resetCircuitBreakers(Map<String, CircuitBreakerEvent.CircuitBreakerState> currentStates, String reason) {
+        List<String> targets = currentStates.entrySet().stream()
+            .filter(entry -> entry.getValue() != CircuitBreakerEvent.CircuitBreakerState.CLOSED)
+            .map(Map.Entry::getKey)
+            .toList();
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        
+        CircuitBreakerEvent.CircuitBreakerState closed = CircuitBreakerEvent.CircuitBreakerState.CLOSED;
+        long changedAt = System.currentTimeMillis();
+        byte[] script = CB_TRANSITION_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        String scriptSha = CB_TRANSITION_SCRIPT.getSha1();
+        byte[] statesKey = CB_STATES_KEY.getBytes(StandardCharsets.UTF_8);
+        
+        // 첫 응답은 SCRIPT LOAD 결과, 이후 대상 순서대로 새 버전
+        List<Object> replies = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.scriptingCommands().scriptLoad(script);
+            for (String apiId : targets) {
+                List<byte[]> keysAndArgs = new ArrayList<>();
+                keysAndArgs.add(statesKey);
+                for (Object arg : transitionArgs(apiId, closed, changedAt, null)) {
+                    keysAndArgs.add(arg.toString().getBytes(StandardCharsets.UTF_8));
+                }
+                connection.scriptingCommands().evalSha(scriptSha, ReturnType.INTEGER, 1,
+                    keysAndArgs.toArray(new byte[0][]));
+            }
+            return null;
+        });
+        
+        for (int i = 0; i < targets.size(); i++) {
+            String apiId = targets.get(i);
+            Object version = replies.size() > i + 1 ? replies.get(i + 1) : null;
+            localStateCache.put(apiId, new VersionedState(closed,
+                version instanceof Long newVersion ? newVersion : 0, changedAt));
+            applyToBreaker(apiId, closed);
+            
+            publishCircuitBreakerEvent(CircuitBreakerEvent.stateChange(
+                apiId, "API-" + apiId, "Unknown", // 실제로는 API 이름 조회 필요
+                closed, currentStates.get(apiId),
+                CircuitBreakerEvent.StateChangeTrigger.MANUAL_OVERRIDE,
+                "관리자에 의한 전체 리셋: " + reason
+            ));
+        }
+        
+        log.info("Circuit breakers reset to CLOSED - {} APIs, Reason: {}", targets.size(), reason);
+        return targets.size();
+    }
+
+    /**
+     * 보존 기간이 지난 상태/메트릭 필드 정리 (HSCAN, 여러 파드가 동시에 실행해도 무해)
+     * 상태 필드는 버전을 유지한 CLOSED 묘비로 바꾸고(다음 전이가 이전 버전을 재사용하지 않도록), 메트릭 필드는 삭제
+     */
+    @Scheduled(fixedDelayString = "${circuit-breaker.prune-interval:3600000}")
+    public void pruneExpiredEntries() {
+        long now = System.currentTimeMillis();
+        int prunedStates = 0;
+        int prunedMetrics = 0;
+        
+        try {
+            Map<String, String> expiredStates = scanExpired(CB_STATES_KEY, value -> {
+                VersionedState state = VersionedState.decode(value);
+                return state == null || state.isExpired(now);
+            });
+            prunedStates = tombstoneStates(expiredStates);
+            
+            Map<String, String> expiredMetrics = scanExpired(CB_METRICS_KEY, value -> {
+                long lastUpdated = parseLong(value.substring(value.lastIndexOf(SEPARATOR) + 1), 0);
+                return lastUpdated < now - METRICS_RETENTION_MILLIS;
+            });
+            if (!expiredMetrics.isEmpty()) {
+                stringRedisTemplate.opsForHash().delete(CB_METRICS_KEY, expiredMetrics.keySet().toArray());
+                prunedMetrics = expiredMetrics.size();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to prune expired circuit breaker entries", e);
+        }
+        
+        if (prunedStates > 0 || prunedMetrics > 0) {
+            log.info("Pruned expired circuit breaker entries - states: {}, metrics: {}", prunedStates, prunedMetrics);
+        }
+    }
+
+    /**
+     * 만료 조건에 맞는 필드와 읽은 값 (HSCAN)
+     */
+    private Map<String, String> scanExpired(String key, Predicate<String> expired) {
+        Map<String, String> expiredFields = new LinkedHashMap<>();
+        ScanOptions options = ScanOptions.scanOptions().count(PRUNE_SCAN_PAGE_SIZE).build();
+        
+        try (Cursor<Map.Entry<Object, Object>> cursor = stringRedisTemplate.opsForHash().scan(key, options)) {
+            while (cursor.hasNext()) {
+                Map.Entry<Object, Object> entry = cursor.next();
+                String value = entry.getValue().toString();
+                if (expired.test(value)) {
+                    expiredFields.put(entry.getKey().toString(), value);
+                }
+            }
+        }
+        return expiredFields;
+    }
+
+    /**
+     * 만료 상태를 묘비로 교체 (PRUNE_SCAN_PAGE_SIZE개씩 스크립트 한 번, 읽은 뒤 전이된 필드는 제외)
+     *
+     * @return 교체한 필드 수
+     */
+    private int tombstoneStates(Map<String, String> expiredStates) {
+        int pruned = 0;
+        List<String> args = new ArrayList<>();
+        for (Map.Entry<String, String> entry : expiredStates.entrySet()) {
+            args.add(entry.getKey());
+            args.add(entry.getValue());
+            if (args.size() >= PRUNE_SCAN_PAGE_SIZE * 2) {
+                pruned += runPruneScript(args);
+                args.clear();
+            }
+        }
+        if (!args.isEmpty()) {
+            pruned += runPruneScript(args);
+        }
+        return pruned;
+    }
+
+    private int runPruneScript(List<String> args) {
+        Long pruned = stringRedisTemplate.execute(CB_PRUNE_SCRIPT, List.of(CB_STATES_KEY), args.toArray());
+        return pruned != null ? pruned.intValue() : 0;
+    }
+
+    private static long parseLong(String value, long defaultValue) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 버전이 붙은 서킷브레이커 상태 (상태 HASH 값: {state}|{version}|{changedAt millis})
+     * 변경 시각 0은 보존 기간이 지나 정리된 묘비(CLOSED) 또는 저장된 적 없는 기본 상태
+     */
+    record VersionedState(CircuitBreakerEvent.CircuitBreakerState state, long version, long changedAt) {
+
+        boolean isExpired(long nowMillis) {
+            return changedAt > 0 && changedAt < nowMillis - STATE_RETENTION_MILLIS;
+        }
+
+        boolean isTombstone() {
+            return changedAt == 0;
+        }
+
+        String encode() {
+            return state.name() + SEPARATOR + version + SEPARATOR + changedAt;
+        }
+
+        static VersionedState decode(String value) {
+            String[] parts = value.split("\\|", 3);
+            if (parts.length < 3) {
+                return null;
+            }
+            try {
+                return new VersionedState(CircuitBreakerEvent.CircuitBreakerState.valueOf(parts[0]),
+                    Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 파드 간 상태 전이 메시지 (circuit_breaker_transition.lua가 발행)
+     * {origin}|{version}|{changedAt}|{state}|{apiId} - apiId는 구분자를 포함할 수 있어 마지막에 둠
+     */
+    record StateChange(String origin, long version, long changedAt,
+                       CircuitBreakerEvent.CircuitBreakerState state, String apiId) {
+
+        static StateChange decode(String payload) {
+            String[] parts = payload.split("\\|", 5);
+            if (parts.length < 5) {
+                return null;
+            }
+            try {
+                return new StateChange(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2]),
+                    CircuitBreakerEvent.CircuitBreakerState.valueOf(parts[3]), parts[4]);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 전이 이벤트 발행용 API 이름/제공자
+     */
+    private record ApiDescriptor(String name, String provider) {
+
+        boolean matches(String apiName, String apiProvider) {
+            return (apiName == null || apiName.equals(name)) && (apiProvider == null || apiProvider.equals(provider));
+        }
+
+        static ApiDescriptor merge(ApiDescriptor known, String apiName, String apiProvider) {
+            return new ApiDescriptor(
+                apiName != null ? apiName : known != null ? known.name() : null,
+                apiProvider != null ? apiProvider : known != null ? known.provider() : null);
+        }
+    }
+
+    /**
+     * 게이트웨이가 보고한 호출 실패 (Resilience4j 실패 기록용)
+     */
+    private static final class RecordedCallFailure extends RuntimeException {
+
+        private RecordedCallFailure() {
+            super("Recorded API call failure", null, false, false);
+        }
+    }
+
     /**
      * 로컬 메트릭 저장용 내부 클래스
      */
@@ -0,0 +1,206 @@
+package org.example.SystemManagementSvc.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.SystemManagementSvc.event.model.CircuitBreakerEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API별 키 레이아웃의 서킷브레이커 상태를 상태 HASH(circuit-breaker:states)로 마이그레이션 (시작 시 1회)
+ * - circuit-breaker:state:[{hN}:]{apiId} (+ :timestamp, circuit-breaker:version:...)를 {state}|{version}|{changedAt} 필드로 옮기고 삭제
+ *   (HASH에 이미 필드가 있으면 HASH 우선, 변경 시각을 모르면 남은 TTL(24시간 기준)로 추정)
+ * - 상태 키 없이 남은 버전 키는 CLOSED 묘비로 옮겨 다음 전이가 이전 버전을 재사용하지 않도록 함
+ * - API별 메트릭 키와 상태 인덱스(index:circuit-breaker)는 삭제 (메트릭은 다음 평가에서 다시 기록)
+ * - 완료 후 레이아웃 버전 키를 기록하여 다음 시작부터는 생략
+ *
+ * 이전 레이아웃 값은 JSON 직렬화(RedisTemplate)로 기록되었으므로 같은 템플릿으로 읽음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CircuitBreakerStateMigration {
+
+    static final String LAYOUT_KEY = "circuit-breaker:layout";
+    private static final String LAYOUT_VERSION = "2";
+    private static final int SCAN_COUNT = 500;
+
+    private static final String LEGACY_STATE_PREFIX = "circuit-breaker:state:";
+    private static final String LEGACY_VERSION_PREFIX = "circuit-breaker:version:";
+    private static final String LEGACY_METRICS_PREFIX = "circuit-breaker:metrics:";
+    private static final String LEGACY_TIMESTAMP_SUFFIX = ":timestamp";
+    private static final String LEGACY_INDEX_KEY = "index:circuit-breaker";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CircuitBreakerMonitoringService circuitBreakerMonitoringService;
+
+    @Value("${circuit-breaker.migrate-legacy-keys:true}")
+    private boolean migrateLegacyKeys;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!migrateLegacyKeys) {
+            return;
+        }
+        try {
+            if (LAYOUT_VERSION.equals(stringRedisTemplate.opsForValue().get(LAYOUT_KEY))) {
+                return;
+            }
+            migrate();
+        } catch (Exception e) {
+            log.warn("Failed to migrate legacy circuit breaker state keys, will retry on next startup", e);
+        }
+    }
+
+    /**
+     * 이전 레이아웃 키 이전 및 정리
+     */
+    void migrate() {
+        long startedAt = System.currentTimeMillis();
+        int moved = 0;
+        for (String stateKey : scanKeys(LEGACY_STATE_PREFIX)) {
+            if (!stateKey.endsWith(LEGACY_TIMESTAMP_SUFFIX) && moveState(stateKey)) {
+                moved++;
+            }
+        }
+        for (String versionKey : scanKeys(LEGACY_VERSION_PREFIX)) {
+            if (moveOrphanVersion(versionKey)) {
+                moved++;
+            }
+        }
+
+        List<String> obsolete = new ArrayList<>(scanKeys(LEGACY_METRICS_PREFIX));
+        obsolete.add(LEGACY_INDEX_KEY);
+        obsolete.addAll(HealthStateKeys.allShardKeys(LEGACY_INDEX_KEY, HealthStateKeyMigration.LEGACY_SHARD_COUNT));
+        stringRedisTemplate.delete(obsolete);
+
+        stringRedisTemplate.opsForValue().set(LAYOUT_KEY, LAYOUT_VERSION);
+        log.info("Migrated {} legacy circuit breaker states to {} in {}ms",
+                moved, CircuitBreakerMonitoringService.CB_STATES_KEY, System.currentTimeMillis() - startedAt);
+    }
+
+    private List<String> scanKeys(String prefix) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+
+    /**
+     * 상태 키 하나를 HASH 필드로 이동 (HSETNX → 상태/시각/버전 키 삭제)
+     *
+     * @return HASH에 기록했으면 true
+     */
+    private boolean moveState(String stateKey) {
+        String suffix = stateKey.substring(LEGACY_STATE_PREFIX.length());
+        String timestampKey = stateKey + LEGACY_TIMESTAMP_SUFFIX;
+        String versionKey = LEGACY_VERSION_PREFIX + suffix;
+
+        Object state = redisTemplate.opsForValue().get(stateKey);
+        Object timestamp = redisTemplate.opsForValue().get(timestampKey);
+        Object version = redisTemplate.opsForValue().get(versionKey);
+        Long ttlMillis = stringRedisTemplate.getExpire(stateKey, TimeUnit.MILLISECONDS);
+
+        boolean moved = false;
+        CircuitBreakerEvent.CircuitBreakerState parsed = parseState(state);
+        if (parsed != null) {
+            CircuitBreakerMonitoringService.VersionedState value = new CircuitBreakerMonitoringService.VersionedState(
+                parsed, Math.max(parseVersion(version), 1), changedAt(timestamp, ttlMillis));
+            moved = putIfAbsent(apiIdOf(suffix), value);
+        } else {
+            log.warn("Dropping unparseable legacy circuit breaker state: {} = {}", stateKey, state);
+        }
+
+        stringRedisTemplate.delete(List.of(stateKey, timestampKey, versionKey));
+        return moved;
+    }
+
+    /**
+     * 상태 키가 먼저 만료되어 버전 키만 남은 경우 CLOSED 묘비로 이동
+     */
+    private boolean moveOrphanVersion(String versionKey) {
+        long version = parseVersion(redisTemplate.opsForValue().get(versionKey));
+        boolean moved = version > 0 && putIfAbsent(apiIdOf(versionKey.substring(LEGACY_VERSION_PREFIX.length())),
+            new CircuitBreakerMonitoringService.VersionedState(CircuitBreakerEvent.CircuitBreakerState.CLOSED, version, 0));
+        stringRedisTemplate.delete(versionKey);
+        return moved;
+    }
+
+    private boolean putIfAbsent(String apiId, CircuitBreakerMonitoringService.VersionedState value) {
+        boolean written = Boolean.TRUE.equals(stringRedisTemplate.opsForHash()
+            .putIfAbsent(CircuitBreakerMonitoringService.CB_STATES_KEY, apiId, value.encode()));
+        if (written) {
+            circuitBreakerMonitoringService.invalidateState(apiId);
+        }
+        return written;
+    }
+
+    /**
+     * 키 접두사 뒤 부분에서 apiId 추출 ({hN}:{apiId} 또는 태그 없는 {apiId})
+     */
+    static String apiIdOf(String suffix) {
+        if (suffix.startsWith("{")) {
+            int tagEnd = suffix.indexOf("}:");
+            if (tagEnd >= 0) {
+                return suffix.substring(tagEnd + 2);
+            }
+        }
+        return suffix;
+    }
+
+    /**
+     * 변경 시각 (타임스탬프 키, 없으면 24시간 TTL 중 남은 시간으로 추정)
+     */
+    static long changedAt(Object timestamp, Long ttlMillis) {
+        if (timestamp != null) {
+            try {
+                return LocalDateTime.parse(timestamp.toString())
+                    .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            } catch (Exception e) {
+                // 남은 TTL로 추정
+            }
+        }
+        long now = System.currentTimeMillis();
+        if (ttlMillis != null && ttlMillis > 0) {
+            return now - Math.max(CircuitBreakerMonitoringService.STATE_RETENTION_MILLIS - ttlMillis, 0);
+        }
+        return now;
+    }
+
+    private static CircuitBreakerEvent.CircuitBreakerState parseState(Object state) {
+        if (state == null) {
+            return null;
+        }
+        try {
+            return CircuitBreakerEvent.CircuitBreakerState.valueOf(state.toString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static long parseVersion(Object version) {
+        if (version == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(version.toString());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,480 @@
+package org.example.SystemManagementSvc.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.cfg.CoercionAction;
+import com.fasterxml.jackson.databind.cfg.CoercionInputShape;
+import com.fasterxml.jackson.databind.type.LogicalType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.SystemManagementSvc.domain.ExternalApi;
+import org.example.SystemManagementSvc.dto.CatalogImportReport;
+import org.example.SystemManagementSvc.repository.ExternalApiRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 외부 API 카탈로그 일괄 등록/내보내기 서비스
+ * - 입력(NDJSON/CSV)을 한 레코드씩 읽어 검증하고, batch-size 단위로 모아 배치마다 별도 트랜잭션으로 JDBC 배치 INSERT
+ * - apiUrl/apiId 중복은 배치 내 Set과 배치별 IN 조회로 제거 (앞선 배치는 이미 커밋되어 있으므로 파일 내 중복도 함께 걸러짐)
+ * - 불리언 값은 true/false만 허용 (NDJSON은 JSON 불리언, CSV는 대소문자 무시 문자열)
+ * - 메모리에는 현재 배치만 유지하므로 입력 크기와 무관하게 일정
+ * - 내보내기는 프로세스 내 레지스트리(ExternalApiRegistry)를 한 건씩 직렬화하여 DB 조회 없이 스트리밍
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExternalApiCatalogService {
+
+    /** CSV 컬럼 (헤더 이름 기준으로 매핑하므로 입력 순서는 자유) */
+    static final List<String> CSV_COLUMNS = List.of(
+        "apiId", "apiName", "apiUrl", "apiIssuer", "apiOwner", "apiDomain",
+        "apiKeyword", "httpMethod", "apiDescription", "apiEffectiveness");
+
+    private static final String INSERT_SQL =
+        "INSERT INTO external_api (api_id, api_name, api_url, api_issuer, api_owner, api_domain, api_keyword, " +
+        "http_method, api_description, api_effectiveness, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final Set<String> HTTP_METHODS = Set.of("GET", "POST", "PUT", "PATCH", "DELETE", "HEAD", "OPTIONS");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExternalApiRepository externalApiRepository;
+    private final ExternalApiRegistry externalApiRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${healthcheck.catalog.import-batch-size:500}")
+    private int importBatchSize;
+
+    @Value("${healthcheck.catalog.max-reported-errors:50}")
+    private int maxReportedErrors;
+
+    /**
+     * 카탈로그 입출력 형식
+     */
+    public enum CatalogFormat {
+        NDJSON, CSV;
+
+        public static CatalogFormat from(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * 카탈로그 일괄 등록
+     *
+     * @param progress 배치가 커밋될 때마다 호출 (마지막 호출은 completed=true 보고서)
+     */
+    public CatalogImportReport importCatalog(InputStream input, CatalogFormat format,
+                                             Consumer<CatalogImportReport> progress) throws IOException {
+        ImportRun run = new ImportRun(progress);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        if (format == CatalogFormat.NDJSON) {
+            readNdjson(reader, run);
+        } else {
+            readCsv(reader, run);
+        }
+
+        CatalogImportReport report = run.finish();
+        if (report.getInserted() > 0) {
+            externalApiRegistry.refresh();
+        }
+        log.info("Catalog import finished - processed: {}, inserted: {}, duplicates: {}, invalid: {}, {}ms",
+            report.getProcessed(), report.getInserted(), report.getDuplicates(), report.getInvalid(), report.getDurationMs());
+        return report;
+    }
+
+    /**
+     * 카탈로그 내보내기 (레지스트리 기준, 한 건씩 기록)
+     */
+    public void exportCatalog(OutputStream output, CatalogFormat format) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+
+        if (format == CatalogFormat.NDJSON) {
+            ObjectWriter apiWriter = objectMapper.writerFor(ExternalApi.class);
+            for (ExternalApi api : externalApiRegistry.all()) {
+                writer.write(apiWriter.writeValueAsString(api));
+                writer.write('\n');
+            }
+        } else {
+            writeCsvRecord(writer, CSV_COLUMNS);
+            for (ExternalApi api : externalApiRegistry.all()) {
+                writeCsvRecord(writer, toCsvValues(api));
+            }
+        }
+        writer.flush();
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+        ObjectReader apiReader = strictBooleanMapper().readerFor(ExternalApi.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                ExternalApi api = apiReader.readValue(line);
+                if (api == null) {
+                    run.reject(lineNumber, "record must be a JSON object");
+                    continue;
+                }
+                run.accept(lineNumber, api);
+            } catch (JsonProcessingException e) {
+                run.reject(lineNumber, "invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    /**
+     * 불리언 필드에 문자열/숫자 강제 변환("yes", 1 등)을 허용하지 않는 매퍼
+     */
+    private ObjectMapper strictBooleanMapper() {
+        ObjectMapper mapper = objectMapper.copy();
+        mapper.coercionConfigFor(LogicalType.Boolean)
+            .setCoercion(CoercionInputShape.String, CoercionAction.Fail)
+            .setCoercion(CoercionInputShape.Integer, CoercionAction.Fail);
+        return mapper;
+    }
+
+    private void readCsv(BufferedReader reader, ImportRun run) throws IOException {
+        List<String> header = readCsvRecord(reader);
+        if (header == null) {
+            return;
+        }
+        header.replaceAll(String::trim);
+        if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+            header.set(0, header.get(0).substring(1));
+        }
+
+        List<String> values;
+        long recordNumber = 1;
+        while ((values = readCsvRecord(reader)) != null) {
+            recordNumber++;
+            if (values.size() == 1 && values.get(0).isBlank()) {
+                continue;
+            }
+            try {
+                run.accept(recordNumber, fromCsvValues(header, values));
+            } catch (IllegalArgumentException e) {
+                run.reject(recordNumber, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 필수 값/형식 검증 (문제가 없으면 null)
+     */
+    private static String validate(ExternalApi api) {
+        if (isBlank(api.getApiName())) {
+            return "apiName is required";
+        }
+        if (isBlank(api.getApiUrl())) {
+            return "apiUrl is required";
+        }
+        if (api.getApiUrl().length() > 500) {
+            return "apiUrl exceeds 500 characters";
+        }
+        if (!api.getApiUrl().startsWith("http://") && !api.getApiUrl().startsWith("https://")) {
+            return "apiUrl must start with http:// or https://";
+        }
+        if (isBlank(api.getApiIssuer())) {
+            return "apiIssuer is required";
+        }
+        if (api.getApiDomain() == null) {
+            return "apiDomain is required";
+        }
+        if (api.getApiKeyword() == null) {
+            return "apiKeyword is required";
+        }
+        if (api.getHttpMethod() == null || !HTTP_METHODS.contains(api.getHttpMethod().toUpperCase(Locale.ROOT))) {
+            return "httpMethod must be one of " + HTTP_METHODS;
+        }
+        if (api.getApiId() != null && api.getApiId().length() > 36) {
+            return "apiId exceeds 36 characters";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static ExternalApi fromCsvValues(List<String> header, List<String> values) {
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            String value = values.get(i).trim();
+            if (!value.isEmpty()) {
+                row.put(header.get(i), value);
+            }
+        }
+
+        return ExternalApi.builder()
+            .apiId(row.get("apiId"))
+            .apiName(row.get("apiName"))
+            .apiUrl(row.get("apiUrl"))
+            .apiIssuer(row.get("apiIssuer"))
+            .apiOwner(row.get("apiOwner"))
+            .apiDomain(parseEnum(ExternalApi.ApiDomain.class, row.get("apiDomain")))
+            .apiKeyword(parseEnum(ExternalApi.ApiKeyword.class, row.get("apiKeyword")))
+            .httpMethod(row.get("httpMethod"))
+            .apiDescription(row.get("apiDescription"))
+            .apiEffectiveness(row.containsKey("apiEffectiveness") ? parseBoolean(row.get("apiEffectiveness")) : true)
+            .build();
+    }
+
+    /**
+     * true/false만 허용 (Boolean.parseBoolean은 오타를 false로 받아들여 API를 비활성으로 등록함)
+     */
+    static boolean parseBoolean(String value) {
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw new IllegalArgumentException("apiEffectiveness must be true or false: " + value);
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown " + type.getSimpleName() + ": " + value);
+        }
+    }
+
+    private static List<String> toCsvValues(ExternalApi api) {
+        List<String> values = new ArrayList<>(CSV_COLUMNS.size());
+        values.add(api.getApiId());
+        values.add(api.getApiName());
+        values.add(api.getApiUrl());
+        values.add(api.getApiIssuer());
+        values.add(api.getApiOwner());
+        values.add(api.getApiDomain() != null ? api.getApiDomain().name() : null);
+        values.add(api.getApiKeyword() != null ? api.getApiKeyword().name() : null);
+        values.add(api.getHttpMethod());
+        values.add(api.getApiDescription());
+        values.add(String.valueOf(Boolean.TRUE.equals(api.getApiEffectiveness())));
+        return values;
+    }
+
+    /**
+     * CSV 레코드 하나 읽기 (RFC 4180: 따옴표 필드, "" 이스케이프, 따옴표 안의 줄바꿈 지원)
+     *
+     * @return 입력 끝이면 null
+     */
+    static List<String> readCsvRecord(BufferedReader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> values = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+
+        values.add(field.toString());
+        return values;
+    }
+
+    static void writeCsvRecord(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * 한 번의 일괄 등록 실행 상태 (현재 배치와 누적 건수만 보관)
+     */
+    private final class ImportRun {
+
+        private final Consumer<CatalogImportReport> progress;
+        private final long startedAt = System.currentTimeMillis();
+        private final List<ExternalApi> batch = new ArrayList<>();
+        private final Set<String> batchUrls = new HashSet<>();
+        private final Set<String> batchApiIds = new HashSet<>();
+        private final List<String> errors = new ArrayList<>();
+
+        private long processed;
+        private long inserted;
+        private long duplicates;
+        private long invalid;
+        private int batches;
+
+        ImportRun(Consumer<CatalogImportReport> progress) {
+            this.progress = progress;
+        }
+
+        void accept(long recordNumber, ExternalApi api) {
+            String error = validate(api);
+            if (error != null) {
+                reject(recordNumber, error);
+                return;
+            }
+            processed++;
+            if (batchUrls.contains(api.getApiUrl()) || (api.getApiId() != null && batchApiIds.contains(api.getApiId()))) {
+                duplicates++;
+                return;
+            }
+
+            batchUrls.add(api.getApiUrl());
+            if (api.getApiId() != null) {
+                batchApiIds.add(api.getApiId());
+            }
+            batch.add(api);
+            if (batch.size() >= importBatchSize) {
+                flush();
+            }
+        }
+
+        void reject(long recordNumber, String reason) {
+            processed++;
+            invalid++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add("record " + recordNumber + ": " + reason);
+            }
+        }
+
+        CatalogImportReport finish() {
+            flush();
+            CatalogImportReport report = report(true);
+            progress.accept(report);
+            return report;
+        }
+
+        /**
+         * 현재 배치를 하나의 트랜잭션으로 등록 (이미 등록된 apiUrl/apiId 제외)
+         */
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            Integer written = transactionTemplate.execute(status -> {
+                Set<String> existingUrls = new HashSet<>(externalApiRepository.findExistingApiUrls(batchUrls));
+                Set<String> existingIds = batchApiIds.isEmpty()
+                    ? Set.of()
+                    : new HashSet<>(externalApiRepository.findExistingApiIds(batchApiIds));
+                List<ExternalApi> rows = batch.stream()
+                    .filter(api -> !existingUrls.contains(api.getApiUrl()))
+                    .filter(api -> api.getApiId() == null || !existingIds.contains(api.getApiId()))
+                    .toList();
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, api) -> {
+                    ps.setString(1, api.getApiId() != null ? api.getApiId() : UUID.randomUUID().toString());
+                    ps.setString(2, api.getApiName());
+                    ps.setString(3, api.getApiUrl());
+                    ps.setString(4, api.getApiIssuer());
+                    ps.setString(5, api.getApiOwner());
+                    ps.setString(6, api.getApiDomain().name());
+                    ps.setString(7, api.getApiKeyword().name());
+                    ps.setString(8, api.getHttpMethod().toUpperCase(Locale.ROOT));
+                    ps.setString(9, api.getApiDescription());
+                    ps.setBoolean(10, !Boolean.FALSE.equals(api.getApiEffectiveness()));
+                    ps.setTimestamp(11, now);
+                    ps.setTimestamp(12, now);
+                });
+                return rows.size();
+            });
+
+            int insertedRows = written != null ? written : 0;
+            inserted += insertedRows;
+            duplicates += batch.size() - insertedRows;
+            batches++;
+            batch.clear();
+            batchUrls.clear();
+            batchApiIds.clear();
+            progress.accept(report(false));
+        }
+
+        private CatalogImportReport report(boolean completed) {
+            return CatalogImportReport.builder()
+                .processed(processed)
+                .inserted(inserted)
+                .duplicates(duplicates)
+                .invalid(invalid)
+                .batches(batches)
+                .completed(completed)
+                .durationMs(System.currentTimeMillis() - startedAt)
+                .errors(List.copyOf(errors))
+                .build();
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package org.example.SystemManagementSvc.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.SystemManagementSvc.domain.ExternalApi;
+import org.example.SystemManagementSvc.repository.ExternalApiRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 외부 API 레지스트리 (프로세스 내 캐시)
+ * - 시작 시(첫 조회 시) 전체 적재, 이후 updatedAt 워터마크 이후 변경분만 주기적으로 반영
+ * - 삭제된 행은 증분 조회로 알 수 없으므로 full-reload-interval마다 전체 재적재
+ * - 도메인/키워드/우선순위(EnumMap), 제공업체/소유자(HashMap) 인덱스를 불변 객체로 만들어 통째로 교체하므로 조회는 잠금 없음
+ * - 반환되는 ExternalApi는 공유 인스턴스이므로 변경하지 말 것 (변경 후 저장한 엔티티는 upsert로 반영)
+ */
+@Slf4j
+@Service
+public class ExternalApiRegistry {
+
+    private final ExternalApiRepository externalApiRepository;
+
+    @Value("${healthcheck.registry.full-reload-interval:600000}")
+    private long fullReloadIntervalMillis;
+
+    private final AtomicReference<Indexes> indexes = new AtomicReference<>();
+
+    /** 마지막으로 반영한 updatedAt (증분 조회 기준) */
+    private volatile LocalDateTime watermark;
+    private volatile long fullLoadedAtMillis;
+
+    @Autowired
+    public ExternalApiRegistry(ExternalApiRepository externalApiRepository, MeterRegistry meterRegistry) {
+        this.externalApiRepository = externalApiRepository;
+
+        Gauge.builder("apibridge_api_registry_size", this, registry -> registry.countAll())
+            .description("Number of external APIs held in the in-process registry")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 레지스트리 버전 (내용이 바뀔 때마다 증가, 변경 감지용)
+     */
+    public long getVersion() {
+        return current().version;
+    }
+
+    public Optional<ExternalApi> findById(String apiId) {
+        return Optional.ofNullable(current().byId.get(apiId));
+    }
+
+    /**
+     * 비활성 API를 포함한 전체 목록
+     */
+    public List<ExternalApi> all() {
+        return current().all;
+    }
+
+    public long countAll() {
+        return current().all.size();
+    }
+
+    /**
+     * 활성 API 목록 (헬스체크 대상)
+     */
+    public List<ExternalApi> active() {
+        return current().active;
+    }
+
+    public long countActive() {
+        return current().active.size();
+    }
+
+    public List<ExternalApi> activeByDomain(ExternalApi.ApiDomain domain) {
+        return current().byDomain.getOrDefault(domain, List.of());
+    }
+
+    public List<ExternalApi> activeByKeyword(ExternalApi.ApiKeyword keyword) {
+        return current().byKeyword.getOrDefault(keyword, List.of());
+    }
+
+    public List<ExternalApi> activeByPriority(ExternalApi.HealthCheckPriority priority) {
+        return current().byPriority.getOrDefault(priority, List.of());
+    }
+
+    public List<ExternalApi> activeByIssuer(String issuer) {
+        return current().byIssuer.getOrDefault(issuer, List.of());
+    }
+
+    public List<ExternalApi> activeByOwner(String owner) {
+        return current().byOwner.getOrDefault(owner, List.of());
+    }
+
+    /**
+     * 저장한 엔티티를 즉시 반영 (다음 증분 조회를 기다리지 않음)
+     */
+    public synchronized void upsert(ExternalApi api) {
+        Map<String, ExternalApi> byId = new LinkedHashMap<>(current().byId);
+        byId.put(api.getApiId(), api);
+        indexes.set(Indexes.build(byId.values(), current().version + 1));
+    }
+
+    /**
+     * 변경분 반영 (주기 작업)
+     * 워터마크 이후 수정된 행만 조회하고, full-reload-interval이 지났으면 전체 재적재
+     */
+    @Scheduled(fixedDelayString = "${healthcheck.registry.refresh-interval:30000}")
+    public synchronized void refresh() {
+        try {
+            if (fullLoadedAtMillis == 0 || System.currentTimeMillis() - fullLoadedAtMillis >= fullReloadIntervalMillis) {
+                reload();
+                return;
+            }
+
+            List<ExternalApi> changed = externalApiRepository.findApisUpdatedSince(watermark);
+            if (changed.isEmpty()) {
+                return;
+            }
+
+            // 조회 조건이 updatedAt >= 워터마크이므로 워터마크 시각의 행은 매번 다시 읽힘 (같은 시각에 늦게 커밋된 행을 놓치지 않음)
+            // 다시 읽힌 행은 내용이 같으면 @Data equals로 변경 없음 처리되어 버전이 바뀌지 않음
+            Map<String, ExternalApi> byId = new LinkedHashMap<>(current().byId);
+            boolean modified = false;
+            for (ExternalApi api : changed) {
+                if (!api.equals(byId.put(api.getApiId(), api))) {
+                    modified = true;
+                }
+            }
+            advanceWatermark(changed);
+
+            if (modified) {
+                indexes.set(Indexes.build(byId.values(), current().version + 1));
+                log.debug("Applied {} changed APIs to the registry", changed.size());
+            }
+
+        } catch (Exception e) {
+            log.warn("Failed to refresh external API registry, keeping previous state", e);
+        }
+    }
+
+    /**
+     * 전체 재적재
+     */
+    public synchronized void reload() {
+        List<ExternalApi> apis = externalApiRepository.findAll();
+        Indexes previous = indexes.get();
+        long version = previous == null ? 1 : previous.version + 1;
+
+        if (previous == null || !previous.byId.equals(toMap(apis))) {
+            indexes.set(Indexes.build(apis, version));
+        }
+        watermark = null;
+        advanceWatermark(apis);
+        fullLoadedAtMillis = System.currentTimeMillis();
+        log.info("Loaded {} external APIs into the registry", apis.size());
+    }
+
+    /**
+     * 현재 인덱스 (아직 적재 전이면 즉시 적재, 실패하면 빈 레지스트리로 두고 주기 작업이 재시도)
+     */
+    private Indexes current() {
+        Indexes current = indexes.get();
+        if (current == null) {
+            synchronized (this) {
+                if (indexes.get() == null) {
+                    try {
+                        reload();
+                    } catch (Exception e) {
+                        log.error("Failed to load external API registry", e);
+                        indexes.set(Indexes.build(List.of(), 0));
+                    }
+                }
+                current = indexes.get();
+            }
+        }
+        return current;
+    }
+
+    private void advanceWatermark(Collection<ExternalApi> apis) {
+        apis.stream()
+            .map(ExternalApi::getUpdatedAt)
+            .filter(Objects::nonNull)
+            .max(Comparator.naturalOrder())
+            .ifPresent(latest -> {
+                if (watermark == null || latest.isAfter(watermark)) {
+                    watermark = latest;
+                }
+            });
+        if (watermark == null) {
+            watermark = LocalDateTime.now();
+        }
+    }
+
+    private static Map<String, ExternalApi> toMap(Collection<ExternalApi> apis) {
+        Map<String, ExternalApi> byId = new LinkedHashMap<>();
+        apis.forEach(api -> byId.put(api.getApiId(), api));
+        return byId;
+    }
+
+    /**
+     * 불변 인덱스 묶음
+     */
+    private static final class Indexes {
+
+        private final long version;
+        private final Map<String, ExternalApi> byId;
+        private final List<ExternalApi> all;
+        private final List<ExternalApi> active;
+        private final Map<ExternalApi.ApiDomain, List<ExternalApi>> byDomain;
+        private final Map<ExternalApi.ApiKeyword, List<ExternalApi>> byKeyword;
+        private final Map<ExternalApi.HealthCheckPriority, List<ExternalApi>> byPriority;
+        private final Map<String, List<ExternalApi>> byIssuer;
+        private final Map<String, List<ExternalApi>> byOwner;
+
+        private Indexes(long version, Map<String, ExternalApi> byId, List<ExternalApi> active) {
+            this.version = version;
+            this.byId = Collections.unmodifiableMap(byId);
+            this.all = List.copyOf(byId.values());
+            this.active = List.copyOf(active);
+            this.byDomain = group(active, ExternalApi::getApiDomain, new EnumMap<>(ExternalApi.ApiDomain.class));
+            this.byKeyword = group(active, ExternalApi::getApiKeyword, new EnumMap<>(ExternalApi.ApiKeyword.class));
+            this.byPriority = group(active, ExternalApi::getHealthCheckPriority,
+                new EnumMap<>(ExternalApi.HealthCheckPriority.class));
+            this.byIssuer = group(active, ExternalApi::getApiIssuer, new HashMap<>());
+            this.byOwner = group(active, ExternalApi::getApiOwner, new HashMap<>());
+        }
+
+        static Indexes build(Collection<ExternalApi> apis, long version) {
+            Map<String, ExternalApi> byId = toMap(apis);
+            List<ExternalApi> active = new ArrayList<>();
+            for (ExternalApi api : byId.values()) {
+                if (Boolean.TRUE.equals(api.getApiEffectiveness())) {
+                    active.add(api);
+                }
+            }
+            return new Indexes(version, byId, active);
+        }
+
+        private static <K> Map<K, List<ExternalApi>> group(List<ExternalApi> apis,
+                                                          Function<ExternalApi, K> classifier,
+                                                          Map<K, List<ExternalApi>> groups) {
+            for (ExternalApi api : apis) {
+                K key = classifier.apply(api);
+                if (key != null) {
+                    groups.computeIfAbsent(key, k -> new ArrayList<>()).add(api);
+                }
+            }
+            groups.replaceAll((key, group) -> List.copyOf(group));
+            return Collections.unmodifiableMap(groups);
+        }
+    }
+}
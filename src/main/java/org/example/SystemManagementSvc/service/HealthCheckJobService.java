@@ -0,0 +1,220 @@
+package org.example.SystemManagementSvc.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.SystemManagementSvc.domain.HealthCheckResult;
+import org.example.SystemManagementSvc.dto.HealthCheckJobStatus;
+import org.example.SystemManagementSvc.dto.HealthCheckJobStatus.JobState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 전체 API 헬스체크 비동기 작업 관리 서비스
+ * - 수동 전체 헬스체크를 작업(job) 단위로 실행하여 요청 스레드를 점유하지 않음
+ * - 실행 중인 작업이 있으면 새 요청을 해당 작업에 합류(coalesce)
+ * - 개별 결과를 작업에 누적하여 스트리밍 조회 지원
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HealthCheckJobService {
+
+    private final HealthCheckService healthCheckService;
+
+    @Value("${healthcheck.jobs.max-retained:20}")
+    private int maxRetainedJobs;
+
+    /** 현재 실행 중(또는 마지막으로 실행된) 작업 */
+    private final AtomicReference<HealthCheckJob> currentJob = new AtomicReference<>();
+
+    /** 최근 작업 보관소 (오래된 작업부터 제거) */
+    private final Map<String, HealthCheckJob> recentJobs = Collections.synchronizedMap(
+        new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, HealthCheckJob> eldest) {
+                return size() > maxRetainedJobs;
+            }
+        });
+
+    /**
+     * 전체 헬스체크 작업 요청
+     * 실행 중인 작업이 있으면 새 작업을 만들지 않고 기존 작업 상태를 반환
+     */
+    public HealthCheckJobStatus submitFullHealthCheck() {
+        while (true) {
+            HealthCheckJob running = currentJob.get();
+            if (running != null && !running.isFinished()) {
+                running.coalesce();
+                log.info("Health check request coalesced into running job: {}", running.getJobId());
+                return running.toStatus(true);
+            }
+
+            HealthCheckJob job = new HealthCheckJob(UUID.randomUUID().toString());
+            if (currentJob.compareAndSet(running, job)) {
+                recentJobs.put(job.getJobId(), job);
+                launch(job);
+                return job.toStatus(false);
+            }
+        }
+    }
+
+    /**
+     * 작업 조회
+     */
+    public Optional<HealthCheckJob> findJob(String jobId) {
+        return Optional.ofNullable(recentJobs.get(jobId));
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public Optional<HealthCheckJobStatus> getJobStatus(String jobId) {
+        return findJob(jobId).map(job -> job.toStatus(false));
+    }
+
+    /**
+     * 헬스체크 실행 및 완료 처리 연결
+     */
+    private void launch(HealthCheckJob job) {
+        log.info("Starting full health check job: {}", job.getJobId());
+
+        try {
+            healthCheckService.sweepActiveApis(job::addResult)
+                .whenComplete((summary, ex) -> {
+                    if (ex != null) {
+                        log.error("Full health check job failed: {}", job.getJobId(), ex);
+                        job.fail(ex);
+                    } else {
+                        job.complete();
+                        log.info("Full health check job completed: {} - {} APIs checked",
+                                job.getJobId(), job.toStatus(false).getCompletedApis());
+                    }
+                });
+        } catch (Exception e) {
+            log.error("Failed to start full health check job: {}", job.getJobId(), e);
+            job.fail(e);
+        }
+    }
+
+    /**
+     * 전체 헬스체크 작업
+     * 결과는 도착 순서대로 누적되며, 완료 이후 도착한 결과는 무시
+     */
+    public static class HealthCheckJob {
+
+        private final String jobId;
+        private final LocalDateTime requestedAt = LocalDateTime.now();
+        private final AtomicInteger coalescedRequests = new AtomicInteger();
+        private final List<HealthCheckResult> results = new ArrayList<>();
+
+        private JobState state = JobState.RUNNING;
+        private LocalDateTime completedAt;
+        private String errorMessage;
+        private long healthyApis;
+        private long responseTimeSum;
+        private long responseTimeCount;
+
+        HealthCheckJob(String jobId) {
+            this.jobId = jobId;
+        }
+
+        public String getJobId() {
+            return jobId;
+        }
+
+        public synchronized boolean isFinished() {
+            return state.isFinished();
+        }
+
+        void coalesce() {
+            coalescedRequests.incrementAndGet();
+        }
+
+        synchronized void addResult(HealthCheckResult result) {
+            if (state.isFinished()) {
+                return;
+            }
+
+            results.add(result);
+            if (result.isSuccess()) {
+                healthyApis++;
+            }
+            if (result.getResponseTimeMs() != null) {
+                responseTimeSum += result.getResponseTimeMs();
+                responseTimeCount++;
+            }
+            notifyAll();
+        }
+
+        synchronized void complete() {
+            finish(JobState.COMPLETED, null);
+        }
+
+        synchronized void fail(Throwable cause) {
+            finish(JobState.FAILED, cause.getMessage());
+        }
+
+        private void finish(JobState finalState, String message) {
+            if (state.isFinished()) {
+                return;
+            }
+
+            state = finalState;
+            errorMessage = message;
+            completedAt = LocalDateTime.now();
+            notifyAll();
+        }
+
+        /**
+         * fromIndex 이후의 결과를 반환
+         * 새 결과가 없고 작업이 실행 중이면 최대 timeoutMs 동안 대기하며, 대기 후에도 없으면 빈 목록 반환
+         */
+        public synchronized List<HealthCheckResult> awaitResults(int fromIndex, long timeoutMs)
+                throws InterruptedException {
+            long deadline = System.currentTimeMillis() + timeoutMs;
+
+            while (fromIndex >= results.size() && !state.isFinished()) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    break;
+                }
+                wait(remaining);
+            }
+
+            if (fromIndex >= results.size()) {
+                return List.of();
+            }
+            return new ArrayList<>(results.subList(fromIndex, results.size()));
+        }
+
+        synchronized HealthCheckJobStatus toStatus(boolean coalesced) {
+            long completedApis = results.size();
+
+            return HealthCheckJobStatus.builder()
+                .jobId(jobId)
+                .state(state)
+                .coalesced(coalesced)
+                .coalescedRequests(coalescedRequests.get())
+                .requestedAt(requestedAt)
+                .completedAt(completedAt)
+                .completedApis(completedApis)
+                .healthyApis(healthyApis)
+                .unhealthyApis(completedApis - healthyApis)
+                .healthRate(completedApis > 0 ? (double) healthyApis / completedApis * 100 : 0)
+                .averageResponseTime(responseTimeCount > 0 ? Math.round((double) responseTimeSum / responseTimeCount) : 0)
+                .errorMessage(errorMessage)
+                .build();
+        }
+    }
+}
@@ -1,14 +1,15 @@
 package org.example.SystemManagementSvc.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.SystemManagementSvc.domain.ExternalApi;
 import org.example.SystemManagementSvc.domain.HealthCheckResult;
+import org.example.SystemManagementSvc.dto.HealthSweepSummary;
 import org.example.SystemManagementSvc.repository.ExternalApiRepository;
 import org.example.SystemManagementSvc.repository.HealthCheckResultRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -20,8 +21,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 /**
  * 외부 API 헬스체크 서비스
@@ -32,119 +35,191 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class HealthCheckService {
 
     private final ExternalApiRepository externalApiRepository;
+    private final ExternalApiRegistry externalApiRegistry;
     private final HealthCheckResultRepository healthCheckResultRepository;
     private final RedisTemplate<String, Object> redisTemplate;
     private final PrometheusMetricsService prometheusMetricsService;
     private final WebClient.Builder webClientBuilder;
+    private final RedisStateIndex redisStateIndex;
+    private final RedisStateWriter redisStateWriter;
+    private final ProbeLatencyTracker probeLatencyTracker;
+    private final CircuitBreakerMonitoringService circuitBreakerMonitoringService;
+    private final Executor healthCheckExecutor;
     
-    @Value("${healthcheck.cache.unhealthy-ttl:180}")
-    private long unhealthyTtlSeconds;
-    
-    private static final String UNHEALTHY_API_CACHE_PREFIX = "unhealthy:";
     private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    
+    /** 스윕 윈도우 크기 (동시 진행 체크 수 상한) */
+    @Value("${healthcheck.sweep.window-size:200}")
+    private int sweepWindowSize;
+    
+    /** 윈도우당 최대 대기 시간 (초) */
+    @Value("${healthcheck.sweep.window-timeout:60}")
+    private long sweepWindowTimeoutSeconds;
+    
+    /** 정기 스윕 활성화 여부 (명시적으로 켠 경우에만 실행) */
+    @Value("${healthcheck.scheduler.enabled:false}")
+    private boolean schedulerEnabled;
+    
+    /** 정기 스윕 방식 (basic: 이 서비스, intelligent: AdvancedHealthCheckService) - 주기마다 한 가지만 실행 */
+    @Value("${healthcheck.scheduler.mode:basic}")
+    private String schedulerMode;
     private static final int MAX_RESPONSE_SAMPLE_LENGTH = 500;
 
+    @Autowired
+    public HealthCheckService(ExternalApiRepository externalApiRepository,
+                              ExternalApiRegistry externalApiRegistry,
+                              HealthCheckResultRepository healthCheckResultRepository,
+                              RedisTemplate<String, Object> redisTemplate,
+                              PrometheusMetricsService prometheusMetricsService,
+                              WebClient.Builder webClientBuilder,
+                              RedisStateIndex redisStateIndex,
+                              RedisStateWriter redisStateWriter,
+                              ProbeLatencyTracker probeLatencyTracker,
+                              CircuitBreakerMonitoringService circuitBreakerMonitoringService,
+                              @Qualifier("healthCheckExecutor") Executor healthCheckExecutor) {
+        this.externalApiRepository = externalApiRepository;
+        this.externalApiRegistry = externalApiRegistry;
+        this.healthCheckResultRepository = healthCheckResultRepository;
+        this.redisTemplate = redisTemplate;
+        this.prometheusMetricsService = prometheusMetricsService;
+        this.webClientBuilder = webClientBuilder;
+        this.redisStateIndex = redisStateIndex;
+        this.redisStateWriter = redisStateWriter;
+        this.probeLatencyTracker = probeLatencyTracker;
+        this.circuitBreakerMonitoringService = circuitBreakerMonitoringService;
+        this.healthCheckExecutor = healthCheckExecutor;
+    }
+
     /**
      * 모든 활성화된 API에 대해 병렬 헬스체크 수행
      */
     public CompletableFuture<Map<String, HealthCheckResult>> performHealthCheckForAllApis() {
+        return performHealthCheckForAllApis(result -> { });
+    }
+
+    /**
+     * 모든 활성화된 API에 대해 병렬 헬스체크 수행
+     * 개별 API 헬스체크가 끝날 때마다 resultListener로 결과를 전달
+     * 결과 Map이 필요한 호출자용이며, 정기 스윕과 작업 실행은 sweepActiveApis 사용
+     */
+    public CompletableFuture<Map<String, HealthCheckResult>> performHealthCheckForAllApis(
+            Consumer<HealthCheckResult> resultListener) {
+        Map<String, HealthCheckResult> results = new ConcurrentHashMap<>();
+        return sweepActiveApis(result -> {
+            results.put(result.getApiId(), result);
+            notifyResultListener(resultListener, result);
+        }).thenApply(summary -> results);
+    }
+
+    /**
+     * 모든 활성화된 API를 윈도우 단위로 헬스체크 (HealthCheckSweep)
+     * 동시 진행 체크 수는 window-size로 제한되고, 결과는 리스너로만 전달되어 스윕 메모리가 카탈로그 크기와 무관
+     * API 유효성 갱신도 결과가 도착할 때마다 처리
+     */
+    public CompletableFuture<HealthSweepSummary> sweepActiveApis(Consumer<HealthCheckResult> resultListener) {
         return CompletableFuture.supplyAsync(() -> {
-            log.info("Starting health check for all active APIs");
+            List<ExternalApi> activeApis = externalApiRegistry.active();
+            log.info("Starting health check sweep for {} active APIs (window size {})", activeApis.size(), sweepWindowSize);
             
-            List<ExternalApi> activeApis = externalApiRepository.findByApiEffectivenessTrue();
-            log.info("Found {} active APIs to check", activeApis.size());
-            
-            // 병렬로 헬스체크 실행
-            List<CompletableFuture<HealthCheckResult>> healthCheckTasks = activeApis.stream()
-                .map(api -> performSingleHealthCheckAsync(api))
-                .collect(Collectors.toList());
-            
-            // 모든 헬스체크 완료 대기
-            CompletableFuture<Void> allHealthChecks = CompletableFuture.allOf(
-                healthCheckTasks.toArray(new CompletableFuture[0])
-            );
+            HealthSweepSummary summary = HealthCheckSweep.run(activeApis, sweepWindowSize, sweepWindowTimeoutSeconds,
+                healthCheckExecutor, this::performSingleHealthCheck,
+                result -> {
+                    notifyResultListener(resultListener, result);
+                    updateApiEffectiveness(result);
+                });
             
-            try {
-                allHealthChecks.get(60, TimeUnit.SECONDS); // 최대 60초 대기
-                
-                Map<String, HealthCheckResult> results = healthCheckTasks.stream()
-                    .map(CompletableFuture::join)
-                    .collect(Collectors.toMap(
-                        HealthCheckResult::getApiId,
-                        result -> result
-                    ));
-                
-                log.info("Health check completed for {} APIs", results.size());
-                updateApiEffectiveness(results);
-                
-                return results;
-                
-            } catch (Exception e) {
-                log.error("Failed to complete all health checks within timeout", e);
-                
-                // 완료된 헬스체크만 반환
-                return healthCheckTasks.stream()
-                    .filter(CompletableFuture::isDone)
-                    .map(CompletableFuture::join)
-                    .collect(Collectors.toMap(
-                        HealthCheckResult::getApiId,
-                        result -> result
-                    ));
-            }
+            redisStateWriter.flush();
+            log.info("Health check sweep completed: {}/{} checked, {} timed out in {}ms",
+                    summary.getCheckedApis(), summary.getTargetApis(), summary.getTimedOutApis(), summary.getDurationMs());
+            return summary;
         });
     }
 
     /**
-     * 단일 API 헬스체크를 비동기로 수행
+     * 개별 헬스체크 결과를 리스너에 전달 (리스너 오류는 헬스체크에 영향을 주지 않음)
+     */
+    private void notifyResultListener(Consumer<HealthCheckResult> resultListener, HealthCheckResult result) {
+        if (result == null) {
+            return;
+        }
+        
+        try {
+            resultListener.accept(result);
+        } catch (Exception e) {
+            log.warn("Health check result listener failed for API: {}", result.getApiId(), e);
+        }
+    }
+
+    /**
+     * 단일 API 헬스체크를 헬스체크 실행자(healthCheckExecutor)에서 비동기로 수행
      */
-    @Async
     public CompletableFuture<HealthCheckResult> performSingleHealthCheckAsync(ExternalApi api) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // 우선순위에 따라 헬스체크 타입 결정
-                HealthCheckResult.HealthCheckType checkType = determineCheckType(api);
-                
-                HealthCheckResult result = switch (checkType) {
-                    case STATIC -> performStaticHealthCheck(api);
-                    case DYNAMIC -> performDynamicHealthCheck(api);
-                    default -> performStaticHealthCheck(api);
-                };
-                
-                // 결과 저장
-                healthCheckResultRepository.save(result);
-                
-                // Prometheus 메트릭 업데이트
-                prometheusMetricsService.recordHealthCheck(
-                    api.getApiName(),
-                    api.getApiIssuer(),
-                    result.isSuccess(),
-                    result.getResponseTimeMs() != null ? result.getResponseTimeMs() : 0
-                );
-                
-                // Redis 캐시 업데이트
-                updateRedisCache(api.getApiId(), result);
-                
-                log.debug("Health check completed for API: {} - Status: {}", 
-                         api.getApiName(), result.getStatus());
-                
+        return CompletableFuture.supplyAsync(() -> performSingleHealthCheck(api, () -> false), healthCheckExecutor);
+    }
+
+    /**
+     * 단일 API 헬스체크 수행 (프로브 후 저장, 메트릭, 응답 시간 스케치, 서킷브레이커, Redis 상태에 반영)
+     * 스윕 윈도우 제한 시간으로 취소된 체크는 프로브가 끝나도 결과를 반영하지 않음
+     *
+     * @param cancelled 결과 반영 직전에 한 번 확인하는 취소 여부
+     */
+    HealthCheckResult performSingleHealthCheck(ExternalApi api, BooleanSupplier cancelled) {
+        try {
+            // 우선순위에 따라 헬스체크 타입 결정
+            HealthCheckResult.HealthCheckType checkType = determineCheckType(api);
+            
+            HealthCheckResult result = switch (checkType) {
+                case STATIC -> performStaticHealthCheck(api);
+                case DYNAMIC -> performDynamicHealthCheck(api);
+                default -> performStaticHealthCheck(api);
+            };
+            
+            if (cancelled.getAsBoolean()) {
+                log.debug("Health check for API {} was cancelled by the sweep window timeout, result discarded",
+                         api.getApiName());
                 return result;
-                
-            } catch (Exception e) {
-                log.error("Unexpected error during health check for API: {}", api.getApiName(), e);
-                
-                return HealthCheckResult.builder()
-                    .apiId(api.getApiId())
-                    .checkType(HealthCheckResult.HealthCheckType.STATIC)
-                    .status(HealthCheckResult.HealthStatus.UNKNOWN)
-                    .errorMessage("Unexpected error: " + e.getMessage())
-                    .checkedAt(LocalDateTime.now())
-                    .build();
             }
-        });
+            
+            // 결과 저장
+            healthCheckResultRepository.save(result);
+            
+            // Prometheus 메트릭 업데이트
+            prometheusMetricsService.recordHealthCheck(
+                api.getApiName(),
+                api.getApiIssuer(),
+                result.isSuccess(),
+                result.getResponseTimeMs() != null ? result.getResponseTimeMs() : 0
+            );
+            
+            // 응답 시간 분위수 스케치 누적
+            probeLatencyTracker.record(api.getApiId(), result.getResponseTimeMs());
+            
+            // 서킷브레이커 슬라이딩 윈도우에 프로브 결과 기록
+            circuitBreakerMonitoringService.recordProbe(api.getApiId(), api.getApiName(), api.getApiIssuer(),
+                result.isSuccess(), result.getResponseTimeMs() != null ? result.getResponseTimeMs() : -1);
+            
+            // Redis 캐시 업데이트
+            updateRedisCache(api.getApiId(), result);
+            
+            log.debug("Health check completed for API: {} - Status: {}", 
+                     api.getApiName(), result.getStatus());
+            
+            return result;
+            
+        } catch (Exception e) {
+            log.error("Unexpected error during health check for API: {}", api.getApiName(), e);
+            
+            return HealthCheckResult.builder()
+                .apiId(api.getApiId())
+                .checkType(HealthCheckResult.HealthCheckType.STATIC)
+                .status(HealthCheckResult.HealthStatus.UNKNOWN)
+                .errorMessage("Unexpected error: " + e.getMessage())
+                .checkedAt(LocalDateTime.now())
+                .build();
+        }
     }
 
     /**
@@ -337,85 +412,60 @@ public class HealthCheckService {
 
     /**
      * Redis 캐시 업데이트 (비정상 API만 캐시)
+     * 상태 전이는 RedisStateWriter가 모아서 파이프라인으로 반영 (스윕 종료 또는 주기적 flush)
      */
     private void updateRedisCache(String apiId, HealthCheckResult result) {
-        String cacheKey = UNHEALTHY_API_CACHE_PREFIX + apiId;
-        
+        redisStateWriter.enqueue(apiId, result, null);
+    }
+
+    /**
+     * API 유효성 상태 업데이트 (결과 1건)
+     */
+    private void updateApiEffectiveness(HealthCheckResult result) {
+        String apiId = result.getApiId();
         try {
-            if (result.isFailure()) {
-                // 비정상 API를 Redis에 TTL과 함께 저장
-                Map<String, Object> cacheData = Map.of(
-                    "status", result.getStatus().name(),
-                    "errorMessage", result.getErrorMessage() != null ? result.getErrorMessage() : "",
-                    "responseTime", result.getResponseTimeMs() != null ? result.getResponseTimeMs() : 0,
-                    "lastCheck", result.getCheckedAt().toString(),
-                    "consecutiveFailures", result.getConsecutiveFailures() != null ? result.getConsecutiveFailures() : 0
-                );
-                
-                redisTemplate.opsForValue().set(cacheKey, cacheData, unhealthyTtlSeconds, TimeUnit.SECONDS);
-                log.debug("Cached unhealthy API: {} with TTL: {}s", apiId, unhealthyTtlSeconds);
+            ExternalApi cached = externalApiRegistry.findById(apiId).orElse(null);
+            if (cached != null && Boolean.valueOf(result.isSuccess()).equals(cached.getApiEffectiveness())) {
+                return;
+            }
+            
+            externalApiRepository.findById(apiId).ifPresent(api -> {
+                boolean wasEffective = api.getApiEffectiveness();
+                boolean isNowEffective = result.isSuccess();
                 
-            } else {
-                // 정상 API는 캐시에서 제거
-                Boolean deleted = redisTemplate.delete(cacheKey);
-                if (Boolean.TRUE.equals(deleted)) {
-                    log.debug("Removed healthy API from cache: {}", apiId);
+                if (wasEffective != isNowEffective) {
+                    api.setApiEffectiveness(isNowEffective);
+                    externalApiRegistry.upsert(externalApiRepository.save(api));
+                    
+                    log.info("API effectiveness updated - {}: {} -> {}", 
+                            api.getApiName(), wasEffective, isNowEffective);
                 }
-            }
+            });
             
         } catch (Exception e) {
-            log.warn("Failed to update Redis cache for API: {}", apiId, e);
+            log.error("Failed to update API effectiveness for: {}", apiId, e);
         }
     }
 
     /**
-     * API 유효성 상태 업데이트
-     */
-    private void updateApiEffectiveness(Map<String, HealthCheckResult> results) {
-        results.forEach((apiId, result) -> {
-            try {
-                externalApiRepository.findById(apiId).ifPresent(api -> {
-                    boolean wasEffective = api.getApiEffectiveness();
-                    boolean isNowEffective = result.isSuccess();
-                    
-                    if (wasEffective != isNowEffective) {
-                        api.setApiEffectiveness(isNowEffective);
-                        externalApiRepository.save(api);
-                        
-                        log.info("API effectiveness updated - {}: {} -> {}", 
-                                api.getApiName(), wasEffective, isNowEffective);
-                    }
-                });
-                
-            } catch (Exception e) {
-                log.error("Failed to update API effectiveness for: {}", apiId, e);
-            }
-        });
-    }
-
-    /**
-     * 정기적 헬스체크 스케줄러
+     * 정기적 헬스체크 스케줄러 (healthcheck.scheduler.enabled=true, mode=basic인 경우만)
      */
     @Scheduled(fixedDelayString = "${healthcheck.scheduler.fixed-delay:120000}", 
                initialDelayString = "${healthcheck.scheduler.initial-delay:30000}")
     public void scheduledHealthCheck() {
-        if (!"${healthcheck.scheduler.enabled:true}".equals("false")) {
-            log.info("Starting scheduled health check");
+        if (!schedulerEnabled || !"basic".equalsIgnoreCase(schedulerMode)) {
+            return;
+        }
+        log.info("Starting scheduled health check");
+        
+        try {
+            sweepActiveApis(result -> { }).thenAccept(summary -> {
+                log.info("Scheduled health check completed. Checked {} APIs", summary.getCheckedApis());
+                log.info("Health check summary - Healthy: {}/{}", summary.getHealthyApis(), summary.getCheckedApis());
+            });
             
-            try {
-                performHealthCheckForAllApis().thenAccept(results -> {
-                    log.info("Scheduled health check completed. Checked {} APIs", results.size());
-                    
-                    long healthyCount = results.values().stream()
-                        .mapToLong(result -> result.isSuccess() ? 1 : 0)
-                        .sum();
-                    
-                    log.info("Health check summary - Healthy: {}/{}", healthyCount, results.size());
-                });
-                
-            } catch (Exception e) {
-                log.error("Scheduled health check failed", e);
-            }
+        } catch (Exception e) {
+            log.error("Scheduled health check failed", e);
         }
     }
 
@@ -424,10 +474,7 @@ public class HealthCheckService {
      */
     public List<String> getUnhealthyApisFromCache() {
         try {
-            return redisTemplate.keys(UNHEALTHY_API_CACHE_PREFIX + "*")
-                .stream()
-                .map(key -> key.replace(UNHEALTHY_API_CACHE_PREFIX, ""))
-                .collect(Collectors.toList());
+            return redisStateIndex.activeMembers(RedisStateIndex.UNHEALTHY_INDEX_KEY);
                 
         } catch (Exception e) {
             log.error("Failed to get unhealthy APIs from cache", e);
@@ -440,7 +487,7 @@ public class HealthCheckService {
      */
     public boolean isApiCurrentlyUnhealthy(String apiId) {
         try {
-            return Boolean.TRUE.equals(redisTemplate.hasKey(UNHEALTHY_API_CACHE_PREFIX + apiId));
+            return Boolean.TRUE.equals(redisTemplate.hasKey(RedisHealthStateManager.unhealthyKey(apiId)));
         } catch (Exception e) {
             log.warn("Failed to check API health status in cache for: {}", apiId, e);
             return false;
@@ -0,0 +1,159 @@
+package org.example.SystemManagementSvc.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.SystemManagementSvc.domain.ExternalApi;
+import org.example.SystemManagementSvc.domain.HealthCheckResult;
+import org.example.SystemManagementSvc.dto.HealthSweepSummary;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * 윈도우 단위 헬스체크 스윕
+ * - 대상 목록을 window-size 단위로 잘라 순서대로 실행하므로 동시 진행 중인 체크와 Future 수가 윈도우 크기로 제한됨
+ * - 결과는 완료되는 즉시 리스너로 전달하고 건수만 집계 (결과 Map을 만들지 않아 카탈로그 크기와 무관하게 메모리 일정)
+ * - 체크는 전달받은 실행자에서 FutureTask로 실행되며, 윈도우가 제한 시간을 넘기면 남은 체크를 취소하고 다음 윈도우로 진행
+ *   취소는 실행 중인 스레드를 인터럽트하고(대기 중이면 실행하지 않음), 체크는 결과 반영 직전에 취소 여부를 확인하여
+ *   취소된 체크는 저장/메트릭/서킷브레이커/Redis에 반영하지 않으며 리스너로도 전달되지 않음
+ */
+@Slf4j
+final class HealthCheckSweep {
+
+    private HealthCheckSweep() {
+    }
+
+    static HealthSweepSummary run(List<ExternalApi> targets,
+                                  int windowSize,
+                                  long windowTimeoutSeconds,
+                                  Executor executor,
+                                  BiFunction<ExternalApi, BooleanSupplier, HealthCheckResult> check,
+                                  Consumer<HealthCheckResult> resultListener) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startMillis = System.currentTimeMillis();
+        AtomicLong checked = new AtomicLong();
+        AtomicLong healthy = new AtomicLong();
+        long timedOut = 0;
+        int windows = 0;
+        int size = Math.max(1, windowSize);
+
+        for (int from = 0; from < targets.size(); from += size) {
+            List<ExternalApi> window = targets.subList(from, Math.min(from + size, targets.size()));
+            List<PendingCheck> checks = new ArrayList<>(window.size());
+            List<CompletableFuture<HealthCheckResult>> inFlight = new ArrayList<>(window.size());
+
+            for (ExternalApi api : window) {
+                PendingCheck pending = PendingCheck.start(api, executor, check);
+                checks.add(pending);
+                inFlight.add(pending.result().whenComplete((result, ex) -> {
+                    if (result == null) {
+                        return;
+                    }
+                    checked.incrementAndGet();
+                    if (result.isSuccess()) {
+                        healthy.incrementAndGet();
+                    }
+                    try {
+                        resultListener.accept(result);
+                    } catch (Exception e) {
+                        log.warn("Health check result listener failed for API: {}", result.getApiId(), e);
+                    }
+                }));
+            }
+
+            try {
+                CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0]))
+                    .get(windowTimeoutSeconds, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                long cancelled = checks.stream().filter(PendingCheck::cancel).count();
+                timedOut += cancelled;
+                log.warn("Health check window {} timed out, cancelled {} pending checks", windows, cancelled);
+            } catch (Exception e) {
+                log.warn("Health check window {} completed with errors: {}", windows, e.getMessage());
+            }
+            windows++;
+        }
+
+        return HealthSweepSummary.builder()
+            .targetApis(targets.size())
+            .checkedApis(checked.get())
+            .healthyApis(healthy.get())
+            .timedOutApis(timedOut)
+            .windows(windows)
+            .startedAt(startedAt)
+            .durationMs(System.currentTimeMillis() - startMillis)
+            .build();
+    }
+
+    /**
+     * 실행 중인 체크 하나
+     * 체크가 결과를 반영하기 직전에 취소 여부를 묻는 순간 반영이 확정되어, 이후의 취소는 실패함
+     * (취소와 반영 중 먼저 일어난 쪽만 적용되므로 취소로 집계된 체크는 결과를 반영하지 않음)
+     */
+    private static final class PendingCheck {
+
+        private static final int RUNNING = 0;
+        private static final int COMMITTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(RUNNING);
+        private final CompletableFuture<HealthCheckResult> result = new CompletableFuture<>();
+        private final FutureTask<Void> task;
+
+        private PendingCheck(ExternalApi api, BiFunction<ExternalApi, BooleanSupplier, HealthCheckResult> check) {
+            this.task = new FutureTask<>(() -> {
+                try {
+                    result.complete(check.apply(api, this::isCancelled));
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            }, null);
+        }
+
+        static PendingCheck start(ExternalApi api, Executor executor,
+                                  BiFunction<ExternalApi, BooleanSupplier, HealthCheckResult> check) {
+            PendingCheck pending = new PendingCheck(api, check);
+            try {
+                executor.execute(pending.task);
+            } catch (Exception e) {
+                pending.result.completeExceptionally(e);
+            }
+            return pending;
+        }
+
+        CompletableFuture<HealthCheckResult> result() {
+            return result;
+        }
+
+        /**
+         * 결과 반영 직전 확인 (취소되지 않았으면 반영 확정)
+         */
+        private boolean isCancelled() {
+            state.compareAndSet(RUNNING, COMMITTED);
+            return state.get() == CANCELLED;
+        }
+
+        /**
+         * 미완료 체크 취소: 실행 중이면 인터럽트, 대기 중이면 실행하지 않음
+         *
+         * @return 취소했으면 true (이미 끝났거나 반영이 확정된 체크는 false)
+         */
+        boolean cancel() {
+            if (!state.compareAndSet(RUNNING, CANCELLED)) {
+                return false;
+            }
+            task.cancel(true);
+            return result.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.SystemManagementSvc.service;
+
+/**
+ * Redis 헬스 상태가 일괄 반영되었음을 알리는 애플리케이션 이벤트
+ * (RedisStateWriter flush, HealthStateRebuildService 재구성 후 발행)
+ *
+ * @param updates 반영된 상태 업데이트 수
+ */
+record HealthStateFlushedEvent(int updates) {
+}
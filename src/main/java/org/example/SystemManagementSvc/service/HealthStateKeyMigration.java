@@ -0,0 +1,216 @@
+package org.example.SystemManagementSvc.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 해시 태그 샤드 도입 이전 레이아웃의 Redis 키 마이그레이션 (시작 시 1회)
+ * - 태그 없는 API별 키(unhealthy:, recovery:, health_history:, api_meta:)를 DUMP/RESTORE로
+ *   새 키({prefix}{hN}:{apiId})에 옮기고 삭제 (남은 TTL 유지, 새 키가 이미 있으면 새 키 우선)
+ * - 옮긴 비정상 상태는 샤드 인덱스에 남은 TTL 기준 만료 시각으로 등록하고, 비트는 reconcile로 채움
+ * - 전역 인덱스/비트맵/ordinal과 전역 ordinal 기준 샤드 비트맵은 삭제 (ordinal은 샤드별로 새로 할당)
+ * - 완료 후 레이아웃 버전 키를 기록하여 다음 시작부터는 생략
+ *
+ * 이전 레이아웃은 단일 노드 Redis에서만 사용되었으므로 SCAN은 단일 노드 기준
+ *
+ * 샤드 수(healthcheck.redis.shard-count) 변경도 여기서 처리 (기록된 샤드 수가 없으면 이전 고정값 16)
+ * - 이전 샤드 수 기준의 샤드 키(인덱스, 비트맵, ordinal HASH/시퀀스)를 모두 삭제하고 로컬 ordinal 캐시를 비움
+ * - 센티널 키를 지워 재구성(HealthStateRebuildService)이 DB 기준으로 새 샤드에 상태를 다시 기록하도록 함
+ * - 이전 태그의 API별 키(상태, 히스토리, 메타데이터)는 옮기지 않고 TTL로 만료 (SCAN 없이 클러스터에서도 동작)
+ * 샤드 수가 다른 인스턴스가 섞이면 키 위치가 어긋나므로, 변경 시 모든 인스턴스를 함께 재시작해야 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HealthStateKeyMigration {
+
+    static final String LAYOUT_KEY = "health:state:layout";
+    private static final String LAYOUT_VERSION = "2";
+    static final String SHARD_COUNT_KEY = "health:state:shard-count";
+
+    /** 샤드 수 설정 도입 이전의 고정 샤드 수 */
+    static final int LEGACY_SHARD_COUNT = 16;
+    private static final int SCAN_COUNT = 500;
+
+    /** 전역(태그 없음) 또는 전역 ordinal 기준 샤드 비트맵 */
+    private static final String LEGACY_BITMAP_KEY = "bitmap:unhealthy";
+
+    /** 태그 없는 API별 키 접두사 */
+    private static final List<String> LEGACY_API_KEY_PREFIXES = List.of(
+        RedisHealthStateManager.UNHEALTHY_PREFIX,
+        RedisHealthStateManager.RECOVERY_TRACKING_PREFIX,
+        RedisHealthStateManager.HEALTH_HISTORY_PREFIX,
+        ApiMetadataCache.API_METADATA_PREFIX
+    );
+
+    /** 전역 인덱스, 비트맵, ordinal 키 */
+    private static final List<String> LEGACY_GLOBAL_KEYS = List.of(
+        RedisStateIndex.UNHEALTHY_INDEX_KEY,
+        LEGACY_BITMAP_KEY,
+        ApiOrdinalRegistry.ORDINALS_KEY,
+        ApiOrdinalRegistry.SEQUENCE_KEY
+    );
+
+    /** 샤드 수가 바뀌면 다시 번호를 매기는 샤드 키 */
+    private static final List<String> SHARDED_KEYS = List.of(
+        RedisStateIndex.UNHEALTHY_INDEX_KEY,
+        UnhealthyBitmapIndex.BITMAP_KEY,
+        ApiOrdinalRegistry.ORDINALS_KEY,
+        ApiOrdinalRegistry.SEQUENCE_KEY
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UnhealthyBitmapIndex unhealthyBitmapIndex;
+    private final ApiOrdinalRegistry apiOrdinalRegistry;
+
+    @Value("${healthcheck.rebuild.migrate-legacy-keys:true}")
+    private boolean migrateLegacyKeys;
+
+    /**
+     * 재구성(HealthStateRebuildService)보다 먼저 실행하여, 옮겨진 상태를 재구성이 덮어쓰지 않도록 함
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onApplicationReady() {
+        if (!migrateLegacyKeys) {
+            return;
+        }
+        try {
+            if (!LAYOUT_VERSION.equals(stringRedisTemplate.opsForValue().get(LAYOUT_KEY))) {
+                migrate();
+                return;
+            }
+            int storedShardCount = storedShardCount();
+            if (storedShardCount != HealthStateKeys.shardCount()) {
+                reshard(storedShardCount);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to migrate legacy health state keys, will retry on next startup", e);
+        }
+    }
+
+    /**
+     * 이전 레이아웃 키 이전 및 정리
+     */
+    void migrate() {
+        long startedAt = System.currentTimeMillis();
+        int moved = 0;
+        for (String prefix : LEGACY_API_KEY_PREFIXES) {
+            for (String legacyKey : scanLegacyKeys(prefix)) {
+                if (moveKey(prefix, legacyKey)) {
+                    moved++;
+                }
+            }
+        }
+
+        List<String> obsolete = new ArrayList<>(LEGACY_GLOBAL_KEYS);
+        obsolete.addAll(HealthStateKeys.allShardKeys(LEGACY_BITMAP_KEY, LEGACY_SHARD_COUNT));
+        obsolete.forEach(stringRedisTemplate::delete);
+
+        unhealthyBitmapIndex.reconcile();
+        stringRedisTemplate.opsForValue().set(SHARD_COUNT_KEY, String.valueOf(HealthStateKeys.shardCount()));
+        stringRedisTemplate.opsForValue().set(LAYOUT_KEY, LAYOUT_VERSION);
+        log.info("Migrated {} legacy health state keys to the sharded layout in {}ms",
+                moved, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 샤드 수 변경: 이전 샤드 키를 정리하고 재구성 요청
+     * 새 샤드 수를 먼저 기록하므로 중간에 실패해도 반복 실행되지 않으며, 남은 상태는 재구성과 TTL로 맞춰짐
+     */
+    void reshard(int previousShardCount) {
+        stringRedisTemplate.opsForValue().set(SHARD_COUNT_KEY, String.valueOf(HealthStateKeys.shardCount()));
+
+        List<String> obsolete = new ArrayList<>();
+        int shards = Math.max(previousShardCount, HealthStateKeys.shardCount());
+        for (String base : SHARDED_KEYS) {
+            obsolete.addAll(HealthStateKeys.allShardKeys(base, shards));
+        }
+        obsolete.forEach(stringRedisTemplate::delete);
+        apiOrdinalRegistry.clear();
+        stringRedisTemplate.delete(HealthStateRebuildService.EPOCH_KEY);
+
+        log.warn("Health state shard count changed from {} to {}, cleared {} shard keys and requested a rebuild",
+                previousShardCount, HealthStateKeys.shardCount(), obsolete.size());
+    }
+
+    /**
+     * Redis에 기록된 샤드 수 (기록 전 레이아웃이면 이전 고정값)
+     */
+    private int storedShardCount() {
+        String stored = stringRedisTemplate.opsForValue().get(SHARD_COUNT_KEY);
+        try {
+            return stored != null ? Integer.parseInt(stored) : LEGACY_SHARD_COUNT;
+        } catch (NumberFormatException e) {
+            return LEGACY_SHARD_COUNT;
+        }
+    }
+
+    /**
+     * 접두사로 시작하지만 샤드 태그가 없는 키 목록
+     */
+    private List<String> scanLegacyKeys(String prefix) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> {
+                if (HealthStateKeys.apiIdOf(prefix, key) == null) {
+                    keys.add(key);
+                }
+            });
+        }
+        return keys;
+    }
+
+    /**
+     * 키 하나를 새 레이아웃으로 이동 (DUMP → RESTORE(남은 TTL) → DEL)
+     *
+     * @return 새 키에 기록했으면 true
+     */
+    private boolean moveKey(String prefix, String legacyKey) {
+        String apiId = legacyKey.substring(prefix.length());
+        String targetKey = HealthStateKeys.apiKey(prefix, apiId);
+        byte[] source = legacyKey.getBytes(StandardCharsets.UTF_8);
+        byte[] target = targetKey.getBytes(StandardCharsets.UTF_8);
+
+        Long remainingMillis = stringRedisTemplate.execute((RedisCallback<Long>) connection -> {
+            byte[] payload = connection.keyCommands().dump(source);
+            Long pttl = connection.keyCommands().pTtl(source);
+            if (payload == null || pttl == null || pttl == -2) {
+                return null;
+            }
+            if (Boolean.TRUE.equals(connection.keyCommands().exists(target))) {
+                connection.keyCommands().del(source);
+                return null;
+            }
+            long ttlMillis = Math.max(pttl, 0);
+            connection.keyCommands().restore(target, ttlMillis, payload);
+            connection.keyCommands().del(source);
+            return ttlMillis;
+        });
+
+        if (remainingMillis == null) {
+            return false;
+        }
+        if (RedisHealthStateManager.UNHEALTHY_PREFIX.equals(prefix) && remainingMillis > 0) {
+            stringRedisTemplate.opsForZSet().add(
+                HealthStateKeys.shardKey(RedisStateIndex.UNHEALTHY_INDEX_KEY, apiId),
+                apiId, System.currentTimeMillis() + remainingMillis);
+        }
+        return true;
+    }
+}
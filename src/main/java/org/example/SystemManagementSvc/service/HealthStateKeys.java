@@ -0,0 +1,119 @@
+package org.example.SystemManagementSvc.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis Cluster 대응 헬스 상태 키 레이아웃
+ *
+ * API별 키와 그 API가 속한 인덱스/비트맵 샤드 키가 같은 해시 태그 {hN}을 공유하여 같은 슬롯에 배치됨
+ * - API별 키: {prefix}{hN}:{apiId}            예) unhealthy:{h3}:api-123
+ * - 샤드 키:  {base}:{hN}                      예) index:unhealthy:{h3}
+ * 따라서 상태 전이 Lua 스크립트(상태 + 히스토리 + 인덱스 + 비트맵)가 CROSSSLOT 없이 실행되고,
+ * 파이프라인은 샤드(=슬롯) 단위로 묶어 한 노드로만 전송할 수 있음
+ *
+ * 샤드 수(healthcheck.redis.shard-count)는 시작 시 RedisConfig가 한 번 적용하며, 모든 인스턴스가 같은 값이어야 함
+ * 값을 바꾸면 모든 키 위치가 바뀌므로 시작 시 HealthStateKeyMigration이 이전 샤드 키를 정리하고 재구성을 요청함
+ */
+public final class HealthStateKeys {
+
+    /** 기본 해시 태그 샤드 수 (클러스터 마스터 수보다 충분히 크게) */
+    public static final int DEFAULT_SHARD_COUNT = 64;
+
+    /** 샤드 수 상한 (Redis Cluster 슬롯 수) */
+    static final int MAX_SHARD_COUNT = 16384;
+
+    private static volatile int shardCount = DEFAULT_SHARD_COUNT;
+
+    private HealthStateKeys() {
+    }
+
+    /**
+     * 해시 태그 샤드 수
+     */
+    public static int shardCount() {
+        return shardCount;
+    }
+
+    /**
+     * 샤드 수 적용 (키를 만들기 전, 시작 시 한 번)
+     */
+    public static void configureShardCount(int count) {
+        if (count < 1 || count > MAX_SHARD_COUNT) {
+            throw new IllegalArgumentException("Shard count must be between 1 and " + MAX_SHARD_COUNT + ": " + count);
+        }
+        shardCount = count;
+    }
+
+    /**
+     * API가 속한 샤드 (String.hashCode는 JVM 간 동일)
+     */
+    public static int shardOf(String apiId) {
+        return Math.floorMod(apiId.hashCode(), shardCount);
+    }
+
+    /**
+     * API별 키
+     */
+    public static String apiKey(String prefix, String apiId) {
+        return prefix + tag(shardOf(apiId)) + ":" + apiId;
+    }
+
+    /**
+     * API가 속한 샤드의 공용 키 (인덱스, 비트맵)
+     */
+    public static String shardKey(String base, String apiId) {
+        return shardKey(base, shardOf(apiId));
+    }
+
+    public static String shardKey(String base, int shard) {
+        return base + ":" + tag(shard);
+    }
+
+    /**
+     * 전체 샤드의 공용 키
+     */
+    public static List<String> allShardKeys(String base) {
+        return allShardKeys(base, shardCount);
+    }
+
+    /**
+     * 지정한 샤드 수 기준 전체 샤드의 공용 키 (샤드 수 변경 시 이전 키 정리용)
+     */
+    public static List<String> allShardKeys(String base, int count) {
+        List<String> keys = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            keys.add(shardKey(base, shard));
+        }
+        return keys;
+    }
+
+    /**
+     * API별 키에서 apiId 추출 (레이아웃이 다르면 null)
+     */
+    public static String apiIdOf(String prefix, String key) {
+        if (!key.startsWith(prefix)) {
+            return null;
+        }
+        int tagEnd = key.indexOf("}:", prefix.length());
+        return tagEnd >= 0 ? key.substring(tagEnd + 2) : null;
+    }
+
+    /**
+     * apiId를 샤드별로 그룹화 (샤드 단위 파이프라인용, 입력 순서 유지)
+     */
+    public static Map<Integer, List<String>> groupByShard(Collection<String> apiIds) {
+        Map<Integer, List<String>> groups = new LinkedHashMap<>();
+        for (String apiId : apiIds) {
+            groups.computeIfAbsent(shardOf(apiId), shard -> new ArrayList<>()).add(apiId);
+        }
+        return groups;
+    }
+
+    private static String tag(int shard) {
+        return "{h" + shard + "}";
+    }
+}
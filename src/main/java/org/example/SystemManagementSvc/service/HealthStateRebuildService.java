@@ -0,0 +1,217 @@
+package org.example.SystemManagementSvc.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.SystemManagementSvc.domain.HealthCheckResult;
+import org.example.SystemManagementSvc.repository.HealthCheckResultRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 헬스 상태 재구성
+ * - Redis FLUSH, 비영속 Failover, 신규 클러스터 등으로 unhealthy:* 키가 사라진 경우 사용
+ * - DB(health_check_result)에서 API별 최신 결과가 실패인 행을 읽어 남은 TTL로 상태 키, 인덱스, 비트맵을 복원
+ * - 해시 태그 샤드별 청크 파이프라인(SCRIPT LOAD 1회 + API당 EVALSHA)으로 반영하며, 이미 있는 상태 키는 덮어쓰지 않음
+ * - 재구성 완료 시 센티널 키(health:state:epoch)를 기록하여, 키가 없으면 Redis 유실로 판단
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HealthStateRebuildService {
+
+    static final String EPOCH_KEY = "health:state:epoch";
+    private static final String REBUILD_LOCK_KEY = "health:state:rebuild-lock";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(5);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final HealthCheckResultRepository healthCheckResultRepository;
+    private final RedisHealthStateManager redisHealthStateManager;
+    private final ApiOrdinalRegistry apiOrdinalRegistry;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${healthcheck.rebuild.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${healthcheck.rebuild.on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    /** 비동기 센티널 확인/재구성 진행 여부 */
+    private final AtomicBoolean checkInProgress = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (rebuildOnStartup) {
+            rebuildIfEpochMissing();
+        }
+    }
+
+    /**
+     * 센티널 키가 없으면(Redis 유실) 재구성
+     *
+     * @return 재구성을 수행했으면 true
+     */
+    public boolean rebuildIfEpochMissing() {
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(EPOCH_KEY))) {
+                return false;
+            }
+        } catch (Exception e) {
+            log.debug("Failed to check health state epoch: {}", e.getMessage());
+            return false;
+        }
+
+        log.warn("Health state epoch missing in Redis, rebuilding state from stored health check results");
+        rebuild();
+        return true;
+    }
+
+    /**
+     * 센티널 키 확인과 재구성을 비동기 실행자(taskExecutor)에서 수행
+     * Redis 감시 스케줄러 스레드가 재구성 동안 막히지 않도록 하며, 이미 진행 중이면 생략
+     */
+    @Async
+    public void rebuildIfEpochMissingAsync() {
+        if (!checkInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildIfEpochMissing();
+        } finally {
+            checkInProgress.set(false);
+        }
+    }
+
+    /**
+     * 저장된 최신 결과로 Redis 상태 재구성 (다른 인스턴스가 수행 중이면 생략)
+     */
+    public Map<String, Object> rebuild() {
+        String lockOwner = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(REBUILD_LOCK_KEY, lockOwner, REBUILD_LOCK_TTL))) {
+            log.info("Health state rebuild already in progress on another instance");
+            return Map.of("status", "IN_PROGRESS");
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            LocalDateTime since = LocalDateTime.now().minusSeconds(redisHealthStateManager.maxUnhealthyTtlSeconds());
+            List<HealthCheckResult> latestFailures = healthCheckResultRepository.findLatestFailedResultsPerApiSince(since);
+
+            Map<Integer, List<HealthCheckResult>> byShard = latestFailures.stream()
+                .collect(Collectors.groupingBy(result -> HealthStateKeys.shardOf(result.getApiId())));
+
+            int restored = 0;
+            int skipped = 0;
+            for (List<HealthCheckResult> shardResults : byShard.values()) {
+                for (int from = 0; from < shardResults.size(); from += batchSize) {
+                    List<HealthCheckResult> batch = new ArrayList<>(
+                        shardResults.subList(from, Math.min(from + batchSize, shardResults.size())));
+                    int batchRestored = restoreBatch(batch);
+                    restored += batchRestored;
+                    skipped += batch.size() - batchRestored;
+                }
+            }
+
+            stringRedisTemplate.opsForValue().set(EPOCH_KEY, String.valueOf(System.currentTimeMillis()));
+            applicationEventPublisher.publishEvent(new HealthStateFlushedEvent(restored));
+
+            long durationMs = System.currentTimeMillis() - startedAt;
+            log.info("Health state rebuild completed: {} restored, {} skipped (expired or newer state present) in {}ms",
+                    restored, skipped, durationMs);
+
+            return Map.of(
+                "status", "COMPLETED",
+                "candidates", latestFailures.size(),
+                "restored", restored,
+                "skipped", skipped,
+                "durationMs", durationMs
+            );
+
+        } catch (Exception e) {
+            log.error("Failed to rebuild health state", e);
+            return Map.of("status", "FAILED", "error", String.valueOf(e.getMessage()));
+        } finally {
+            releaseLock(lockOwner);
+        }
+    }
+
+    /**
+     * 재구성 잠금 해제 (다른 인스턴스가 잡은 잠금은 유지)
+     */
+    private void releaseLock(String lockOwner) {
+        try {
+            if (lockOwner.equals(stringRedisTemplate.opsForValue().get(REBUILD_LOCK_KEY))) {
+                stringRedisTemplate.delete(REBUILD_LOCK_KEY);
+            }
+        } catch (Exception e) {
+            log.debug("Failed to release health state rebuild lock, it expires in {}", REBUILD_LOCK_TTL);
+        }
+    }
+
+    /**
+     * 청크 하나를 단일 파이프라인으로 복원
+     *
+     * @return 실제 복원된 API 수
+     */
+    private int restoreBatch(List<HealthCheckResult> batch) {
+        List<String> apiIds = batch.stream().map(HealthCheckResult::getApiId).toList();
+        apiOrdinalRegistry.ensureOrdinals(apiIds);
+        Map<String, LocalDateTime> firstFailures = firstFailureTimes(apiIds);
+
+        byte[] script = RedisHealthStateManager.HEALTH_STATE_RESTORE_SCRIPT.getScriptAsString()
+            .getBytes(StandardCharsets.UTF_8);
+        String scriptSha = RedisHealthStateManager.HEALTH_STATE_RESTORE_SCRIPT.getSha1();
+        long now = System.currentTimeMillis();
+
+        List<Object> replies = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.scriptingCommands().scriptLoad(script);
+
+            for (HealthCheckResult result : batch) {
+                byte[][] keysAndArgs = redisHealthStateManager.restoreKeysAndArgs(
+                    result, firstFailures.get(result.getApiId()), now);
+                if (keysAndArgs != null) {
+                    connection.scriptingCommands().evalSha(scriptSha, ReturnType.INTEGER,
+                        RedisHealthStateManager.RESTORE_KEY_COUNT, keysAndArgs);
+                }
+            }
+            return null;
+        });
+
+        int restored = 0;
+        for (Object reply : replies) {
+            if (reply instanceof Long restoredFlag && restoredFlag == 1L) {
+                restored++;
+            }
+        }
+        return restored;
+    }
+
+    /**
+     * API별 현재 연속 실패 구간의 최초 실패 시각 (ff 필드 복원용)
+     */
+    private Map<String, LocalDateTime> firstFailureTimes(List<String> apiIds) {
+        Map<String, LocalDateTime> firstFailures = new HashMap<>();
+        for (Object[] row : healthCheckResultRepository.findFirstFailureTimesInCurrentStreak(apiIds)) {
+            firstFailures.put((String) row[0], (LocalDateTime) row[1]);
+        }
+        return firstFailures;
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.SystemManagementSvc.service;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * 응답 시간 분위수 스케치 (DDSketch 방식 로그 버킷)
+ * - 값 v를 ceil(log_γ(v)) 버킷에 세어, 분위수를 상대 오차 2% 이내로 추정 (γ = 1.02 / 0.98)
+ * - 1ms ~ 1시간 범위를 약 380개 고정 버킷으로 표현하므로 호출 수와 무관하게 메모리 약 3KB
+ * - 버킷 카운트를 더하기만 하면 병합되므로 시간 구간별/파드별 스케치를 합쳐 임의 구간을 재구성 가능
+ * - 기록은 원자적 증가라 여러 스레드가 잠금 없이 동시에 기록 가능
+ */
+public final class LatencySketch {
+
+    static final double RELATIVE_ACCURACY = 0.02;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    /** 이 값 이상은 마지막 버킷에 기록 (ms) */
+    private static final long MAX_TRACKABLE_MILLIS = 3_600_000L;
+
+    static final int BUCKET_COUNT = logIndex(MAX_TRACKABLE_MILLIS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+    /**
+     * 응답 시간 기록 (음수는 무시)
+     */
+    public void record(long millis) {
+        if (millis < 0) {
+            return;
+        }
+        counts.incrementAndGet(bucketIndex(millis));
+        count.incrementAndGet();
+        max.accumulate(millis);
+    }
+
+    /**
+     * 다른 스케치를 이 스케치에 합침
+     */
+    public void merge(LatencySketch other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long bucketCount = other.counts.get(i);
+            if (bucketCount != 0) {
+                counts.addAndGet(i, bucketCount);
+            }
+        }
+        count.addAndGet(other.count.get());
+        max.accumulate(other.max.get());
+    }
+
+    /**
+     * 초기화 (시간 구간 슬롯 재사용용)
+     */
+    void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        max.reset();
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMaxMillis() {
+        return max.get();
+    }
+
+    /**
+     * 분위수 추정 (기록이 없으면 0)
+     *
+     * @param quantile 0.0 ~ 1.0 (예: 0.99)
+     */
+    public double quantile(double quantile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0.0;
+        }
+
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= Math.max(rank, 1)) {
+                return Math.min(bucketValue(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * 직렬화 (0이 아닌 버킷만: [max:long][entries:short]{[index:short][count:long]}...)
+     */
+    public byte[] toBytes() {
+        int nonEmpty = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts.get(i) != 0) {
+                nonEmpty++;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Short.BYTES + nonEmpty * (Short.BYTES + Long.BYTES));
+        buffer.putLong(max.get());
+        buffer.putShort((short) nonEmpty);
+        for (int i = 0; i < BUCKET_COUNT && nonEmpty > 0; i++) {
+            long bucketCount = counts.get(i);
+            if (bucketCount != 0) {
+                buffer.putShort((short) i);
+                buffer.putLong(bucketCount);
+                nonEmpty--;
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * 역직렬화 (범위를 벗어난 버킷은 마지막 버킷으로 합침)
+     */
+    public static LatencySketch fromBytes(byte[] bytes) {
+        LatencySketch sketch = new LatencySketch();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        sketch.max.accumulate(buffer.getLong());
+
+        int entries = buffer.getShort();
+        for (int i = 0; i < entries; i++) {
+            int index = Math.min(buffer.getShort(), BUCKET_COUNT - 1);
+            long bucketCount = buffer.getLong();
+            sketch.counts.addAndGet(index, bucketCount);
+            sketch.count.addAndGet(bucketCount);
+        }
+        return sketch;
+    }
+
+    /**
+     * 버킷 i는 (γ^(i-1), γ^i] 구간, 0번 버킷은 1ms 이하
+     */
+    static int bucketIndex(long millis) {
+        if (millis <= 1) {
+            return 0;
+        }
+        return logIndex(Math.min(millis, MAX_TRACKABLE_MILLIS));
+    }
+
+    private static int logIndex(long millis) {
+        return (int) Math.ceil(Math.log(millis) / LOG_GAMMA);
+    }
+
+    /**
+     * 버킷 대표값 (구간 내 모든 값과의 상대 오차가 RELATIVE_ACCURACY 이내)
+     */
+    private static double bucketValue(int index) {
+        if (index == 0) {
+            return 1.0;
+        }
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+}
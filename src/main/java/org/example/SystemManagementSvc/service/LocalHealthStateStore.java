@@ -0,0 +1,116 @@
+package org.example.SystemManagementSvc.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.SystemManagementSvc.domain.HealthCheckResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내 API 헬스 상태 저장소 (Redis 장애 시 대체 조회용)
+ * - 프로브 결과가 RedisStateWriter에 적재될 때 함께 갱신되어 Redis 반영 여부와 무관하게 최신 상태 유지
+ * - 비정상 상태는 state-ttl 동안만 유효 (Redis TTL 기반 자동 복구와 같은 의미)
+ * - Redis에 반영되지 못한 API는 dirty로 표시하고, Redis 복구 시 최신 결과를 일괄 재반영
+ */
+@Slf4j
+@Service
+public class LocalHealthStateStore {
+
+    @Value("${healthcheck.fallback.state-ttl:600}")
+    private long stateTtlSeconds;
+
+    /** apiId → 최신 프로브 결과 */
+    private final Map<String, LocalState> states = new ConcurrentHashMap<>();
+
+    /** Redis 재반영이 필요한 apiId */
+    private final Set<String> dirtyApiIds = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public LocalHealthStateStore(MeterRegistry meterRegistry) {
+        Gauge.builder("apibridge_fallback_unhealthy_apis", this, LocalHealthStateStore::unhealthyCount)
+            .description("Number of unhealthy APIs in the in-process fallback state store")
+            .register(meterRegistry);
+
+        Gauge.builder("apibridge_fallback_pending_resync", dirtyApiIds, Set::size)
+            .description("Number of APIs whose latest state has not been written to Redis")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 프로브 결과 기록
+     */
+    public void record(String apiId, HealthCheckResult result) {
+        states.put(apiId, new LocalState(result, System.currentTimeMillis()));
+    }
+
+    /**
+     * Redis 반영 실패 또는 Redis 장애 중 기록된 API 표시
+     */
+    public void markDirty(Collection<String> apiIds) {
+        dirtyApiIds.addAll(apiIds);
+    }
+
+    /**
+     * 주어진 API 중 재반영 대기(dirty) 상태인 것이 있는지 여부
+     */
+    public boolean isAnyDirty(Collection<String> apiIds) {
+        return apiIds.stream().anyMatch(dirtyApiIds::contains);
+    }
+
+    /**
+     * 로컬 기준 비정상 여부 (마지막 결과가 실패이고 state-ttl 이내)
+     */
+    public boolean isUnhealthy(String apiId) {
+        LocalState state = states.get(apiId);
+        return state != null && state.isUnhealthy(System.currentTimeMillis(), stateTtlSeconds * 1000);
+    }
+
+    /**
+     * 로컬 기준 비정상 API 목록
+     */
+    public List<String> unhealthyApiIds() {
+        long now = System.currentTimeMillis();
+        List<String> apiIds = new ArrayList<>();
+        states.forEach((apiId, state) -> {
+            if (state.isUnhealthy(now, stateTtlSeconds * 1000)) {
+                apiIds.add(apiId);
+            }
+        });
+        return apiIds;
+    }
+
+    /**
+     * Redis 재반영 대상의 최신 결과를 꺼내고 dirty 표시 해제
+     */
+    public Map<String, HealthCheckResult> drainDirty() {
+        Map<String, HealthCheckResult> drained = new ConcurrentHashMap<>();
+        for (String apiId : List.copyOf(dirtyApiIds)) {
+            dirtyApiIds.remove(apiId);
+            LocalState state = states.get(apiId);
+            if (state != null) {
+                drained.put(apiId, state.result());
+            }
+        }
+        return drained;
+    }
+
+    private int unhealthyCount() {
+        return unhealthyApiIds().size();
+    }
+
+    private record LocalState(HealthCheckResult result, long recordedAtMillis) {
+
+        boolean isUnhealthy(long now, long ttlMillis) {
+            return !result.isSuccess() && now - recordedAtMillis < ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package org.example.SystemManagementSvc.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.SystemManagementSvc.dto.LatencyPercentiles;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 헬스체크 응답 시간 분위수 추적
+ * - 프로브 결과(HealthCheckService, AdvancedHealthCheckService)를 API별 LatencySketch에 누적하고
+ *   flush-interval마다 Redis에 분 단위 해시로 기록
+ *   (latency:probe:{hN}:{apiId}:{epochMinute}, field = {flush 시각}:{instance-id}, value = Base64 스케치)
+ * - 분 단위 키는 retention이 지나면 통째로 만료되므로 오래된 필드를 따로 정리하지 않음
+ * - flush는 해시 태그 샤드(슬롯)별 파이프라인으로 기록
+ * - 조회 시 요청 구간의 분 단위 키를 한 파이프라인으로 읽고(같은 API는 같은 슬롯), 아직 flush하지 않은 로컬 스케치와 병합
+ * - 기록은 읽기 락, 구간 교체는 쓰기 락으로 보호하여 교체 직전 맵에 늦게 기록되어 유실되는 경우가 없음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProbeLatencyTracker {
+
+    private static final String PROBE_LATENCY_PREFIX = "latency:probe:";
+    private static final char FIELD_SEPARATOR = ':';
+    private static final long MINUTE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${healthcheck.latency.instance-id:${HOSTNAME:local}}")
+    private String instanceId;
+
+    @Value("${healthcheck.latency.retention-minutes:60}")
+    private int retentionMinutes;
+
+    /** 기록(읽기 락)과 구간 교체(쓰기 락) 동기화 */
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    /** 아직 Redis에 기록하지 않은 구간 스케치 */
+    private volatile Map<String, LatencySketch> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 프로브 응답 시간 기록
+     */
+    public void record(String apiId, Long responseTimeMs) {
+        if (apiId == null || responseTimeMs == null) {
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            pending.computeIfAbsent(apiId, id -> new LatencySketch()).record(responseTimeMs);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 구간 스케치를 Redis에 기록 (API별 HSET + EXPIRE, 샤드별 파이프라인)
+     */
+    @Scheduled(fixedDelayString = "${healthcheck.latency.flush-interval:60000}")
+    public void flush() {
+        Map<String, LatencySketch> sketches;
+        swapLock.writeLock().lock();
+        try {
+            sketches = pending;
+            pending = new ConcurrentHashMap<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        if (sketches.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long minute = now / MINUTE_MILLIS;
+        byte[] field = (Long.toString(now) + FIELD_SEPARATOR + instanceId).getBytes(StandardCharsets.UTF_8);
+        // 분 단위 키는 해당 분이 끝난 뒤부터 retention 동안 유지
+        long ttlSeconds = TimeUnit.MINUTES.toSeconds(retentionMinutes + 1L);
+
+        try {
+            ShardPipelines.execute(stringRedisTemplate, HealthStateKeys.groupByShard(sketches.keySet()),
+                (connection, apiIds) -> {
+                    for (String apiId : apiIds) {
+                        byte[] key = key(apiId, minute).getBytes(StandardCharsets.UTF_8);
+                        byte[] value = Base64.getEncoder().encode(sketches.get(apiId).toBytes());
+                        connection.hashCommands().hSet(key, field, value);
+                        connection.keyCommands().expire(key, ttlSeconds);
+                    }
+                });
+            log.debug("Flushed probe latency sketches for {} APIs", sketches.size());
+        } catch (Exception e) {
+            log.warn("Failed to flush probe latency sketches for {} APIs", sketches.size(), e);
+        }
+    }
+
+    /**
+     * 최근 windowMinutes분 응답 시간 분위수 (모든 파드 병합, 보존 기간을 넘는 구간은 보존 기간으로 제한)
+     */
+    @SuppressWarnings("unchecked")
+    public LatencyPercentiles percentiles(String apiId, int windowMinutes) {
+        int effectiveWindow = Math.min(windowMinutes, retentionMinutes);
+        long since = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(effectiveWindow);
+        long firstMinute = since / MINUTE_MILLIS;
+        long lastMinute = System.currentTimeMillis() / MINUTE_MILLIS;
+
+        LatencySketch merged = new LatencySketch();
+        int mergedSketches = 0;
+
+        try {
+            List<Object> replies = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (long minute = firstMinute; minute <= lastMinute; minute++) {
+                    connection.hashCommands().hGetAll(key(apiId, minute).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+
+            for (Object reply : replies) {
+                if (!(reply instanceof Map<?, ?> entries)) {
+                    continue;
+                }
+                for (Map.Entry<String, String> entry : ((Map<String, String>) entries).entrySet()) {
+                    if (flushedAt(entry.getKey()) >= since) {
+                        merged.merge(LatencySketch.fromBytes(Base64.getDecoder().decode(entry.getValue())));
+                        mergedSketches++;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read probe latency sketches for API: {}, using local samples only", apiId, e);
+        }
+
+        LatencySketch local = pending.get(apiId);
+        if (local != null) {
+            merged.merge(local);
+            mergedSketches++;
+        }
+
+        return LatencyPercentiles.builder()
+            .apiId(apiId)
+            .windowMinutes(effectiveWindow)
+            .sampleCount(merged.getCount())
+            .mergedSketches(mergedSketches)
+            .p50(merged.quantile(0.50))
+            .p95(merged.quantile(0.95))
+            .p99(merged.quantile(0.99))
+            .maxMillis(merged.getMaxMillis())
+            .build();
+    }
+
+    private static String key(String apiId, long epochMinute) {
+        return HealthStateKeys.apiKey(PROBE_LATENCY_PREFIX, apiId) + FIELD_SEPARATOR + epochMinute;
+    }
+
+    /**
+     * 필드의 flush 시각 (형식이 다르면 0으로 보고 제외)
+     */
+    private static long flushedAt(String field) {
+        int separator = field.indexOf(FIELD_SEPARATOR);
+        try {
+            return Long.parseLong(separator > 0 ? field.substring(0, separator) : field);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.SystemManagementSvc.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.SystemManagementSvc.domain.HealthCheckResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * Redis 가용성 감시 및 Failover 전환
+ * - 주기적 PING으로 Redis 상태 확인, 연속 실패가 임계치에 도달하면 Failover(로컬 상태 저장소 조회)로 전환
+ * - Redis 복구 시 Redis에 반영되지 못한 최신 상태를 RedisStateWriter로 일괄 재반영하고, 모두 반영된 경우에만 Failover 해제
+ * - 상태 센티널 키는 epoch-check-interval 주기(Failover 해제 시에는 즉시)로 확인하고,
+ *   유실(FLUSH, 비영속 Failover)이 감지되면 DB 기준 재구성을 비동기로 수행
+ * - Redis 가용 여부, Failover 여부, 전환 횟수, 재반영 건수를 메트릭으로 노출
+ */
+@Slf4j
+@Service
+public class RedisAvailabilityMonitor {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LocalHealthStateStore localHealthStateStore;
+    private final RedisStateWriter redisStateWriter;
+    private final HealthStateRebuildService healthStateRebuildService;
+
+    @Value("${healthcheck.fallback.failure-threshold:2}")
+    private int failureThreshold;
+
+    @Value("${healthcheck.rebuild.epoch-check-interval:60000}")
+    private long epochCheckIntervalMillis;
+
+    private volatile boolean redisAvailable = true;
+    private volatile boolean failoverActive = false;
+    private int consecutivePingFailures = 0;
+    private long lastEpochCheckMillis = 0;
+
+    private final Counter failovers;
+    private final Counter resyncedUpdates;
+
+    @Autowired
+    public RedisAvailabilityMonitor(StringRedisTemplate stringRedisTemplate,
+                                    LocalHealthStateStore localHealthStateStore,
+                                    RedisStateWriter redisStateWriter,
+                                    HealthStateRebuildService healthStateRebuildService,
+                                    MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.localHealthStateStore = localHealthStateStore;
+        this.redisStateWriter = redisStateWriter;
+        this.healthStateRebuildService = healthStateRebuildService;
+
+        Gauge.builder("apibridge_redis_available", this, monitor -> monitor.redisAvailable ? 1 : 0)
+            .description("Whether Redis answered the last availability probe (1 = available)")
+            .register(meterRegistry);
+
+        Gauge.builder("apibridge_redis_failover_active", this, monitor -> monitor.failoverActive ? 1 : 0)
+            .description("Whether availability reads are served from the in-process fallback store")
+            .register(meterRegistry);
+
+        this.failovers = Counter.builder("apibridge_redis_failovers_total")
+            .description("Total number of switches to the in-process fallback store")
+            .register(meterRegistry);
+
+        this.resyncedUpdates = Counter.builder("apibridge_redis_resynced_updates_total")
+            .description("Total number of health states re-synced to Redis after an outage")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Failover 중 여부 (true면 로컬 상태 저장소를 기준으로 조회)
+     */
+    public boolean isFailoverActive() {
+        return failoverActive;
+    }
+
+    /**
+     * Redis 상태 확인 및 전환 처리
+     */
+    @Scheduled(fixedDelayString = "${healthcheck.fallback.ping-interval:2000}")
+    public synchronized void probe() {
+        boolean reachable = ping();
+        redisAvailable = reachable;
+
+        if (!reachable) {
+            consecutivePingFailures++;
+            if (!failoverActive && consecutivePingFailures >= failureThreshold) {
+                failoverActive = true;
+                failovers.increment();
+                log.error("Redis unavailable after {} consecutive probes, serving API availability from local state",
+                        consecutivePingFailures);
+            }
+            return;
+        }
+
+        consecutivePingFailures = 0;
+        long now = System.currentTimeMillis();
+        if (failoverActive || now - lastEpochCheckMillis >= epochCheckIntervalMillis) {
+            lastEpochCheckMillis = now;
+            healthStateRebuildService.rebuildIfEpochMissingAsync();
+        }
+
+        if (failoverActive) {
+            Map<String, HealthCheckResult> pending = localHealthStateStore.drainDirty();
+            if (resync(pending)) {
+                failoverActive = false;
+                log.info("Redis available again, re-synced {} API states and left failover mode", pending.size());
+            } else {
+                log.warn("Redis answered but re-sync of {} API states failed, staying in failover mode", pending.size());
+            }
+        }
+    }
+
+    /**
+     * Redis에 반영되지 못한 최신 상태 일괄 재반영
+     * 결과는 원래 검사 시각 그대로 다시 쓰므로 비정상 TTL도 원래 만료 시각 기준으로 복원됨
+     *
+     * @return 모두 반영되었으면 true (실패한 API는 Writer가 다시 dirty로 표시)
+     */
+    private boolean resync(Map<String, HealthCheckResult> pending) {
+        pending.forEach((apiId, result) -> redisStateWriter.enqueue(apiId, result, null));
+        redisStateWriter.flush();
+
+        if (localHealthStateStore.isAnyDirty(pending.keySet())) {
+            return false;
+        }
+        resyncedUpdates.increment(pending.size());
+        return true;
+    }
+
+    private boolean ping() {
+        try {
+            String reply = stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.ping());
+            return "PONG".equalsIgnoreCase(reply);
+        } catch (Exception e) {
+            log.debug("Redis ping failed: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -3,11 +3,19 @@ package org.example.SystemManagementSvc.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.SystemManagementSvc.domain.HealthCheckResult;
+import org.example.SystemManagementSvc.dto.ApiHealthState;
+import org.example.SystemManagementSvc.dto.HealthHistoryEntry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -29,8 +37,12 @@ import java.util.stream.Collectors;
 public class RedisHealthStateManager {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisStateIndex redisStateIndex;
+    private final ApiOrdinalRegistry apiOrdinalRegistry;
+    private final UnhealthyBitmapIndex unhealthyBitmapIndex;
     
-    @Value("${healthcheck.redis.unhealthy-ttl:180}")
+    @Value("${healthcheck.redis.unhealthy-ttl:${healthcheck.cache.unhealthy-ttl:180}}")
     private long defaultUnhealthyTtl;
     
     @Value("${healthcheck.redis.degraded-ttl:120}")
@@ -42,30 +54,52 @@ public class RedisHealthStateManager {
     @Value("${healthcheck.redis.critical-ttl:600}")
     private long criticalTtl;
     
-    // Redis 키 패턴
-    private static final String UNHEALTHY_PREFIX = "unhealthy:";
-    private static final String RECOVERY_TRACKING_PREFIX = "recovery:";
-    private static final String FAILURE_HISTORY_PREFIX = "failure_history:";
+    @Value("${healthcheck.history.max-length:5000}")
+    private long historyMaxLength;
+    
+    @Value("${healthcheck.history.ttl:604800}")
+    private long historyTtlSeconds;
+    
+    // Redis 키 패턴 (API별 키: {prefix}{hN}:{apiId}, HealthStateKeys 참고)
+    static final String UNHEALTHY_PREFIX = "unhealthy:";
+    static final String RECOVERY_TRACKING_PREFIX = "recovery:";
+    static final String HEALTH_HISTORY_PREFIX = "health_history:";
     private static final String HEALTH_ANALYTICS_KEY = "health_analytics:summary";
     
+    static final int TRANSITION_KEY_COUNT = 5;
+    private static final int HISTORY_SCAN_PAGE_SIZE = 200;
+    private static final long RECOVERY_TRACKING_TTL_SECONDS = TimeUnit.HOURS.toSeconds(1);
+    
+    private static final int EARLY_RECOVERY_MAX_FAILURES = 2;
+    private static final long EARLY_RECOVERY_TTL_SECONDS = 30;
+    
+    /** 조기 복구 TTL 단축 스크립트 */
+    private static final RedisScript<Long> EARLY_RECOVERY_SCRIPT = RedisScript.of(
+        new ClassPathResource("redis/early_recovery.lua"), Long.class);
+    
+    /** 저장된 결과로 비정상 상태를 복원하는 스크립트 (키가 이미 있으면 건너뜀) */
+    static final RedisScript<Long> HEALTH_STATE_RESTORE_SCRIPT = RedisScript.of(
+        new ClassPathResource("redis/health_state_restore.lua"), Long.class);
+    static final int RESTORE_KEY_COUNT = 3;
+    
+    /** 헬스 상태 전이 스크립트 (EVALSHA 실행, 미등록 시 EVAL로 자동 대체) */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static final RedisScript<List<String>> HEALTH_STATE_TRANSITION_SCRIPT = (RedisScript) RedisScript.of(
+        new ClassPathResource("redis/health_state_transition.lua"), List.class);
+    
     /**
      * API 상태를 Redis에 저장
      * 정상 API는 저장하지 않고, 비정상 API만 TTL과 함께 저장
+     * 실패 횟수 집계, TTL 결정, 최초 장애 시간 보존, 히스토리(XADD), 복구 추적을 Lua 스크립트 한 번(EVALSHA)으로 처리
      */
     public void updateApiHealthState(String apiId, HealthCheckResult result) {
-        String unhealthyKey = UNHEALTHY_PREFIX + apiId;
-        
         try {
-            if (result.isSuccess()) {
-                // 정상 API: 캐시에서 제거하고 복구 추적 시작
-                handleHealthyApiRecovery(apiId, unhealthyKey);
-            } else {
-                // 비정상 API: TTL과 함께 상태 정보 저장
-                handleUnhealthyApiState(apiId, unhealthyKey, result);
-            }
+            List<String> transition = stringRedisTemplate.execute(
+                HEALTH_STATE_TRANSITION_SCRIPT,
+                transitionKeys(apiId),
+                transitionArgs(apiId, result));
             
-            // 장애 히스토리 업데이트
-            updateFailureHistory(apiId, result);
+            logTransition(apiId, result, transition);
             
         } catch (Exception e) {
             log.error("Failed to update API health state for: {}", apiId, e);
@@ -73,176 +107,159 @@ public class RedisHealthStateManager {
     }
     
     /**
-     * 정상 API 복구 처리
+     * 파이프라인 EVALSHA용 KEYS + ARGV 직렬화 (KEYS 개수: TRANSITION_KEY_COUNT)
      */
-    private void handleHealthyApiRecovery(String apiId, String unhealthyKey) {
-        try {
-            // 이전에 비정상이었는지 확인
-            boolean wasUnhealthy = Boolean.TRUE.equals(redisTemplate.hasKey(unhealthyKey));
-            
-            if (wasUnhealthy) {
-                // 복구된 API 정보 로깅
-                @SuppressWarnings("unchecked")
-                Map<String, Object> previousState = (Map<String, Object>) redisTemplate.opsForValue().get(unhealthyKey);
-                
-                if (previousState != null) {
-                    log.info("API recovered: {} - Previous state: {}, Failures: {}", 
-                            apiId, 
-                            previousState.get("status"),
-                            previousState.get("consecutiveFailures"));
-                }
-                
-                // 비정상 상태 캐시 제거
-                redisTemplate.delete(unhealthyKey);
-                
-                // 복구 추적 정보 저장 (짧은 TTL)
-                trackApiRecovery(apiId);
-                
-                log.debug("API {} recovered and removed from unhealthy cache", apiId);
-            }
-            
-        } catch (Exception e) {
-            log.warn("Failed to handle healthy API recovery for: {}", apiId, e);
-        }
+    byte[][] transitionKeysAndArgs(String apiId, HealthCheckResult result) {
+        return toBytes(transitionKeys(apiId), transitionArgs(apiId, result));
     }
     
     /**
-     * 비정상 API 상태 처리
+     * 파이프라인 상태 복원용 KEYS + ARGV 직렬화 (KEYS 개수: RESTORE_KEY_COUNT)
+     * 저장된 결과 기준 TTL이 이미 지났으면 null
+     *
+     * @param firstFailureAt 현재 연속 실패 구간의 최초 실패 시각 (모르면 null, 결과의 검사 시각 사용)
      */
-    private void handleUnhealthyApiState(String apiId, String unhealthyKey, HealthCheckResult result) {
-        try {
-            // 이전 연속 실패 횟수 조회
-            int previousFailures = getPreviousConsecutiveFailures(unhealthyKey);
-            int currentFailures = previousFailures + 1;
-            
-            // TTL 결정 (심각도에 따른 차등 설정)
-            long ttl = determineTtlByStatus(result.getStatus(), currentFailures);
-            
-            // 상태 정보 구성
-            Map<String, Object> healthState = createHealthStateMap(result, currentFailures);
-            
-            // Redis에 TTL과 함께 저장
-            redisTemplate.opsForValue().set(unhealthyKey, healthState, ttl, TimeUnit.SECONDS);
-            
-            log.debug("API {} marked as unhealthy with TTL: {}s, Status: {}, Failures: {}", 
-                     apiId, ttl, result.getStatus(), currentFailures);
-            
-        } catch (Exception e) {
-            log.error("Failed to handle unhealthy API state for: {}", apiId, e);
+    byte[][] restoreKeysAndArgs(HealthCheckResult result, LocalDateTime firstFailureAt, long nowMillis) {
+        String apiId = result.getApiId();
+        int failures = Math.max(1, result.getConsecutiveFailures() != null ? result.getConsecutiveFailures() : 0);
+        String lastCheck = ApiHealthStateCodec.encodeMillis(result.getCheckedAt());
+        long remainingTtl = unhealthyTtlSeconds(result.getStatus(), failures)
+            - (nowMillis - Long.parseLong(lastCheck)) / 1000;
+        if (remainingTtl <= 0) {
+            return null;
         }
+        
+        List<String> keys = List.of(
+            unhealthyKey(apiId),
+            HealthStateKeys.shardKey(RedisStateIndex.UNHEALTHY_INDEX_KEY, apiId),
+            HealthStateKeys.shardKey(UnhealthyBitmapIndex.BITMAP_KEY, apiId)
+        );
+        Object[] args = {
+            apiId,
+            ApiHealthStateCodec.SCHEMA_VERSION,
+            ApiHealthStateCodec.encodeStatus(result.getStatus()),
+            ApiHealthStateCodec.encodeErrorMessage(result.getErrorMessage()),
+            String.valueOf(result.getResponseTimeMs() != null ? result.getResponseTimeMs() : 0),
+            String.valueOf(result.getHttpStatusCode() != null ? result.getHttpStatusCode() : 0),
+            lastCheck,
+            ApiHealthStateCodec.encodeCheckType(result.getCheckType()),
+            Boolean.TRUE.equals(result.isTimeout()) ? "1" : "0",
+            String.valueOf(failures),
+            firstFailureAt != null ? ApiHealthStateCodec.encodeMillis(firstFailureAt) : lastCheck,
+            String.valueOf(remainingTtl),
+            String.valueOf(nowMillis),
+            String.valueOf(apiOrdinalRegistry.assignOrdinal(apiId))
+        };
+        return toBytes(keys, args);
     }
     
     /**
-     * 상태에 따른 TTL 결정
+     * 비정상 상태 TTL 계산 (health_state_transition.lua의 TTL 결정 로직과 동일)
      */
-    private long determineTtlByStatus(HealthCheckResult.HealthStatus status, int consecutiveFailures) {
-        // 연속 실패 횟수에 따른 TTL 증가 (최대 2배)
-        double failureMultiplier = Math.min(1.0 + (consecutiveFailures - 1) * 0.2, 2.0);
-        
-        long baseTtl = switch (status) {
-            case TIMEOUT -> timeoutTtl;
-            case UNHEALTHY -> consecutiveFailures >= 5 ? criticalTtl : defaultUnhealthyTtl;
-            case DEGRADED -> degradedTtl;
-            case UNKNOWN -> defaultUnhealthyTtl;
-            default -> defaultUnhealthyTtl;
-        };
-        
-        return Math.round(baseTtl * failureMultiplier);
+    long unhealthyTtlSeconds(HealthCheckResult.HealthStatus status, int failures) {
+        long baseTtl;
+        if (status == HealthCheckResult.HealthStatus.TIMEOUT) {
+            baseTtl = timeoutTtl;
+        } else if (status == HealthCheckResult.HealthStatus.UNHEALTHY && failures >= 5) {
+            baseTtl = criticalTtl;
+        } else if (status == HealthCheckResult.HealthStatus.DEGRADED) {
+            baseTtl = degradedTtl;
+        } else {
+            baseTtl = defaultUnhealthyTtl;
+        }
+        double multiplier = Math.min(1.0 + (failures - 1) * 0.2, 2.0);
+        return (long) Math.floor(baseTtl * multiplier + 0.5);
     }
     
     /**
-     * 헬스 상태 맵 생성
+     * 가능한 최대 비정상 TTL (재구성 대상 조회 범위)
      */
-    private Map<String, Object> createHealthStateMap(HealthCheckResult result, int consecutiveFailures) {
-        Map<String, Object> state = new HashMap<>();
-        state.put("status", result.getStatus().name());
-        state.put("errorMessage", result.getErrorMessage() != null ? result.getErrorMessage() : "");
-        state.put("responseTime", result.getResponseTimeMs() != null ? result.getResponseTimeMs() : 0);
-        state.put("httpStatusCode", result.getHttpStatusCode() != null ? result.getHttpStatusCode() : 0);
-        state.put("consecutiveFailures", consecutiveFailures);
-        state.put("lastCheck", result.getCheckedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-        state.put("checkType", result.getCheckType().name());
-        state.put("isTimeout", result.isTimeout() != null ? result.isTimeout() : false);
-        state.put("firstFailureTime", getFirstFailureTime(consecutiveFailures));
-        
-        return state;
+    long maxUnhealthyTtlSeconds() {
+        return Math.max(Math.max(timeoutTtl, criticalTtl), Math.max(degradedTtl, defaultUnhealthyTtl)) * 2;
     }
     
     /**
-     * 이전 연속 실패 횟수 조회
+     * 비정상 상태 HASH 키
      */
-    @SuppressWarnings("unchecked")
-    private int getPreviousConsecutiveFailures(String unhealthyKey) {
-        try {
-            Map<String, Object> previousState = (Map<String, Object>) redisTemplate.opsForValue().get(unhealthyKey);
-            if (previousState != null && previousState.containsKey("consecutiveFailures")) {
-                return Integer.parseInt(previousState.get("consecutiveFailures").toString());
-            }
-        } catch (Exception e) {
-            log.debug("Failed to get previous consecutive failures, assuming 0", e);
+    static String unhealthyKey(String apiId) {
+        return HealthStateKeys.apiKey(UNHEALTHY_PREFIX, apiId);
+    }
+    
+    private static byte[][] toBytes(List<String> keys, Object[] args) {
+        byte[][] keysAndArgs = new byte[keys.size() + args.length][];
+        for (int i = 0; i < keys.size(); i++) {
+            keysAndArgs[i] = keys.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+        for (int i = 0; i < args.length; i++) {
+            keysAndArgs[keys.size() + i] = args[i].toString().getBytes(StandardCharsets.UTF_8);
         }
-        return 0;
+        return keysAndArgs;
     }
     
     /**
-     * 첫 번째 장애 시간 조회 또는 설정
+     * 상태 전이 스크립트 KEYS 구성
      */
-    @SuppressWarnings("unchecked")
-    private String getFirstFailureTime(int consecutiveFailures) {
-        if (consecutiveFailures <= 1) {
-            return LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        }
-        
-        // 기존 첫 번째 장애 시간 유지 (이미 있는 경우)
-        return LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    private List<String> transitionKeys(String apiId) {
+        return List.of(
+            unhealthyKey(apiId),
+            HealthStateKeys.apiKey(RECOVERY_TRACKING_PREFIX, apiId),
+            HealthStateKeys.apiKey(HEALTH_HISTORY_PREFIX, apiId),
+            HealthStateKeys.shardKey(RedisStateIndex.UNHEALTHY_INDEX_KEY, apiId),
+            HealthStateKeys.shardKey(UnhealthyBitmapIndex.BITMAP_KEY, apiId)
+        );
     }
     
     /**
-     * API 복구 추적
+     * 상태 전이 스크립트 ARGV 구성 (HASH 필드 값은 ApiHealthStateCodec 인코딩)
      */
-    private void trackApiRecovery(String apiId) {
-        try {
-            String recoveryKey = RECOVERY_TRACKING_PREFIX + apiId;
-            Map<String, Object> recoveryInfo = Map.of(
-                "recoveredAt", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
-                "apiId", apiId
-            );
-            
-            // 복구 정보는 1시간 동안만 보관
-            redisTemplate.opsForValue().set(recoveryKey, recoveryInfo, 1, TimeUnit.HOURS);
-            
-        } catch (Exception e) {
-            log.warn("Failed to track API recovery for: {}", apiId, e);
-        }
+    private Object[] transitionArgs(String apiId, HealthCheckResult result) {
+        LocalDateTime checkedAt = result.getCheckedAt() != null ? result.getCheckedAt() : LocalDateTime.now();
+        String lastCheck = ApiHealthStateCodec.encodeMillis(checkedAt);
+        String status = ApiHealthStateCodec.encodeStatus(result.getStatus());
+        
+        return new Object[] {
+            apiId,
+            result.isSuccess() ? "1" : "0",
+            result.getStatus().name(),
+            status,
+            ApiHealthStateCodec.encodeErrorMessage(result.getErrorMessage()),
+            String.valueOf(result.getResponseTimeMs() != null ? result.getResponseTimeMs() : 0),
+            String.valueOf(result.getHttpStatusCode() != null ? result.getHttpStatusCode() : 0),
+            lastCheck,
+            ApiHealthStateCodec.encodeCheckType(result.getCheckType()),
+            Boolean.TRUE.equals(result.isTimeout()) ? "1" : "0",
+            String.valueOf(System.currentTimeMillis()),
+            String.valueOf(timeoutTtl),
+            String.valueOf(defaultUnhealthyTtl),
+            String.valueOf(degradedTtl),
+            String.valueOf(criticalTtl),
+            String.valueOf(historyMaxLength),
+            String.valueOf(historyTtlSeconds),
+            String.valueOf(RECOVERY_TRACKING_TTL_SECONDS),
+            ApiHealthStateCodec.SCHEMA_VERSION,
+            String.valueOf(apiOrdinalRegistry.assignOrdinal(apiId))
+        };
     }
     
     /**
-     * 장애 히스토리 업데이트
+     * 상태 전이 결과 로깅 (RedisStateWriter 파이프라인 응답에도 사용)
      */
-    private void updateFailureHistory(String apiId, HealthCheckResult result) {
-        try {
-            String historyKey = FAILURE_HISTORY_PREFIX + apiId;
-            
-            // 최근 장애만 추적 (최대 10개)
-            redisTemplate.opsForList().leftPush(historyKey, Map.of(
-                "timestamp", result.getCheckedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
-                "status", result.getStatus().name(),
-                "isSuccess", result.isSuccess()
-            ));
-            
-            // 리스트 크기 제한
-            redisTemplate.opsForList().trim(historyKey, 0, 9);
-            
-            // 24시간 TTL
-            redisTemplate.expire(historyKey, 24, TimeUnit.HOURS);
-            
-        } catch (Exception e) {
-            log.debug("Failed to update failure history for: {}", apiId, e);
+    void logTransition(String apiId, HealthCheckResult result, List<String> transition) {
+        if (transition == null || transition.isEmpty()) {
+            return;
+        }
+        
+        switch (transition.get(0)) {
+            case "RECOVERED" -> log.info("API recovered: {} - Previous state: {}, Failures: {}",
+                    apiId, ApiHealthStateCodec.decodeStatus(transition.get(1)), transition.get(2));
+            case "UNHEALTHY" -> log.debug("API {} marked as unhealthy with TTL: {}s, Status: {}, Failures: {}",
+                    apiId, transition.get(2), result.getStatus(), transition.get(1));
+            default -> { }
         }
     }
     
     /**
-     * 배치 상태 확인 (성능 최적화)
+     * 배치 상태 확인 (비트맵 GET 1회)
      */
     public Map<String, Boolean> batchCheckApiAvailability(List<String> apiIds) {
         if (apiIds == null || apiIds.isEmpty()) {
@@ -250,56 +267,21 @@ public class RedisHealthStateManager {
         }
         
         try {
-            // Pipeline으로 배치 조회
-            List<String> keys = apiIds.stream()
-                .map(apiId -> UNHEALTHY_PREFIX + apiId)
-                .collect(Collectors.toList());
-            
-            List<Object> pipelineResults = redisTemplate.executePipelined((org.springframework.data.redis.core.RedisCallback<Object>) connection -> {
-                for (String key : keys) {
-                    connection.exists(key.getBytes());
-                }
-                return null;
-            });
-            
-            List<Boolean> results = new ArrayList<>();
-            for (Object result : pipelineResults) {
-                results.add((Boolean) result);
-            }
-            
-            Map<String, Boolean> availabilityMap = new HashMap<>();
-            for (int i = 0; i < apiIds.size(); i++) {
-                // 키가 없으면 가용, 있으면 불가용
-                availabilityMap.put(apiIds.get(i), !Boolean.TRUE.equals(results.get(i)));
-            }
-            
-            return availabilityMap;
+            return unhealthyBitmapIndex.checkAvailability(apiIds);
             
         } catch (Exception e) {
             log.error("Failed to batch check API availability", e);
             // 실패 시 모든 API를 가용으로 간주
-            return apiIds.stream().collect(Collectors.toMap(id -> id, id -> true));
+            return apiIds.stream().collect(Collectors.toMap(id -> id, id -> true, (a, b) -> a));
         }
     }
     
     /**
-     * 복구 예상 시간 조회
+     * 복구 예상 시간 조회 (인덱스 ZRANGEBYSCORE WITHSCORES 1회, 남은 초)
      */
     public Map<String, Long> getRecoveryEstimates() {
         try {
-            Set<String> unhealthyKeys = redisTemplate.keys(UNHEALTHY_PREFIX + "*");
-            Map<String, Long> estimates = new HashMap<>();
-            
-            for (String key : unhealthyKeys) {
-                String apiId = key.replace(UNHEALTHY_PREFIX, "");
-                Long ttl = redisTemplate.getExpire(key, TimeUnit.SECONDS);
-                
-                if (ttl != null && ttl > 0) {
-                    estimates.put(apiId, ttl);
-                }
-            }
-            
-            return estimates;
+            return toRemainingSeconds(redisStateIndex.activeMembersWithExpiry(RedisStateIndex.UNHEALTHY_INDEX_KEY));
             
         } catch (Exception e) {
             log.error("Failed to get recovery estimates", e);
@@ -307,25 +289,59 @@ public class RedisHealthStateManager {
         }
     }
     
+    /**
+     * 지정 시간 내 복구 예정 API 조회 (만료 임박 순, 남은 초)
+     */
+    public Map<String, Long> getApisRecoveringWithin(long withinSeconds) {
+        try {
+            long now = System.currentTimeMillis();
+            return toRemainingSeconds(redisStateIndex.membersExpiringBetween(
+                RedisStateIndex.UNHEALTHY_INDEX_KEY, now, now + withinSeconds * 1000));
+            
+        } catch (Exception e) {
+            log.error("Failed to get APIs recovering within {}s", withinSeconds, e);
+            return Map.of();
+        }
+    }
+    
+    /**
+     * 만료 시각(epoch millis)을 남은 초로 변환 (올림)
+     */
+    private Map<String, Long> toRemainingSeconds(Map<String, Long> expiries) {
+        long now = System.currentTimeMillis();
+        Map<String, Long> estimates = new LinkedHashMap<>();
+        expiries.forEach((apiId, expiresAt) -> {
+            long remainingMillis = expiresAt - now;
+            if (remainingMillis > 0) {
+                estimates.put(apiId, (remainingMillis + 999) / 1000);
+            }
+        });
+        return estimates;
+    }
+    
+    /**
+     * 비정상 상태 조회 (HMGET 1회, 정상 API 또는 스키마 버전이 다르면 빈 값)
+     */
+    public Optional<ApiHealthState> getApiHealthState(String apiId) {
+        List<Object> values = stringRedisTemplate.opsForHash()
+            .multiGet(unhealthyKey(apiId), ApiHealthStateCodec.FIELDS);
+        return ApiHealthStateCodec.decode(apiId, values);
+    }
+    
     /**
      * 상세 API 상태 정보 조회
      */
-    @SuppressWarnings("unchecked")
     public Map<String, Object> getDetailedApiStatus(String apiId) {
         try {
-            String unhealthyKey = UNHEALTHY_PREFIX + apiId;
-            
-            if (!Boolean.TRUE.equals(redisTemplate.hasKey(unhealthyKey))) {
+            Optional<ApiHealthState> state = getApiHealthState(apiId);
+            if (state.isEmpty()) {
                 return createHealthyStatusMap(apiId);
             }
             
-            Map<String, Object> status = (Map<String, Object>) redisTemplate.opsForValue().get(unhealthyKey);
-            if (status == null) {
-                return createHealthyStatusMap(apiId);
-            }
+            Map<String, Object> status = state.get().toStatusMap();
             
             // TTL 정보 추가
-            Long ttl = redisTemplate.getExpire(unhealthyKey, TimeUnit.SECONDS);
+            Long ttl = redisTemplate.getExpire(unhealthyKey(apiId), TimeUnit.SECONDS);
             status.put("ttlSeconds", ttl);
             status.put("estimatedRecoveryTime", 
                 ttl != null && ttl > 0 ? 
@@ -340,6 +356,90 @@ public class RedisHealthStateManager {
         }
     }
     
+    /**
+     * 기간별 헬스체크 히스토리 조회 (XRANGE, 오래된 순)
+     */
+    public List<HealthHistoryEntry> getHealthHistory(String apiId, LocalDateTime from, LocalDateTime to, int limit) {
+        try {
+            Range<String> range = Range.of(
+                from != null ? Range.Bound.inclusive(ApiHealthStateCodec.encodeMillis(from)) : Range.Bound.<String>unbounded(),
+                to != null ? Range.Bound.inclusive(ApiHealthStateCodec.encodeMillis(to)) : Range.Bound.<String>unbounded());
+            
+            List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .range(HealthStateKeys.apiKey(HEALTH_HISTORY_PREFIX, apiId), range, Limit.limit().count(limit));
+            
+            return decodeHistory(records);
+            
+        } catch (Exception e) {
+            log.error("Failed to get health history for: {}", apiId, e);
+            return List.of();
+        }
+    }
+    
+    /**
+     * 최근 상태 전이 N건 조회 (XREVRANGE를 페이지 단위로 읽으며 상태가 바뀐 지점만 수집, 최신 순)
+     * 각 항목은 새 상태가 처음 관측된 레코드
+     */
+    public List<HealthHistoryEntry> getRecentTransitions(String apiId, int limit) {
+        try {
+            String key = HealthStateKeys.apiKey(HEALTH_HISTORY_PREFIX, apiId);
+            List<HealthHistoryEntry> transitions = new ArrayList<>();
+            HealthHistoryEntry newer = null;
+            Range<String> range = Range.<String>unbounded();
+            String upperBound = null;
+            long scanned = 0;
+            
+            while (transitions.size() < limit && scanned < historyMaxLength) {
+                List<HealthHistoryEntry> page = decodeHistory(stringRedisTemplate.opsForStream()
+                    .reverseRange(key, range, Limit.limit().count(HISTORY_SCAN_PAGE_SIZE)));
+                
+                for (HealthHistoryEntry entry : page) {
+                    if (entry.getRecordId().equals(upperBound)) {
+                        continue;
+                    }
+                    if (newer != null && newer.getStatus() != entry.getStatus()) {
+                        transitions.add(newer);
+                        if (transitions.size() >= limit) {
+                            break;
+                        }
+                    }
+                    newer = entry;
+                }
+                
+                scanned += page.size();
+                if (page.size() < HISTORY_SCAN_PAGE_SIZE || newer == null) {
+                    break;
+                }
+                upperBound = newer.getRecordId();
+                range = Range.of(Range.Bound.<String>unbounded(), Range.Bound.inclusive(upperBound));
+            }
+            
+            // 가장 오래된 레코드는 이전 상태를 알 수 없으므로 전이 시작점으로 간주
+            if (newer != null && transitions.size() < limit && scanned < historyMaxLength) {
+                transitions.add(newer);
+            }
+            
+            return transitions;
+            
+        } catch (Exception e) {
+            log.error("Failed to get recent transitions for: {}", apiId, e);
+            return List.of();
+        }
+    }
+    
+    private List<HealthHistoryEntry> decodeHistory(List<MapRecord<String, Object, Object>> records) {
+        if (records == null) {
+            return List.of();
+        }
+        
+        List<HealthHistoryEntry> entries = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            entries.add(ApiHealthStateCodec.decodeHistory(
+                record.getId().getValue(), record.getId().getTimestamp(), record.getValue()));
+        }
+        return entries;
+    }
+    
     /**
      * 정상 상태 맵 생성
      */
@@ -358,22 +458,24 @@ public class RedisHealthStateManager {
      */
     public Map<String, Object> getFailureStatistics() {
         try {
-            Set<String> unhealthyKeys = redisTemplate.keys(UNHEALTHY_PREFIX + "*");
+            List<String> unhealthyApiIds = redisStateIndex.activeMembers(RedisStateIndex.UNHEALTHY_INDEX_KEY);
             
             Map<String, Object> stats = new HashMap<>();
-            stats.put("totalUnhealthyApis", unhealthyKeys.size());
-            stats.put("unhealthyApiIds", unhealthyKeys.stream()
-                .map(key -> key.replace(UNHEALTHY_PREFIX, ""))
-                .collect(Collectors.toList()));
+            stats.put("totalUnhealthyApis", unhealthyApiIds.size());
+            stats.put("unhealthyApiIds", unhealthyApiIds);
             
-            // 상태별 통계
+            // 상태별 통계 (HGET s를 샤드(슬롯)별 파이프라인으로 일괄 조회)
             Map<String, Integer> statusCounts = new HashMap<>();
-            for (String key : unhealthyKeys) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> apiStatus = (Map<String, Object>) redisTemplate.opsForValue().get(key);
-                if (apiStatus != null) {
-                    String status = apiStatus.getOrDefault("status", "UNKNOWN").toString();
-                    statusCounts.merge(status, 1, Integer::sum);
+            byte[] statusField = ApiHealthStateCodec.STATUS_FIELD.getBytes(StandardCharsets.UTF_8);
+            Map<Integer, List<Object>> replies = ShardPipelines.execute(stringRedisTemplate,
+                HealthStateKeys.groupByShard(unhealthyApiIds), (connection, apiIds) -> apiIds.forEach(apiId ->
+                    connection.hashCommands().hGet(unhealthyKey(apiId).getBytes(StandardCharsets.UTF_8), statusField)));
+            
+            for (List<Object> apiStatuses : replies.values()) {
+                for (Object status : apiStatuses) {
+                    if (status != null) {
+                        statusCounts.merge(ApiHealthStateCodec.decodeStatus(status).name(), 1, Integer::sum);
+                    }
                 }
             }
             stats.put("statusBreakdown", statusCounts);
@@ -391,24 +493,17 @@ public class RedisHealthStateManager {
      */
     public void performEarlyRecoveryCheck(String apiId) {
         try {
-            String unhealthyKey = UNHEALTHY_PREFIX + apiId;
-            
-            if (!Boolean.TRUE.equals(redisTemplate.hasKey(unhealthyKey))) {
-                return;
-            }
-            
-            @SuppressWarnings("unchecked")
-            Map<String, Object> currentState = (Map<String, Object>) redisTemplate.opsForValue().get(unhealthyKey);
-            
-            if (currentState != null) {
-                // 연속 실패 횟수가 적으면 TTL 단축
-                int failures = Integer.parseInt(currentState.getOrDefault("consecutiveFailures", "0").toString());
-                
-                if (failures <= 2) {
-                    // TTL을 30초로 단축하여 빠른 재검증 유도
-                    redisTemplate.expire(unhealthyKey, 30, TimeUnit.SECONDS);
-                    log.debug("Shortened TTL for potentially recovering API: {}", apiId);
-                }
+            // 연속 실패 횟수가 적으면 TTL을 단축하여 빠른 재검증 유도 (TTL과 인덱스 점수를 함께 갱신)
+            Long appliedTtl = stringRedisTemplate.execute(
+                EARLY_RECOVERY_SCRIPT,
+                List.of(unhealthyKey(apiId), HealthStateKeys.shardKey(RedisStateIndex.UNHEALTHY_INDEX_KEY, apiId)),
+                apiId,
+                String.valueOf(EARLY_RECOVERY_MAX_FAILURES),
+                String.valueOf(EARLY_RECOVERY_TTL_SECONDS),
+                String.valueOf(System.currentTimeMillis()));
+            
+            if (appliedTtl != null && appliedTtl > 0) {
+                log.debug("Shortened TTL for potentially recovering API: {}", apiId);
             }
             
         } catch (Exception e) {
@@ -0,0 +1,99 @@
+package org.example.SystemManagementSvc.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+/**
+ * Redis 키스페이스 알림 공통 처리
+ * 여러 로컬 캐시가 각자 필요한 플래그만 기존 설정에 병합하여 활성화
+ */
+@Slf4j
+final class RedisKeyspaceNotifications {
+
+    private static final String CONFIG_NAME = "notify-keyspace-events";
+    private static final String KEYSPACE_CHANNEL_SEPARATOR = "__:";
+
+    private RedisKeyspaceNotifications() {
+    }
+
+    /**
+     * 키스페이스 알림 활성화 (기존 설정에 필요한 플래그만 추가)
+     * 관리형 Redis 등 CONFIG 명령이 막힌 환경에서는 false를 반환하며, 호출 측은 주기 갱신/TTL로만 동작
+     */
+    static boolean enable(RedisOperations<?, ?> redisOperations, String requiredFlags) {
+        try {
+            redisOperations.execute((RedisCallback<Void>) connection -> {
+                Properties current = connection.serverCommands().getConfig(CONFIG_NAME);
+                String flags = current != null ? current.getProperty(CONFIG_NAME, "") : "";
+
+                String merged = mergeFlags(flags, requiredFlags);
+                if (!merged.equals(flags)) {
+                    connection.serverCommands().setConfig(CONFIG_NAME, merged);
+                    log.info("Redis keyspace notifications enabled: '{}' -> '{}'", flags, merged);
+                }
+                return null;
+            });
+            return true;
+        } catch (Exception e) {
+            log.warn("Could not enable Redis keyspace notifications ({}): {}", requiredFlags, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 서버 설정에 없는 알림 플래그 조회 (CONFIG GET)
+     *
+     * @return 빠진 플래그 (모두 설정되어 있으면 빈 문자열), CONFIG 명령이 막혀 확인할 수 없으면 null
+     */
+    static String missingFlags(RedisOperations<?, ?> redisOperations, String requiredFlags) {
+        try {
+            String flags = redisOperations.execute((RedisCallback<String>) connection -> {
+                Properties current = connection.serverCommands().getConfig(CONFIG_NAME);
+                return current != null ? current.getProperty(CONFIG_NAME, "") : "";
+            });
+            String current = flags != null ? flags : "";
+            return mergeFlags(current, requiredFlags).substring(current.length());
+        } catch (Exception e) {
+            log.debug("Could not read Redis notify-keyspace-events: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 알림 채널에서 키 추출 (__keyspace@{db}__:{key})
+     */
+    static String keyOf(Message message) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        int keyStart = channel.indexOf(KEYSPACE_CHANNEL_SEPARATOR);
+        return keyStart < 0 ? null : channel.substring(keyStart + KEYSPACE_CHANNEL_SEPARATOR.length());
+    }
+
+    /**
+     * 알림 본문(이벤트 이름)
+     */
+    static String eventOf(Message message) {
+        return new String(message.getBody(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 기존 알림 플래그에 필요한 플래그 병합
+     * 'A'(g$lshzxe 별칭)가 이미 있으면 K만 추가
+     */
+    static String mergeFlags(String flags, String requiredFlags) {
+        StringBuilder merged = new StringBuilder(flags);
+        boolean hasAll = flags.indexOf('A') >= 0;
+
+        for (char flag : requiredFlags.toCharArray()) {
+            boolean coveredByAll = hasAll && flag != 'K' && flag != 'E';
+            if (!coveredByAll && merged.indexOf(String.valueOf(flag)) < 0) {
+                merged.append(flag);
+            }
+        }
+        return merged.toString();
+    }
+}
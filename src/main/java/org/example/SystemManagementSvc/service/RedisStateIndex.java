@@ -0,0 +1,126 @@
+package org.example.SystemManagementSvc.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * TTL 기반 상태 키의 Redis Sorted Set 인덱스
+ * - member: apiId, score: 상태 키 만료 시각 (epoch millis)
+ * - 상태 키를 쓰거나 지울 때 함께 갱신하여 KEYS 스캔 없이 목록 조회
+ * - 조회 시 ZRANGEBYSCORE(now, +inf)로 아직 만료되지 않은 항목만 반환하고 만료 항목은 지연 정리
+ * - 인덱스는 해시 태그 샤드별로 나뉘어 API 상태 키와 같은 슬롯에 위치 (HealthStateKeys)
+ *   전체 조회는 샤드(슬롯)별 파이프라인으로 읽어 병합 (Cluster에서 파이프라인 하나가 한 노드로만 전송됨)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisStateIndex {
+
+    /** 비정상 API 인덱스 (unhealthy:{hN}:{apiId}) */
+    public static final String UNHEALTHY_INDEX_KEY = "index:unhealthy";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 인덱스 등록 또는 만료 시각 갱신
+     */
+    public void track(String indexKey, String apiId, long ttlSeconds) {
+        try {
+            long expiresAt = System.currentTimeMillis() + ttlSeconds * 1000;
+            stringRedisTemplate.opsForZSet().add(HealthStateKeys.shardKey(indexKey, apiId), apiId, expiresAt);
+        } catch (Exception e) {
+            log.warn("Failed to track {} in index {}", apiId, indexKey, e);
+        }
+    }
+
+    /**
+     * 인덱스에서 제거
+     */
+    public void untrack(String indexKey, String apiId) {
+        try {
+            stringRedisTemplate.opsForZSet().remove(HealthStateKeys.shardKey(indexKey, apiId), apiId);
+        } catch (Exception e) {
+            log.warn("Failed to untrack {} from index {}", apiId, indexKey, e);
+        }
+    }
+
+    /**
+     * 만료되지 않은 apiId 목록 조회 (만료 임박 순)
+     */
+    public List<String> activeMembers(String indexKey) {
+        return new ArrayList<>(activeMembersWithExpiry(indexKey).keySet());
+    }
+
+    /**
+     * 만료되지 않은 apiId와 만료 시각(epoch millis) 조회 (만료 임박 순)
+     */
+    public Map<String, Long> activeMembersWithExpiry(String indexKey) {
+        long now = System.currentTimeMillis();
+        return collect(indexKey, now, Double.POSITIVE_INFINITY, now);
+    }
+
+    /**
+     * 만료 시각이 [fromMillis, toMillis] 범위인 apiId와 만료 시각 조회 (만료 임박 순)
+     */
+    public Map<String, Long> membersExpiringBetween(String indexKey, long fromMillis, long toMillis) {
+        return collect(indexKey, fromMillis, toMillis, -1);
+    }
+
+    /**
+     * 전체 샤드를 샤드(슬롯)별 파이프라인으로 조회하여 만료 임박 순으로 병합
+     *
+     * @param pruneBefore 이 시각 이전에 만료된 항목을 함께 정리 (음수면 정리하지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> collect(String indexKey, double min, double max, long pruneBefore) {
+        Map<Integer, byte[]> shardKeys = new LinkedHashMap<>();
+        for (int shard = 0; shard < HealthStateKeys.shardCount(); shard++) {
+            shardKeys.put(shard, HealthStateKeys.shardKey(indexKey, shard).getBytes(StandardCharsets.UTF_8));
+        }
+
+        Map<Integer, List<Object>> replies = ShardPipelines.execute(stringRedisTemplate, shardKeys, (connection, key) -> {
+            if (pruneBefore >= 0) {
+                prune(connection, key, pruneBefore);
+            }
+            connection.zSetCommands().zRangeByScoreWithScores(key, min, max);
+        });
+
+        List<Map.Entry<String, Long>> entries = new ArrayList<>();
+        for (List<Object> shardReplies : replies.values()) {
+            for (Object reply : shardReplies) {
+                if (!(reply instanceof Set<?> tuples)) {
+                    continue;
+                }
+                for (ZSetOperations.TypedTuple<String> tuple : (Set<ZSetOperations.TypedTuple<String>>) tuples) {
+                    if (tuple.getValue() != null && tuple.getScore() != null) {
+                        entries.add(Map.entry(tuple.getValue(), tuple.getScore().longValue()));
+                    }
+                }
+            }
+        }
+        entries.sort(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+
+        Map<String, Long> result = new LinkedHashMap<>();
+        entries.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    /**
+     * 만료된 인덱스 항목 정리 (파이프라인 내)
+     */
+    private void prune(RedisConnection connection, byte[] key, long now) {
+        connection.zSetCommands().zRemRangeByScore(key, Double.NEGATIVE_INFINITY, now - 1);
+    }
+}
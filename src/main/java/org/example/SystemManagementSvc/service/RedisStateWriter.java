@@ -0,0 +1,288 @@
+package org.example.SystemManagementSvc.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.SystemManagementSvc.domain.ExternalApi;
+import org.example.SystemManagementSvc.domain.HealthCheckResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 헬스체크 결과의 Redis 상태 반영을 모아서 처리하는 Writer
+ * - 프로브 결과를 큐에 누적하고 스윕 종료 또는 마이크로배치 단위로 flush
+ * - flush는 청크 단위 파이프라인(executePipelined)으로 수행: 청크당 SCRIPT LOAD 1회 + API당 EVALSHA
+ * - EVALSHA 응답은 파이프라인 결과에서 다시 읽어 복구/비정상 전환을 로깅
+ * - 청크는 해시 태그 샤드별로 구성하여 Redis Cluster에서도 파이프라인 하나가 한 슬롯(노드)으로만 전송됨
+ * - API 메타데이터는 내용이 바뀐 경우에만 SETEX, TTL 연장이 필요한 경우에만 EXPIRE (ApiMetadataCache)
+ * - flush 지연시간, 반영 건수, 실패 횟수를 메트릭으로 기록
+ * - flush 후 HealthStateFlushedEvent를 발행하여 가용성 스냅샷을 다시 게시하도록 함
+ */
+@Slf4j
+@Service
+public class RedisStateWriter {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisHealthStateManager redisHealthStateManager;
+    private final ApiOrdinalRegistry apiOrdinalRegistry;
+    private final ApiMetadataCache apiMetadataCache;
+    private final LocalHealthStateStore localHealthStateStore;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${healthcheck.redis.writer.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${healthcheck.redis.writer.max-pending:1000}")
+    private int maxPendingUpdates;
+
+    private final Queue<PendingUpdate> pendingUpdates = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Timer flushTimer;
+    private final Counter flushedUpdates;
+    private final Counter flushFailures;
+
+    @Autowired
+    public RedisStateWriter(StringRedisTemplate stringRedisTemplate,
+                            RedisTemplate<String, Object> redisTemplate,
+                            RedisHealthStateManager redisHealthStateManager,
+                            ApiOrdinalRegistry apiOrdinalRegistry,
+                            ApiMetadataCache apiMetadataCache,
+                            LocalHealthStateStore localHealthStateStore,
+                            MeterRegistry meterRegistry,
+                            ApplicationEventPublisher applicationEventPublisher) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisTemplate = redisTemplate;
+        this.redisHealthStateManager = redisHealthStateManager;
+        this.apiOrdinalRegistry = apiOrdinalRegistry;
+        this.apiMetadataCache = apiMetadataCache;
+        this.localHealthStateStore = localHealthStateStore;
+        this.meterRegistry = meterRegistry;
+        this.applicationEventPublisher = applicationEventPublisher;
+
+        this.flushTimer = Timer.builder("apibridge_redis_state_flush_duration_seconds")
+            .description("Time taken to flush a pipelined chunk of health state updates to Redis")
+            .register(meterRegistry);
+
+        this.flushedUpdates = Counter.builder("apibridge_redis_state_updates_flushed_total")
+            .description("Total number of health state updates flushed to Redis")
+            .register(meterRegistry);
+
+        this.flushFailures = Counter.builder("apibridge_redis_state_flush_failures_total")
+            .description("Total number of failed Redis health state flush chunks")
+            .register(meterRegistry);
+
+        Gauge.builder("apibridge_redis_state_pending_updates", pendingCount, AtomicInteger::get)
+            .description("Number of health state updates waiting to be flushed to Redis")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 상태 업데이트 적재
+     * 로컬 상태 저장소는 즉시 갱신하고, 대기 건수가 max-pending에 도달하면 즉시 flush (다른 스레드가 flush 중이면 생략)
+     *
+     * @param api 메타데이터 캐싱 대상 API (없으면 null)
+     */
+    public void enqueue(String apiId, HealthCheckResult result, ExternalApi api) {
+        localHealthStateStore.record(apiId, result);
+        pendingUpdates.add(new PendingUpdate(apiId, result, api));
+
+        if (pendingCount.incrementAndGet() >= maxPendingUpdates) {
+            flushIfIdle();
+        }
+    }
+
+    /**
+     * 누적된 상태 업데이트를 모두 반영 (스윕 종료 시 호출)
+     *
+     * @return 반영 시도한 업데이트 수
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            return drainAndWrite();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 잔여 업데이트 주기적 반영 (단건 헬스체크, 타임아웃 이후 도착한 결과 등)
+     */
+    @Scheduled(fixedDelayString = "${healthcheck.redis.writer.flush-interval:1000}")
+    public void scheduledFlush() {
+        flushIfIdle();
+    }
+
+    /**
+     * 다른 flush가 진행 중이 아니면 반영
+     */
+    private void flushIfIdle() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            drainAndWrite();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 큐를 비우면서 샤드별 청크 단위로 파이프라인 반영 (같은 API의 업데이트 순서는 유지)
+     */
+    private int drainAndWrite() {
+        int total = 0;
+        Map<Integer, List<PendingUpdate>> chunks = new HashMap<>();
+
+        PendingUpdate update;
+        while ((update = pendingUpdates.poll()) != null) {
+            pendingCount.decrementAndGet();
+            int shard = HealthStateKeys.shardOf(update.apiId());
+            List<PendingUpdate> chunk = chunks.computeIfAbsent(shard, key -> new ArrayList<>(chunkSize));
+            chunk.add(update);
+
+            if (chunk.size() >= chunkSize) {
+                writeChunk(chunk);
+                total += chunk.size();
+                chunks.remove(shard);
+            }
+        }
+
+        for (List<PendingUpdate> chunk : chunks.values()) {
+            writeChunk(chunk);
+            total += chunk.size();
+        }
+
+        if (total > 0) {
+            log.debug("Flushed {} health state updates to Redis", total);
+            applicationEventPublisher.publishEvent(new HealthStateFlushedEvent(total));
+        }
+        return total;
+    }
+
+    /**
+     * 청크 하나를 단일 파이프라인으로 반영
+     * 청크 맨 앞의 SCRIPT LOAD로 EVALSHA의 NOSCRIPT 오류를 방지 (파이프라인 내 순서 보장)
+     * 비트맵 ordinal은 파이프라인 밖에서 미리 확보
+     */
+    @SuppressWarnings("unchecked")
+    private void writeChunk(List<PendingUpdate> chunk) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            byte[] script = RedisHealthStateManager.HEALTH_STATE_TRANSITION_SCRIPT.getScriptAsString()
+                .getBytes(StandardCharsets.UTF_8);
+            String scriptSha = RedisHealthStateManager.HEALTH_STATE_TRANSITION_SCRIPT.getSha1();
+            RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+            apiOrdinalRegistry.ensureOrdinals(chunk.stream().map(PendingUpdate::apiId).toList());
+            List<ApiMetadataCache.Action> metadataActions = chunk.stream()
+                .map(pending -> pending.api() != null ? apiMetadataCache.plan(pending.api()) : ApiMetadataCache.Action.NONE)
+                .toList();
+
+            List<Object> replies = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.scriptingCommands().scriptLoad(script);
+
+                for (int i = 0; i < chunk.size(); i++) {
+                    PendingUpdate pending = chunk.get(i);
+                    connection.scriptingCommands().evalSha(scriptSha, ReturnType.MULTI,
+                        RedisHealthStateManager.TRANSITION_KEY_COUNT,
+                        redisHealthStateManager.transitionKeysAndArgs(pending.apiId(), pending.result()));
+
+                    byte[] metadataKey = ApiMetadataCache.key(pending.apiId()).getBytes(StandardCharsets.UTF_8);
+                    switch (metadataActions.get(i)) {
+                        case WRITE -> connection.stringCommands().setEx(metadataKey,
+                            apiMetadataCache.getTtlSeconds(),
+                            valueSerializer.serialize(ApiMetadataCache.buildMetadata(pending.api())));
+                        case REFRESH -> connection.keyCommands().expire(metadataKey, apiMetadataCache.getTtlSeconds());
+                        case NONE -> { }
+                    }
+                }
+                return null;
+            });
+
+            handleReplies(chunk, metadataActions, replies);
+            flushedUpdates.increment(chunk.size());
+
+        } catch (Exception e) {
+            apiMetadataCache.invalidate(chunk.stream()
+                .filter(pending -> pending.api() != null)
+                .map(PendingUpdate::apiId)
+                .toList());
+            localHealthStateStore.markDirty(chunk.stream().map(PendingUpdate::apiId).toList());
+            flushFailures.increment();
+            log.error("Failed to flush {} health state updates to Redis", chunk.size(), e);
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    /**
+     * 파이프라인 응답 처리
+     * - 업데이트별 EVALSHA 결과로 상태 전이 로깅 (복구/비정상 전환 로그 유지)
+     * - EXPIRE가 false를 반환한 메타데이터(키가 이미 만료/퇴출됨)는 SETEX로 다시 기록
+     * 응답 순서: SCRIPT LOAD, 이후 업데이트마다 EVALSHA (+ 메타데이터 명령이 있으면 1개)
+     */
+    private void handleReplies(List<PendingUpdate> chunk, List<ApiMetadataCache.Action> metadataActions,
+                               List<Object> replies) {
+        int index = 1;
+        for (int i = 0; i < chunk.size() && index < replies.size(); i++) {
+            PendingUpdate pending = chunk.get(i);
+            redisHealthStateManager.logTransition(pending.apiId(), pending.result(), toTransition(replies.get(index++)));
+
+            ApiMetadataCache.Action action = metadataActions.get(i);
+            if (action == ApiMetadataCache.Action.NONE || index >= replies.size()) {
+                continue;
+            }
+            Object metadataReply = replies.get(index++);
+            if (action == ApiMetadataCache.Action.REFRESH && Boolean.FALSE.equals(metadataReply)) {
+                apiMetadataCache.write(pending.api());
+            }
+        }
+    }
+
+    /**
+     * EVALSHA(MULTI) 응답을 문자열 리스트로 변환
+     */
+    private static List<String> toTransition(Object reply) {
+        if (!(reply instanceof List<?> values)) {
+            return List.of();
+        }
+        List<String> transition = new ArrayList<>(values.size());
+        for (Object value : values) {
+            transition.add(value instanceof byte[] bytes
+                ? new String(bytes, StandardCharsets.UTF_8)
+                : String.valueOf(value));
+        }
+        return transition;
+    }
+
+    /**
+     * 반영 대기 중인 상태 업데이트
+     */
+    private record PendingUpdate(String apiId, HealthCheckResult result, ExternalApi api) {
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.SystemManagementSvc.service;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * 해시 태그 샤드(= 클러스터 슬롯) 단위 파이프라인 실행
+ * 여러 슬롯의 명령을 한 파이프라인에 섞으면 Redis Cluster에서 노드별로 흩어져 전송되므로,
+ * 샤드마다 별도 파이프라인으로 실행하여 파이프라인 하나가 항상 한 노드로만 가도록 함
+ */
+final class ShardPipelines {
+
+    private ShardPipelines() {
+    }
+
+    /**
+     * 샤드별 파이프라인 실행 (응답은 템플릿 직렬화기로 역직렬화)
+     *
+     * @param groups   샤드 → 해당 샤드에서 처리할 대상
+     * @param commands 샤드 하나의 명령을 파이프라인에 추가
+     * @return 샤드 → 파이프라인 응답 (입력 순서 유지)
+     */
+    static <T> Map<Integer, List<Object>> execute(StringRedisTemplate template, Map<Integer, T> groups,
+                                                  BiConsumer<RedisConnection, T> commands) {
+        return execute(template, groups, commands, null);
+    }
+
+    /**
+     * 샤드별 파이프라인 실행
+     *
+     * @param resultSerializer 응답 역직렬화기 (null이면 템플릿 값 직렬화기)
+     */
+    static <T> Map<Integer, List<Object>> execute(StringRedisTemplate template, Map<Integer, T> groups,
+                                                  BiConsumer<RedisConnection, T> commands,
+                                                  RedisSerializer<?> resultSerializer) {
+        Map<Integer, List<Object>> replies = new LinkedHashMap<>();
+        groups.forEach((shard, group) -> {
+            RedisCallback<Object> callback = connection -> {
+                commands.accept(connection, group);
+                return null;
+            };
+            replies.put(shard, resultSerializer != null
+                ? template.executePipelined(callback, resultSerializer)
+                : template.executePipelined(callback));
+        });
+        return replies;
+    }
+}
@@ -0,0 +1,183 @@
+package org.example.SystemManagementSvc.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비정상 API 집합의 프로세스 내 Near-Cache
+ * - isApiAvailable 핫패스를 Redis 왕복 없이 로컬 조회로 처리
+ * - 주기적으로(refresh-interval, 기본 5초) 인덱스(ZSET) 전체를 다시 읽어 갱신
+ * - 서버에 unhealthy:* 키스페이스 알림(hset/hincrby/expire/del/expired/evicted)이 켜져 있으면 그 사이 변경도 즉시 반영
+ *   (재적재 중 도착한 알림은 새 스냅샷에 재적용)
+ * - 서버의 notify-keyspace-events 변경(CONFIG SET)은 configure-keyspace-events=true일 때만 수행하며,
+ *   그 외에는 시작 시 설정을 확인하여 필요한 플래그가 없으면 경고만 남김
+ * - 지연 상한: 알림이 없으면(관리형 Redis 기본값 등) 다른 파드의 변경은 최대 refresh-interval 늦게 반영되고,
+ *   Redis Cluster에서는 구독한 노드 외의 변경도 같은 주기로 반영됨 (알림은 노드 로컬)
+ * - 마지막 전체 갱신이 max-staleness보다 오래되면 사용 중지 (호출 측은 Redis 직접 조회로 대체)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "healthcheck.near-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class UnhealthyApiNearCache implements MessageListener {
+
+    private static final String UNHEALTHY_PREFIX = "unhealthy:";
+    private static final String KEYSPACE_PATTERN = "__keyspace@*__:" + UNHEALTHY_PREFIX + "*";
+
+    /** 필요한 키스페이스 알림 플래그 (K: keyspace, g: generic, h: hash, x: expired, e: evicted) */
+    private static final String REQUIRED_NOTIFY_FLAGS = "Kghxe";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisStateIndex redisStateIndex;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${healthcheck.near-cache.max-staleness:15000}")
+    private long maxStalenessMillis;
+
+    @Value("${healthcheck.near-cache.configure-keyspace-events:false}")
+    private boolean configureKeyspaceEvents;
+
+    @Value("${healthcheck.near-cache.refresh-interval:5000}")
+    private long refreshIntervalMillis;
+
+    /** apiId → 만료 시각 (epoch millis, 알림으로만 알게 된 항목은 다음 전체 갱신까지 Long.MAX_VALUE) */
+    private volatile Map<String, Long> unhealthyApis = new ConcurrentHashMap<>();
+
+    /** 마지막 전체 갱신 성공 시각 */
+    private volatile long lastRefreshMillis;
+
+    /** 알림 적용과 스냅샷 교체 직렬화 */
+    private final Object updateLock = new Object();
+
+    /** 전체 재적재 중 도착한 알림 (재적재 중이 아니면 null) */
+    private List<Notification> refreshBuffer;
+
+    @PostConstruct
+    public void initialize() {
+        if (configureKeyspaceEvents) {
+            RedisKeyspaceNotifications.enable(stringRedisTemplate, REQUIRED_NOTIFY_FLAGS);
+        } else {
+            warnIfNotificationsDisabled();
+        }
+        redisMessageListenerContainer.addMessageListener(this, new PatternTopic(KEYSPACE_PATTERN));
+        refresh();
+    }
+
+    /**
+     * 서버 알림 설정 확인 (필요한 플래그가 없으면 주기 갱신만으로 동작함을 경고)
+     */
+    private void warnIfNotificationsDisabled() {
+        String missing = RedisKeyspaceNotifications.missingFlags(stringRedisTemplate, REQUIRED_NOTIFY_FLAGS);
+        if (missing == null) {
+            log.warn("Could not verify notify-keyspace-events (requires {}); unhealthy near-cache may lag up to {}ms",
+                    REQUIRED_NOTIFY_FLAGS, refreshIntervalMillis);
+        } else if (!missing.isEmpty()) {
+            log.warn("notify-keyspace-events is missing '{}' (requires {}); unhealthy near-cache relies on the {}ms refresh",
+                    missing, REQUIRED_NOTIFY_FLAGS, refreshIntervalMillis);
+        }
+    }
+
+    /**
+     * Near-Cache 사용 가능 여부 (마지막 전체 갱신이 max-staleness 이내)
+     */
+    public boolean isFresh() {
+        return System.currentTimeMillis() - lastRefreshMillis <= maxStalenessMillis;
+    }
+
+    /**
+     * 로컬 캐시 기준 비정상 여부
+     */
+    public boolean isUnhealthy(String apiId) {
+        Long expiresAt = unhealthyApis.get(apiId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 현재 캐시된 비정상 API 수
+     */
+    public int size() {
+        return unhealthyApis.size();
+    }
+
+    /**
+     * 인덱스 전체 재적재 (알림 유실 보정 및 만료 시각 동기화)
+     * 인덱스를 읽는 동안 도착한 알림은 버퍼에 모아 두었다가 교체 직전 새 스냅샷에 순서대로 재적용
+     */
+    @Scheduled(fixedDelayString = "${healthcheck.near-cache.refresh-interval:5000}")
+    public void refresh() {
+        synchronized (updateLock) {
+            refreshBuffer = new ArrayList<>();
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            Map<String, Long> snapshot = new ConcurrentHashMap<>(
+                redisStateIndex.activeMembersWithExpiry(RedisStateIndex.UNHEALTHY_INDEX_KEY));
+
+            synchronized (updateLock) {
+                refreshBuffer.forEach(notification -> apply(snapshot, notification));
+                unhealthyApis = snapshot;
+            }
+            lastRefreshMillis = startedAt;
+
+        } catch (Exception e) {
+            log.warn("Failed to refresh unhealthy API near-cache, falling back to Redis lookups", e);
+        } finally {
+            synchronized (updateLock) {
+                refreshBuffer = null;
+            }
+        }
+    }
+
+    /**
+     * 키스페이스 알림 처리
+     * 채널: __keyspace@{db}__:unhealthy:{apiId}, 본문: 이벤트 이름
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = RedisKeyspaceNotifications.keyOf(message);
+        String apiId = key != null ? HealthStateKeys.apiIdOf(UNHEALTHY_PREFIX, key) : null;
+        if (apiId == null) {
+            return;
+        }
+
+        Notification notification = new Notification(apiId, RedisKeyspaceNotifications.eventOf(message));
+        synchronized (updateLock) {
+            apply(unhealthyApis, notification);
+            if (refreshBuffer != null) {
+                refreshBuffer.add(notification);
+            }
+        }
+    }
+
+    /**
+     * 알림 이벤트를 캐시 맵에 반영
+     */
+    private static void apply(Map<String, Long> target, Notification notification) {
+        switch (notification.event()) {
+            case "del", "expired", "evicted" -> target.remove(notification.apiId());
+            case "hset", "hincrby", "hsetnx", "expire" -> target.putIfAbsent(notification.apiId(), Long.MAX_VALUE);
+            default -> { }
+        }
+    }
+
+    /**
+     * 키스페이스 알림 (apiId, 이벤트 이름)
+     */
+    private record Notification(String apiId, String event) {
+    }
+}
@@ -0,0 +1,201 @@
+package org.example.SystemManagementSvc.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 비정상 API 비트맵 인덱스 (bitmap:unhealthy:v2:{hN})
+ * - 해시 태그 샤드별 비트맵으로, 각 API는 자기 샤드의 비트맵에만 기록됨 (상태 키와 같은 슬롯)
+ * - 비트 위치: ApiOrdinalRegistry의 샤드 내 ordinal, 1 = 비정상
+ * - 실패 시 SETBIT 1, 복구 시 SETBIT 0 (health_state_transition.lua에서 상태 키와 함께 갱신)
+ * - TTL 만료로 사라진 상태 키는 reconcile()이 인덱스(ZSET)와 비교하여 후보를 고르고,
+ *   bitmap_reconcile.lua가 상태 키를 다시 확인하여 원자적으로 정리
+ * - 일괄 가용성 조회와 전체 스냅샷은 필요한 샤드의 비트맵만 샤드(슬롯)별로 GET
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnhealthyBitmapIndex {
+
+    /** 샤드 내 ordinal 기준 비트맵 (v2: 전역 ordinal을 쓰던 이전 bitmap:unhealthy:{hN}와 구분) */
+    static final String BITMAP_KEY = "bitmap:unhealthy:v2";
+
+    /** 후보 비트 재확인 후 정리 스크립트 */
+    private static final RedisScript<Long> BITMAP_RECONCILE_SCRIPT = RedisScript.of(
+        new ClassPathResource("redis/bitmap_reconcile.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ApiOrdinalRegistry apiOrdinalRegistry;
+    private final RedisStateIndex redisStateIndex;
+
+    /**
+     * 여러 API의 가용성 일괄 조회 (ordinal이 없는 API는 검사 이력이 없으므로 가용)
+     */
+    public Map<String, Boolean> checkAvailability(List<String> apiIds) {
+        Map<String, Integer> ordinals = apiOrdinalRegistry.lookupOrdinals(apiIds);
+        Set<Integer> shards = new TreeSet<>();
+        ordinals.keySet().forEach(apiId -> shards.add(HealthStateKeys.shardOf(apiId)));
+        Map<Integer, byte[]> bitmaps = readBitmaps(shards);
+
+        Map<String, Boolean> availability = new HashMap<>();
+        for (String apiId : apiIds) {
+            Integer ordinal = ordinals.get(apiId);
+            availability.put(apiId, ordinal == null
+                || !isSet(bitmaps.get(HealthStateKeys.shardOf(apiId)), ordinal));
+        }
+        return availability;
+    }
+
+    /**
+     * 알려진 전체 API의 가용성 스냅샷
+     */
+    public Map<String, Boolean> snapshot() {
+        Map<Integer, byte[]> bitmaps = readBitmaps(allShards());
+
+        Map<String, Boolean> availability = new HashMap<>();
+        for (int shard = 0; shard < HealthStateKeys.shardCount(); shard++) {
+            byte[] bitmap = bitmaps.get(shard);
+            apiOrdinalRegistry.knownApiIds(shard).forEach((ordinal, apiId) ->
+                availability.put(apiId, !isSet(bitmap, ordinal)));
+        }
+        return availability;
+    }
+
+    /**
+     * 샤드별 비트맵을 인덱스(ZSET)의 활성 멤버와 일치시킴
+     * 비트맵과 인덱스 비교로 후보 비트만 고른 뒤, 샤드별 Lua 스크립트가 상태 키 존재 여부를 다시 확인하여 반영
+     * (비교와 반영 사이에 실패/복구한 API의 비트를 잘못 바꾸지 않음)
+     */
+    @Scheduled(fixedDelayString = "${healthcheck.bitmap.reconcile-interval:5000}")
+    public void reconcile() {
+        try {
+            Map<Integer, byte[]> bitmaps = readBitmaps(allShards());
+            List<String> unhealthyApiIds = redisStateIndex.activeMembers(RedisStateIndex.UNHEALTHY_INDEX_KEY);
+            apiOrdinalRegistry.ensureOrdinals(unhealthyApiIds);
+
+            Map<Integer, BitSet> expectedByShard = new HashMap<>();
+            apiOrdinalRegistry.lookupOrdinals(unhealthyApiIds).forEach((apiId, ordinal) ->
+                expectedByShard.computeIfAbsent(HealthStateKeys.shardOf(apiId), shard -> new BitSet()).set(ordinal));
+
+            Map<Integer, BitSet> candidatesByShard = new HashMap<>();
+            for (int shard = 0; shard < HealthStateKeys.shardCount(); shard++) {
+                BitSet candidates = toBitSet(bitmaps.get(shard));
+                candidates.xor(expectedByShard.getOrDefault(shard, new BitSet()));
+                if (!candidates.isEmpty()) {
+                    candidatesByShard.put(shard, candidates);
+                }
+            }
+
+            long changes = 0;
+            for (Map.Entry<Integer, BitSet> entry : candidatesByShard.entrySet()) {
+                int shard = entry.getKey();
+                List<String> keys = new ArrayList<>();
+                List<String> ordinals = new ArrayList<>();
+                reconcileKeysAndArgs(shard, entry.getValue(), apiOrdinalRegistry.knownApiIds(shard), keys, ordinals);
+                Long changed = stringRedisTemplate.execute(BITMAP_RECONCILE_SCRIPT, keys, ordinals.toArray());
+                changes += changed != null ? changed : 0;
+            }
+            if (changes > 0) {
+                log.debug("Reconciled unhealthy bitmaps: {} bits changed", changes);
+            }
+
+        } catch (Exception e) {
+            log.warn("Failed to reconcile unhealthy API bitmap", e);
+        }
+    }
+
+    /**
+     * 샤드 1개 정리 스크립트의 KEYS(비트맵 + 후보 API 상태 키)와 ARGV(ordinal) 구성
+     * apiId를 알 수 없는 고아 비트는 ARGV 뒤쪽에만 두어 스크립트가 0으로 정리하도록 함
+     */
+    private static void reconcileKeysAndArgs(int shard, BitSet candidates, Map<Integer, String> apiIdsByOrdinal,
+                                             List<String> keys, List<String> ordinals) {
+        List<String> orphanOrdinals = new ArrayList<>();
+        keys.add(HealthStateKeys.shardKey(BITMAP_KEY, shard));
+
+        for (int bit = candidates.nextSetBit(0); bit >= 0; bit = candidates.nextSetBit(bit + 1)) {
+            String apiId = apiIdsByOrdinal.get(bit);
+            if (apiId != null) {
+                keys.add(RedisHealthStateManager.unhealthyKey(apiId));
+                ordinals.add(String.valueOf(bit));
+            } else {
+                orphanOrdinals.add(String.valueOf(bit));
+            }
+        }
+        ordinals.addAll(orphanOrdinals);
+    }
+
+    /**
+     * 샤드별 비트맵 원본 조회 (샤드(슬롯)별 GET, 키가 없는 샤드는 결과에서 제외)
+     */
+    private Map<Integer, byte[]> readBitmaps(Set<Integer> shards) {
+        Map<Integer, byte[]> bitmaps = new HashMap<>();
+        for (int shard : shards) {
+            byte[] bitmap = stringRedisTemplate.execute(
+                (RedisCallback<byte[]>) connection -> connection.stringCommands().get(bitmapKey(shard)));
+            if (bitmap != null) {
+                bitmaps.put(shard, bitmap);
+            }
+        }
+        return bitmaps;
+    }
+
+    private static Set<Integer> allShards() {
+        Set<Integer> shards = new TreeSet<>();
+        for (int shard = 0; shard < HealthStateKeys.shardCount(); shard++) {
+            shards.add(shard);
+        }
+        return shards;
+    }
+
+    private static byte[] bitmapKey(int shard) {
+        return HealthStateKeys.shardKey(BITMAP_KEY, shard).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Redis 비트 순서(바이트 내 MSB가 offset 0) 기준 비트 확인
+     */
+    static boolean isSet(byte[] bitmap, int ordinal) {
+        if (bitmap == null || ordinal < 0) {
+            return false;
+        }
+        int byteIndex = ordinal >>> 3;
+        return byteIndex < bitmap.length && (bitmap[byteIndex] & (0x80 >>> (ordinal & 7))) != 0;
+    }
+
+    /**
+     * 비트맵 원본을 BitSet으로 변환 (isSet과 같은 비트 순서)
+     */
+    static BitSet toBitSet(byte[] bitmap) {
+        BitSet bits = new BitSet();
+        if (bitmap == null) {
+            return bits;
+        }
+        for (int byteIndex = 0; byteIndex < bitmap.length; byteIndex++) {
+            if (bitmap[byteIndex] == 0) {
+                continue;
+            }
+            for (int offset = 0; offset < 8; offset++) {
+                if ((bitmap[byteIndex] & (0x80 >>> offset)) != 0) {
+                    bits.set(byteIndex * 8 + offset);
+                }
+            }
+        }
+        return bits;
+    }
+}
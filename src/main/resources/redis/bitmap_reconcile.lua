@@ -0,0 +1,25 @@
+-- 비정상 비트맵 정리 (샤드 1개, 후보 비트마다 상태 키 존재 여부를 다시 확인)
+--
+-- KEYS[1]     bitmap:unhealthy:v2:{hN} 샤드 비트맵 (offset = 샤드 내 ordinal)
+-- KEYS[2..n]  unhealthy:{hN}:{apiId}   후보 API의 비정상 상태 HASH (같은 샤드)
+--
+-- ARGV[i]     KEYS[i + 1] API의 ordinal
+--             KEYS보다 많은 나머지 ARGV는 apiId를 알 수 없는 고아 비트로, 항상 0으로 정리
+--
+-- 반환: 실제로 바뀐 비트 수
+
+local bitmapKey = KEYS[1]
+local changed = 0
+
+for i = 1, #ARGV do
+    local ordinal = tonumber(ARGV[i])
+    local unhealthy = 0
+    if KEYS[i + 1] and redis.call('EXISTS', KEYS[i + 1]) == 1 then
+        unhealthy = 1
+    end
+    if redis.call('SETBIT', bitmapKey, ordinal, unhealthy) ~= unhealthy then
+        changed = changed + 1
+    end
+end
+
+return changed
@@ -0,0 +1,25 @@
+-- 보존 기간이 지난 서킷브레이커 상태 정리 (필드 삭제 대신 버전을 유지한 CLOSED 묘비로 교체)
+--
+-- KEYS[1] circuit-breaker:states   전체 서킷브레이커 상태 HASH (field = apiId)
+--
+-- ARGV     HSCAN으로 읽은 (apiId, 값) 쌍 목록: apiId1, value1, apiId2, value2, ...
+--
+-- 읽은 뒤 다른 파드가 전이한 필드(값이 달라진 필드)는 건드리지 않음
+-- 묘비 형식: CLOSED|{version}|0 (변경 시각 0 = 보존 기간 경과, 다음 전이는 version + 1부터)
+-- 버전을 읽을 수 없는 값은 이어갈 버전이 없으므로 삭제
+-- 반환: 정리한 필드 수
+
+local pruned = 0
+for i = 1, #ARGV, 2 do
+    local current = redis.call('HGET', KEYS[1], ARGV[i])
+    if current and current == ARGV[i + 1] then
+        local version = string.match(current, '^[^|]*|(%d+)|')
+        if version then
+            redis.call('HSET', KEYS[1], ARGV[i], 'CLOSED|' .. version .. '|0')
+        else
+            redis.call('HDEL', KEYS[1], ARGV[i])
+        end
+        pruned = pruned + 1
+    end
+end
+return pruned
@@ -0,0 +1,29 @@
+-- 서킷브레이커 상태 전이 (상태 HASH 필드 갱신 + 전이 버전 증가 + 다른 파드로 전파)
+--
+-- KEYS[1] circuit-breaker:states   전체 서킷브레이커 상태 HASH (field = apiId)
+--
+-- ARGV[1] apiId
+-- ARGV[2] 새 상태 (CircuitBreakerState 이름)
+-- ARGV[3] 변경 시각 (epoch millis)
+-- ARGV[4] 전이 전파 채널
+-- ARGV[5] 발행 파드 식별자
+-- ARGV[6] 기대 버전 (자동 전이: 호출 파드가 알고 있던 버전, 빈 값이면 비교 없이 기록 - 수동 변경/리셋)
+--
+-- 값 형식: {state}|{version}|{changedAt}
+-- 메시지 형식: {origin}|{version}|{changedAt}|{state}|{apiId}
+-- 반환: 새 버전 (필드가 없으면 1부터 시작)
+--       기대 버전과 저장된 버전이 다르면 0 (다른 파드가 먼저 전이함, 기록/발행하지 않음)
+
+local current = redis.call('HGET', KEYS[1], ARGV[1])
+local version = 0
+if current then
+    version = tonumber(string.match(current, '^[^|]*|(%d+)|')) or 0
+end
+if ARGV[6] ~= '' and tonumber(ARGV[6]) ~= version then
+    return 0
+end
+version = version + 1
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. '|' .. version .. '|' .. ARGV[3])
+redis.call('PUBLISH', ARGV[4], ARGV[5] .. '|' .. version .. '|' .. ARGV[3] .. '|' .. ARGV[2] .. '|' .. ARGV[1])
+return version
@@ -0,0 +1,21 @@
+-- 조기 복구 TTL 단축 (상태 키 만료와 인덱스 점수를 함께 갱신)
+--
+-- KEYS[1] unhealthy:{apiId}   비정상 상태 HASH
+-- KEYS[2] index:unhealthy     비정상 API 인덱스 ZSET (score = 만료 epoch millis)
+--
+-- ARGV[1] apiId
+-- ARGV[2] TTL 단축 대상 최대 연속 실패 횟수
+-- ARGV[3] 단축 TTL (초)
+-- ARGV[4] 현재 시각 (epoch millis)
+--
+-- 반환: 적용된 TTL (초), 대상이 아니면 0
+
+local failures = tonumber(redis.call('HGET', KEYS[1], 'f'))
+if not failures or failures > tonumber(ARGV[2]) then
+    return 0
+end
+
+local ttl = tonumber(ARGV[3])
+redis.call('EXPIRE', KEYS[1], ttl)
+redis.call('ZADD', KEYS[2], tonumber(ARGV[4]) + ttl * 1000, ARGV[1])
+return ttl
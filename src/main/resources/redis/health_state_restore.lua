@@ -0,0 +1,48 @@
+-- 저장된 최신 결과로 비정상 상태 복원 (Redis 유실 후 재구성)
+-- 이미 상태 키가 있으면 더 최신 프로브 결과이므로 건드리지 않음
+--
+-- KEYS[1] unhealthy:{apiId}   비정상 상태 HASH (필드 레이아웃: ApiHealthStateCodec)
+-- KEYS[2] index:unhealthy     비정상 API 인덱스 ZSET (score = 만료 epoch millis)
+-- KEYS[3] bitmap:unhealthy:v2:{hN} 샤드 비트맵 (offset = 샤드 내 ordinal)
+--
+-- ARGV[1]  apiId
+-- ARGV[2]  상태 HASH 스키마 버전
+-- ARGV[3]  status ordinal
+-- ARGV[4]  errorMessage
+-- ARGV[5]  responseTime
+-- ARGV[6]  httpStatusCode
+-- ARGV[7]  lastCheck (epoch millis)
+-- ARGV[8]  checkType ordinal
+-- ARGV[9]  isTimeout (1/0)
+-- ARGV[10] 연속 실패 횟수
+-- ARGV[11] 최초 장애 시각 (epoch millis)
+-- ARGV[12] 남은 TTL (초)
+-- ARGV[13] 현재 시각 (epoch millis)
+-- ARGV[14] API ordinal (미할당이면 -1)
+--
+-- 반환: 복원하면 1, 건너뛰면 0
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+
+local ttl = tonumber(ARGV[12])
+redis.call('HSET', KEYS[1],
+    'v', ARGV[2],
+    's', ARGV[3],
+    'em', ARGV[4],
+    'rt', ARGV[5],
+    'hc', ARGV[6],
+    'lc', ARGV[7],
+    'ct', ARGV[8],
+    'to', ARGV[9],
+    'f', ARGV[10],
+    'ff', ARGV[11])
+redis.call('EXPIRE', KEYS[1], ttl)
+redis.call('ZADD', KEYS[2], tonumber(ARGV[13]) + ttl * 1000, ARGV[1])
+
+local ordinal = tonumber(ARGV[14])
+if ordinal >= 0 then
+    redis.call('SETBIT', KEYS[3], ordinal, 1)
+end
+return 1
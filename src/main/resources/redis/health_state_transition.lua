@@ -0,0 +1,132 @@
+-- API 헬스 상태 전이 (프로브 1회당 1회 실행)
+--
+-- KEYS[1] unhealthy:{apiId}        비정상 상태 HASH (필드 레이아웃: ApiHealthStateCodec)
+-- KEYS[2] recovery:{apiId}         복구 추적 HASH
+-- KEYS[3] health_history:{apiId}   결과 히스토리 STREAM (ID = 검사 시각)
+-- KEYS[4] index:unhealthy          비정상 API 인덱스 ZSET (score = 만료 epoch millis)
+-- KEYS[5] bitmap:unhealthy:v2:{hN} 샤드 비트맵 (offset = 샤드 내 ordinal)
+--
+-- ARGV[1]  apiId
+-- ARGV[2]  성공 여부 (1/0)
+-- ARGV[3]  status 이름 (TTL 결정용)
+-- ARGV[4]  status ordinal
+-- ARGV[5]  errorMessage
+-- ARGV[6]  responseTime
+-- ARGV[7]  httpStatusCode
+-- ARGV[8]  lastCheck (epoch millis)
+-- ARGV[9]  checkType ordinal
+-- ARGV[10] isTimeout (1/0)
+-- ARGV[11] 현재 시각 (epoch millis)
+-- ARGV[12] timeout TTL
+-- ARGV[13] 기본 unhealthy TTL
+-- ARGV[14] degraded TTL
+-- ARGV[15] critical TTL
+-- ARGV[16] 히스토리 최대 길이 (MAXLEN ~)
+-- ARGV[17] 히스토리 TTL (초)
+-- ARGV[18] 복구 추적 TTL (초)
+-- ARGV[19] 상태 HASH 스키마 버전
+-- ARGV[20] API ordinal (미할당이면 -1)
+--
+-- 반환: {'HEALTHY'} | {'RECOVERED', 이전 status ordinal, 이전 연속 실패} | {'UNHEALTHY', 연속 실패, 남은 TTL}
+
+local unhealthyKey = KEYS[1]
+local recoveryKey = KEYS[2]
+local historyKey = KEYS[3]
+local indexKey = KEYS[4]
+local bitmapKey = KEYS[5]
+local apiId = ARGV[1]
+local now = ARGV[11]
+local ordinal = tonumber(ARGV[20])
+
+-- 히스토리 ID는 검사 시각(lastCheck) 기준 '<ms>-*'
+-- 늦게 도착한 결과가 마지막 레코드보다 이전 시각이면 마지막 시각으로 올려 기록 (스트림 ID는 단조 증가해야 함)
+local checkedAtMillis = tonumber(ARGV[8]) or tonumber(now)
+local recordMillis = checkedAtMillis
+local last = redis.call('XREVRANGE', historyKey, '+', '-', 'COUNT', 1)
+if last[1] then
+    local lastMillis = tonumber(string.match(last[1][1], '^(%d+)-'))
+    if lastMillis and lastMillis > recordMillis then
+        recordMillis = lastMillis
+    end
+end
+
+-- 히스토리 필드: s 상태 ordinal, ok 성공 여부, rt 응답 시간, hc HTTP 상태 코드
+redis.call('XADD', historyKey, 'MAXLEN', '~', ARGV[16], string.format('%d-*', recordMillis),
+    's', ARGV[4], 'ok', ARGV[2], 'rt', ARGV[6], 'hc', ARGV[7])
+redis.call('EXPIRE', historyKey, ARGV[17])
+
+-- 다른 타입이거나 스키마 버전이 다른 상태는 폐기
+local keyType = redis.call('TYPE', unhealthyKey)['ok']
+if keyType == 'hash' then
+    if redis.call('HGET', unhealthyKey, 'v') ~= ARGV[19] then
+        redis.call('DEL', unhealthyKey)
+    end
+elseif keyType ~= 'none' then
+    redis.call('DEL', unhealthyKey)
+end
+
+if ARGV[2] == '1' then
+    if ordinal >= 0 then
+        redis.call('SETBIT', bitmapKey, ordinal, 0)
+    end
+
+    local previous = redis.call('HMGET', unhealthyKey, 's', 'f')
+    if not previous[1] then
+        redis.call('ZREM', indexKey, apiId)
+        return {'HEALTHY'}
+    end
+
+    local previousFailures = previous[2] or '0'
+    redis.call('DEL', unhealthyKey)
+    redis.call('ZREM', indexKey, apiId)
+    redis.call('HSET', recoveryKey, 'ra', now, 'ps', previous[1], 'pf', previousFailures)
+    redis.call('EXPIRE', recoveryKey, ARGV[18])
+    return {'RECOVERED', previous[1], previousFailures}
+end
+
+local failures = redis.call('HINCRBY', unhealthyKey, 'f', 1)
+local status = ARGV[3]
+
+-- 심각도에 따른 TTL 결정 (연속 실패 횟수에 따라 최대 2배)
+local baseTtl
+if status == 'TIMEOUT' then
+    baseTtl = tonumber(ARGV[12])
+elseif status == 'UNHEALTHY' and failures >= 5 then
+    baseTtl = tonumber(ARGV[15])
+elseif status == 'DEGRADED' then
+    baseTtl = tonumber(ARGV[14])
+else
+    baseTtl = tonumber(ARGV[13])
+end
+local multiplier = math.min(1.0 + (failures - 1) * 0.2, 2.0)
+local ttl = math.floor(baseTtl * multiplier + 0.5)
+
+-- 만료 시각은 검사 시각 기준 (장애 후 재반영된 결과도 원래 만료 시각을 유지)
+local expiresAt = checkedAtMillis + ttl * 1000
+if expiresAt <= tonumber(now) then
+    -- 원래 TTL이 이미 지난 결과: 자동 복구된 것으로 간주
+    redis.call('DEL', unhealthyKey)
+    redis.call('ZREM', indexKey, apiId)
+    if ordinal >= 0 then
+        redis.call('SETBIT', bitmapKey, ordinal, 0)
+    end
+    return {'HEALTHY'}
+end
+
+redis.call('HSET', unhealthyKey,
+    'v', ARGV[19],
+    's', ARGV[4],
+    'em', ARGV[5],
+    'rt', ARGV[6],
+    'hc', ARGV[7],
+    'lc', ARGV[8],
+    'ct', ARGV[9],
+    'to', ARGV[10])
+redis.call('HSETNX', unhealthyKey, 'ff', string.format('%d', checkedAtMillis))
+redis.call('PEXPIREAT', unhealthyKey, expiresAt)
+redis.call('ZADD', indexKey, expiresAt, apiId)
+if ordinal >= 0 then
+    redis.call('SETBIT', bitmapKey, ordinal, 1)
+end
+
+return {'UNHEALTHY', tostring(failures), tostring(math.ceil((expiresAt - tonumber(now)) / 1000))}
@@ -0,0 +1,17 @@
+-- API ordinal 할당 (이미 있으면 기존 값 반환, 없을 때만 시퀀스 증가)
+--
+-- KEYS[1] api:ordinals:{hN}       샤드의 apiId → ordinal HASH
+-- KEYS[2] api:ordinal:seq:{hN}    샤드의 다음 ordinal 시퀀스 (KEYS[1]과 같은 슬롯)
+--
+-- ARGV[1] apiId
+--
+-- 반환: 샤드 내 ordinal (0부터 시작, 경합으로 시퀀스가 건너뛰어지지 않음)
+
+local existing = redis.call('HGET', KEYS[1], ARGV[1])
+if existing then
+    return tonumber(existing)
+end
+
+local ordinal = redis.call('INCR', KEYS[2]) - 1
+redis.call('HSET', KEYS[1], ARGV[1], ordinal)
+return ordinal
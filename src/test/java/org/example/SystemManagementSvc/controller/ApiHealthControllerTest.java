@@ -4,8 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.SystemManagementSvc.domain.ExternalApi;
 import org.example.SystemManagementSvc.dto.ApiAvailabilityResponse;
 import org.example.SystemManagementSvc.dto.ApiStatusSummary;
+import org.example.SystemManagementSvc.dto.ExternalApiView;
+import org.example.SystemManagementSvc.dto.HealthSweepSummary;
 import org.example.SystemManagementSvc.service.AdvancedHealthCheckService;
 import org.example.SystemManagementSvc.service.ApiStatusManager;
+import org.example.SystemManagementSvc.service.HealthStateRebuildService;
 import org.example.SystemManagementSvc.service.RedisHealthStateManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -42,6 +45,9 @@ class ApiHealthControllerTest {
     @MockBean
     private RedisHealthStateManager redisHealthStateManager;
 
+    @MockBean
+    private HealthStateRebuildService healthStateRebuildService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -121,17 +127,17 @@ class ApiHealthControllerTest {
     @DisplayName("도메인별 가용 API 조회 성공 테스트")
     void getAvailableApisByDomain_Success() throws Exception {
         // Given
-        ExternalApi.ApiDomain domain = ExternalApi.ApiDomain.GOVERNMENT_DATA;
-        List<ExternalApi> mockApis = List.of(
-                ExternalApi.builder()
+        ExternalApi.ApiDomain domain = ExternalApi.ApiDomain.PUBLIC_FACILITY;
+        List<ExternalApiView> mockApis = List.of(
+                ExternalApiView.builder()
                         .apiId("gov-api-1")
                         .apiName("공공데이터 API 1")
-                        .domain(domain)
+                        .apiDomain(domain)
                         .build(),
-                ExternalApi.builder()
+                ExternalApiView.builder()
                         .apiId("gov-api-2")
                         .apiName("공공데이터 API 2")
-                        .domain(domain)
+                        .apiDomain(domain)
                         .build()
         );
 
@@ -149,12 +155,12 @@ class ApiHealthControllerTest {
     @DisplayName("키워드별 가용 API 조회 성공 테스트")
     void getAvailableApisByKeyword_Success() throws Exception {
         // Given
-        ExternalApi.ApiKeyword keyword = ExternalApi.ApiKeyword.WEATHER;
-        List<ExternalApi> mockApis = List.of(
-                ExternalApi.builder()
+        ExternalApi.ApiKeyword keyword = ExternalApi.ApiKeyword.FORECAST;
+        List<ExternalApiView> mockApis = List.of(
+                ExternalApiView.builder()
                         .apiId("weather-api")
                         .apiName("기상청 날씨 API")
-                        .keyword(keyword)
+                        .apiKeyword(keyword)
                         .build()
         );
 
@@ -171,19 +177,19 @@ class ApiHealthControllerTest {
     @DisplayName("우선순위별 가용 API 조회 성공 테스트")
     void getAvailableApisByPriority_Success() throws Exception {
         // Given
-        Map<ExternalApi.HealthCheckPriority, List<ExternalApi>> mockPriorityApis = Map.of(
+        Map<ExternalApi.HealthCheckPriority, List<ExternalApiView>> mockPriorityApis = Map.of(
                 ExternalApi.HealthCheckPriority.HIGH, List.of(
-                        ExternalApi.builder()
+                        ExternalApiView.builder()
                                 .apiId("critical-api")
                                 .apiName("중요 API")
-                                .priority(ExternalApi.HealthCheckPriority.HIGH)
+                                .healthCheckPriority(ExternalApi.HealthCheckPriority.HIGH)
                                 .build()
                 ),
                 ExternalApi.HealthCheckPriority.MEDIUM, List.of(
-                        ExternalApi.builder()
+                        ExternalApiView.builder()
                                 .apiId("normal-api")
                                 .apiName("일반 API")
-                                .priority(ExternalApi.HealthCheckPriority.MEDIUM)
+                                .healthCheckPriority(ExternalApi.HealthCheckPriority.MEDIUM)
                                 .build()
                 )
         );
@@ -238,7 +244,7 @@ class ApiHealthControllerTest {
     void triggerManualHealthCheck_Success() throws Exception {
         // Given
         when(advancedHealthCheckService.performIntelligentHealthCheck())
-                .thenReturn(CompletableFuture.completedFuture(Map.of("result", "success")));
+                .thenReturn(CompletableFuture.completedFuture(HealthSweepSummary.builder().build()));
 
         // When & Then
         mockMvc.perform(post("/health/check/manual"))
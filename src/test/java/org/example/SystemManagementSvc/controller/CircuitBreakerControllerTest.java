@@ -122,9 +122,8 @@ class CircuitBreakerControllerTest {
         when(circuitBreakerMonitoringService.getAllCircuitBreakerStates())
                 .thenReturn(mockStates);
 
-        doNothing().when(circuitBreakerMonitoringService)
-                .forceCircuitBreakerState(anyString(), anyString(), anyString(), 
-                        eq(CircuitBreakerEvent.CircuitBreakerState.CLOSED), anyString());
+        when(circuitBreakerMonitoringService.resetCircuitBreakers(mockStates, reason))
+                .thenReturn(2);
 
         // When & Then
         mockMvc.perform(post("/circuit-breaker/reset-all")
@@ -0,0 +1,139 @@
+package org.example.SystemManagementSvc.controller;
+
+import org.example.SystemManagementSvc.domain.HealthCheckResult;
+import org.example.SystemManagementSvc.dto.HealthSweepSummary;
+import org.example.SystemManagementSvc.repository.HealthCheckResultRepository;
+import org.example.SystemManagementSvc.service.ApiSearchIndex;
+import org.example.SystemManagementSvc.service.ExternalApiRegistry;
+import org.example.SystemManagementSvc.service.HealthCheckJobService;
+import org.example.SystemManagementSvc.service.HealthCheckService;
+import org.example.SystemManagementSvc.service.ProbeLatencyTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 전체 헬스체크 작업 흐름 테스트
+ * 실제 HealthCheckJobService를 사용하고 스윕(HealthCheckService)만 Mock으로 대체
+ */
+@WebMvcTest(HealthCheckController.class)
+@Import(HealthCheckJobService.class)
+@DisplayName("HealthCheckController 테스트")
+class HealthCheckControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private HealthCheckService healthCheckService;
+
+    @MockBean
+    private ExternalApiRegistry externalApiRegistry;
+
+    @MockBean
+    private ApiSearchIndex apiSearchIndex;
+
+    @MockBean
+    private ProbeLatencyTracker probeLatencyTracker;
+
+    @MockBean
+    private HealthCheckResultRepository healthCheckResultRepository;
+
+    @Test
+    @DisplayName("전체 헬스체크 요청은 202와 작업 Location을 반환하고, 실행 중 재요청은 같은 작업에 합류")
+    void runHealthCheckForAllApis_AcceptedWithLocation() throws Exception {
+        // Given
+        when(healthCheckService.sweepActiveApis(any())).thenReturn(new CompletableFuture<>());
+
+        // When
+        MvcResult first = mockMvc.perform(post("/health-check/run"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.state").value("RUNNING"))
+                .andExpect(jsonPath("$.data.coalesced").value(false))
+                .andReturn();
+        String location = first.getResponse().getHeader("Location");
+
+        // Then
+        assertThat(location).matches(".*/health-check/jobs/[0-9a-f-]+$");
+        String jobId = location.substring(location.lastIndexOf('/') + 1);
+
+        mockMvc.perform(post("/health-check/run"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", location))
+                .andExpect(jsonPath("$.data.coalesced").value(true));
+
+        mockMvc.perform(get("/health-check/jobs/{jobId}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.jobId").value(jobId))
+                .andExpect(jsonPath("$.data.coalescedRequests").value(1));
+
+        verify(healthCheckService, times(1)).sweepActiveApis(any());
+    }
+
+    @Test
+    @DisplayName("결과 스트림은 누적 결과를 NDJSON으로 보내고 작업이 끝나면 종료")
+    void streamHealthCheckJobResults_EndsWhenJobCompletes() throws Exception {
+        // Given: 결과 두 건을 낸 뒤 스윕이 끝난 작업
+        AtomicReference<Consumer<HealthCheckResult>> listener = new AtomicReference<>();
+        CompletableFuture<HealthSweepSummary> sweep = new CompletableFuture<>();
+        when(healthCheckService.sweepActiveApis(any())).thenAnswer(invocation -> {
+            listener.set(invocation.getArgument(0));
+            return sweep;
+        });
+
+        String location = mockMvc.perform(post("/health-check/run"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getHeader("Location");
+        String jobId = location.substring(location.lastIndexOf('/') + 1);
+
+        listener.get().accept(HealthCheckResult.builder().apiId("api-1").status(HealthCheckResult.HealthStatus.HEALTHY).build());
+        listener.get().accept(HealthCheckResult.builder().apiId("api-2").status(HealthCheckResult.HealthStatus.UNHEALTHY).build());
+        sweep.complete(new HealthSweepSummary());
+
+        // When
+        MvcResult streaming = mockMvc.perform(get("/health-check/jobs/{jobId}/results", jobId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(streaming))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.lines()).hasSize(2);
+        assertThat(body.lines().toList().get(0)).contains("\"apiId\":\"api-1\"");
+        assertThat(body.lines().toList().get(1)).contains("\"apiId\":\"api-2\"");
+    }
+
+    @Test
+    @DisplayName("없는 작업 조회는 404")
+    void getHealthCheckJobStatus_NotFound() throws Exception {
+        mockMvc.perform(get("/health-check/jobs/{jobId}", "unknown"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+
+        mockMvc.perform(get("/health-check/jobs/{jobId}/results", "unknown"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.SystemManagementSvc.service;
+
+import org.example.SystemManagementSvc.domain.HealthCheckResult;
+import org.example.SystemManagementSvc.dto.ApiHealthState;
+import org.example.SystemManagementSvc.dto.HealthHistoryEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("unhealthy:{apiId} HASH 코덱 테스트")
+class ApiHealthStateCodecTest {
+
+    private static final String API_ID = "weather-api";
+
+    @Test
+    @DisplayName("인코딩한 필드를 HMGET 순서로 디코딩하면 같은 상태")
+    void decode_RoundTrip() {
+        // Given
+        LocalDateTime lastCheck = LocalDateTime.of(2026, 3, 1, 12, 0, 0);
+        LocalDateTime firstFailure = lastCheck.minusMinutes(6);
+        List<Object> values = values(
+            ApiHealthStateCodec.SCHEMA_VERSION,
+            ApiHealthStateCodec.encodeStatus(HealthCheckResult.HealthStatus.TIMEOUT),
+            ApiHealthStateCodec.encodeCheckType(HealthCheckResult.HealthCheckType.DYNAMIC),
+            "3", "10000", "504", "1",
+            ApiHealthStateCodec.encodeMillis(lastCheck),
+            ApiHealthStateCodec.encodeMillis(firstFailure),
+            ApiHealthStateCodec.encodeErrorMessage("Gateway Timeout"));
+
+        // When
+        Optional<ApiHealthState> decoded = ApiHealthStateCodec.decode(API_ID, values);
+
+        // Then
+        assertThat(decoded).hasValueSatisfying(state -> {
+            assertThat(state.getApiId()).isEqualTo(API_ID);
+            assertThat(state.getStatus()).isEqualTo(HealthCheckResult.HealthStatus.TIMEOUT);
+            assertThat(state.getCheckType()).isEqualTo(HealthCheckResult.HealthCheckType.DYNAMIC);
+            assertThat(state.getConsecutiveFailures()).isEqualTo(3);
+            assertThat(state.getResponseTimeMs()).isEqualTo(10_000);
+            assertThat(state.getHttpStatusCode()).isEqualTo(504);
+            assertThat(state.isTimeout()).isTrue();
+            assertThat(state.getLastCheck()).isEqualTo(lastCheck);
+            assertThat(state.getFirstFailureTime()).isEqualTo(firstFailure);
+            assertThat(state.getErrorMessage()).isEqualTo("Gateway Timeout");
+        });
+    }
+
+    @Test
+    @DisplayName("빠진 필드는 기본값(0, null, 빈 문자열), 잘못된 ordinal은 UNKNOWN")
+    void decode_MissingFields() {
+        // Given: 버전만 있고 나머지는 HMGET이 nil로 돌려준 경우
+        List<Object> values = values(ApiHealthStateCodec.SCHEMA_VERSION, "99", null, null, null, null, null, null, null, null);
+
+        // When
+        ApiHealthState state = ApiHealthStateCodec.decode(API_ID, values).orElseThrow();
+
+        // Then
+        assertThat(state.getStatus()).isEqualTo(HealthCheckResult.HealthStatus.UNKNOWN);
+        assertThat(state.getCheckType()).isNull();
+        assertThat(state.getConsecutiveFailures()).isZero();
+        assertThat(state.isTimeout()).isFalse();
+        assertThat(state.getLastCheck()).isNull();
+        assertThat(state.getFirstFailureTime()).isNull();
+        assertThat(state.getErrorMessage()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키가 없거나 스키마 버전이 다르거나 필드 수가 다르면 빈 값")
+    void decode_SchemaVersionMismatch() {
+        List<Object> missingKey = values(null, null, null, null, null, null, null, null, null, null);
+        List<Object> otherVersion = values("0", "2", "0", "1", "10", "500", "0", "1", "1", "");
+        List<Object> truncated = values(ApiHealthStateCodec.SCHEMA_VERSION, "2");
+
+        assertThat(ApiHealthStateCodec.decode(API_ID, missingKey)).isEmpty();
+        assertThat(ApiHealthStateCodec.decode(API_ID, otherVersion)).isEmpty();
+        assertThat(ApiHealthStateCodec.decode(API_ID, truncated)).isEmpty();
+        assertThat(ApiHealthStateCodec.decode(API_ID, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("에러 메시지는 최대 길이로 자르고 null은 빈 문자열")
+    void encodeErrorMessage() {
+        String longMessage = "x".repeat(ApiHealthStateCodec.MAX_ERROR_MESSAGE_LENGTH + 50);
+
+        assertThat(ApiHealthStateCodec.encodeErrorMessage(longMessage)).hasSize(ApiHealthStateCodec.MAX_ERROR_MESSAGE_LENGTH);
+        assertThat(ApiHealthStateCodec.encodeErrorMessage(null)).isEmpty();
+        assertThat(ApiHealthStateCodec.encodeCheckType(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("히스토리 레코드 디코딩")
+    void decodeHistory() {
+        // When
+        HealthHistoryEntry entry = ApiHealthStateCodec.decodeHistory("1700000000000-0", 1_700_000_000_000L, Map.of(
+            ApiHealthStateCodec.STATUS_FIELD, ApiHealthStateCodec.encodeStatus(HealthCheckResult.HealthStatus.UNHEALTHY),
+            ApiHealthStateCodec.HISTORY_SUCCESS_FIELD, "0",
+            ApiHealthStateCodec.RESPONSE_TIME_FIELD, "120",
+            ApiHealthStateCodec.HTTP_STATUS_FIELD, "503"));
+
+        // Then
+        assertThat(entry.getRecordId()).isEqualTo("1700000000000-0");
+        assertThat(entry.getStatus()).isEqualTo(HealthCheckResult.HealthStatus.UNHEALTHY);
+        assertThat(entry.isSuccess()).isFalse();
+        assertThat(entry.getResponseTimeMs()).isEqualTo(120);
+        assertThat(entry.getHttpStatusCode()).isEqualTo(503);
+    }
+
+    private static List<Object> values(Object... values) {
+        return new ArrayList<>(Arrays.asList(values));
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.SystemManagementSvc.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApiOrdinalRegistry 테스트")
+class ApiOrdinalRegistryTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @InjectMocks
+    private ApiOrdinalRegistry apiOrdinalRegistry;
+
+    @Test
+    @DisplayName("ordinal은 자기 샤드의 HASH/시퀀스 키로 할당하고, 한 번 할당되면 Redis를 다시 조회하지 않음")
+    void assignOrdinal_UsesShardKeysAndCaches() {
+        // Given
+        String apiId = "weather-api";
+        int shard = HealthStateKeys.shardOf(apiId);
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), eq(apiId))).thenReturn(4L);
+
+        // When
+        int first = apiOrdinalRegistry.assignOrdinal(apiId);
+        int second = apiOrdinalRegistry.assignOrdinal(apiId);
+
+        // Then
+        assertThat(first).isEqualTo(4);
+        assertThat(second).isEqualTo(4);
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class),
+            eq(List.of(ApiOrdinalRegistry.ordinalsKey(shard),
+                HealthStateKeys.shardKey(ApiOrdinalRegistry.SEQUENCE_KEY, shard))),
+            eq(apiId));
+        assertThat(apiOrdinalRegistry.knownApiIds(shard)).containsEntry(4, apiId);
+    }
+
+    @Test
+    @DisplayName("조회는 샤드별로 HMGET 한 번씩, 미할당 API는 결과에서 제외")
+    void lookupOrdinals_GroupsByShard() {
+        // Given: 같은 샤드의 API 두 개와 다른 샤드의 API 한 개
+        List<String> sameShard = apiIdsInShard(0, 2);
+        String otherShardApi = apiIdsInShard(1, 1).get(0);
+        when(stringRedisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet(ApiOrdinalRegistry.ordinalsKey(0), new ArrayList<Object>(sameShard)))
+            .thenReturn(Arrays.asList("0", null));
+        when(hashOperations.multiGet(ApiOrdinalRegistry.ordinalsKey(1), List.<Object>of(otherShardApi)))
+            .thenReturn(List.of("7"));
+
+        // When
+        List<String> apiIds = List.of(sameShard.get(0), sameShard.get(1), otherShardApi);
+        Map<String, Integer> ordinals = apiOrdinalRegistry.lookupOrdinals(apiIds);
+        apiOrdinalRegistry.lookupOrdinals(List.of(sameShard.get(0), otherShardApi));
+
+        // Then: 두 번째 조회는 모두 캐시에서 처리
+        assertThat(ordinals).containsOnly(Map.entry(sameShard.get(0), 0), Map.entry(otherShardApi, 7));
+        verify(hashOperations, times(1)).multiGet(eq(ApiOrdinalRegistry.ordinalsKey(0)), anyList());
+        verify(hashOperations, times(1)).multiGet(eq(ApiOrdinalRegistry.ordinalsKey(1)), anyList());
+        assertThat(apiOrdinalRegistry.knownApiIds(1)).containsExactly(Map.entry(7, otherShardApi));
+    }
+
+    private static List<String> apiIdsInShard(int shard, int count) {
+        List<String> apiIds = new ArrayList<>();
+        for (int i = 0; apiIds.size() < count; i++) {
+            String apiId = "api-" + i;
+            if (HealthStateKeys.shardOf(apiId) == shard) {
+                apiIds.add(apiId);
+            }
+        }
+        return apiIds;
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.SystemManagementSvc.service;
+
+import org.example.SystemManagementSvc.domain.ExternalApi;
+import org.example.SystemManagementSvc.dto.ApiSearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApiSearchIndex 테스트")
+class ApiSearchIndexTest {
+
+    @Mock
+    private ExternalApiRegistry externalApiRegistry;
+
+    @InjectMocks
+    private ApiSearchIndex apiSearchIndex;
+
+    private ExternalApi weatherApi;
+    private ExternalApi trafficApi;
+    private ExternalApi inactiveWeatherApi;
+
+    @BeforeEach
+    void setUp() {
+        weatherApi = api("weather-api", "Weather Forecast API", "기상청", true);
+        trafficApi = api("traffic-api", "Traffic Info", "국토교통부", true);
+        inactiveWeatherApi = api("old-weather-api", "Legacy Weather", "기상청", false);
+    }
+
+    @Test
+    @DisplayName("정규화: 소문자 변환, 구분자는 공백 하나로")
+    void normalize() {
+        assertThat(ApiSearchIndex.normalize("  Weather-API  v2!")).isEqualTo("weather api v2");
+        assertThat(ApiSearchIndex.normalize("날씨_API")).isEqualTo("날씨 api");
+        assertThat(ApiSearchIndex.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("색인 gram은 앞뒤 경계, 질의 gram은 앞쪽 경계만 포함")
+    void grams() {
+        assertThat(ApiSearchIndex.indexGrams("api")).containsExactly(" ap", "api", "pi ");
+        assertThat(ApiSearchIndex.queryGrams("api")).containsExactly(" ap", "api");
+        assertThat(ApiSearchIndex.queryGrams("a")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 요청은 색인을 갱신하지 않음")
+    void search_DoesNotSync() {
+        // When
+        List<ApiSearchResult> results = apiSearchIndex.search("weather", 10, false);
+
+        // Then
+        assertThat(results).isEmpty();
+        verifyNoInteractions(externalApiRegistry);
+    }
+
+    @Test
+    @DisplayName("동기화 후 이름 접두어 일치 API가 상위에 오고, activeOnly는 비활성 API 제외")
+    void search_AfterSync() {
+        // Given
+        when(externalApiRegistry.getVersion()).thenReturn(1L);
+        when(externalApiRegistry.all()).thenReturn(List.of(weatherApi, trafficApi, inactiveWeatherApi));
+        apiSearchIndex.syncIfChanged();
+
+        // When
+        List<ApiSearchResult> all = apiSearchIndex.search("weath", 10, false);
+        List<ApiSearchResult> activeOnly = apiSearchIndex.search("weath", 10, true);
+
+        // Then
+        assertThat(all).extracting(ApiSearchResult::getApiId).containsExactly("weather-api", "old-weather-api");
+        assertThat(activeOnly).extracting(ApiSearchResult::getApiId).containsExactly("weather-api");
+    }
+
+    @Test
+    @DisplayName("레지스트리 버전이 같으면 다시 읽지 않고, 바뀌면 삭제된 API를 색인에서 제거")
+    void syncIfChanged_RemovesDeletedApis() {
+        // Given
+        when(externalApiRegistry.getVersion()).thenReturn(1L, 1L, 2L);
+        when(externalApiRegistry.all()).thenReturn(List.of(weatherApi, trafficApi), List.of(trafficApi));
+
+        // When
+        apiSearchIndex.syncIfChanged();
+        apiSearchIndex.syncIfChanged();
+        apiSearchIndex.syncIfChanged();
+
+        // Then
+        verify(externalApiRegistry, times(2)).all();
+        assertThat(apiSearchIndex.search("weather", 10, false)).isEmpty();
+        assertThat(apiSearchIndex.search("traffic", 10, false))
+            .extracting(ApiSearchResult::getApiId).containsExactly("traffic-api");
+    }
+
+    private static ExternalApi api(String apiId, String apiName, String apiIssuer, boolean effective) {
+        return ExternalApi.builder()
+            .apiId(apiId)
+            .apiName(apiName)
+            .apiIssuer(apiIssuer)
+            .apiDomain(ExternalApi.ApiDomain.WEATHER)
+            .apiKeyword(ExternalApi.ApiKeyword.REST_API)
+            .apiEffectiveness(effective)
+            .build();
+    }
+}
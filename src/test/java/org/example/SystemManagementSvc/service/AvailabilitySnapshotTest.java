@@ -0,0 +1,103 @@
+package org.example.SystemManagementSvc.service;
+
+import org.example.SystemManagementSvc.domain.ExternalApi;
+import org.example.SystemManagementSvc.dto.ApiStatusSummary;
+import org.example.SystemManagementSvc.dto.ExternalApiView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AvailabilitySnapshot 테스트")
+class AvailabilitySnapshotTest {
+
+    @Test
+    @DisplayName("한 번 순회로 집계한 요약이 분류마다 목록을 다시 거르는 기존 방식의 건수와 같음")
+    void summary_MatchesPerCallCounts() {
+        // Given: 모든 도메인/키워드 조합이 섞인 활성 API와 그중 약 1/3의 비정상 API
+        Random random = new Random(42);
+        ExternalApi.ApiDomain[] domains = ExternalApi.ApiDomain.values();
+        ExternalApi.ApiKeyword[] keywords = ExternalApi.ApiKeyword.values();
+        List<ExternalApi> apis = new ArrayList<>();
+        Set<String> unavailable = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            ExternalApi api = ExternalApi.builder()
+                .apiId("api-" + i)
+                .apiName("API " + i)
+                .apiUrl("https://api.test.com/" + i)
+                .apiIssuer(i % 7 == 0 ? null : "issuer-" + (i % 5))
+                .apiDomain(domains[random.nextInt(domains.length)])
+                .apiKeyword(keywords[random.nextInt(keywords.length)])
+                .apiEffectiveness(true)
+                .build();
+            apis.add(api);
+            if (random.nextInt(3) == 0) {
+                unavailable.add(api.getApiId());
+            }
+        }
+        unavailable.add("inactive-api");   // 활성 목록에 없는 ID는 무시
+
+        // When
+        AvailabilitySnapshot snapshot = AvailabilitySnapshot.of(1, 520, apis, unavailable, false);
+        ApiStatusSummary summary = snapshot.getSummary();
+
+        // Then: 기존 방식 - 분류 값마다 가용 목록을 다시 걸러 건수 계산
+        List<ExternalApi> available = apis.stream().filter(api -> !unavailable.contains(api.getApiId())).toList();
+
+        assertThat(summary.getTotalApis()).isEqualTo(520L);
+        assertThat(summary.getEffectiveApis()).isEqualTo((long) apis.size());
+        assertThat(summary.getAvailableApis()).isEqualTo((long) available.size());
+        assertThat(summary.getUnavailableApis()).isEqualTo((long) (apis.size() - available.size()));
+        assertThat(summary.getAvailabilityRate()).isEqualTo((double) available.size() / apis.size() * 100);
+
+        assertThat(summary.getDomainStats()).isEqualTo(perCallCounts(domains, available, ExternalApi::getApiDomain));
+        assertThat(summary.getKeywordStats()).isEqualTo(perCallCounts(keywords, available, ExternalApi::getApiKeyword));
+        assertThat(summary.getPriorityStats()).isEqualTo(
+            perCallCounts(ExternalApi.HealthCheckPriority.values(), available, ExternalApi::getHealthCheckPriority));
+        assertThat(summary.getDomainTotals()).isEqualTo(perCallCounts(domains, apis, ExternalApi::getApiDomain));
+        assertThat(summary.getPriorityTotals()).isEqualTo(
+            perCallCounts(ExternalApi.HealthCheckPriority.values(), apis, ExternalApi::getHealthCheckPriority));
+        assertThat(summary.getIssuerStats()).isEqualTo(available.stream()
+            .filter(api -> api.getApiIssuer() != null)
+            .collect(Collectors.groupingBy(ExternalApi::getApiIssuer, Collectors.counting())));
+
+        for (ExternalApi.ApiDomain domain : domains) {
+            assertThat(snapshot.availableByDomain(domain)).extracting(ExternalApiView::apiId).containsExactlyElementsOf(
+                available.stream().filter(api -> api.getApiDomain() == domain).map(ExternalApi::getApiId).toList());
+        }
+        assertThat(snapshot.getUnavailableApiIds()).isSorted().doesNotContain("inactive-api")
+            .hasSize(apis.size() - available.size());
+    }
+
+    @Test
+    @DisplayName("빈 스냅샷은 가용률 100%, 모든 분류가 0건으로 채워짐")
+    void empty_ZeroFilledStats() {
+        ApiStatusSummary summary = AvailabilitySnapshot.empty().getSummary();
+
+        assertThat(summary.getAvailabilityRate()).isEqualTo(100.0);
+        assertThat(summary.getDomainStats()).hasSize(ExternalApi.ApiDomain.values().length).containsValue(0L)
+            .doesNotContainValue(1L);
+        assertThat(summary.getKeywordStats()).hasSize(ExternalApi.ApiKeyword.values().length);
+        assertThat(summary.getIssuerStats()).isEmpty();
+    }
+
+    /**
+     * 기존 방식의 집계: enum 값마다 목록 전체를 다시 걸러 건수 계산
+     */
+    private static <K extends Enum<K>> Map<K, Long> perCallCounts(K[] values, List<ExternalApi> apis,
+                                                                  Function<ExternalApi, K> classifier) {
+        return Arrays.stream(values).collect(Collectors.toMap(
+            value -> value,
+            value -> apis.stream().filter(api -> classifier.apply(api) == value).count()));
+    }
+}
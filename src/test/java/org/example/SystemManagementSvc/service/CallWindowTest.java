@@ -0,0 +1,104 @@
+package org.example.SystemManagementSvc.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CallWindow 테스트")
+class CallWindowTest {
+
+    @Test
+    @DisplayName("새 초의 첫 기록에서만 버킷 전환(true)을 알림")
+    void record_SignalsBucketRollover() {
+        // Given
+        CallWindow window = new CallWindow(10);
+
+        // When & Then
+        assertThat(window.record(100, true, 5)).isTrue();
+        assertThat(window.record(100, false, 5)).isFalse();
+        assertThat(window.record(101, true, 5)).isTrue();
+        assertThat(window.record(100, true, 5)).isFalse();  // 늦게 도착한 이전 초
+        assertThat(window.lastSecond()).isEqualTo(101);
+    }
+
+    @Test
+    @DisplayName("집계는 최근 windowSeconds초의 버킷만 포함")
+    void snapshot_CountsOnlyWindow() {
+        // Given
+        CallWindow window = new CallWindow(10);
+        window.record(100, true, 10);
+        window.record(100, false, 30);
+        window.record(105, true, 20);
+
+        // When
+        CallWindow.Stats current = window.snapshot(105);
+        CallWindow.Stats later = window.snapshot(110);
+
+        // Then
+        assertThat(current.calls()).isEqualTo(3);
+        assertThat(current.failures()).isEqualTo(1);
+        assertThat(current.averageResponseTime()).isEqualTo(20.0);
+        assertThat(current.maxResponseTime()).isEqualTo(30);
+        assertThat(later.calls()).isEqualTo(1);
+        assertThat(later.failures()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 위치의 버킷을 새 초가 재사용하면 이전 집계를 초기화")
+    void record_ResetsReusedBucket() {
+        // Given
+        CallWindow window = new CallWindow(10);
+        window.record(100, false, 500);
+        window.record(100, false, 500);
+
+        // When
+        window.record(110, true, 10);
+        CallWindow.Stats stats = window.snapshot(110);
+
+        // Then
+        assertThat(stats.calls()).isEqualTo(1);
+        assertThat(stats.failures()).isZero();
+        assertThat(stats.maxResponseTime()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("응답 시간을 모르는 호출(음수)은 호출 수에만 반영")
+    void record_UnknownResponseTime() {
+        // Given
+        CallWindow window = new CallWindow(10);
+        window.record(100, true, -1);
+        window.record(100, true, 40);
+
+        // When
+        CallWindow.Stats stats = window.snapshot(100);
+
+        // Then
+        assertThat(stats.calls()).isEqualTo(2);
+        assertThat(stats.responseTimeCount()).isEqualTo(1);
+        assertThat(stats.averageResponseTime()).isEqualTo(40.0);
+        assertThat(stats.latency().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("호출이 없으면 성공률 100%, 평균 응답 시간 0")
+    void snapshot_Empty() {
+        CallWindow.Stats stats = new CallWindow(10).snapshot(100);
+
+        assertThat(stats.calls()).isZero();
+        assertThat(stats.successRate()).isEqualTo(100.0);
+        assertThat(stats.averageResponseTime()).isZero();
+        assertThat(stats.latency().getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("평가는 한 번에 하나만 진행")
+    void evaluationGuard() {
+        CallWindow window = new CallWindow(10);
+
+        assertThat(window.tryBeginEvaluation()).isTrue();
+        assertThat(window.tryBeginEvaluation()).isFalse();
+        window.endEvaluation();
+        assertThat(window.tryBeginEvaluation()).isTrue();
+    }
+}
@@ -0,0 +1,270 @@
+package org.example.SystemManagementSvc.service;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.SystemManagementSvc.config.ApiCircuitBreakerConfig;
+import org.example.SystemManagementSvc.dto.LatencyPercentiles;
+import org.example.SystemManagementSvc.dto.analytics.ApiCallStatistics;
+import org.example.SystemManagementSvc.event.model.CircuitBreakerEvent;
+import org.example.SystemManagementSvc.event.publisher.EventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Resilience4j 레지스트리와 저장 상태(Redis HASH) 사이의 연결 테스트
+ * 실제 CircuitBreakerRegistry를 사용하고 Redis/이벤트 발행은 Mock으로 대체
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CircuitBreakerMonitoringService 테스트")
+class CircuitBreakerMonitoringServiceTest {
+
+    private static final String API_ID = "weather-api";
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private AlertNotificationService alertNotificationService;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private ApiCallAnalyticsService apiCallAnalyticsService;
+
+    @Mock
+    private ProbeLatencyTracker probeLatencyTracker;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private CircuitBreakerMonitoringService monitoringService;
+
+    @BeforeEach
+    void setUp() {
+        // 운영 기본값과 같은 설정 (호출 이벤트: 60초 시간 윈도우/최소 20건, 프로브: 최근 10건/최소 5건)
+        circuitBreakerRegistry = new ApiCircuitBreakerConfig().apiCircuitBreakerRegistry(50.0f, 5000L, 80.0f, 20,
+            CircuitBreakerConfig.SlidingWindowType.TIME_BASED, 60, 10, 300L, 10, 5, 3);
+        monitoringService = new CircuitBreakerMonitoringService(Optional.of(apiCallAnalyticsService), eventPublisher,
+            stringRedisTemplate, alertNotificationService, redisMessageListenerContainer, circuitBreakerRegistry,
+            probeLatencyTracker, new SimpleMeterRegistry(), 1000, 60);
+        ReflectionTestUtils.setField(monitoringService, "stateSyncChannel", "circuit-breaker:state-changes");
+        ReflectionTestUtils.setField(monitoringService, "failureRateThreshold", 50.0);
+        ReflectionTestUtils.setField(monitoringService, "slowCallRateThreshold", 80.0f);
+        ReflectionTestUtils.setField(monitoringService, "idleEvictionMinutes", 30L);
+        monitoringService.subscribeStateChanges();
+
+        when(stringRedisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("새 서킷브레이커는 저장된 상태로 초기화되고 전이를 기록/발행하지 않음")
+    void breakerAdded_SeedsStoredState() {
+        // Given
+        storeState(API_ID, "FORCE_OPEN|3|" + System.currentTimeMillis());
+
+        // When
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(API_ID);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.FORCED_OPEN);
+        verifyNoTransitionScript();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("저장된 상태가 FORCE_OPEN이면 자동 전이를 기록하지 않고 다시 강제 개방")
+    void automaticTransition_DoesNotReplaceForceOpen() {
+        // Given
+        storeState(API_ID, "FORCE_OPEN|3|" + System.currentTimeMillis());
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(API_ID);
+
+        // When
+        circuitBreaker.transitionToClosedState();
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.FORCED_OPEN);
+        verifyNoTransitionScript();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("자동 전이는 알고 있던 버전으로 기록하고 이벤트를 발행")
+    void automaticTransition_RecordsAndPublishes() {
+        // Given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(API_ID);
+
+        // When
+        circuitBreaker.transitionToOpenState();
+
+        // Then
+        ArgumentCaptor<CircuitBreakerEvent> event = ArgumentCaptor.forClass(CircuitBreakerEvent.class);
+        verify(eventPublisher).publishEvent(eq("circuit-breaker-events"), event.capture());
+        assertThat(event.getValue().getState()).isEqualTo(CircuitBreakerEvent.CircuitBreakerState.OPEN);
+        assertThat(event.getValue().getPreviousState()).isEqualTo(CircuitBreakerEvent.CircuitBreakerState.CLOSED);
+    }
+
+    @Test
+    @DisplayName("다른 파드가 먼저 같은 전이(OPEN → HALF_OPEN)를 기록했으면 이벤트를 발행하지 않음")
+    void automaticTransition_DedupedAcrossPods() {
+        // Given: 이 파드는 OPEN(버전 2)을 알고 있고, 저장소는 다른 파드가 기록한 HALF_OPEN(버전 3)
+        long now = System.currentTimeMillis();
+        when(hashOperations.get(CircuitBreakerMonitoringService.CB_STATES_KEY, API_ID))
+            .thenReturn("OPEN|2|" + now, "HALF_OPEN|3|" + now);
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(API_ID);
+
+        // When
+        circuitBreaker.transitionToHalfOpenState();
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("유휴 CLOSED 서킷브레이커만 레지스트리에서 제거")
+    void evictIdleBreakers() {
+        // Given
+        ReflectionTestUtils.setField(monitoringService, "idleEvictionMinutes", 0L);
+        storeState("forced-api", "FORCE_OPEN|1|" + System.currentTimeMillis());
+        circuitBreakerRegistry.circuitBreaker(API_ID);
+        circuitBreakerRegistry.circuitBreaker("forced-api");
+
+        // When
+        int evicted = monitoringService.evictIdleBreakers();
+
+        // Then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(circuitBreakerRegistry.find(API_ID)).isEmpty();
+        assertThat(circuitBreakerRegistry.find("forced-api")).isPresent();
+    }
+
+    @Test
+    @DisplayName("집계 평균이 빨라도 병합한 프로브 p99가 임계치를 넘으면 DEGRADED로 전이")
+    void monitorCircuitBreakers_ProbeP99DrivesDegraded() {
+        // Given: 집계에는 분위수가 없고 평균은 300ms, 프로브 p99는 7200ms
+        ReflectionTestUtils.setField(monitoringService, "callRateThreshold", 1000L);
+        ReflectionTestUtils.setField(monitoringService, "responseTimeThreshold", 5000L);
+        ReflectionTestUtils.setField(monitoringService, "responseTimeMetric", "p99");
+        ReflectionTestUtils.setField(monitoringService, "monitoringWindowMinutes", 5);
+        when(apiCallAnalyticsService.getApiCallRanking(any(), any(), anyInt())).thenReturn(List.of(
+            ApiCallStatistics.builder()
+                .apiName(API_ID)
+                .totalCallCount(100L)
+                .successCallCount(100L)
+                .failureCallCount(0L)
+                .successRate(100.0)
+                .averageResponseTime(300.0)
+                .build()));
+        when(probeLatencyTracker.percentiles(API_ID, 5)).thenReturn(LatencyPercentiles.builder()
+            .apiId(API_ID)
+            .sampleCount(60)
+            .p50(250)
+            .p95(900)
+            .p99(7200)
+            .build());
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+        // When
+        monitoringService.monitorCircuitBreakers();
+
+        // Then
+        ArgumentCaptor<CircuitBreakerEvent> event = ArgumentCaptor.forClass(CircuitBreakerEvent.class);
+        verify(eventPublisher).publishEvent(eq("circuit-breaker-events"), event.capture());
+        assertThat(event.getValue().getState()).isEqualTo(CircuitBreakerEvent.CircuitBreakerState.DEGRADED);
+        assertThat(event.getValue().getTrigger()).isEqualTo(CircuitBreakerEvent.StateChangeTrigger.SLOW_RESPONSE);
+        assertThat(event.getValue().getReason()).contains("p99", "7200ms");
+        verify(hashOperations).put(eq(CircuitBreakerMonitoringService.CB_METRICS_KEY), eq(API_ID), contains("|900.0|7200.0|"));
+    }
+
+    @Test
+    @DisplayName("프로브로만 채워지는 서킷브레이커는 호출 수 기반 윈도우라 연속 프로브 실패 5회면 OPEN")
+    void recordProbe_ConsecutiveFailuresOpenBreaker() {
+        // Given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+        for (int i = 0; i < 4; i++) {
+            monitoringService.recordProbe(API_ID, "날씨 API", "기상청", false, 120);
+        }
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(API_ID);
+        assertThat(circuitBreaker.getCircuitBreakerConfig().getSlidingWindowType())
+            .isEqualTo(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        verifyNoInteractions(eventPublisher);
+
+        // When
+        monitoringService.recordProbe(API_ID, "날씨 API", "기상청", false, 120);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        ArgumentCaptor<CircuitBreakerEvent> event = ArgumentCaptor.forClass(CircuitBreakerEvent.class);
+        verify(eventPublisher).publishEvent(eq("circuit-breaker-events"), event.capture());
+        assertThat(event.getValue().getState()).isEqualTo(CircuitBreakerEvent.CircuitBreakerState.OPEN);
+        assertThat(event.getValue().getApiName()).isEqualTo("날씨 API");
+    }
+
+    @Test
+    @DisplayName("프로브 설정 서킷브레이커에 호출 이벤트가 들어오면 기본 설정으로 다시 생성하고 저장된 상태를 유지")
+    void recordCall_ReplacesProbeBreaker() {
+        // Given
+        storeState(API_ID, "OPEN|2|" + System.currentTimeMillis());
+        monitoringService.recordProbe(API_ID, null, null, false, 120);
+        CircuitBreaker probeBreaker = circuitBreakerRegistry.circuitBreaker(API_ID);
+
+        // When
+        monitoringService.recordCall(API_ID, null, null, true, 80);
+
+        // Then
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(API_ID);
+        assertThat(circuitBreaker).isNotSameAs(probeBreaker);
+        assertThat(circuitBreaker.getCircuitBreakerConfig().getSlidingWindowType())
+            .isEqualTo(CircuitBreakerConfig.SlidingWindowType.TIME_BASED);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        verifyNoTransitionScript();
+        verifyNoInteractions(eventPublisher);
+
+        monitoringService.recordProbe(API_ID, null, null, false, 120);
+        assertThat(circuitBreakerRegistry.circuitBreaker(API_ID)).isSameAs(circuitBreaker);
+    }
+
+    private void storeState(String apiId, String value) {
+        when(hashOperations.get(CircuitBreakerMonitoringService.CB_STATES_KEY, apiId)).thenReturn(value);
+    }
+
+    private void verifyNoTransitionScript() {
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.SystemManagementSvc.service;
+
+import org.example.SystemManagementSvc.event.model.CircuitBreakerEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("서킷브레이커 상태 값/전이 메시지 형식 테스트")
+class CircuitBreakerStateCodecTest {
+
+    @Test
+    @DisplayName("상태 값은 인코딩 후 디코딩해도 같음")
+    void versionedState_RoundTrip() {
+        // Given
+        CircuitBreakerMonitoringService.VersionedState state = new CircuitBreakerMonitoringService.VersionedState(
+            CircuitBreakerEvent.CircuitBreakerState.FORCE_OPEN, 7, 1_700_000_000_000L);
+
+        // When
+        String encoded = state.encode();
+
+        // Then
+        assertThat(encoded).isEqualTo("FORCE_OPEN|7|1700000000000");
+        assertThat(CircuitBreakerMonitoringService.VersionedState.decode(encoded)).isEqualTo(state);
+    }
+
+    @Test
+    @DisplayName("형식이 다르거나 알 수 없는 상태는 null")
+    void versionedState_DecodeInvalid() {
+        assertThat(CircuitBreakerMonitoringService.VersionedState.decode("OPEN")).isNull();
+        assertThat(CircuitBreakerMonitoringService.VersionedState.decode("OPEN|x|1")).isNull();
+        assertThat(CircuitBreakerMonitoringService.VersionedState.decode("BROKEN|1|1")).isNull();
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지나면 만료, 묘비(변경 시각 0)는 만료되지 않고 버전 유지")
+    void versionedState_ExpiryAndTombstone() {
+        // Given
+        long now = System.currentTimeMillis();
+        CircuitBreakerMonitoringService.VersionedState recent = new CircuitBreakerMonitoringService.VersionedState(
+            CircuitBreakerEvent.CircuitBreakerState.OPEN, 3, now - 1_000);
+        CircuitBreakerMonitoringService.VersionedState old = new CircuitBreakerMonitoringService.VersionedState(
+            CircuitBreakerEvent.CircuitBreakerState.OPEN, 3, now - CircuitBreakerMonitoringService.STATE_RETENTION_MILLIS - 1);
+        CircuitBreakerMonitoringService.VersionedState tombstone =
+            CircuitBreakerMonitoringService.VersionedState.decode("CLOSED|3|0");
+
+        // When & Then
+        assertThat(recent.isExpired(now)).isFalse();
+        assertThat(old.isExpired(now)).isTrue();
+        assertThat(tombstone.isExpired(now)).isFalse();
+        assertThat(tombstone.isTombstone()).isTrue();
+        assertThat(tombstone.version()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("전이 메시지의 apiId는 구분자를 포함해도 그대로 복원")
+    void stateChange_Decode() {
+        // When
+        CircuitBreakerMonitoringService.StateChange change =
+            CircuitBreakerMonitoringService.StateChange.decode("pod-1|4|1700000000000|HALF_OPEN|weather|v2");
+
+        // Then
+        assertThat(change.origin()).isEqualTo("pod-1");
+        assertThat(change.version()).isEqualTo(4);
+        assertThat(change.changedAt()).isEqualTo(1_700_000_000_000L);
+        assertThat(change.state()).isEqualTo(CircuitBreakerEvent.CircuitBreakerState.HALF_OPEN);
+        assertThat(change.apiId()).isEqualTo("weather|v2");
+        assertThat(CircuitBreakerMonitoringService.StateChange.decode("pod-1|4|HALF_OPEN")).isNull();
+        assertThat(CircuitBreakerMonitoringService.StateChange.decode("pod-1|x|1|OPEN|api")).isNull();
+    }
+
+    @Test
+    @DisplayName("이전 레이아웃 키: 샤드 태그 유무와 관계없이 apiId 추출")
+    void migration_ApiIdOf() {
+        assertThat(CircuitBreakerStateMigration.apiIdOf("{h3}:weather-api")).isEqualTo("weather-api");
+        assertThat(CircuitBreakerStateMigration.apiIdOf("weather-api")).isEqualTo("weather-api");
+    }
+
+    @Test
+    @DisplayName("이전 레이아웃 변경 시각: 타임스탬프 우선, 없으면 남은 TTL로 추정")
+    void migration_ChangedAt() {
+        // Given
+        LocalDateTime timestamp = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+        long expected = timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long oneHourAgo = System.currentTimeMillis() - 3_600_000;
+
+        // When & Then
+        assertThat(CircuitBreakerStateMigration.changedAt(timestamp.toString(), 1_000L)).isEqualTo(expected);
+        assertThat(CircuitBreakerStateMigration.changedAt(null,
+            CircuitBreakerMonitoringService.STATE_RETENTION_MILLIS - 3_600_000)).isCloseTo(oneHourAgo, within(5_000L));
+    }
+}
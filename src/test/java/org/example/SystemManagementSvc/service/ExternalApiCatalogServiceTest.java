@@ -0,0 +1,189 @@
+package org.example.SystemManagementSvc.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.SystemManagementSvc.domain.ExternalApi;
+import org.example.SystemManagementSvc.dto.CatalogImportReport;
+import org.example.SystemManagementSvc.repository.ExternalApiRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExternalApiCatalogService 테스트")
+class ExternalApiCatalogServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ExternalApiRepository externalApiRepository;
+
+    @Mock
+    private ExternalApiRegistry externalApiRegistry;
+
+    private ExternalApiCatalogService catalogService;
+
+    @BeforeEach
+    void setUp() {
+        catalogService = new ExternalApiCatalogService(jdbcTemplate, transactionTemplate,
+            externalApiRepository, externalApiRegistry, new ObjectMapper());
+        ReflectionTestUtils.setField(catalogService, "importBatchSize", 500);
+        ReflectionTestUtils.setField(catalogService, "maxReportedErrors", 50);
+    }
+
+    @Test
+    @DisplayName("CSV 레코드 파싱: 따옴표 필드, \"\" 이스케이프, 따옴표 안 줄바꿈, CRLF")
+    void readCsvRecord() throws Exception {
+        // Given
+        BufferedReader reader = new BufferedReader(new StringReader(
+            "a,\"b,c\",\"say \"\"hi\"\"\"\r\n\"multi\nline\",,end\n"));
+
+        // When & Then
+        assertThat(ExternalApiCatalogService.readCsvRecord(reader)).containsExactly("a", "b,c", "say \"hi\"");
+        assertThat(ExternalApiCatalogService.readCsvRecord(reader)).containsExactly("multi\nline", "", "end");
+        assertThat(ExternalApiCatalogService.readCsvRecord(reader)).isNull();
+    }
+
+    @Test
+    @DisplayName("불리언은 true/false만 허용")
+    void parseBoolean_Strict() {
+        assertThat(ExternalApiCatalogService.parseBoolean("TRUE")).isTrue();
+        assertThat(ExternalApiCatalogService.parseBoolean("false")).isFalse();
+        assertThatThrownBy(() -> ExternalApiCatalogService.parseBoolean("yes"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ExternalApiCatalogService.parseBoolean("1"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("CSV의 잘못된 불리언 값은 해당 레코드만 검증 실패로 처리")
+    void importCsv_InvalidBoolean() throws Exception {
+        // Given
+        stubTransaction();
+        String csv = "apiId,apiName,apiUrl,apiIssuer,apiDomain,apiKeyword,httpMethod,apiEffectiveness\n"
+            + "a1,A,https://a.example.com,X,WEATHER,REST_API,GET,yes\n"
+            + "a2,B,https://b.example.com,X,WEATHER,REST_API,GET,false\n";
+
+        // When
+        CatalogImportReport report = catalogService.importCatalog(stream(csv),
+            ExternalApiCatalogService.CatalogFormat.CSV, progress -> { });
+
+        // Then
+        assertThat(report.getInvalid()).isEqualTo(1);
+        assertThat(report.getInserted()).isEqualTo(1);
+        assertThat(report.getErrors()).singleElement().asString().startsWith("record 2:");
+        assertThat(insertedApiIds()).containsExactly("a2");
+    }
+
+    @Test
+    @DisplayName("NDJSON의 null 라인과 문자열/숫자 불리언은 해당 라인만 거부")
+    void importNdjson_NullLineAndCoercedBoolean() throws Exception {
+        // Given
+        stubTransaction();
+        String ndjson = "null\n"
+            + json("a1", "https://a.example.com", "\"yes\"") + "\n"
+            + json("a2", "https://b.example.com", "1") + "\n"
+            + json("a3", "https://c.example.com", "true") + "\n";
+
+        // When
+        CatalogImportReport report = catalogService.importCatalog(stream(ndjson),
+            ExternalApiCatalogService.CatalogFormat.NDJSON, progress -> { });
+
+        // Then
+        assertThat(report.getProcessed()).isEqualTo(4);
+        assertThat(report.getInvalid()).isEqualTo(3);
+        assertThat(report.getErrors().get(0)).isEqualTo("record 1: record must be a JSON object");
+        assertThat(insertedApiIds()).containsExactly("a3");
+    }
+
+    @Test
+    @DisplayName("파일 내 apiUrl/apiId 중복과 이미 등록된 apiId는 중복으로 건너뜀")
+    void importNdjson_Duplicates() throws Exception {
+        // Given
+        stubTransaction();
+        when(externalApiRepository.findExistingApiIds(anyCollection())).thenReturn(List.of("a4"));
+        String ndjson = json("a1", "https://a.example.com", "true") + "\n"
+            + json("a2", "https://a.example.com", "true") + "\n"   // URL 중복
+            + json("a1", "https://b.example.com", "true") + "\n"   // ID 중복
+            + json("a4", "https://d.example.com", "true") + "\n";  // 기존 ID
+
+        // When
+        CatalogImportReport report = catalogService.importCatalog(stream(ndjson),
+            ExternalApiCatalogService.CatalogFormat.NDJSON, progress -> { });
+
+        // Then
+        assertThat(report.getInserted()).isEqualTo(1);
+        assertThat(report.getDuplicates()).isEqualTo(3);
+        assertThat(insertedApiIds()).containsExactly("a1");
+    }
+
+    @Test
+    @DisplayName("apiId가 없는 레코드만 있으면 ID 조회를 하지 않음")
+    void importNdjson_NoApiIds() throws Exception {
+        // Given
+        stubTransaction();
+        String ndjson = "{\"apiName\":\"A\",\"apiUrl\":\"https://a.example.com\",\"apiIssuer\":\"X\","
+            + "\"apiDomain\":\"WEATHER\",\"apiKeyword\":\"REST_API\",\"httpMethod\":\"GET\"}\n";
+
+        // When
+        CatalogImportReport report = catalogService.importCatalog(stream(ndjson),
+            ExternalApiCatalogService.CatalogFormat.NDJSON, progress -> { });
+
+        // Then
+        assertThat(report.getInserted()).isEqualTo(1);
+        verify(externalApiRepository, never()).findExistingApiIds(anyCollection());
+    }
+
+    private void stubTransaction() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> insertedApiIds() {
+        ArgumentCaptor<Collection<ExternalApi>> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture(), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+        return rows.getValue().stream().map(ExternalApi::getApiId).toList();
+    }
+
+    private static String json(String apiId, String apiUrl, String effectiveness) {
+        return "{\"apiId\":\"" + apiId + "\",\"apiName\":\"API " + apiId + "\",\"apiUrl\":\"" + apiUrl + "\","
+            + "\"apiIssuer\":\"X\",\"apiDomain\":\"WEATHER\",\"apiKeyword\":\"REST_API\",\"httpMethod\":\"GET\","
+            + "\"apiEffectiveness\":" + effectiveness + "}";
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
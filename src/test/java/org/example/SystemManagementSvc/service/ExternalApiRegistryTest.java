@@ -0,0 +1,148 @@
+package org.example.SystemManagementSvc.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.SystemManagementSvc.domain.ExternalApi;
+import org.example.SystemManagementSvc.repository.ExternalApiRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExternalApiRegistry 테스트")
+class ExternalApiRegistryTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 1, 12, 0, 0);
+
+    @Mock
+    private ExternalApiRepository externalApiRepository;
+
+    private ExternalApiRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ExternalApiRegistry(externalApiRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(registry, "fullReloadIntervalMillis", 600_000L);
+    }
+
+    @Test
+    @DisplayName("증분 갱신은 가장 최근 updatedAt 이후 변경분만 조회하여 반영")
+    void refresh_AppliesChangesSinceWatermark() {
+        // Given
+        ExternalApi weather = api("weather-api", ExternalApi.ApiDomain.WEATHER, true, T0);
+        ExternalApi traffic = api("traffic-api", ExternalApi.ApiDomain.TRAFFIC, true, T0.plusMinutes(5));
+        when(externalApiRepository.findAll()).thenReturn(List.of(weather, traffic));
+        registry.reload();
+        long version = registry.getVersion();
+
+        ExternalApi disabledTraffic = api("traffic-api", ExternalApi.ApiDomain.TRAFFIC, false, T0.plusMinutes(9));
+        ExternalApi news = api("news-api", ExternalApi.ApiDomain.NEWS, true, T0.plusMinutes(9));
+        when(externalApiRepository.findApisUpdatedSince(T0.plusMinutes(5))).thenReturn(List.of(disabledTraffic, news));
+
+        // When
+        registry.refresh();
+
+        // Then
+        assertThat(registry.getVersion()).isEqualTo(version + 1);
+        assertThat(registry.all()).extracting(ExternalApi::getApiId).containsExactly("weather-api", "traffic-api", "news-api");
+        assertThat(registry.active()).extracting(ExternalApi::getApiId).containsExactly("weather-api", "news-api");
+        assertThat(registry.findById("traffic-api")).containsSame(disabledTraffic);
+        verify(externalApiRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("워터마크(>=)에 걸려 다시 읽힌 경계 행은 내용이 같으면 버전을 바꾸지 않음")
+    void refresh_BoundaryRowsAreNoOps() {
+        // Given
+        when(externalApiRepository.findAll()).thenReturn(List.of(api("weather-api", ExternalApi.ApiDomain.WEATHER, true, T0)));
+        registry.reload();
+        long version = registry.getVersion();
+
+        // 같은 행을 새 인스턴스로 다시 읽음 (엔티티 동일성은 다르지만 @Data 기준 같음)
+        when(externalApiRepository.findApisUpdatedSince(T0))
+            .thenReturn(List.of(api("weather-api", ExternalApi.ApiDomain.WEATHER, true, T0)));
+
+        // When
+        registry.refresh();
+        registry.refresh();
+
+        // Then
+        assertThat(registry.getVersion()).isEqualTo(version);
+        verify(externalApiRepository, times(2)).findApisUpdatedSince(T0);
+    }
+
+    @Test
+    @DisplayName("삭제된 행은 증분 조회로 알 수 없고 전체 재적재 주기에 제거")
+    void refresh_FullReloadDropsDeletedRows() {
+        // Given
+        ExternalApi weather = api("weather-api", ExternalApi.ApiDomain.WEATHER, true, T0);
+        ExternalApi traffic = api("traffic-api", ExternalApi.ApiDomain.TRAFFIC, true, T0);
+        when(externalApiRepository.findAll()).thenReturn(List.of(weather, traffic), List.of(weather));
+        registry.reload();
+
+        when(externalApiRepository.findApisUpdatedSince(T0)).thenReturn(List.of(weather, traffic));
+        registry.refresh();
+        assertThat(registry.findById("traffic-api")).isPresent();
+
+        // When: 재적재 주기 경과
+        ReflectionTestUtils.setField(registry, "fullReloadIntervalMillis", 0L);
+        registry.refresh();
+
+        // Then
+        assertThat(registry.findById("traffic-api")).isEmpty();
+        assertThat(registry.countAll()).isEqualTo(1);
+        verify(externalApiRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("activeBy* 인덱스는 활성 API만 분류별로 묶고, 분류 값이 없는 API는 제외")
+    void activeBy_GroupsActiveApisOnly() {
+        // Given
+        ExternalApi weather = api("weather-api", ExternalApi.ApiDomain.WEATHER, true, T0);
+        ExternalApi realtime = api("realtime-api", ExternalApi.ApiDomain.WEATHER, true, T0);
+        realtime.setApiKeyword(ExternalApi.ApiKeyword.REAL_TIME);
+        realtime.setApiIssuer(null);
+        ExternalApi inactive = api("inactive-api", ExternalApi.ApiDomain.WEATHER, false, T0);
+        when(externalApiRepository.findAll()).thenReturn(List.of(weather, realtime, inactive));
+
+        // When
+        registry.reload();
+
+        // Then
+        assertThat(registry.activeByDomain(ExternalApi.ApiDomain.WEATHER)).containsExactly(weather, realtime);
+        assertThat(registry.activeByDomain(ExternalApi.ApiDomain.NEWS)).isEmpty();
+        assertThat(registry.activeByKeyword(ExternalApi.ApiKeyword.REAL_TIME)).containsExactly(realtime);
+        assertThat(registry.activeByPriority(ExternalApi.HealthCheckPriority.HIGH)).containsExactly(realtime);
+        assertThat(registry.activeByPriority(ExternalApi.HealthCheckPriority.MEDIUM)).containsExactly(weather);
+        assertThat(registry.activeByIssuer("기상청")).containsExactly(weather);
+        assertThat(registry.activeByOwner("owner")).containsExactly(weather, realtime);
+        assertThat(registry.countActive()).isEqualTo(2);
+        verify(externalApiRepository, never()).findApisUpdatedSince(T0);
+    }
+
+    private static ExternalApi api(String apiId, ExternalApi.ApiDomain domain, boolean active, LocalDateTime updatedAt) {
+        return ExternalApi.builder()
+            .apiId(apiId)
+            .apiName(apiId)
+            .apiUrl("https://api.test.com/" + apiId)
+            .apiIssuer("기상청")
+            .apiOwner("owner")
+            .apiDomain(domain)
+            .apiKeyword(ExternalApi.ApiKeyword.DAILY)
+            .apiEffectiveness(active)
+            .updatedAt(updatedAt)
+            .build();
+    }
+}
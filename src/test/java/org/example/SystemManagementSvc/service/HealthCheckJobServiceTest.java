@@ -0,0 +1,158 @@
+package org.example.SystemManagementSvc.service;
+
+import org.example.SystemManagementSvc.domain.HealthCheckResult;
+import org.example.SystemManagementSvc.dto.HealthCheckJobStatus;
+import org.example.SystemManagementSvc.dto.HealthSweepSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HealthCheckJobService 테스트")
+class HealthCheckJobServiceTest {
+
+    @Mock
+    private HealthCheckService healthCheckService;
+
+    @InjectMocks
+    private HealthCheckJobService healthCheckJobService;
+
+    private CompletableFuture<HealthSweepSummary> sweep;
+    private final List<Consumer<HealthCheckResult>> listeners = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(healthCheckJobService, "maxRetainedJobs", 20);
+        sweep = new CompletableFuture<>();
+        when(healthCheckService.sweepActiveApis(any())).thenAnswer(invocation -> {
+            listeners.add(invocation.getArgument(0));
+            return sweep;
+        });
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 요청은 하나의 작업에 합류하고 스윕은 한 번만 실행")
+    void submit_ConcurrentRequestsShareOneJob() throws Exception {
+        // Given
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<HealthCheckJobStatus>> futures = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return healthCheckJobService.submitFullHealthCheck();
+                }));
+            }
+            start.countDown();
+
+            List<HealthCheckJobStatus> statuses = new ArrayList<>();
+            for (Future<HealthCheckJobStatus> future : futures) {
+                statuses.add(future.get(5, TimeUnit.SECONDS));
+            }
+
+            // Then
+            assertThat(statuses).extracting(HealthCheckJobStatus::getJobId).containsOnly(statuses.get(0).getJobId());
+            assertThat(statuses).filteredOn(status -> !status.isCoalesced()).hasSize(1);
+            verify(healthCheckService, times(1)).sweepActiveApis(any());
+            assertThat(healthCheckJobService.getJobStatus(statuses.get(0).getJobId()))
+                .hasValueSatisfying(status -> assertThat(status.getCoalescedRequests()).isEqualTo(requests - 1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("작업이 끝난 뒤의 요청은 새 작업을 시작")
+    void submit_AfterCompletionStartsNewJob() {
+        // Given
+        HealthCheckJobStatus first = healthCheckJobService.submitFullHealthCheck();
+        sweep.complete(new HealthSweepSummary());
+        sweep = new CompletableFuture<>();
+
+        // When
+        HealthCheckJobStatus second = healthCheckJobService.submitFullHealthCheck();
+
+        // Then
+        assertThat(second.getJobId()).isNotEqualTo(first.getJobId());
+        assertThat(second.isCoalesced()).isFalse();
+        assertThat(healthCheckJobService.getJobStatus(first.getJobId()))
+            .hasValueSatisfying(status -> assertThat(status.getState()).isEqualTo(HealthCheckJobStatus.JobState.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("결과는 도착 순서대로 누적되고, 작업이 끝나면 대기 없이 빈 목록으로 스트림 종료")
+    void awaitResults_EndsWhenJobCompletes() throws Exception {
+        // Given
+        String jobId = healthCheckJobService.submitFullHealthCheck().getJobId();
+        HealthCheckJobService.HealthCheckJob job = healthCheckJobService.findJob(jobId).orElseThrow();
+        listeners.get(0).accept(result("api-1", HealthCheckResult.HealthStatus.HEALTHY, 100L));
+        listeners.get(0).accept(result("api-2", HealthCheckResult.HealthStatus.UNHEALTHY, 300L));
+
+        // When
+        List<HealthCheckResult> firstBatch = job.awaitResults(0, 10);
+        sweep.complete(new HealthSweepSummary());
+        listeners.get(0).accept(result("api-3", HealthCheckResult.HealthStatus.HEALTHY, 50L));   // 완료 후 도착
+        long startedAt = System.nanoTime();
+        List<HealthCheckResult> afterCompletion = job.awaitResults(firstBatch.size(), 5_000);
+
+        // Then
+        assertThat(firstBatch).extracting(HealthCheckResult::getApiId).containsExactly("api-1", "api-2");
+        assertThat(afterCompletion).isEmpty();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1_000);
+        assertThat(job.isFinished()).isTrue();
+        assertThat(healthCheckJobService.getJobStatus(jobId)).hasValueSatisfying(status -> {
+            assertThat(status.getCompletedApis()).isEqualTo(2);
+            assertThat(status.getHealthyApis()).isEqualTo(1);
+            assertThat(status.getAverageResponseTime()).isEqualTo(200);
+        });
+    }
+
+    @Test
+    @DisplayName("스윕이 실패하면 작업은 FAILED로 끝나고 에러 메시지를 남김")
+    void launch_SweepFailure() {
+        // Given
+        String jobId = healthCheckJobService.submitFullHealthCheck().getJobId();
+
+        // When
+        sweep.completeExceptionally(new IllegalStateException("registry unavailable"));
+
+        // Then
+        assertThat(healthCheckJobService.getJobStatus(jobId)).hasValueSatisfying(status -> {
+            assertThat(status.getState()).isEqualTo(HealthCheckJobStatus.JobState.FAILED);
+            assertThat(status.getErrorMessage()).isEqualTo("registry unavailable");
+        });
+    }
+
+    private static HealthCheckResult result(String apiId, HealthCheckResult.HealthStatus status, long responseTimeMs) {
+        return HealthCheckResult.builder()
+            .apiId(apiId)
+            .status(status)
+            .responseTimeMs(responseTimeMs)
+            .build();
+    }
+}
@@ -12,7 +12,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
@@ -24,8 +23,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -38,6 +37,9 @@ class HealthCheckServiceTest {
     @Mock
     private ExternalApiRepository externalApiRepository;
 
+    @Mock
+    private ExternalApiRegistry externalApiRegistry;
+
     @Mock
     private HealthCheckResultRepository healthCheckResultRepository;
 
@@ -45,11 +47,20 @@ class HealthCheckServiceTest {
     private RedisTemplate<String, Object> redisTemplate;
 
     @Mock
-    private ValueOperations<String, Object> valueOperations;
+    private RedisStateWriter redisStateWriter;
+
+    @Mock
+    private ProbeLatencyTracker probeLatencyTracker;
+
+    @Mock
+    private CircuitBreakerMonitoringService circuitBreakerMonitoringService;
 
     @Mock
     private PrometheusMetricsService prometheusMetricsService;
 
+    @Mock
+    private RedisStateIndex redisStateIndex;
+
     @Mock
     private WebClient.Builder webClientBuilder;
 
@@ -72,7 +83,9 @@ class HealthCheckServiceTest {
 
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(healthCheckService, "unhealthyTtlSeconds", 180L);
+        ReflectionTestUtils.setField(healthCheckService, "sweepWindowSize", 200);
+        ReflectionTestUtils.setField(healthCheckService, "sweepWindowTimeoutSeconds", 60L);
+        ReflectionTestUtils.setField(healthCheckService, "healthCheckExecutor", (Executor) Runnable::run);
 
         mockApi = ExternalApi.builder()
                 .apiId("test-api-1")
@@ -84,8 +97,6 @@ class HealthCheckServiceTest {
                 .priority(ExternalApi.HealthCheckPriority.MEDIUM)
                 .apiEffectiveness(true)
                 .build();
-
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
     }
 
     @Test
@@ -93,7 +104,7 @@ class HealthCheckServiceTest {
     void performHealthCheckForAllApis_Success() throws Exception {
         // Given
         List<ExternalApi> activeApis = List.of(mockApi);
-        when(externalApiRepository.findByApiEffectivenessTrue()).thenReturn(activeApis);
+        when(externalApiRegistry.active()).thenReturn(activeApis);
         when(healthCheckResultRepository.findMaxConsecutiveFailures(anyString())).thenReturn(0);
         when(healthCheckResultRepository.save(any(HealthCheckResult.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -249,12 +260,8 @@ class HealthCheckServiceTest {
     @DisplayName("Redis 캐시에서 비정상 API 목록 조회 테스트")
     void getUnhealthyApisFromCache_Success() {
         // Given
-        Set<String> mockKeys = Set.of(
-                "unhealthy:api-1",
-                "unhealthy:api-2",
-                "unhealthy:api-3"
-        );
-        when(redisTemplate.keys("unhealthy:*")).thenReturn(mockKeys);
+        when(redisStateIndex.activeMembers(RedisStateIndex.UNHEALTHY_INDEX_KEY))
+                .thenReturn(List.of("api-1", "api-2", "api-3"));
 
         // When
         List<String> unhealthyApis = healthCheckService.getUnhealthyApisFromCache();
@@ -269,7 +276,7 @@ class HealthCheckServiceTest {
     void isApiCurrentlyUnhealthy_True() {
         // Given
         String apiId = "test-api";
-        when(redisTemplate.hasKey("unhealthy:" + apiId)).thenReturn(true);
+        when(redisTemplate.hasKey(RedisHealthStateManager.unhealthyKey(apiId))).thenReturn(true);
 
         // When
         boolean isUnhealthy = healthCheckService.isApiCurrentlyUnhealthy(apiId);
@@ -283,7 +290,7 @@ class HealthCheckServiceTest {
     void isApiCurrentlyUnhealthy_False() {
         // Given
         String apiId = "healthy-api";
-        when(redisTemplate.hasKey("unhealthy:" + apiId)).thenReturn(false);
+        when(redisTemplate.hasKey(RedisHealthStateManager.unhealthyKey(apiId))).thenReturn(false);
 
         // When
         boolean isUnhealthy = healthCheckService.isApiCurrentlyUnhealthy(apiId);
@@ -296,7 +303,7 @@ class HealthCheckServiceTest {
     @DisplayName("Redis 연결 실패 시 예외 처리 테스트")
     void getUnhealthyApisFromCache_RedisException() {
         // Given
-        when(redisTemplate.keys(anyString())).thenThrow(new RuntimeException("Redis 연결 실패"));
+        when(redisStateIndex.activeMembers(anyString())).thenThrow(new RuntimeException("Redis 연결 실패"));
 
         // When
         List<String> unhealthyApis = healthCheckService.getUnhealthyApisFromCache();
@@ -309,7 +316,7 @@ class HealthCheckServiceTest {
     @DisplayName("API 효과성 업데이트 테스트")
     void updateApiEffectiveness_Success() throws Exception {
         // Given
-        when(externalApiRepository.findByApiEffectivenessTrue()).thenReturn(List.of(mockApi));
+        when(externalApiRegistry.active()).thenReturn(List.of(mockApi));
         when(externalApiRepository.findById(anyString())).thenReturn(Optional.of(mockApi));
         when(externalApiRepository.save(any(ExternalApi.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(healthCheckResultRepository.findMaxConsecutiveFailures(anyString())).thenReturn(0);
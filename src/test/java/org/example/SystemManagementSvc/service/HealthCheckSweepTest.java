@@ -0,0 +1,158 @@
+package org.example.SystemManagementSvc.service;
+
+import org.example.SystemManagementSvc.domain.ExternalApi;
+import org.example.SystemManagementSvc.domain.HealthCheckResult;
+import org.example.SystemManagementSvc.dto.HealthSweepSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HealthCheckSweep 테스트")
+class HealthCheckSweepTest {
+
+    private ExecutorService executor;
+    private final List<HealthCheckResult> delivered = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("윈도우 단위로 나눠 실행하고 결과 건수와 정상 건수를 집계")
+    void run_CountsResultsPerWindow() {
+        // Given: 5개 API, 윈도우 2개씩 → 3개 윈도우, 짝수 번째만 정상
+        List<ExternalApi> apis = IntStream.range(0, 5).mapToObj(i -> api("api-" + i)).toList();
+
+        // When
+        HealthSweepSummary summary = HealthCheckSweep.run(apis, 2, 5, executor,
+            (api, cancelled) -> {
+                int index = Integer.parseInt(api.getApiId().substring(4));
+                cancelled.getAsBoolean();
+                return result(api, index % 2 == 0 ? HealthCheckResult.HealthStatus.HEALTHY
+                    : HealthCheckResult.HealthStatus.UNHEALTHY);
+            }, delivered::add);
+
+        // Then
+        assertThat(summary.getTargetApis()).isEqualTo(5);
+        assertThat(summary.getCheckedApis()).isEqualTo(5);
+        assertThat(summary.getHealthyApis()).isEqualTo(3);
+        assertThat(summary.getTimedOutApis()).isZero();
+        assertThat(summary.getWindows()).isEqualTo(3);
+        assertThat(delivered).extracting(HealthCheckResult::getApiId)
+            .containsExactlyInAnyOrder("api-0", "api-1", "api-2", "api-3", "api-4");
+    }
+
+    @Test
+    @DisplayName("윈도우 제한 시간을 넘기면 실행 중인 체크는 인터럽트, 대기 중인 체크는 실행하지 않고 취소로 집계")
+    void run_WindowTimeoutCancelsPendingChecks() throws Exception {
+        // Given: 스레드 하나에서 첫 윈도우의 slow-api가 스레드를 붙잡아 queued-api는 대기열에 남음
+        executor.shutdownNow();
+        executor = Executors.newSingleThreadExecutor();
+        List<ExternalApi> apis = List.of(api("slow-api"), api("queued-api"), api("fast-api"));
+
+        Set<String> started = ConcurrentHashMap.newKeySet();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicBoolean sawCancelled = new AtomicBoolean();
+        CountDownLatch slowFinished = new CountDownLatch(1);
+        BiFunction<ExternalApi, BooleanSupplier, HealthCheckResult> check = (api, cancelled) -> {
+            started.add(api.getApiId());
+            if (api.getApiId().equals("slow-api")) {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+                sawCancelled.set(cancelled.getAsBoolean());
+                slowFinished.countDown();
+            } else {
+                cancelled.getAsBoolean();
+            }
+            return result(api, HealthCheckResult.HealthStatus.HEALTHY);
+        };
+
+        // When
+        HealthSweepSummary summary = HealthCheckSweep.run(apis, 2, 1, executor, check, delivered::add);
+
+        // Then
+        assertThat(slowFinished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isTrue();
+        assertThat(sawCancelled).isTrue();
+        assertThat(started).containsExactlyInAnyOrder("slow-api", "fast-api");
+
+        assertThat(summary.getTimedOutApis()).isEqualTo(2);
+        assertThat(summary.getCheckedApis()).isEqualTo(1);
+        assertThat(summary.getWindows()).isEqualTo(2);
+        assertThat(delivered).extracting(HealthCheckResult::getApiId).containsExactly("fast-api");
+    }
+
+    @Test
+    @DisplayName("결과 반영이 확정된 체크는 제한 시간을 넘겨도 취소하지 않고 결과를 전달")
+    void run_CommittedCheckIsNotCancelled() throws Exception {
+        // Given: 반영을 확정한 뒤 제한 시간보다 오래 걸리는 체크
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        BiFunction<ExternalApi, BooleanSupplier, HealthCheckResult> check = (api, cancelled) -> {
+            boolean wasCancelled = cancelled.getAsBoolean();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            return result(api, wasCancelled ? HealthCheckResult.HealthStatus.UNKNOWN
+                : HealthCheckResult.HealthStatus.HEALTHY);
+        };
+
+        // When
+        HealthSweepSummary summary = HealthCheckSweep.run(List.of(api("committed-api")), 10, 1, executor,
+            check, delivered::add);
+        release.countDown();
+
+        // Then
+        assertThat(summary.getTimedOutApis()).isZero();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isFalse();
+        assertThat(delivered).singleElement().satisfies(result -> {
+            assertThat(result.getApiId()).isEqualTo("committed-api");
+            assertThat(result.getStatus()).isEqualTo(HealthCheckResult.HealthStatus.HEALTHY);
+        });
+    }
+
+    private static ExternalApi api(String apiId) {
+        return ExternalApi.builder()
+            .apiId(apiId)
+            .apiName(apiId)
+            .apiUrl("https://api.test.com/" + apiId)
+            .apiEffectiveness(true)
+            .build();
+    }
+
+    private static HealthCheckResult result(ExternalApi api, HealthCheckResult.HealthStatus status) {
+        return HealthCheckResult.builder()
+            .apiId(api.getApiId())
+            .status(status)
+            .build();
+    }
+}
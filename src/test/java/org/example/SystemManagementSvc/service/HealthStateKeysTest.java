@@ -0,0 +1,92 @@
+package org.example.SystemManagementSvc.service;
+
+import io.lettuce.core.cluster.SlotHash;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HealthStateKeys 테스트")
+class HealthStateKeysTest {
+
+    @AfterEach
+    void tearDown() {
+        HealthStateKeys.configureShardCount(HealthStateKeys.DEFAULT_SHARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("샤드는 hashCode를 샤드 수로 나눈 나머지 (음수 hashCode도 0 이상)")
+    void shardOf() {
+        // "polygenelubricants"의 hashCode는 Integer.MIN_VALUE
+        assertThat("polygenelubricants".hashCode()).isEqualTo(Integer.MIN_VALUE);
+        assertThat(HealthStateKeys.shardOf("polygenelubricants")).isZero();
+
+        assertThat(HealthStateKeys.shardOf("weather-api"))
+            .isEqualTo(Math.floorMod("weather-api".hashCode(), HealthStateKeys.DEFAULT_SHARD_COUNT));
+        for (int i = 0; i < 1000; i++) {
+            assertThat(HealthStateKeys.shardOf("api-" + i)).isBetween(0, HealthStateKeys.shardCount() - 1);
+        }
+    }
+
+    @Test
+    @DisplayName("API별 키와 그 API의 샤드 키는 같은 해시 태그, 즉 같은 클러스터 슬롯")
+    void apiKey_SharesSlotWithShardKey() {
+        // Given
+        String apiId = "weather-api";
+        int shard = HealthStateKeys.shardOf(apiId);
+
+        // When
+        String stateKey = HealthStateKeys.apiKey(RedisHealthStateManager.UNHEALTHY_PREFIX, apiId);
+        String indexKey = HealthStateKeys.shardKey(RedisStateIndex.UNHEALTHY_INDEX_KEY, apiId);
+
+        // Then
+        assertThat(stateKey).isEqualTo(RedisHealthStateManager.UNHEALTHY_PREFIX + "{h" + shard + "}:" + apiId);
+        assertThat(indexKey).isEqualTo(RedisStateIndex.UNHEALTHY_INDEX_KEY + ":{h" + shard + "}");
+        assertThat(SlotHash.getSlot(stateKey)).isEqualTo(SlotHash.getSlot(indexKey));
+        assertThat(HealthStateKeys.apiIdOf(RedisHealthStateManager.UNHEALTHY_PREFIX, stateKey)).isEqualTo(apiId);
+        assertThat(HealthStateKeys.apiIdOf(RedisHealthStateManager.UNHEALTHY_PREFIX,
+            RedisHealthStateManager.UNHEALTHY_PREFIX + apiId)).isNull();
+    }
+
+    @Test
+    @DisplayName("샤드별 그룹은 샤드 순서가 아닌 입력 순서를 유지하고 그룹 안의 순서도 유지")
+    void groupByShard_KeepsInputOrder() {
+        // Given
+        List<String> apiIds = List.of("api-1", "api-2", "api-3", "api-4", "api-5", "api-1");
+
+        // When
+        Map<Integer, List<String>> groups = HealthStateKeys.groupByShard(apiIds);
+
+        // Then
+        assertThat(groups.keySet()).first().isEqualTo(HealthStateKeys.shardOf("api-1"));
+        assertThat(groups.values().stream().mapToInt(List::size).sum()).isEqualTo(apiIds.size());
+        groups.forEach((shard, members) -> {
+            assertThat(members).allSatisfy(apiId -> assertThat(HealthStateKeys.shardOf(apiId)).isEqualTo(shard));
+            assertThat(members).isEqualTo(apiIds.stream().filter(members::contains).toList());
+        });
+    }
+
+    @Test
+    @DisplayName("샤드 수 설정은 키 위치와 전체 샤드 키 목록에 반영되고 범위 밖 값은 거부")
+    void configureShardCount() {
+        // When
+        HealthStateKeys.configureShardCount(4);
+
+        // Then
+        assertThat(HealthStateKeys.shardCount()).isEqualTo(4);
+        assertThat(HealthStateKeys.shardOf("weather-api")).isEqualTo(Math.floorMod("weather-api".hashCode(), 4));
+        assertThat(HealthStateKeys.allShardKeys("index:unhealthy"))
+            .containsExactly("index:unhealthy:{h0}", "index:unhealthy:{h1}", "index:unhealthy:{h2}", "index:unhealthy:{h3}");
+        assertThat(HealthStateKeys.allShardKeys("index:unhealthy", 2)).hasSize(2);
+
+        assertThatThrownBy(() -> HealthStateKeys.configureShardCount(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HealthStateKeys.configureShardCount(HealthStateKeys.MAX_SHARD_COUNT + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(HealthStateKeys.shardCount()).isEqualTo(4);
+    }
+}
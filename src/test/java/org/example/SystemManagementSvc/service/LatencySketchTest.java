@@ -0,0 +1,129 @@
+package org.example.SystemManagementSvc.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("LatencySketch 테스트")
+class LatencySketchTest {
+
+    @Test
+    @DisplayName("분위수는 실제 값 대비 상대 오차 2% 이내")
+    void quantile_WithinRelativeAccuracy() {
+        // Given: 1 ~ 10000ms 균등 분포
+        LatencySketch sketch = new LatencySketch();
+        for (long millis = 1; millis <= 10_000; millis++) {
+            sketch.record(millis);
+        }
+
+        // When & Then
+        assertThat(sketch.getCount()).isEqualTo(10_000);
+        assertThat(sketch.quantile(0.50)).isCloseTo(5_000, within(5_000 * LatencySketch.RELATIVE_ACCURACY));
+        assertThat(sketch.quantile(0.95)).isCloseTo(9_500, within(9_500 * LatencySketch.RELATIVE_ACCURACY));
+        assertThat(sketch.quantile(0.99)).isCloseTo(9_900, within(9_900 * LatencySketch.RELATIVE_ACCURACY));
+        assertThat(sketch.getMaxMillis()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("분위수는 기록된 최댓값을 넘지 않음")
+    void quantile_CappedAtMax() {
+        // Given
+        LatencySketch sketch = new LatencySketch();
+        sketch.record(101);
+
+        // When & Then
+        assertThat(sketch.quantile(0.99)).isLessThanOrEqualTo(101);
+        assertThat(sketch.quantile(0.99)).isCloseTo(101, within(101 * LatencySketch.RELATIVE_ACCURACY));
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 0, 음수는 무시")
+    void quantile_EmptyAndNegative() {
+        // Given
+        LatencySketch sketch = new LatencySketch();
+        sketch.record(-5);
+
+        // When & Then
+        assertThat(sketch.getCount()).isZero();
+        assertThat(sketch.quantile(0.5)).isZero();
+    }
+
+    @Test
+    @DisplayName("병합한 스케치는 전체를 한 스케치에 기록한 것과 같음")
+    void merge_EqualsCombinedRecording() {
+        // Given
+        LatencySketch fast = new LatencySketch();
+        LatencySketch slow = new LatencySketch();
+        LatencySketch combined = new LatencySketch();
+        for (long millis = 1; millis <= 900; millis++) {
+            fast.record(millis);
+            combined.record(millis);
+        }
+        for (long millis = 5_000; millis < 5_100; millis++) {
+            slow.record(millis);
+            combined.record(millis);
+        }
+
+        // When
+        LatencySketch merged = new LatencySketch();
+        merged.merge(fast);
+        merged.merge(slow);
+
+        // Then
+        assertThat(merged.getCount()).isEqualTo(combined.getCount());
+        assertThat(merged.getMaxMillis()).isEqualTo(combined.getMaxMillis());
+        assertThat(merged.quantile(0.95)).isEqualTo(combined.quantile(0.95));
+        assertThat(merged.quantile(0.50)).isEqualTo(combined.quantile(0.50));
+    }
+
+    @Test
+    @DisplayName("직렬화 후 복원해도 개수, 최댓값, 분위수가 같음")
+    void toBytes_RoundTrip() {
+        // Given
+        LatencySketch sketch = new LatencySketch();
+        for (long millis = 10; millis <= 2_000; millis += 7) {
+            sketch.record(millis);
+        }
+
+        // When
+        LatencySketch restored = LatencySketch.fromBytes(sketch.toBytes());
+
+        // Then
+        assertThat(restored.getCount()).isEqualTo(sketch.getCount());
+        assertThat(restored.getMaxMillis()).isEqualTo(sketch.getMaxMillis());
+        assertThat(restored.quantile(0.99)).isEqualTo(sketch.quantile(0.99));
+    }
+
+    @Test
+    @DisplayName("추적 상한(1시간)을 넘는 값은 마지막 버킷에 기록되고 최댓값은 유지")
+    void record_BeyondTrackableRange() {
+        // Given
+        LatencySketch sketch = new LatencySketch();
+
+        // When
+        sketch.record(7_200_000);
+
+        // Then
+        assertThat(LatencySketch.bucketIndex(7_200_000)).isEqualTo(LatencySketch.BUCKET_COUNT - 1);
+        assertThat(sketch.getMaxMillis()).isEqualTo(7_200_000);
+        assertThat(sketch.quantile(1.0)).isGreaterThan(3_500_000);
+    }
+
+    @Test
+    @DisplayName("초기화하면 빈 스케치와 같음")
+    void reset() {
+        // Given
+        LatencySketch sketch = new LatencySketch();
+        sketch.record(50);
+
+        // When
+        sketch.reset();
+
+        // Then
+        assertThat(sketch.getCount()).isZero();
+        assertThat(sketch.getMaxMillis()).isZero();
+        assertThat(sketch.toBytes()).hasSize(Long.BYTES + Short.BYTES);
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.SystemManagementSvc.service;
+
+import io.lettuce.core.cluster.SlotHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.Invocation;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+/**
+ * 샤드 파이프라인 테스트
+ * 파이프라인마다 별도 연결 Mock을 넘겨, 한 파이프라인에 기록된 명령과 키를 순서대로 확인
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ShardPipelines 테스트")
+class ShardPipelinesTest {
+
+    private static final RedisScript<Long> SCRIPT = RedisScript.of("return redis.call('EXISTS', KEYS[1])", Long.class);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    /** 실행된 파이프라인별 스크립팅 명령 Mock (실행 순서) */
+    private final List<RedisScriptingCommands> pipelines = new ArrayList<>();
+
+    @Test
+    @DisplayName("샤드마다 파이프라인 하나, 각 파이프라인은 SCRIPT LOAD 뒤 같은 슬롯 키의 EVALSHA만 포함")
+    void execute_ScriptLoadThenEvalShaPerSlot() {
+        // Given
+        stubPipelines();
+        List<String> apiIds = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            apiIds.add("api-" + i);
+        }
+        Map<Integer, List<String>> groups = HealthStateKeys.groupByShard(apiIds);
+        byte[] script = SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+
+        // When
+        Map<Integer, List<Object>> replies = ShardPipelines.execute(stringRedisTemplate, groups, (connection, shardApiIds) -> {
+            connection.scriptingCommands().scriptLoad(script);
+            for (String apiId : shardApiIds) {
+                connection.scriptingCommands().evalSha(SCRIPT.getSha1(), ReturnType.INTEGER, 1,
+                    HealthStateKeys.apiKey(RedisHealthStateManager.UNHEALTHY_PREFIX, apiId).getBytes(StandardCharsets.UTF_8));
+            }
+        });
+
+        // Then
+        assertThat(replies.keySet()).containsExactlyElementsOf(groups.keySet());
+        assertThat(pipelines).hasSize(groups.size());
+
+        int pipeline = 0;
+        for (Map.Entry<Integer, List<String>> group : groups.entrySet()) {
+            List<Invocation> commands = new ArrayList<>(mockingDetails(pipelines.get(pipeline++)).getInvocations());
+            assertThat(commands).hasSize(group.getValue().size() + 1);
+            assertThat(commands.get(0).getMethod().getName()).isEqualTo("scriptLoad");
+
+            int expectedSlot = SlotHash.getSlot(HealthStateKeys.shardKey(RedisStateIndex.UNHEALTHY_INDEX_KEY, group.getKey()));
+            for (Invocation command : commands.subList(1, commands.size())) {
+                assertThat(command.getMethod().getName()).isEqualTo("evalSha");
+                assertThat(command.getRawArguments()[0]).isEqualTo(SCRIPT.getSha1());
+                byte[] key = ((byte[][]) command.getRawArguments()[3])[0];
+                assertThat(SlotHash.getSlot(key)).isEqualTo(expectedSlot);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("응답은 샤드별로 입력 순서대로 반환")
+    void execute_RepliesKeyedByShard() {
+        // Given
+        stubPipelines();
+        Map<Integer, String> groups = new LinkedHashMap<>();
+        groups.put(7, "seven");
+        groups.put(2, "two");
+
+        // When
+        Map<Integer, List<Object>> replies = ShardPipelines.execute(stringRedisTemplate, groups, (connection, group) -> { });
+
+        // Then
+        assertThat(replies.keySet()).containsExactly(7, 2);
+        assertThat(replies.get(7)).containsExactly(1L);
+        assertThat(replies.get(2)).containsExactly(2L);
+    }
+
+    /**
+     * executePipelined 호출마다 새 연결 Mock으로 콜백을 실행하고, n번째 파이프라인 응답으로 [n] 반환
+     */
+    @SuppressWarnings("unchecked")
+    private void stubPipelines() {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            RedisConnection connection = mock(RedisConnection.class);
+            RedisScriptingCommands scriptingCommands = mock(RedisScriptingCommands.class);
+            lenient().when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+            pipelines.add(scriptingCommands);
+
+            invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+            return List.of((long) pipelines.size());
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.SystemManagementSvc.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UnhealthyBitmapIndex 테스트")
+class UnhealthyBitmapIndexTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ApiOrdinalRegistry apiOrdinalRegistry;
+
+    @Mock
+    private RedisStateIndex redisStateIndex;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStringCommands stringCommands;
+
+    @InjectMocks
+    private UnhealthyBitmapIndex unhealthyBitmapIndex;
+
+    @Test
+    @DisplayName("비트 순서: 바이트 내 MSB가 offset 0 (Redis SETBIT/GETBIT와 동일)")
+    void isSet_RedisBitOrder() {
+        byte[] bitmap = {(byte) 0x80, 0x01};
+
+        assertThat(UnhealthyBitmapIndex.isSet(bitmap, 0)).isTrue();
+        assertThat(UnhealthyBitmapIndex.isSet(bitmap, 1)).isFalse();
+        assertThat(UnhealthyBitmapIndex.isSet(bitmap, 15)).isTrue();
+        assertThat(UnhealthyBitmapIndex.isSet(bitmap, 16)).isFalse();   // 비트맵 길이 밖
+        assertThat(UnhealthyBitmapIndex.isSet(bitmap, -1)).isFalse();
+        assertThat(UnhealthyBitmapIndex.isSet(null, 0)).isFalse();
+        assertThat(UnhealthyBitmapIndex.toBitSet(bitmap).stream()).containsExactly(0, 15);
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 대상 API가 속한 샤드의 비트맵만 읽고, ordinal이 없는 API는 가용")
+    void checkAvailability_ReadsOnlyNeededShards() {
+        // Given: api-a는 ordinal 2(비정상), api-b는 ordinal 미할당
+        stubConnection();
+        int shard = HealthStateKeys.shardOf("api-a");
+        when(apiOrdinalRegistry.lookupOrdinals(List.of("api-a", "api-b"))).thenReturn(Map.of("api-a", 2));
+        when(stringCommands.get(bitmapKey(shard))).thenReturn(new byte[] {0x20});
+
+        // When
+        Map<String, Boolean> availability = unhealthyBitmapIndex.checkAvailability(List.of("api-a", "api-b"));
+
+        // Then
+        assertThat(availability).containsEntry("api-a", false).containsEntry("api-b", true);
+        verify(stringCommands).get(bitmapKey(shard));
+        for (int other = 0; other < HealthStateKeys.shardCount(); other++) {
+            if (other != shard) {
+                verify(stringCommands, never()).get(bitmapKey(other));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("정리는 인덱스와 다른 비트만 후보로 골라 해당 샤드 스크립트에 상태 키와 함께 전달")
+    void reconcile_PassesCandidateBitsPerShard() {
+        // Given: 인덱스에는 없지만 비트가 남아 있는 api-x(ordinal 3)와 apiId를 모르는 고아 비트 5
+        stubConnection();
+        int shard = HealthStateKeys.shardOf("api-x");
+        when(redisStateIndex.activeMembers(RedisStateIndex.UNHEALTHY_INDEX_KEY)).thenReturn(List.of());
+        when(apiOrdinalRegistry.lookupOrdinals(List.of())).thenReturn(Map.of());
+        when(apiOrdinalRegistry.knownApiIds(shard)).thenReturn(Map.of(3, "api-x"));
+        when(stringCommands.get(any(byte[].class))).thenAnswer(invocation ->
+            Arrays.equals(invocation.<byte[]>getArgument(0), bitmapKey(shard)) ? new byte[] {0x14} : null);
+
+        // When
+        unhealthyBitmapIndex.reconcile();
+
+        // Then: KEYS = 비트맵 + 후보 상태 키, ARGV = 후보 ordinal 뒤에 고아 ordinal
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+            eq(List.of(HealthStateKeys.shardKey(UnhealthyBitmapIndex.BITMAP_KEY, shard),
+                RedisHealthStateManager.unhealthyKey("api-x"))),
+            eq("3"), eq("5"));
+    }
+
+    private void stubConnection() {
+        when(stringRedisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation ->
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+        when(connection.stringCommands()).thenReturn(stringCommands);
+    }
+
+    private static byte[] bitmapKey(int shard) {
+        return HealthStateKeys.shardKey(UnhealthyBitmapIndex.BITMAP_KEY, shard).getBytes(StandardCharsets.UTF_8);
+    }
+}